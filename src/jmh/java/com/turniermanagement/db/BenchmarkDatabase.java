@@ -0,0 +1,157 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import com.turniermanagement.model.TournamentStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetische SQLite-Datenbank für die JMH-Benchmarks.
+ * Die Datenbank liegt in einer temporären Datei und wird über denselben Verbindungspool,
+ * dieselben Migrationen und dieselben DAOs wie in der Anwendung befüllt.
+ *
+ * Jedes Turnier erhält {@link #PLAYERS_PER_TOURNAMENT} Teilnehmer aus dem Spielerbestand
+ * und {@link #COMPLETED_ROUNDS} abgeschlossene Runden, sodass die Paarungslogik bereits
+ * gespielte Paarungen berücksichtigen muss.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+    /** Teilnehmer je Turnier (bzw. alle Spieler, falls weniger vorhanden sind). */
+    public static final int PLAYERS_PER_TOURNAMENT = 32;
+    /** Abgeschlossene Runden je Turnier. */
+    public static final int COMPLETED_ROUNDS = 4;
+
+    private static final int PLAYER_BATCH_SIZE = 5_000;
+
+    private final Path file;
+    private final ConnectionPool connectionPool;
+    private final SQLiteDAOFactory daoFactory;
+    private final List<Long> tournamentIds = new ArrayList<>();
+
+    private BenchmarkDatabase(Path file, ConnectionPool connectionPool) {
+        this.file = file;
+        this.connectionPool = connectionPool;
+        this.daoFactory = new SQLiteDAOFactory(connectionPool);
+    }
+
+    /**
+     * Legt eine neue Datenbank an und befüllt sie.
+     * @param players Anzahl der Spieler
+     * @param tournaments Anzahl der Turniere
+     * @return Die befüllte Datenbank
+     * @throws SQLException Bei Datenbankfehlern
+     * @throws IOException Wenn die temporäre Datei nicht angelegt werden kann
+     */
+    public static BenchmarkDatabase create(int players, int tournaments) throws SQLException, IOException {
+        Path file = Files.createTempFile("turnier-benchmark", ".db");
+        ConnectionPool pool = ConnectionPool.create("jdbc:sqlite:" + file, ConnectionPool.DEFAULT_MAX_READERS);
+        try (ConnectionPool.Lease lease = pool.beginWrite()) {
+            SchemaMigrations.migrate(lease.getConnection());
+            lease.commit();
+        }
+        BenchmarkDatabase database = new BenchmarkDatabase(file, pool);
+        database.seed(players, tournaments);
+        return database;
+    }
+
+    private void seed(int playerCount, int tournamentCount) throws SQLException {
+        PlayerDAO playerDAO = daoFactory.createPlayerDAO();
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int start = 0; start < playerCount; start += PLAYER_BATCH_SIZE) {
+            List<Player> batch = new ArrayList<>();
+            for (int i = start; i < Math.min(playerCount, start + PLAYER_BATCH_SIZE); i++) {
+                Player player = new Player("Spieler " + i, "spieler" + i + "@example.com");
+                player.setGamesWon(i % 7);
+                player.setGamesLost(i % 5);
+                batch.add(player);
+            }
+            playerDAO.saveAll(batch);
+            players.addAll(batch);
+        }
+
+        TournamentDAO tournamentDAO = daoFactory.createTournamentDAO();
+        RoundDAO roundDAO = daoFactory.createRoundDAO();
+        int participants = Math.min(PLAYERS_PER_TOURNAMENT, playerCount);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int t = 0; t < tournamentCount; t++) {
+            Tournament tournament = new Tournament("Turnier " + t, start.plusDays(t), start.plusDays(t + 2));
+            tournament.setStatus(TournamentStatus.IN_PROGRESS);
+            // Teilnehmerfenster rotiert über den Spielerbestand
+            int offset = (int) ((long) t * participants % playerCount);
+            List<Player> entrants = new ArrayList<>(participants);
+            for (int i = 0; i < participants; i++) {
+                entrants.add(players.get((offset + i) % playerCount));
+            }
+            entrants.forEach(tournament::addPlayer);
+            tournamentDAO.save(tournament);
+            tournamentIds.add(tournament.getId());
+
+            for (int r = 1; r <= COMPLETED_ROUNDS; r++) {
+                roundDAO.save(completedRound(r, entrants), tournament.getId());
+            }
+        }
+        // Gemessen wird ab einem leeren Cache und ohne die Statistik der Befüllung
+        daoFactory.getPlayerCache().clear();
+        daoFactory.getIdentityMap().clear();
+        connectionPool.getQueryStatistics().reset();
+    }
+
+    private static Round completedRound(int roundNumber, List<Player> entrants) {
+        Round round = new Round(roundNumber);
+        int n = entrants.size();
+        // Kreismethode: Spieler 0 bleibt fest, die übrigen rotieren je Runde um eine Position
+        for (int i = 0; i < n / 2; i++) {
+            Player player1 = entrants.get(circlePosition(i, roundNumber, n));
+            Player player2 = entrants.get(circlePosition(n - 1 - i, roundNumber, n));
+            if (player1 == player2) {
+                continue;
+            }
+            Match match = new Match(player1, player2);
+            match.setResult(1, 0);
+            match.setStatus(MatchStatus.COMPLETED);
+            round.addMatch(match);
+        }
+        round.setCompleted(true);
+        return round;
+    }
+
+    private static int circlePosition(int slot, int roundNumber, int n) {
+        return slot == 0 ? 0 : (slot - 1 + roundNumber - 1) % (n - 1) + 1;
+    }
+
+    /**
+     * Gibt die DAOFactory dieser Datenbank zurück.
+     * @return Die DAOFactory
+     */
+    public SQLiteDAOFactory getDAOFactory() {
+        return daoFactory;
+    }
+
+    /**
+     * Gibt die IDs aller angelegten Turniere in Anlagereihenfolge zurück.
+     * @return Die Turnier-IDs
+     */
+    public List<Long> getTournamentIds() {
+        return tournamentIds;
+    }
+
+    @Override
+    public void close() throws SQLException, IOException {
+        try {
+            connectionPool.close();
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(Path.of(file + "-wal"));
+            Files.deleteIfExists(Path.of(file + "-shm"));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-Benchmarks der lesenden DAO-Hotpaths auf einer befüllten SQLite-Datenbank.
+ * Gemessen werden Durchsatz und mittlere Latenz; die Allokationsrate liefert der
+ * GC-Profiler ({@code -prof gc}), der im Maven-Profil {@code benchmark} voreingestellt ist.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DAOBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int players;
+
+    @Param({"1", "50", "500"})
+    public int tournaments;
+
+    private BenchmarkDatabase database;
+    private PlayerDAO playerDAO;
+    private TournamentDAO tournamentDAO;
+    private RoundDAO roundDAO;
+    private MatchDAO matchDAO;
+    private List<Long> tournamentIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        database = BenchmarkDatabase.create(players, tournaments);
+        DAOFactory daoFactory = database.getDAOFactory();
+        playerDAO = daoFactory.createPlayerDAO();
+        tournamentDAO = daoFactory.createTournamentDAO();
+        roundDAO = daoFactory.createRoundDAO();
+        matchDAO = daoFactory.createMatchDAO();
+        tournamentIds = database.getTournamentIds();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        database.close();
+    }
+
+    private Long nextTournamentId() {
+        // Reihum über alle Turniere, damit nicht immer dieselben Seiten im Cache liegen
+        cursor = (cursor + 1) % tournamentIds.size();
+        return tournamentIds.get(cursor);
+    }
+
+    @Benchmark
+    public List<Player> playerFindAll() throws SQLException {
+        return playerDAO.findAll();
+    }
+
+    @Benchmark
+    public Optional<Tournament> tournamentFindById() throws SQLException {
+        return tournamentDAO.findById(nextTournamentId());
+    }
+
+    @Benchmark
+    public List<Round> roundFindByTournamentId() throws SQLException {
+        return roundDAO.findByTournamentId(nextTournamentId());
+    }
+
+    @Benchmark
+    public Optional<Tournament> tournamentLoadGraph() throws SQLException {
+        return tournamentDAO.loadGraph(nextTournamentId());
+    }
+
+    /**
+     * Vergleichswert zu {@link #tournamentLoadGraph()}: Turnier, Runden und Matches
+     * über die einzelnen DAOs, mit einem Abruf je Runde. Die Runden werden nicht an das
+     * kanonische Turnier gehängt, damit es über die Invocations nicht anwächst.
+     */
+    @Benchmark
+    public void tournamentLoadPerEntity(Blackhole blackhole) throws SQLException {
+        Long tournamentId = nextTournamentId();
+        blackhole.consume(tournamentDAO.findById(tournamentId));
+        for (Round round : roundDAO.findByTournamentId(tournamentId)) {
+            List<Match> matches = matchDAO.findByRoundId(round.getId());
+            round.setMatches(matches);
+            blackhole.consume(round);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.turniermanagement.db;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-Benchmark der Schemaprüfung beim Start auf einer bereits migrierten Datenbank.
+ * Gemessen wird {@link SchemaMigrations#migrate(Connection)}, das bei aktuellem Schema
+ * nur die Schemaversion liest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaMigrationsBenchmark {
+
+    private Path file;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        file = Files.createTempFile("turnier-startup", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + file);
+        SchemaMigrations.migrate(connection);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        try {
+            connection.close();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public int startupOnMigratedDatabase() throws SQLException {
+        int applied = SchemaMigrations.migrate(connection);
+        if (applied != 0) {
+            throw new IllegalStateException("Migrated database applied " + applied + " migrations");
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,76 @@
+package com.turniermanagement.db;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-Benchmark einer Abfrage per Primärschlüssel mit und ohne {@link StatementCache}.
+ * Ohne Cache wird das PreparedStatement bei jeder Abfrage neu vorbereitet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementCacheBenchmark {
+    private static final String SQL = "SELECT name FROM item WHERE id = ?";
+
+    private Connection raw;
+    private Connection cached;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        raw = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = raw.createStatement()) {
+            stmt.execute("CREATE TABLE item (id INTEGER PRIMARY KEY, name TEXT)");
+            stmt.execute("INSERT INTO item (id, name) VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+        cached = StatementCache.wrap(raw, StatementCache.DEFAULT_CAPACITY, new StatementCache.Counters());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        // Schließt auch die zugrunde liegende Verbindung
+        cached.close();
+    }
+
+    @Benchmark
+    public String prepareEachTime() throws SQLException {
+        return findName(raw);
+    }
+
+    @Benchmark
+    public String cachedStatement() throws SQLException {
+        return findName(cached);
+    }
+
+    private String findName(Connection connection) throws SQLException {
+        nextId = nextId % 3 + 1;
+        try (PreparedStatement pstmt = connection.prepareStatement(SQL)) {
+            pstmt.setLong(1, nextId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * JMH-Vergleich der Paarungsstrategien ohne Datenbank.
+ *
+ * Das Feld spielt vorab {@code playedRounds} Runden mit der Blossom-Paarung und zufälligen,
+ * aber reproduzierbaren Ergebnissen; gemessen wird die Paarung der folgenden Runde.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PairingBenchmark {
+    private static final ToIntFunction<Player> SCORE = p -> p.getGamesWon() - p.getGamesLost();
+
+    // Ungerade Feldgröße: ein Spieler erhält ein Freilos
+    @Param({"64", "512", "2000", "2001"})
+    public int players;
+
+    @Param({"1", "5"})
+    public int playedRounds;
+
+    private final PairingEngine greedy = new GreedyPairingEngine();
+    private final PairingEngine blossom = new BlossomPairingEngine();
+    private List<Player> rankedPlayers;
+    private PairingHistory history;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Tournament tournament = new Tournament();
+        tournament.setId(1L);
+        rankedPlayers = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            Player player = new Player("Spieler " + i);
+            player.setId(i + 1L);
+            rankedPlayers.add(player);
+        }
+        tournament.getPlayers().addAll(rankedPlayers);
+
+        for (int number = 1; number <= playedRounds; number++) {
+            rankedPlayers.sort(Comparator.comparingInt(SCORE).reversed());
+            Round round = new Round(number);
+            for (Match match : blossom.pair(rankedPlayers, SCORE, PairingHistory.of(tournament))) {
+                if (match.getPlayer2() != null) {
+                    match.setResult(random.nextInt(2), random.nextInt(2));
+                    record(match);
+                }
+                round.addMatch(match);
+            }
+            tournament.addRound(round);
+        }
+        rankedPlayers.sort(Comparator.comparingInt(SCORE).reversed());
+        history = PairingHistory.of(tournament);
+    }
+
+    private static void record(Match match) {
+        Player winner = match.getWinner();
+        if (winner == null) {
+            return;
+        }
+        Player loser = winner == match.getPlayer1() ? match.getPlayer2() : match.getPlayer1();
+        winner.setGamesWon(winner.getGamesWon() + 1);
+        loser.setGamesLost(loser.getGamesLost() + 1);
+    }
+
+    @Benchmark
+    public List<Match> greedy() {
+        return greedy.pair(rankedPlayers, SCORE, history);
+    }
+
+    @Benchmark
+    public List<Match> blossom() {
+        return blossom.pair(rankedPlayers, SCORE, history);
+    }
+}
@@ -0,0 +1,70 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.db.BenchmarkDatabase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-Benchmark des CSV-Massenimports über {@link PlayerService#importPlayers(PlayerImportReader)}.
+ * Jede Messung importiert alle Zeilen einmal in eine frisch angelegte, leere Datenbank.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PlayerImportBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private String csv;
+    private BenchmarkDatabase database;
+    private PlayerService playerService;
+
+    @Setup(Level.Trial)
+    public void createCsv() {
+        StringBuilder builder = new StringBuilder("name,email\n");
+        for (int i = 0; i < rows; i++) {
+            builder.append("Spieler ").append(i).append(",spieler").append(i).append("@example.com\n");
+        }
+        csv = builder.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void createDatabase() throws SQLException, IOException {
+        database = BenchmarkDatabase.create(0, 0);
+        playerService = new PlayerService(database.getDAOFactory());
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeDatabase() throws SQLException, IOException {
+        database.close();
+    }
+
+    @Benchmark
+    public PlayerImportResult csvImport() throws SQLException, IOException {
+        PlayerImportResult result = playerService.importPlayers(PlayerImportReader.csv(new StringReader(csv)));
+        if (result.getImportedCount() != rows) {
+            throw new IllegalStateException("Imported " + result.getImportedCount() + " of " + rows + " rows");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package com.turniermanagement.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-Benchmark der Teilnehmersuche: {@link PlayerSearchIndex#search(String)} im Vergleich
+ * zur bisherigen linearen Suche über alle Namen und E-Mail-Adressen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerSearchBenchmark {
+
+    @Param({"10000", "50000"})
+    public int players;
+
+    @Param({"a", "er", "mül", "spieler 42", "example.com", "@exa", "xyz", "4711"})
+    public String query;
+
+    private String[] names;
+    private String[] emails;
+    private PlayerSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        names = new String[players];
+        emails = new String[players];
+        index = new PlayerSearchIndex();
+        Random random = new Random(42);
+        String[] lastNames = { "Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker" };
+        for (int i = 0; i < players; i++) {
+            names[i] = "Spieler " + i + " " + lastNames[random.nextInt(lastNames.length)];
+            emails[i] = i % 3 == 0 ? null : "spieler" + i + "@example.com";
+            index.put((long) i, names[i], emails[i]);
+        }
+    }
+
+    @Benchmark
+    public Set<Long> indexSearch() {
+        return index.search(query);
+    }
+
+    /**
+     * Bisherige Suche aus dem ParticipantManagementController als Referenz.
+     */
+    @Benchmark
+    public Set<Long> linearScan() {
+        String lowerCaseFilter = query.toLowerCase(Locale.ROOT);
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].toLowerCase(Locale.ROOT).contains(lowerCaseFilter) ||
+                (emails[i] != null && emails[i].toLowerCase(Locale.ROOT).contains(lowerCaseFilter))) {
+                result.add((long) i);
+            }
+        }
+        return result;
+    }
+}
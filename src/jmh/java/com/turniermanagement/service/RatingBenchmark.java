@@ -0,0 +1,76 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.db.RatingDAO;
+import com.turniermanagement.model.Rating;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-Messung der Wertungsneuberechnung ohne Datenbank.
+ *
+ * Die Historie besteht aus {@code years} Jahren mit je zwölf Turnieren zu sieben Runden, an denen
+ * jeweils die Hälfte der {@code players} Vereinsmitglieder teilnimmt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RatingBenchmark {
+    private static final int TOURNAMENTS_PER_YEAR = 12;
+    private static final int ROUNDS = 7;
+
+    @Param({"10"})
+    public int years;
+
+    @Param({"200", "2000"})
+    public int players;
+
+    private List<RatingDAO.Game> games;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<Long> members = new ArrayList<>();
+        for (long id = 1; id <= players; id++) {
+            members.add(id);
+        }
+        games = new ArrayList<>();
+        long matchId = 1;
+        long roundId = 1;
+        for (int tournament = 0; tournament < years * TOURNAMENTS_PER_YEAR; tournament++) {
+            Collections.shuffle(members, random);
+            List<Long> field = new ArrayList<>(members.subList(0, players / 2));
+            for (int round = 0; round < ROUNDS; round++, roundId++) {
+                Collections.shuffle(field, random);
+                for (int i = 0; i + 1 < field.size(); i += 2) {
+                    int result = random.nextInt(3);
+                    Long winner = result == 0 ? field.get(i) : result == 1 ? field.get(i + 1) : null;
+                    games.add(new RatingDAO.Game(matchId++, roundId, field.get(i), field.get(i + 1), winner));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Rating> replay() {
+        return RatingService.replay(games);
+    }
+}
@@ -0,0 +1,94 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.db.BenchmarkDatabase;
+import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.RoundDAO;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-Benchmarks der schreibenden Service-Hotpaths auf einer befüllten SQLite-Datenbank.
+ *
+ * {@link PlayerService#createPlayer(String, String)} legt in jeder Invocation einen neuen Spieler
+ * mit eindeutigem Namen an; der Bestand wächst während der Messung also leicht an.
+ * {@link RoundService#createNextRound(Tournament)} erzeugt immer die nächste Runde desselben
+ * Turniers, die nach jeder Invocation außerhalb der Messung wieder gelöscht wird.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int players;
+
+    @Param({"1", "50", "500"})
+    public int tournaments;
+
+    private BenchmarkDatabase database;
+    private PlayerService playerService;
+    private RoundService roundService;
+    private RoundDAO roundDAO;
+    private Tournament tournament;
+    private Round createdRound;
+    private long nextPlayer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        database = BenchmarkDatabase.create(players, tournaments);
+        DAOFactory daoFactory = database.getDAOFactory();
+        playerService = new PlayerService(daoFactory);
+        roundService = new RoundService(daoFactory);
+        roundDAO = daoFactory.createRoundDAO();
+        // Das zuletzt angelegte Turnier samt seiner abgeschlossenen Runden
+        Long tournamentId = database.getTournamentIds().get(database.getTournamentIds().size() - 1);
+        tournament = daoFactory.createTournamentDAO().loadGraph(tournamentId)
+                .orElseThrow(() -> new IllegalStateException("Benchmark tournament not found: " + tournamentId));
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteCreatedRound() throws SQLException {
+        if (createdRound != null) {
+            roundDAO.delete(createdRound.getId());
+            createdRound = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        database.close();
+    }
+
+    @Benchmark
+    public Player createPlayer() throws SQLException {
+        long n = nextPlayer++;
+        return playerService.createPlayer("Neuer Spieler " + n, "neu" + n + "@example.com");
+    }
+
+    @Benchmark
+    public Round createNextRound() throws SQLException {
+        createdRound = roundService.createNextRound(tournament);
+        return createdRound;
+    }
+}
@@ -1,5 +1,6 @@
 package com.turniermanagement;
 
+import com.turniermanagement.db.DatabaseConnection;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -10,6 +11,9 @@ import java.io.IOException;
 
 public class App extends Application {
 
+    // Mit -Dturnier.queryStatistics=true werden beim Beenden die Abfragekennzahlen ausgegeben
+    private static final String QUERY_STATISTICS_PROPERTY = "turnier.queryStatistics";
+
     @Override
     public void start(Stage stage) throws IOException {
         FXMLLoader fxmlLoader = new FXMLLoader(App.class.getResource("main.fxml"));
@@ -19,6 +23,14 @@ public class App extends Application {
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        if (Boolean.getBoolean(QUERY_STATISTICS_PROPERTY)) {
+            System.out.print(DatabaseConnection.getInstance().getConnectionPool()
+                    .getQueryStatistics().snapshot().format());
+        }
+    }
+
     public static void main(String[] args) {
         launch();
     }
@@ -0,0 +1,36 @@
+package com.turniermanagement;
+
+import com.turniermanagement.service.ServiceExecutor;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Hilfsmethoden, um Ergebnisse asynchroner Service-Aufrufe auf dem JavaFX-Anwendungsthread
+ * weiterzuverarbeiten.
+ */
+final class FxFutures {
+
+    private FxFutures() {
+    }
+
+    /**
+     * Registriert Callbacks, die nach Abschluss des Futures per {@link Platform#runLater(Runnable)}
+     * auf dem JavaFX-Anwendungsthread ausgeführt werden.
+     * @param future Das Future des Service-Aufrufs
+     * @param onSuccess Wird mit dem Ergebnis aufgerufen
+     * @param onError Wird mit der eigentlichen Fehlerursache aufgerufen
+     * @param <T> Typ des Ergebnisses
+     */
+    static <T> void onFxThread(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        future.whenComplete((result, error) -> Platform.runLater(() -> {
+            if (error == null) {
+                onSuccess.accept(result);
+            } else {
+                onError.accept(ServiceExecutor.unwrap(error));
+            }
+        }));
+    }
+}
@@ -10,8 +10,9 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 
-import java.sql.SQLException;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class ParticipantEditDialogController {
@@ -98,27 +99,34 @@ public class ParticipantEditDialogController {
             // Bestehenden Teilnehmer bearbeiten
             dialogTitleLabel.setText("Teilnehmer bearbeiten");
             
-            try {
-                // Lade den Spieler aus der Datenbank
-                Optional<Player> player = playerService.findPlayerById(participant.getPlayerId());
-                if (player.isPresent()) {
-                    this.playerModel = player.get();
-                    
-                    // Felder mit den Daten des Spielers füllen
-                    nameField.setText(playerModel.getName());
-                    emailField.setText(playerModel.getEmail());
-                    gamesField.setText(participant.getGames());
-                    tournamentsField.setText(participant.getTournaments());
-                    rankingsField.setText(participant.getRankings());
-                } else {
-                    showErrorAlert("Fehler", "Der Teilnehmer konnte nicht gefunden werden.");
+            // Felder mit den bekannten Daten füllen, bis der Spieler geladen ist
+            nameField.setText(participant.getName());
+            emailField.setText(participant.getEmail());
+            gamesField.setText(participant.getGames());
+            tournamentsField.setText(participant.getTournaments());
+            rankingsField.setText(participant.getRankings());
+            saveButton.setDisable(true);
+            
+            // Lade den Spieler im Hintergrund aus der Datenbank
+            FxFutures.onFxThread(playerService.findPlayerByIdAsync(participant.getPlayerId()),
+                player -> {
+                    if (player.isPresent()) {
+                        this.playerModel = player.get();
+                        
+                        // Felder mit den Daten des Spielers füllen
+                        nameField.setText(playerModel.getName());
+                        emailField.setText(playerModel.getEmail());
+                        saveButton.setDisable(false);
+                    } else {
+                        showErrorAlert("Fehler", "Der Teilnehmer konnte nicht gefunden werden.");
+                        handleCancel();
+                    }
+                },
+                error -> {
+                    error.printStackTrace();
+                    showErrorAlert("Datenbankfehler", "Fehler beim Laden des Teilnehmers: " + error.getMessage());
                     handleCancel();
-                }
-            } catch (SQLException e) {
-                e.printStackTrace();
-                showErrorAlert("Datenbankfehler", "Fehler beim Laden des Teilnehmers: " + e.getMessage());
-                handleCancel();
-            }
+                });
         } else {
             // Neuen Teilnehmer hinzufügen
             dialogTitleLabel.setText("Teilnehmer hinzufügen");
@@ -155,49 +163,67 @@ public class ParticipantEditDialogController {
             return;
         }
         
-        try {
-            // Werte in das Spieler-Modell übertragen
-            playerModel.setName(nameField.getText());
-            playerModel.setEmail(emailField.getText());
-            
-            // Spieler erstellen oder aktualisieren
-            if (isNewParticipant) {
-                // Neuen Spieler erstellen
-                Player createdPlayer = playerService.createPlayer(nameField.getText(), emailField.getText());
-                playerModel = createdPlayer;
-            } else {
-                // Bestehenden Spieler aktualisieren
-                Player updatedPlayer = playerService.updatePlayer(playerModel);
-                playerModel = updatedPlayer;
-            }
-            
-            // Participant-Objekt für die UI erstellen
-            String gamesStr = playerModel.getGamesWon() + "/" + playerModel.getGamesLost();
-            String tournamentsStr = String.valueOf(playerModel.getTournaments().size());
-            String rankingsStr = participant != null ? participant.getRankings() : "";
-            
-            ParticipantManagementController.Participant savedParticipant = 
-                new ParticipantManagementController.Participant(
-                    playerModel.getId(), 
-                    playerModel.getName(), 
-                    playerModel.getEmail(), 
-                    gamesStr, 
-                    tournamentsStr, 
-                    rankingsStr
-                );
-            
-            // Callback aufrufen
-            if (onSaveHandler != null) {
-                onSaveHandler.accept(savedParticipant);
-            }
-            
-            // Dialog schließen
-            closeDialog();
-            
-        } catch (SQLException | IllegalArgumentException | IllegalStateException e) {
-            e.printStackTrace();
-            showErrorAlert("Fehler beim Speichern", "Der Teilnehmer konnte nicht gespeichert werden: " + e.getMessage());
+        // Spieler im Hintergrund erstellen oder aktualisieren; die Werte gehen in eine Kopie,
+        // damit abgelehnte Eingaben nicht im geladenen Spieler-Modell zurückbleiben
+        CompletableFuture<Player> saved = isNewParticipant
+            ? playerService.createPlayerAsync(nameField.getText(), emailField.getText())
+            : playerService.updatePlayerAsync(copyWithInput(playerModel));
+        
+        // Mehrfaches Speichern verhindern, solange der Aufruf läuft
+        saveButton.setDisable(true);
+        FxFutures.onFxThread(saved, this::handleSaved, error -> {
+            saveButton.setDisable(false);
+            error.printStackTrace();
+            showErrorAlert("Fehler beim Speichern", "Der Teilnehmer konnte nicht gespeichert werden: " + error.getMessage());
+        });
+    }
+    
+    /**
+     * Erstellt eine Kopie des Spielers mit den eingegebenen Werten. Nur Name und E-Mail
+     * sind als geändert markiert, sodass das Update keine anderen Felder überschreibt.
+     */
+    private Player copyWithInput(Player player) {
+        Player copy = new Player(player.getName(), player.getEmail());
+        copy.setId(player.getId());
+        copy.setGamesWon(player.getGamesWon());
+        copy.setGamesLost(player.getGamesLost());
+        copy.setTournaments(new ArrayList<>(player.getTournaments()));
+        copy.setTournamentRankings(new HashMap<>(player.getTournamentRankings()));
+        copy.getChanges().markClean();
+        
+        copy.setName(nameField.getText());
+        copy.setEmail(emailField.getText());
+        return copy;
+    }
+    
+    /**
+     * Übernimmt den gespeicherten Spieler in die UI und schließt den Dialog
+     */
+    private void handleSaved(Player savedPlayer) {
+        playerModel = savedPlayer;
+        
+        // Participant-Objekt für die UI erstellen
+        String gamesStr = playerModel.getGamesWon() + "/" + playerModel.getGamesLost();
+        String tournamentsStr = String.valueOf(playerModel.getTournaments().size());
+        String rankingsStr = participant != null ? participant.getRankings() : "";
+        
+        ParticipantManagementController.Participant savedParticipant = 
+            new ParticipantManagementController.Participant(
+                playerModel.getId(), 
+                playerModel.getName(), 
+                playerModel.getEmail(), 
+                gamesStr, 
+                tournamentsStr, 
+                rankingsStr
+            );
+        
+        // Callback aufrufen
+        if (onSaveHandler != null) {
+            onSaveHandler.accept(savedParticipant);
         }
+        
+        // Dialog schließen
+        closeDialog();
     }
     
     /**
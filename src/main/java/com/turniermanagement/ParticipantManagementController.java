@@ -1,14 +1,16 @@
 package com.turniermanagement;
 
 import com.turniermanagement.model.Player;
-import com.turniermanagement.model.Tournament;
+import com.turniermanagement.service.PlayerSearchIndex;
 import com.turniermanagement.service.PlayerService;
-import com.turniermanagement.service.TournamentService;
+import com.turniermanagement.service.StatisticsService;
 
+import javafx.animation.PauseTransition;
 import javafx.beans.property.SimpleLongProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -18,10 +20,15 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.util.Callback;
+import javafx.util.Duration;
 
 import java.io.IOException;
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class ParticipantManagementController {
@@ -56,14 +63,35 @@ public class ParticipantManagementController {
     @FXML
     private TextField searchField;
     
+    // Verzögerung der Suche nach dem letzten Tastendruck
+    private static final Duration SEARCH_DEBOUNCE = Duration.millis(150);
+    
+    // Anzahl der Spieler pro nachgeladener Seite
+    private static final int PAGE_SIZE = 200;
+    // Nachladen, sobald eine der letzten Zeilen angezeigt wird
+    private static final int PREFETCH_ROWS = 20;
+    
     private ObservableList<Participant> participantsList = FXCollections.observableArrayList();
+    private FilteredList<Participant> filteredParticipants = new FilteredList<>(participantsList);
+    private final PauseTransition searchDebounce = new PauseTransition(SEARCH_DEBOUNCE);
+    // Suchindex über alle Spieler; null, solange er im Hintergrund aufgebaut wird
+    private PlayerSearchIndex searchIndex;
+    private final Set<Long> loadedPlayerIds = new HashSet<>();
+    // Keyset-Position: ID des letzten Spielers der zuletzt geladenen Seite
+    private Long lastPageId;
+    private boolean allPagesLoaded;
+    private boolean pageLoading;
+    // Suchtreffer, die noch nicht in der Tabelle geladen sind
+    private List<Long> pendingMatches = List.of();
+    // Verwirft Ergebnisse eines durch refreshData überholten Ladevorgangs
+    private int loadGeneration;
     private PlayerService playerService;
-    private TournamentService tournamentService;
+    private StatisticsService statisticsService;
     
     public ParticipantManagementController() {
         try {
             this.playerService = new PlayerService();
-            this.tournamentService = new TournamentService();
+            this.statisticsService = new StatisticsService();
         } catch (Exception e) {
             e.printStackTrace();
             showErrorAlert("Initialisierungsfehler", "Fehler beim Initialisieren der Services: " + e.getMessage());
@@ -81,19 +109,30 @@ public class ParticipantManagementController {
         // Spalte für Aktionen mit Bearbeiten-Button
         setupActionsColumn();
         
-        // Echte Daten laden
-        loadParticipants();
+        participantsTable.setItems(filteredParticipants);
+        
+        // Weitere Seiten laden, sobald beim Scrollen das Ende der Tabelle erreicht wird
+        participantsTable.setRowFactory(table -> new TableRow<>() {
+            @Override
+            protected void updateItem(Participant item, boolean empty) {
+                super.updateItem(item, empty);
+                if (!empty && getIndex() >= table.getItems().size() - PREFETCH_ROWS) {
+                    loadNextPage();
+                }
+            }
+        });
         
         // Teilnehmer-Button-Klick-Handler
         addParticipantButton.setOnAction(event -> openParticipantEditDialog(null));
         
-        // Suche einrichten
+        // Suche einrichten: gefiltert wird erst, wenn die Eingabe kurz ruht
+        searchDebounce.setOnFinished(event -> filterParticipants(searchField.getText()));
         searchField.textProperty().addListener((observable, oldValue, newValue) -> {
-            filterParticipants(newValue);
+            searchDebounce.playFromStart();
         });
         
-        // Statistik aktualisieren
-        updateStatistics();
+        // Echte Daten im Hintergrund laden; die Statistik wird danach aktualisiert
+        loadParticipants();
     }
     
     private void setupActionsColumn() {
@@ -157,8 +196,12 @@ public class ParticipantManagementController {
             
             // Callback für Speichern-Aktion setzen
             controller.setOnSaveHandler(savedParticipant -> {
+                if (searchIndex != null) {
+                    searchIndex.put(savedParticipant.getPlayerId(), savedParticipant.getName(), savedParticipant.getEmail());
+                }
                 if (participant == null) {
                     // Neuer Teilnehmer
+                    loadedPlayerIds.add(savedParticipant.getPlayerId());
                     participantsList.add(savedParticipant);
                 } else {
                     // Vorhandenen Teilnehmer aktualisieren 
@@ -168,6 +211,7 @@ public class ParticipantManagementController {
                     }
                 }
                 
+                filterParticipants(searchField.getText());
                 participantsTable.refresh();
                 updateStatistics();
             });
@@ -197,38 +241,135 @@ public class ParticipantManagementController {
         
         confirmDialog.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                try {
-                    // Lösche Spieler aus der Datenbank
-                    playerService.deletePlayer(participant.getPlayerId());
-                    
-                    // Lösche Spieler aus der Tabelle
-                    participantsList.remove(participant);
-                    updateStatistics();
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                    showErrorAlert("Fehler beim Löschen", "Der Teilnehmer konnte nicht gelöscht werden: " + e.getMessage());
-                }
+                // Lösche Spieler im Hintergrund aus der Datenbank
+                FxFutures.onFxThread(playerService.deletePlayerAsync(participant.getPlayerId()),
+                    ignored -> {
+                        // Lösche Spieler aus der Tabelle
+                        if (searchIndex != null) {
+                            searchIndex.remove(participant.getPlayerId());
+                        }
+                        loadedPlayerIds.remove(participant.getPlayerId());
+                        participantsList.remove(participant);
+                        updateStatistics();
+                    },
+                    error -> {
+                        if (error instanceof IllegalStateException) {
+                            // Spieler mit Matches bleiben erhalten, damit Ergebnisse und Tabellen stimmen
+                            showErrorAlert("Löschen nicht möglich", "Der Teilnehmer " + participant.getName()
+                                + " hat bereits Matches gespielt und kann nicht gelöscht werden.");
+                            return;
+                        }
+                        error.printStackTrace();
+                        showErrorAlert("Fehler beim Löschen", "Der Teilnehmer konnte nicht gelöscht werden: " + error.getMessage());
+                    });
             }
         });
     }
     
     private void loadParticipants() {
-        try {
-            // Lade Spieler aus der Datenbank
-            List<Player> players = playerService.getAllPlayers();
-            
-            // Konvertiere Player zu Participant
-            participantsList.clear();
-            for (Player player : players) {
-                Participant participant = playerToParticipant(player);
-                participantsList.add(participant);
+        loadGeneration++;
+        int generation = loadGeneration;
+        participantsList.clear();
+        loadedPlayerIds.clear();
+        lastPageId = null;
+        allPagesLoaded = false;
+        pageLoading = false;
+        pendingMatches = List.of();
+        searchIndex = null;
+        
+        // Erste Seite laden; weitere Seiten folgen beim Scrollen
+        loadNextPage();
+        updateStatistics();
+        
+        // Suchindex über alle Spieler im Hintergrund aufbauen (gestreamt, ohne alle Spieler zu halten)
+        FxFutures.onFxThread(playerService.buildSearchIndexAsync(),
+            index -> {
+                if (generation != loadGeneration) {
+                    return;
+                }
+                searchIndex = index;
+                filterParticipants(searchField.getText());
+            },
+            error -> {
+                error.printStackTrace();
+                showErrorAlert("Datenbankfehler", "Fehler beim Aufbau des Suchindex: " + error.getMessage());
+            });
+    }
+    
+    /**
+     * Lädt die nächste Seite bzw. bei aktiver Suche die nächsten noch fehlenden Treffer.
+     */
+    private void loadNextPage() {
+        if (pageLoading) {
+            return;
+        }
+        if (filteredParticipants.getPredicate() != null) {
+            loadPendingMatches();
+            return;
+        }
+        if (allPagesLoaded) {
+            return;
+        }
+        appendParticipants(playerService.getPlayerPageAsync(lastPageId, PAGE_SIZE), participants -> {
+            if (participants.size() < PAGE_SIZE) {
+                allPagesLoaded = true;
             }
-            
-            participantsTable.setItems(participantsList);
-        } catch (SQLException e) {
-            e.printStackTrace();
-            showErrorAlert("Datenbankfehler", "Fehler beim Laden der Teilnehmer: " + e.getMessage());
+            if (!participants.isEmpty()) {
+                lastPageId = participants.get(participants.size() - 1).getPlayerId();
+            }
+        });
+    }
+    
+    private void loadPendingMatches() {
+        if (pageLoading || pendingMatches.isEmpty()) {
+            return;
         }
+        int batchSize = Math.min(PAGE_SIZE, pendingMatches.size());
+        List<Long> batch = new ArrayList<>(pendingMatches.subList(0, batchSize));
+        pendingMatches = new ArrayList<>(pendingMatches.subList(batchSize, pendingMatches.size()));
+        appendParticipants(playerService.findPlayersByIdsAsync(batch), participants -> { });
+    }
+    
+    /**
+     * Konvertiert die geladenen Spieler im Hintergrund und hängt sie an die Tabelle an.
+     */
+    private void appendParticipants(CompletableFuture<List<Player>> loading, Consumer<List<Participant>> onLoaded) {
+        pageLoading = true;
+        int generation = loadGeneration;
+        CompletableFuture<List<Participant>> participants = loading
+            .thenApply(players -> players.stream()
+                .map(this::playerToParticipant)
+                .collect(Collectors.toList()));
+        
+        FxFutures.onFxThread(participants,
+            loaded -> {
+                if (generation != loadGeneration) {
+                    return;
+                }
+                pageLoading = false;
+                onLoaded.accept(loaded);
+                List<Participant> newParticipants = new ArrayList<>(loaded.size());
+                for (Participant participant : loaded) {
+                    // Bereits über die Suche oder den Dialog geladene Spieler nicht doppelt anzeigen
+                    if (loadedPlayerIds.add(participant.getPlayerId())) {
+                        newParticipants.add(participant);
+                    }
+                }
+                participantsList.addAll(newParticipants);
+                
+                // Bei aktiver Suche mindestens eine Seite an Treffern anzeigen
+                if (filteredParticipants.getPredicate() != null && filteredParticipants.size() < PAGE_SIZE) {
+                    loadPendingMatches();
+                }
+            },
+            error -> {
+                if (generation != loadGeneration) {
+                    return;
+                }
+                pageLoading = false;
+                error.printStackTrace();
+                showErrorAlert("Datenbankfehler", "Fehler beim Laden der Teilnehmer: " + error.getMessage());
+            });
     }
     
     private Participant playerToParticipant(Player player) {
@@ -250,40 +391,46 @@ public class ParticipantManagementController {
     }
     
     private void filterParticipants(String searchText) {
-        ObservableList<Participant> filteredList = FXCollections.observableArrayList();
-        
         if (searchText == null || searchText.isEmpty()) {
-            filteredList.addAll(participantsList);
-        } else {
+            pendingMatches = List.of();
+            filteredParticipants.setPredicate(null);
+        } else if (searchIndex == null) {
+            // Index noch im Aufbau: nur die bereits geladenen Teilnehmer durchsuchen
             String lowerCaseFilter = searchText.toLowerCase();
+            filteredParticipants.setPredicate(participant ->
+                participant.getName().toLowerCase().contains(lowerCaseFilter) ||
+                participant.getEmail().toLowerCase().contains(lowerCaseFilter));
+        } else {
+            // Treffer einmalig über den Index bestimmen; das Prädikat prüft nur noch die ID
+            Set<Long> matches = searchIndex.search(searchText);
+            filteredParticipants.setPredicate(participant -> matches.contains(participant.getPlayerId()));
             
-            for (Participant participant : participantsList) {
-                if (participant.getName().toLowerCase().contains(lowerCaseFilter) ||
-                    (participant.getEmail() != null && participant.getEmail().toLowerCase().contains(lowerCaseFilter))) {
-                    filteredList.add(participant);
-                }
-            }
+            // Noch nicht geladene Treffer seitenweise nachladen
+            pendingMatches = matches.stream()
+                .filter(id -> !loadedPlayerIds.contains(id))
+                .sorted()
+                .collect(Collectors.toList());
+            loadPendingMatches();
         }
-        
-        participantsTable.setItems(filteredList);
     }
     
     private void updateStatistics() {
-        totalParticipantsLabel.setText(String.valueOf(participantsList.size()));
-        
-        try {
-            // Anzahl der Turniere aus der Datenbank laden
-            List<Tournament> tournaments = tournamentService.getAllTournaments();
-            totalTournamentsLabel.setText(String.valueOf(tournaments.size()));
-        } catch (SQLException e) {
-            e.printStackTrace();
-            totalTournamentsLabel.setText("?");
-        }
+        // Kennzahlen im Hintergrund per COUNT-Abfrage ermitteln, ohne Spieler oder Turniere zu laden
+        FxFutures.onFxThread(statisticsService.getStatisticsAsync(),
+            statistics -> {
+                totalParticipantsLabel.setText(String.valueOf(statistics.playerCount()));
+                totalTournamentsLabel.setText(String.valueOf(statistics.tournamentCount()));
+            },
+            error -> {
+                error.printStackTrace();
+                totalParticipantsLabel.setText("?");
+                totalTournamentsLabel.setText("?");
+            });
     }
     
     public void refreshData() {
+        // Aktualisiert nach dem Laden auch die Statistik
         loadParticipants();
-        updateStatistics();
     }
     
     private void showErrorAlert(String title, String message) {
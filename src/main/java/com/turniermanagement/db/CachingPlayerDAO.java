@@ -0,0 +1,214 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Tournament;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Read-Through-Cache vor einer beliebigen PlayerDAO-Implementierung.
+ * Einzelabfragen nach ID, Name und E-Mail werden aus dem gemeinsamen {@link PlayerCache}
+ * beantwortet; Schreibzugriffe werden an das eigentliche DAO durchgereicht und
+ * invalidieren anschließend die betroffenen Einträge, auch wenn sie fehlschlagen.
+ * Der Cache hält die kanonischen Instanzen; ein fehlgeschlagenes Update entfernt das
+ * eigentliche DAO aus der Identity-Map, sodass die nächste Abfrage den gespeicherten
+ * Stand lädt.
+ *
+ * Turnierbeziehungen, die über das TournamentDAO geändert werden, bleiben konsistent,
+ * da beide DAOs über die Identity-Map dieselben Spielerinstanzen verwenden.
+ */
+public class CachingPlayerDAO implements PlayerDAO {
+    private final PlayerDAO delegate;
+    private final PlayerCache cache;
+
+    /**
+     * Erstellt ein cachendes DAO.
+     * @param delegate Das DAO, an das Fehlschläge und Schreibzugriffe weitergereicht werden
+     * @param cache Der (typischerweise von der DAOFactory geteilte) Cache
+     */
+    public CachingPlayerDAO(PlayerDAO delegate, PlayerCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    /**
+     * Gibt den verwendeten Cache zurück.
+     * @return Der Cache
+     */
+    public PlayerCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public void save(Player player) throws SQLException {
+        try {
+            delegate.save(player);
+        } finally {
+            cache.invalidate(player);
+        }
+    }
+
+    @Override
+    public void saveAll(List<Player> players) throws SQLException {
+        try {
+            delegate.saveAll(players);
+        } finally {
+            for (Player player : players) {
+                cache.invalidate(player);
+            }
+        }
+    }
+
+    @Override
+    public void update(Player player) throws SQLException {
+        try {
+            delegate.update(player);
+        } finally {
+            // Auch nach einem Fehlschlag: der Eintrag könnte die abgelehnten Werte enthalten
+            cache.invalidate(player);
+        }
+    }
+
+    @Override
+    public void recordGameResult(Long winnerId, Long loserId) throws SQLException {
+        try {
+            delegate.recordGameResult(winnerId, loserId);
+        } finally {
+            cache.invalidate(winnerId);
+            cache.invalidate(loserId);
+        }
+    }
+
+    @Override
+    public List<Player> findPage(Long afterId, int limit) throws SQLException {
+        // Seiten werden nicht gecacht, da sie sich mit jedem neuen Spieler verschieben
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Player> consumer) throws SQLException {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public void delete(Long id) throws SQLException {
+        delegate.delete(id);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void deleteAll() throws SQLException {
+        delegate.deleteAll();
+        cache.clear();
+    }
+
+    @Override
+    public void updatePlayerRanking(Player player, Tournament tournament, int ranking) throws SQLException {
+        try {
+            delegate.updatePlayerRanking(player, tournament, ranking);
+        } finally {
+            cache.invalidate(player);
+        }
+    }
+
+    @Override
+    public Optional<Player> findById(Long id) throws SQLException {
+        PlayerCache.Key key = PlayerCache.Key.id(id);
+        Optional<Player> cached = cache.lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.currentGeneration();
+        Optional<Player> loaded = delegate.findById(id);
+        cache.store(key, loaded, generation);
+        return loaded;
+    }
+
+    @Override
+    public Optional<Player> findByName(String name) throws SQLException {
+        if (name == null) {
+            return delegate.findByName(name);
+        }
+        PlayerCache.Key key = PlayerCache.Key.name(name);
+        Optional<Player> cached = cache.lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.currentGeneration();
+        Optional<Player> loaded = delegate.findByName(name);
+        cache.store(key, loaded, generation);
+        return loaded;
+    }
+
+    @Override
+    public Optional<Player> findByEmail(String email) throws SQLException {
+        if (email == null || email.isEmpty()) {
+            return delegate.findByEmail(email);
+        }
+        PlayerCache.Key key = PlayerCache.Key.email(email);
+        Optional<Player> cached = cache.lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.currentGeneration();
+        Optional<Player> loaded = delegate.findByEmail(email);
+        cache.store(key, loaded, generation);
+        return loaded;
+    }
+
+    @Override
+    public Map<Long, Player> findByIds(Collection<Long> ids) throws SQLException {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Player> players = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (players.containsKey(id) || missing.contains(id)) {
+                continue;
+            }
+            Optional<Player> cached = cache.lookup(PlayerCache.Key.id(id));
+            if (cached == null) {
+                missing.add(id);
+            } else {
+                cached.ifPresent(player -> players.put(id, player));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long generation = cache.currentGeneration();
+            Map<Long, Player> loaded = delegate.findByIds(missing);
+            for (Long id : missing) {
+                cache.store(PlayerCache.Key.id(id), Optional.ofNullable(loaded.get(id)), generation);
+            }
+            players.putAll(loaded);
+        }
+        return players;
+    }
+
+    @Override
+    public Set<String> findAllNames() throws SQLException {
+        return delegate.findAllNames();
+    }
+
+    @Override
+    public Set<String> findAllEmails() throws SQLException {
+        return delegate.findAllEmails();
+    }
+
+    @Override
+    public List<Player> findAll() throws SQLException {
+        // Vollständige Listen werden nicht gecacht, um den begrenzten Cache nicht zu verdrängen
+        return delegate.findAll();
+    }
+}
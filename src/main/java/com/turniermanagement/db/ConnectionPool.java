@@ -0,0 +1,369 @@
+package com.turniermanagement.db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Begrenzter Verbindungspool für SQLite.
+ * Lesezugriffe erhalten eine eigene Verbindung aus dem Pool, Schreibzugriffe laufen
+ * serialisiert über eine einzige Schreibverbindung. Die Datenbankdatei wird im WAL-Modus
+ * betrieben, damit Leser nicht durch den Schreiber blockiert werden.
+ *
+ * Eine Verbindung wird pro Arbeitseinheit über {@link #beginRead()} bzw. {@link #beginWrite()}
+ * ausgeliehen und ist bis zum Schließen des {@link Lease} an den aufrufenden Thread gebunden.
+ * Verschachtelte Aufrufe im selben Thread (z.B. RoundDAO → MatchDAO) verwenden dieselbe
+ * Verbindung und nehmen an der äußeren Transaktion teil.
+ *
+ * Jede Verbindung des Pools besitzt einen {@link StatementCache}, sodass wiederholt
+ * vorbereitete Anweisungen nicht erneut geparst werden, und wird von {@link QueryStatistics}
+ * instrumentiert.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /** Standardanzahl an Leseverbindungen. */
+    public static final int DEFAULT_MAX_READERS = 4;
+
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+    private static final int BUSY_TIMEOUT_MILLIS = 5000;
+
+    private final String url;
+    private final int maxReaders;
+    private final BlockingQueue<Connection> idleReaders = new LinkedBlockingQueue<>();
+    private final AtomicInteger openReaders = new AtomicInteger();
+    private final Connection writer;
+    private final StatementCache.Counters statementCounters;
+    private final QueryStatistics queryStatistics = new QueryStatistics();
+    private final ReentrantLock writeLock = new ReentrantLock(true);
+    private final ThreadLocal<Binding> binding = new ThreadLocal<>();
+    private volatile boolean closed;
+
+    private ConnectionPool(String url, int maxReaders, Connection writer, StatementCache.Counters statementCounters) {
+        this.url = url;
+        this.maxReaders = maxReaders;
+        this.writer = queryStatistics.wrap(StatementCache.wrap(writer, StatementCache.DEFAULT_CAPACITY, statementCounters));
+        this.statementCounters = statementCounters;
+    }
+
+    /**
+     * Erstellt einen Pool für die angegebene Datenbank-URL.
+     * @param url JDBC-URL der SQLite-Datenbankdatei
+     * @param maxReaders Maximale Anzahl gleichzeitig geöffneter Leseverbindungen
+     * @return Der neue Pool
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public static ConnectionPool create(String url, int maxReaders) throws SQLException {
+        if (url.contains(":memory:")) {
+            // Jede Verbindung hätte ihre eigene In-Memory-Datenbank
+            Connection connection = DriverManager.getConnection(url);
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA foreign_keys = ON");
+            }
+            return shared(connection);
+        }
+        Connection writer = DriverManager.getConnection(url);
+        try (Statement stmt = writer.createStatement()) {
+            // Fremdschlüssel werden nur beim Schreiben geprüft, daher genügt die Schreibverbindung
+            stmt.execute("PRAGMA foreign_keys = ON");
+            stmt.execute("PRAGMA journal_mode = WAL");
+            stmt.execute("PRAGMA synchronous = NORMAL");
+            stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MILLIS);
+        }
+        return new ConnectionPool(url, Math.max(1, maxReaders), writer, new StatementCache.Counters());
+    }
+
+    /**
+     * Erstellt einen Pool, der alle Arbeitseinheiten serialisiert über eine einzige,
+     * bereits geöffnete Verbindung abwickelt (z.B. In-Memory-Datenbanken in Tests).
+     * @param connection Die zu verwendende Verbindung
+     * @return Der neue Pool
+     */
+    public static ConnectionPool shared(Connection connection) {
+        return new ConnectionPool(null, 0, connection, new StatementCache.Counters());
+    }
+
+    /**
+     * Leiht eine Verbindung für eine lesende Arbeitseinheit aus.
+     * Läuft im aktuellen Thread bereits eine Arbeitseinheit, wird deren Verbindung verwendet.
+     * @return Lease mit der Verbindung
+     * @throws SQLException Wenn keine Verbindung verfügbar ist
+     */
+    public Lease beginRead() throws SQLException {
+        Binding current = binding.get();
+        if (current != null) {
+            return new Lease(current, null, false, false);
+        }
+        if (isShared()) {
+            writeLock.lock();
+            return bind(new Binding(writer, false), null);
+        }
+        return bind(new Binding(borrowReader(), false), null);
+    }
+
+    /**
+     * Leiht die Schreibverbindung aus und startet eine Transaktion.
+     * Die Transaktion wird mit {@link Lease#commit()} bestätigt; ein Schließen ohne Commit
+     * führt zum Rollback. Innerhalb einer laufenden Schreibtransaktion des aktuellen Threads
+     * nimmt die Arbeitseinheit an dieser Transaktion teil.
+     * @return Lease mit der Schreibverbindung
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public Lease beginWrite() throws SQLException {
+        Binding current = binding.get();
+        if (current != null && current.writing) {
+            return new Lease(current, null, false, true);
+        }
+        writeLock.lock();
+        try {
+            writer.setAutoCommit(false);
+        } catch (SQLException e) {
+            writeLock.unlock();
+            throw e;
+        }
+        return bind(new Binding(writer, true), current);
+    }
+
+    /**
+     * Gibt an, ob im aktuellen Thread eine Schreibtransaktion läuft.
+     * @return true, wenn eine Schreibtransaktion aktiv ist
+     */
+    public boolean isInTransaction() {
+        Binding current = binding.get();
+        return current != null && current.writing;
+    }
+
+    private Lease bind(Binding newBinding, Binding previous) {
+        binding.set(newBinding);
+        return new Lease(newBinding, previous, true, newBinding.writing);
+    }
+
+    private boolean isShared() {
+        return url == null;
+    }
+
+    private Connection borrowReader() throws SQLException {
+        if (closed) {
+            throw new SQLException("Verbindungspool ist geschlossen");
+        }
+        Connection connection = idleReaders.poll();
+        if (connection != null) {
+            return connection;
+        }
+        if (openReaders.incrementAndGet() <= maxReaders) {
+            try {
+                return openReader();
+            } catch (SQLException e) {
+                openReaders.decrementAndGet();
+                throw e;
+            }
+        }
+        openReaders.decrementAndGet();
+        try {
+            connection = idleReaders.poll(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Warten auf eine Datenbankverbindung wurde unterbrochen", e);
+        }
+        if (connection == null) {
+            throw new SQLException("Keine freie Datenbankverbindung innerhalb von "
+                    + ACQUIRE_TIMEOUT_SECONDS + " Sekunden verfügbar");
+        }
+        return connection;
+    }
+
+    private Connection openReader() throws SQLException {
+        Connection connection = DriverManager.getConnection(url);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MILLIS);
+            stmt.execute("PRAGMA query_only = ON");
+        }
+        return queryStatistics.wrap(StatementCache.wrap(connection, StatementCache.DEFAULT_CAPACITY, statementCounters));
+    }
+
+    private void release(Binding released, Binding previous) throws SQLException {
+        if (previous != null) {
+            binding.set(previous);
+        } else {
+            binding.remove();
+        }
+        if (released.writing || isShared()) {
+            writeLock.unlock();
+            return;
+        }
+        if (closed) {
+            released.connection.close();
+            openReaders.decrementAndGet();
+        } else {
+            idleReaders.offer(released.connection);
+        }
+    }
+
+    /**
+     * Gibt die Zähler der Statement-Caches aller Verbindungen dieses Pools zurück.
+     * @return Anzahl vorbereiteter, wiederverwendeter und verdrängter Statements
+     */
+    public StatementCache.Stats getStatementCacheStats() {
+        return statementCounters.snapshot();
+    }
+
+    /**
+     * Setzt die Zähler der Statement-Caches zurück.
+     */
+    public void resetStatementCacheStats() {
+        statementCounters.reset();
+    }
+
+    /**
+     * Gibt die Abfragestatistik aller Verbindungen dieses Pools zurück.
+     * @return Anweisungen, gelesene Zeilen und Laufzeiten je SQL-Form und DAO-Methode
+     */
+    public QueryStatistics getQueryStatistics() {
+        return queryStatistics;
+    }
+
+    /**
+     * Schließt alle Verbindungen des Pools.
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        List<Connection> readers = new ArrayList<>();
+        idleReaders.drainTo(readers);
+        for (Connection reader : readers) {
+            reader.close();
+            openReaders.decrementAndGet();
+        }
+        writeLock.lock();
+        try {
+            writer.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static final class Binding {
+        private final Connection connection;
+        private final boolean writing;
+        private boolean rollbackOnly;
+        private final List<Runnable> afterCommit = new ArrayList<>();
+
+        private Binding(Connection connection, boolean writing) {
+            this.connection = connection;
+            this.writing = writing;
+        }
+    }
+
+    /**
+     * An den aktuellen Thread gebundene Verbindung einer Arbeitseinheit.
+     * Wird mit try-with-resources verwendet.
+     */
+    public final class Lease implements AutoCloseable {
+        private final Binding owner;
+        private final Binding previous;
+        private final boolean outermost;
+        private final boolean transactional;
+        private boolean committed;
+        private boolean closed;
+
+        private Lease(Binding owner, Binding previous, boolean outermost, boolean transactional) {
+            this.owner = owner;
+            this.previous = previous;
+            this.outermost = outermost;
+            this.transactional = transactional;
+        }
+
+        /**
+         * Gibt die Verbindung dieser Arbeitseinheit zurück.
+         * @return Die Verbindung
+         */
+        public Connection getConnection() {
+            return owner.connection;
+        }
+
+        /**
+         * Bestätigt die Arbeitseinheit. Bei verschachtelten Arbeitseinheiten erfolgt
+         * der eigentliche Commit erst durch die äußerste Arbeitseinheit.
+         * @throws SQLException Bei Datenbankfehlern oder wenn die Transaktion zurückgerollt werden muss
+         */
+        public void commit() throws SQLException {
+            if (!outermost || !transactional) {
+                committed = true;
+                return;
+            }
+            if (owner.rollbackOnly) {
+                throw new SQLException("Transaktion wurde von einer inneren Arbeitseinheit abgebrochen");
+            }
+            // Erst nach erfolgreichem Commit als bestätigt markieren, sonst würde close()
+            // eine halb fehlgeschlagene Transaktion nicht zurückrollen
+            owner.connection.commit();
+            committed = true;
+            List<Runnable> actions = new ArrayList<>(owner.afterCommit);
+            owner.afterCommit.clear();
+            // Eine fehlschlagende Aktion darf die übrigen nicht verhindern
+            RuntimeException failure = null;
+            for (Runnable action : actions) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /**
+         * Registriert eine Aktion, die erst nach dem Commit der äußersten Arbeitseinheit
+         * ausgeführt wird, z.B. um bereits geladene Instanzen nachzuziehen. Wird die
+         * Transaktion zurückgerollt, entfällt die Aktion. Nur für Schreibtransaktionen.
+         * @param action Die auszuführende Aktion
+         */
+        public void afterCommit(Runnable action) {
+            if (!transactional) {
+                throw new IllegalStateException("After-commit actions require a write transaction");
+            }
+            owner.afterCommit.add(action);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!outermost) {
+                if (transactional && !committed) {
+                    owner.rollbackOnly = true;
+                }
+                return;
+            }
+            try {
+                if (transactional) {
+                    try {
+                        if (!committed || owner.rollbackOnly) {
+                            owner.connection.rollback();
+                        }
+                    } finally {
+                        owner.connection.setAutoCommit(true);
+                    }
+                }
+            } finally {
+                release(owner, previous);
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.turniermanagement.db;
 
+import java.sql.SQLException;
+
 /**
  * Factory-Klasse zum Erstellen von DAO-Instanzen.
  * Zentraler Punkt für die Erzeugung von DAOs, der es ermöglicht,
@@ -10,6 +12,9 @@ public abstract class DAOFactory {
     // Singleton-Instanz
     private static DAOFactory instance;
     
+    // Sitzungsweite Identity-Map, die sich alle von dieser Factory erzeugten DAOs teilen
+    private final IdentityMap identityMap = new IdentityMap();
+    
     // Protected Konstruktor für Singleton-Pattern und Vererbung
     protected DAOFactory() {
     }
@@ -34,6 +39,34 @@ public abstract class DAOFactory {
         instance = factory;
     }
     
+    /**
+     * Gibt die Identity-Map dieser Sitzung zurück.
+     * Alle DAOs der Factory liefern darüber für dieselbe ID dieselbe Spieler- bzw. Turnierinstanz.
+     * @return Die Identity-Map
+     */
+    public IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+    
+    /**
+     * Arbeitseinheit, die mehrere DAO-Aufrufe umfasst.
+     */
+    @FunctionalInterface
+    public interface Work {
+        void execute() throws SQLException;
+    }
+    
+    /**
+     * Führt mehrere DAO-Aufrufe in einer gemeinsamen Transaktion aus.
+     * Schlägt die Arbeitseinheit fehl, werden alle darin vorgenommenen Änderungen verworfen.
+     * Implementierungen ohne Transaktionsunterstützung führen die Arbeitseinheit direkt aus.
+     * @param work Die auszuführende Arbeitseinheit
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public void executeInTransaction(Work work) throws SQLException {
+        work.execute();
+    }
+    
     /**
      * Erstellt eine PlayerDAO-Instanz.
      * @return PlayerDAO-Implementierung
@@ -57,4 +90,22 @@ public abstract class DAOFactory {
      * @return MatchDAO-Implementierung
      */
     public abstract MatchDAO createMatchDAO();
+    
+    /**
+     * Erstellt eine StatisticsDAO-Instanz.
+     * @return StatisticsDAO-Implementierung
+     */
+    public abstract StatisticsDAO createStatisticsDAO();
+    
+    /**
+     * Erstellt eine RatingDAO-Instanz.
+     * @return RatingDAO-Implementierung
+     */
+    public abstract RatingDAO createRatingDAO();
+
+    /**
+     * Erstellt eine StandingsDAO-Instanz.
+     * @return StandingsDAO-Implementierung
+     */
+    public abstract StandingsDAO createStandingsDAO();
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.turniermanagement.db;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Hilfsklasse zum Löschen von Datenbankeinträgen.
@@ -11,13 +14,13 @@ import java.sql.Statement;
  */
 public class DatabaseCleaner {
     
-    private final Connection connection;
+    private final ConnectionPool connectionPool;
     
     /**
-     * Erstellt eine neue DatabaseCleaner-Instanz mit der Standarddatenbankverbindung.
+     * Erstellt eine neue DatabaseCleaner-Instanz mit dem Standardverbindungspool.
      */
     public DatabaseCleaner() {
-        this.connection = DatabaseConnection.getInstance().getConnection();
+        this(DatabaseConnection.getInstance().getConnectionPool());
     }
     
     /**
@@ -26,7 +29,16 @@ public class DatabaseCleaner {
      * @param connection Die zu verwendende Datenbankverbindung
      */
     public DatabaseCleaner(Connection connection) {
-        this.connection = connection;
+        this(ConnectionPool.shared(connection));
+    }
+    
+    /**
+     * Erstellt eine neue DatabaseCleaner-Instanz mit einem benutzerdefinierten Verbindungspool.
+     *
+     * @param connectionPool Der zu verwendende Verbindungspool
+     */
+    public DatabaseCleaner(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
     }
     
     /**
@@ -37,9 +49,66 @@ public class DatabaseCleaner {
      * @throws SQLException Bei Datenbankfehlern
      */
     public boolean deletePlayer(long playerId) throws SQLException {
-        try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM player WHERE id = ?")) {
-            pstmt.setLong(1, playerId);
-            return pstmt.executeUpdate() > 0;
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            Connection connection = lease.getConnection();
+            // Turnierzuordnungen zuerst, da Fremdschlüssel geprüft werden
+            try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM tournament_player WHERE player_id = ?")) {
+                pstmt.setLong(1, playerId);
+                pstmt.executeUpdate();
+            }
+            try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM player WHERE id = ?")) {
+                pstmt.setLong(1, playerId);
+                boolean deleted = pstmt.executeUpdate() > 0;
+                lease.commit();
+                return deleted;
+            }
+        }
+    }
+    
+    /**
+     * Ergebnis von {@link #deletePlayerWithMatches(long)}.
+     *
+     * @param deleted true, wenn der Spieler existierte und gelöscht wurde
+     * @param matchesDeleted Anzahl der gelöschten Matches
+     * @param relationshipsDeleted Anzahl der gelöschten Turnier-Spieler-Beziehungen
+     */
+    public record PlayerDeletion(boolean deleted, int matchesDeleted, int relationshipsDeleted) {
+    }
+    
+    /**
+     * Löscht einen Spieler samt seiner Matches und Turnierzuordnungen in einer Transaktion.
+     * Die Tabellen der betroffenen Turniere werden danach neu aufgebaut, da die Ergebnisse
+     * der gelöschten Matches auch die Wertung der Gegner verändern.
+     *
+     * @param playerId Die ID des zu löschenden Spielers
+     * @return Anzahl der gelöschten Matches und Beziehungen
+     * @throws SQLException Bei Datenbankfehlern; in diesem Fall wird nichts gelöscht
+     */
+    public PlayerDeletion deletePlayerWithMatches(long playerId) throws SQLException {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            Connection connection = lease.getConnection();
+            List<Long> tournamentIds = new ArrayList<>();
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "SELECT DISTINCT r.tournament_id FROM match m JOIN round r ON m.round_id = r.id " +
+                    "WHERE m.player1_id = ? OR m.player2_id = ?")) {
+                pstmt.setLong(1, playerId);
+                pstmt.setLong(2, playerId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        tournamentIds.add(rs.getLong(1));
+                    }
+                }
+            }
+            
+            // Die Teilschritte treten dieser Transaktion bei
+            int matchesDeleted = deleteMatchesForPlayer(playerId);
+            int relationshipsDeleted = deletePlayerFromAllTournaments(playerId);
+            boolean deleted = deletePlayer(playerId);
+            for (Long tournamentId : tournamentIds) {
+                SQLiteStandingsDAO.rebuild(connection, tournamentId);
+            }
+            lease.commit();
+            return new PlayerDeletion(deleted, matchesDeleted, relationshipsDeleted);
         }
     }
     
@@ -53,10 +122,8 @@ public class DatabaseCleaner {
      */
     public boolean deleteTournament(long tournamentId) throws SQLException {
         // Transaktion beginnen
-        boolean autoCommit = connection.getAutoCommit();
-        connection.setAutoCommit(false);
-        
-        try {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            Connection connection = lease.getConnection();
             // Löschen aller Matches in allen Runden des Turniers
             try (PreparedStatement pstmt = connection.prepareStatement(
                     "DELETE FROM match WHERE round_id IN (SELECT id FROM round WHERE tournament_id = ?)")) {
@@ -82,16 +149,9 @@ public class DatabaseCleaner {
                 int result = pstmt.executeUpdate();
                 
                 // Commit der Transaktion
-                connection.commit();
+                lease.commit();
                 return result > 0;
             }
-        } catch (SQLException e) {
-            // Rollback bei Fehler
-            connection.rollback();
-            throw e;
-        } finally {
-            // Ursprünglichen AutoCommit-Status wiederherstellen
-            connection.setAutoCommit(autoCommit);
         }
     }
     
@@ -105,10 +165,8 @@ public class DatabaseCleaner {
      */
     public boolean deleteRound(long roundId) throws SQLException {
         // Transaktion beginnen
-        boolean autoCommit = connection.getAutoCommit();
-        connection.setAutoCommit(false);
-        
-        try {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            Connection connection = lease.getConnection();
             // Löschen aller Matches in der Runde
             try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM match WHERE round_id = ?")) {
                 pstmt.setLong(1, roundId);
@@ -121,16 +179,9 @@ public class DatabaseCleaner {
                 int result = pstmt.executeUpdate();
                 
                 // Commit der Transaktion
-                connection.commit();
+                lease.commit();
                 return result > 0;
             }
-        } catch (SQLException e) {
-            // Rollback bei Fehler
-            connection.rollback();
-            throw e;
-        } finally {
-            // Ursprünglichen AutoCommit-Status wiederherstellen
-            connection.setAutoCommit(autoCommit);
         }
     }
     
@@ -142,9 +193,12 @@ public class DatabaseCleaner {
      * @throws SQLException Bei Datenbankfehlern
      */
     public boolean deleteMatch(long matchId) throws SQLException {
-        try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM match WHERE id = ?")) {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement("DELETE FROM match WHERE id = ?")) {
             pstmt.setLong(1, matchId);
-            return pstmt.executeUpdate() > 0;
+            boolean deleted = pstmt.executeUpdate() > 0;
+            lease.commit();
+            return deleted;
         }
     }
     
@@ -157,13 +211,17 @@ public class DatabaseCleaner {
      */
     public boolean deleteAllData() throws SQLException {
         // Transaktion beginnen
-        boolean autoCommit = connection.getAutoCommit();
-        connection.setAutoCommit(false);
-        
-        try {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            Connection connection = lease.getConnection();
             // Löschen in der richtigen Reihenfolge, um Fremdschlüsselkonflikte zu vermeiden
             try (Statement stmt = connection.createStatement()) {
-                // Reihenfolge: match -> round -> tournament_player -> tournament -> player
+                // Tabellen und Wertungen würden über ON DELETE CASCADE mitgelöscht, werden aber
+                // ausdrücklich geleert, damit die Reihenfolge nicht von den Fremdschlüsseln abhängt.
+                // Reihenfolge: standings -> rating_history -> player_rating -> match -> round
+                // -> tournament_player -> tournament -> player
+                stmt.executeUpdate("DELETE FROM standings");
+                stmt.executeUpdate("DELETE FROM rating_history");
+                stmt.executeUpdate("DELETE FROM player_rating");
                 stmt.executeUpdate("DELETE FROM match");
                 stmt.executeUpdate("DELETE FROM round");
                 stmt.executeUpdate("DELETE FROM tournament_player");
@@ -171,16 +229,25 @@ public class DatabaseCleaner {
                 stmt.executeUpdate("DELETE FROM player");
                 
                 // Commit der Transaktion
-                connection.commit();
+                lease.commit();
                 return true;
             }
-        } catch (SQLException e) {
-            // Rollback bei Fehler
-            connection.rollback();
-            throw e;
-        } finally {
-            // Ursprünglichen AutoCommit-Status wiederherstellen
-            connection.setAutoCommit(autoCommit);
+        }
+    }
+    
+    /**
+     * Baut die gespeicherten Turniertabellen aus Teilnehmern und abgeschlossenen Matches neu auf,
+     * etwa nachdem Runden oder Matches direkt gelöscht wurden.
+     *
+     * @param tournamentId Die ID des Turniers oder null für alle Turniere
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public void rebuildStandings(Long tournamentId) throws SQLException {
+        StandingsDAO standingsDAO = new SQLiteStandingsDAO(connectionPool);
+        if (tournamentId != null) {
+            standingsDAO.rebuild(tournamentId);
+        } else {
+            standingsDAO.rebuildAll();
         }
     }
     
@@ -192,9 +259,12 @@ public class DatabaseCleaner {
      * @throws SQLException Bei Datenbankfehlern
      */
     public int deletePlayerFromAllTournaments(long playerId) throws SQLException {
-        try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM tournament_player WHERE player_id = ?")) {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement("DELETE FROM tournament_player WHERE player_id = ?")) {
             pstmt.setLong(1, playerId);
-            return pstmt.executeUpdate();
+            int deleted = pstmt.executeUpdate();
+            lease.commit();
+            return deleted;
         }
     }
     
@@ -206,16 +276,23 @@ public class DatabaseCleaner {
      * @throws SQLException Bei Datenbankfehlern
      */
     public int deleteMatchesForPlayer(long playerId) throws SQLException {
-        try (PreparedStatement pstmt = connection.prepareStatement(
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(
                 "DELETE FROM match WHERE player1_id = ? OR player2_id = ?")) {
             pstmt.setLong(1, playerId);
             pstmt.setLong(2, playerId);
-            return pstmt.executeUpdate();
+            int deleted = pstmt.executeUpdate();
+            lease.commit();
+            return deleted;
         }
     }
     
     /**
      * Löscht alle Datensätze einer bestimmten Tabelle.
+     * Einträge in standings, player_rating und rating_history, die auf gelöschte Spieler oder
+     * Turniere verweisen, werden über ON DELETE CASCADE mitgelöscht. Tabellen, auf die noch
+     * Matches, Runden oder Turnierzuordnungen verweisen, lassen sich erst leeren, nachdem diese
+     * gelöscht wurden; sonst schlägt die Fremdschlüsselprüfung fehl.
      *
      * @param tableName Der Name der zu löschenden Tabelle
      * @return true wenn der Löschvorgang erfolgreich war, sonst false
@@ -227,8 +304,10 @@ public class DatabaseCleaner {
             throw new IllegalArgumentException("Ungültiger Tabellenname: " + tableName);
         }
         
-        try (Statement stmt = connection.createStatement()) {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite();
+             Statement stmt = lease.getConnection().createStatement()) {
             stmt.executeUpdate("DELETE FROM " + tableName);
+            lease.commit();
             return true;
         }
     }
@@ -241,6 +320,7 @@ public class DatabaseCleaner {
      */
     private boolean isValidTable(String tableName) {
         // Liste der gültigen Tabellennamen
-        return tableName.matches("^(player|tournament|round|match|tournament_player)$");
+        return tableName.matches(
+                "^(player|tournament|round|match|tournament_player|standings|player_rating|rating_history)$");
     }
 }
\ No newline at end of file
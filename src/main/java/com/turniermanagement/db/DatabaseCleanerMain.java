@@ -28,6 +28,8 @@ public class DatabaseCleanerMain {
                     case 4 -> deleteMatch();
                     case 5 -> clearTable();
                     case 6 -> deleteAllData();
+                    case 7 -> showQueryStatistics();
+                    case 8 -> rebuildStandings();
                     case 0 -> running = false;
                     default -> System.out.println("Ungültige Auswahl. Bitte versuchen Sie es erneut.");
                 }
@@ -57,6 +59,8 @@ public class DatabaseCleanerMain {
         System.out.println("4. Match löschen");
         System.out.println("5. Tabelle leeren");
         System.out.println("6. Alle Daten löschen");
+        System.out.println("7. Abfragestatistik anzeigen");
+        System.out.println("8. Turniertabellen neu aufbauen");
         System.out.println("0. Beenden");
         System.out.print("Ihre Wahl: ");
     }
@@ -77,17 +81,13 @@ public class DatabaseCleanerMain {
         System.out.println("WARNUNG: Dies wird auch alle Matches und Turnier-Beziehungen des Spielers löschen!");
         System.out.print("Sind Sie sicher? (j/n): ");
         if (scanner.nextLine().trim().equalsIgnoreCase("j")) {
-            // Zuerst die abhängigen Daten löschen
-            int matchesDeleted = cleaner.deleteMatchesForPlayer(playerId);
-            int relationshipsDeleted = cleaner.deletePlayerFromAllTournaments(playerId);
+            // Matches, Turnier-Beziehungen und Spieler in einer Transaktion löschen
+            DatabaseCleaner.PlayerDeletion deletion = cleaner.deletePlayerWithMatches(playerId);
             
-            // Dann den Spieler selbst löschen
-            boolean success = cleaner.deletePlayer(playerId);
-            
-            if (success) {
+            if (deletion.deleted()) {
                 System.out.println("Spieler erfolgreich gelöscht.");
-                System.out.println("Gelöschte Matches: " + matchesDeleted);
-                System.out.println("Gelöschte Turnier-Beziehungen: " + relationshipsDeleted);
+                System.out.println("Gelöschte Matches: " + deletion.matchesDeleted());
+                System.out.println("Gelöschte Turnier-Beziehungen: " + deletion.relationshipsDeleted());
             } else {
                 System.out.println("Spieler konnte nicht gefunden werden oder ein Fehler ist aufgetreten.");
             }
@@ -205,4 +205,31 @@ public class DatabaseCleanerMain {
             System.out.println("Löschvorgang abgebrochen.");
         }
     }
+    
+    private static void rebuildStandings() throws SQLException {
+        System.out.print("Geben Sie die ID des Turniers ein (leer für alle Turniere): ");
+        String input = scanner.nextLine().trim();
+        
+        if (input.isEmpty()) {
+            cleaner.rebuildStandings(null);
+            System.out.println("Tabellen aller Turniere erfolgreich neu aufgebaut.");
+        } else {
+            cleaner.rebuildStandings(Long.parseLong(input));
+            System.out.println("Turniertabelle erfolgreich neu aufgebaut.");
+        }
+    }
+    
+    private static void showQueryStatistics() {
+        QueryStatistics statistics = DatabaseConnection.getInstance().getConnectionPool().getQueryStatistics();
+        QueryStatistics.Snapshot snapshot = statistics.snapshot();
+        System.out.println("Ausgeführte Anweisungen seit Programmstart bzw. letztem Zurücksetzen: "
+                + snapshot.totalStatements());
+        System.out.print(snapshot.format());
+        
+        System.out.print("Statistik zurücksetzen? (j/n): ");
+        if (scanner.nextLine().trim().equalsIgnoreCase("j")) {
+            statistics.reset();
+            System.out.println("Statistik zurückgesetzt.");
+        }
+    }
 }
\ No newline at end of file
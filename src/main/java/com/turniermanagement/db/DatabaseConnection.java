@@ -2,18 +2,20 @@ package com.turniermanagement.db;
 
 import java.sql.Connection;
 import java.sql.Date;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Types;
 import java.time.LocalDate;
 
+/**
+ * Verwaltet den anwendungsweiten Verbindungspool zur SQLite-Datenbank
+ * und bringt beim ersten Zugriff das Schema über {@link SchemaMigrations} auf den neuesten Stand.
+ */
 public class DatabaseConnection {
     private static final String DB_URL = "jdbc:sqlite:tournament.db";
     private static DatabaseConnection instance;
-    private Connection connection;
+    private ConnectionPool connectionPool;
     private static String dbUrl = null;
 
     private DatabaseConnection() {
@@ -23,26 +25,51 @@ public class DatabaseConnection {
     private DatabaseConnection(String dburl) {
         try {
             dbUrl = dburl;
-            connection = DriverManager.getConnection(dburl);
-            createTables();
+            connectionPool = openPool(dburl);
         } catch (SQLException e) {
             e.printStackTrace();
         }
     }
 
-    public static Connection getInstance(String dburl) {
+    /**
+     * Öffnet den Verbindungspool und bringt das Schema auf den neuesten Stand.
+     * Schlägt eine Migration fehl, wird der Pool wieder geschlossen: Mit einem veralteten Schema
+     * würde die Anwendung sonst erst später mit unverständlichen SQL-Fehlern abbrechen.
+     * @param dburl Die JDBC-URL der Datenbank
+     * @return Der Pool mit aktuellem Schema
+     * @throws SQLException Wenn sich die Datenbank nicht öffnen lässt
+     * @throws IllegalStateException Wenn eine Migration fehlschlägt; die Ursache enthält die Details
+     */
+    static ConnectionPool openPool(String dburl) throws SQLException {
+        ConnectionPool pool = ConnectionPool.create(dburl, ConnectionPool.DEFAULT_MAX_READERS);
+        try (ConnectionPool.Lease lease = pool.beginWrite()) {
+            SchemaMigrations.migrate(lease.getConnection());
+            lease.commit();
+        } catch (SQLException e) {
+            try {
+                pool.close();
+            } catch (SQLException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw new IllegalStateException("Database schema migration failed: " + e.getMessage(), e);
+        }
+        return pool;
+    }
+
+    public static synchronized DatabaseConnection getInstance(String dburl) {
         if (instance == null) {
             instance = new DatabaseConnection(dburl);
         }
-        return instance.getConnection();
+        return instance;
     }
 
-    public static DatabaseConnection getInstance() {
+    public static synchronized DatabaseConnection getInstance() {
         if (instance == null) {
             instance = new DatabaseConnection();
         }
         return instance;
     }
+
     public static boolean isSQLite(Connection connection) throws SQLException {
         return dbUrl != null ? dbUrl.contains("sqlite") : connection.getMetaData().getDatabaseProductName().toLowerCase().contains("sqlite");  
     }
@@ -100,127 +127,11 @@ public class DatabaseConnection {
         return getDateParameter(rs, columnName, rs.getStatement().getConnection());
     }
 
-    public Connection getConnection() {
-        return connection;
-    }
-
-    private void createTables() throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            // Player Tabelle (ohne Ranking-Feld in der Haupttabelle)
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS player (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    name TEXT NOT NULL,
-                    email TEXT,
-                    games_won INTEGER DEFAULT 0,
-                    games_lost INTEGER DEFAULT 0
-                )
-            """);
-
-            // Prüfe, ob das Email-Feld bereits existiert
-            try {
-                ResultSet rs = connection.getMetaData().getColumns(null, null, "player", "email");
-                if (!rs.next()) {
-                    // Das Email-Feld existiert noch nicht, wir fügen es hinzu
-                    try {
-                        stmt.execute("ALTER TABLE player ADD COLUMN email TEXT");
-                    } catch (SQLException e) {
-                        System.out.println("Fehler beim Hinzufügen des Email-Felds: " + e.getMessage());
-                    }
-                }
-            } catch (SQLException e) {
-                // Ignoriere Fehler bei der Metadatenabfrage
-            }
-
-            // Tournament Tabelle
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS tournament (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    name TEXT NOT NULL,
-                    start_date TEXT,
-                    end_date TEXT,
-                    status TEXT
-                )
-            """);
-
-            // Round Tabelle
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS round (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    tournament_id INTEGER,
-                    round_number INTEGER,
-                    completed BOOLEAN DEFAULT 0,
-                    FOREIGN KEY (tournament_id) REFERENCES tournament(id)
-                )
-            """);
-
-            // Match Tabelle
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS match (
-                    id INTEGER PRIMARY KEY AUTOINCREMENT,
-                    round_id INTEGER,
-                    player1_id INTEGER,
-                    player2_id INTEGER,
-                    winner_id INTEGER,
-                    score_player1 INTEGER DEFAULT 0,
-                    score_player2 INTEGER DEFAULT 0,
-                    status TEXT,
-                    FOREIGN KEY (round_id) REFERENCES round(id),
-                    FOREIGN KEY (player1_id) REFERENCES player(id),
-                    FOREIGN KEY (player2_id) REFERENCES player(id),
-                    FOREIGN KEY (winner_id) REFERENCES player(id)
-                )
-            """);
-
-            // Tournament_Player Verbindungstabelle mit Ranking als Beziehungsattribut
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS tournament_player (
-                    tournament_id INTEGER,
-                    player_id INTEGER,
-                    ranking INTEGER DEFAULT 0,
-                    PRIMARY KEY (tournament_id, player_id),
-                    FOREIGN KEY (tournament_id) REFERENCES tournament(id),
-                    FOREIGN KEY (player_id) REFERENCES player(id)
-                )
-            """);
-            
-            // Prüfe, ob das Ranking-Feld bereits in tournament_player existiert
-            try {
-                ResultSet rs = connection.getMetaData().getColumns(null, null, "tournament_player", "ranking");
-                if (!rs.next()) {
-                    // Das Ranking-Feld existiert noch nicht, wir fügen es hinzu
-                    try {
-                        stmt.execute("ALTER TABLE tournament_player ADD COLUMN ranking INTEGER DEFAULT 0");
-                    } catch (SQLException e) {
-                        System.out.println("Fehler beim Hinzufügen des Ranking-Felds: " + e.getMessage());
-                    }
-                }
-            } catch (SQLException e) {
-                // Ignoriere Fehler bei der Metadatenabfrage
-            }
-        }
-    }
-    
-    private void migrateRankingData() throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            ResultSet rs = stmt.executeQuery("SELECT p.id, p.ranking, t.id as tournament_id FROM player p JOIN tournament_player tp ON p.id = tp.player_id JOIN tournament t ON tp.tournament_id = t.id");
-            
-            while (rs.next()) {
-                long playerId = rs.getLong(1);
-                int ranking = rs.getInt(2);
-                long tournamentId = rs.getLong(3);
-                
-                // Aktualisiere die Beziehungstabelle mit dem Ranking-Wert
-                try (PreparedStatement pstmt = connection.prepareStatement(
-                        "UPDATE tournament_player SET ranking = ? WHERE player_id = ? AND tournament_id = ?")) {
-                    pstmt.setInt(1, ranking);
-                    pstmt.setLong(2, playerId);
-                    pstmt.setLong(3, tournamentId);
-                    pstmt.executeUpdate();
-                }
-            }
-        } catch (SQLException e) {
-            System.out.println("Fehler bei der Migration der Ranking-Daten: " + e.getMessage());
-        }
+    /**
+     * Gibt den Verbindungspool der Anwendung zurück.
+     * @return Der Verbindungspool
+     */
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
     }
-}
\ No newline at end of file
+}
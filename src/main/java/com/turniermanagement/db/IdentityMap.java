@@ -0,0 +1,412 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.ChangeTracker;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sitzungsweite Identity-Map (First-Level-Cache) für Spieler und Turniere.
+ * Alle DAOs einer Sitzung liefern für dieselbe ID dieselbe Instanz zurück,
+ * sodass ein Spieler nicht mehr pro Abfrage und pro Turnier dupliziert wird.
+ *
+ * Einträge werden schwach referenziert: Instanzen, die von der Anwendung nicht
+ * mehr gehalten werden, gibt der Garbage Collector frei. Änderungen über die DAOs
+ * werden in die kanonische Instanz übernommen (update) bzw. entfernen den Eintrag (delete).
+ *
+ * Lesende DAOs bauen Instanzen und Beziehungen zunächst getrennt auf und übernehmen
+ * sie erst danach über {@link #mergePlayer(Player)}, {@link #refreshTournament(Tournament)}
+ * usw. in die kanonische Instanz. Dabei werden nur Felder ohne ausstehende Änderungen
+ * überschrieben, und Listen bzw. Maps werden unter der Sperre der Instanz durch neue
+ * ersetzt statt geleert und neu befüllt. Gleichzeitige Ladevorgänge desselben Spielers
+ * sehen so nie eine halb aufgebaute Collection und verwerfen keine offenen Änderungen.
+ */
+public class IdentityMap {
+
+    private final EntityCache<Player> players = new EntityCache<>();
+    private final EntityCache<Tournament> tournaments = new EntityCache<>();
+
+    /**
+     * Gibt die kanonische Instanz eines Spielers zurück.
+     * @param id Die ID des Spielers
+     * @return Die bekannte Instanz oder null
+     */
+    public Player getPlayer(Long id) {
+        return players.get(id);
+    }
+
+    /**
+     * Registriert einen Spieler, sofern für seine ID noch keine Instanz bekannt ist.
+     * @param player Der frisch geladene oder gespeicherte Spieler
+     * @return Die kanonische Instanz (die bereits bekannte oder der übergebene Spieler)
+     */
+    public Player registerPlayer(Player player) {
+        return players.register(player.getId(), player);
+    }
+
+    /**
+     * Übernimmt die gespeicherten Felder eines geschriebenen Spielers in die kanonische Instanz.
+     * Ist noch keine bekannt, wird der geschriebene Spieler selbst kanonisch. Andernfalls bleibt
+     * die bekannte Instanz kanonisch, sodass für eine ID nie zwei Instanzen in Umlauf sind, auch
+     * wenn eine Kopie gespeichert wurde. Nicht geschriebene Felder behalten ihre ausstehenden Änderungen.
+     * @param written Der geschriebene Spieler
+     * @param fields Die geschriebenen Felder
+     * @return Die kanonische Instanz
+     */
+    public Player applyUpdate(Player written, Set<Player.Field> fields) {
+        Player player = players.register(written.getId(), written);
+        if (player != written) {
+            synchronized (player) {
+                for (Player.Field field : fields) {
+                    switch (field) {
+                        case NAME -> player.setName(written.getName());
+                        case EMAIL -> player.setEmail(written.getEmail());
+                        case GAMES_WON -> player.setGamesWon(written.getGamesWon());
+                        case GAMES_LOST -> player.setGamesLost(written.getGamesLost());
+                        case TOURNAMENTS -> {
+                            player.setTournaments(new ArrayList<>(written.getTournaments()));
+                            player.setTournamentRankings(new HashMap<>(written.getTournamentRankings()));
+                        }
+                    }
+                    player.getChanges().markClean(field);
+                }
+            }
+        }
+        return player;
+    }
+
+    /**
+     * Übernimmt einen frisch geladenen Spieler samt Turnierbeziehungen. Ist für seine ID bereits
+     * eine Instanz bekannt, werden deren Felder ohne ausstehende Änderungen aus dem geladenen
+     * Spieler übernommen und seine Turnierbeziehungen als neue Collections eingesetzt.
+     * @param loaded Der geladene Spieler, der außerhalb der Identity-Map aufgebaut wurde
+     * @return Die kanonische Instanz
+     */
+    public Player mergePlayer(Player loaded) {
+        Player player = players.register(loaded.getId(), loaded);
+        if (player != loaded) {
+            synchronized (player) {
+                refreshFields(player, loaded);
+                ChangeTracker<Player.Field> changes = player.getChanges();
+                if (!changes.isDirty(Player.Field.TOURNAMENTS)) {
+                    player.setTournaments(loaded.getTournaments());
+                    player.setTournamentRankings(loaded.getTournamentRankings());
+                    changes.markClean(Player.Field.TOURNAMENTS);
+                }
+            }
+        }
+        return player;
+    }
+
+    /**
+     * Übernimmt die skalaren Felder eines frisch geladenen Spielers, ohne seine
+     * Turnierbeziehungen zu verändern.
+     * @param loaded Der geladene Spieler, der außerhalb der Identity-Map aufgebaut wurde
+     * @return Die kanonische Instanz
+     */
+    public Player refreshPlayer(Player loaded) {
+        Player player = players.register(loaded.getId(), loaded);
+        if (player != loaded) {
+            synchronized (player) {
+                refreshFields(player, loaded);
+            }
+        }
+        return player;
+    }
+
+    /**
+     * Übernimmt eine gespeicherte Turnierbeziehung in einen kanonischen Spieler, ohne sie als
+     * geändert zu markieren. Hat der Spieler ausstehende Änderungen an seinen Turnieren,
+     * bleiben diese unverändert.
+     * @param player Der kanonische Spieler
+     * @param tournament Das kanonische Turnier
+     * @param ranking Das gespeicherte Ranking
+     */
+    public void linkTournament(Player player, Tournament tournament, int ranking) {
+        synchronized (player) {
+            ChangeTracker<Player.Field> changes = player.getChanges();
+            if (changes.isDirty(Player.Field.TOURNAMENTS)
+                    || (player.getTournaments().contains(tournament)
+                        && Integer.valueOf(ranking).equals(player.getTournamentRankings().get(tournament)))) {
+                return;
+            }
+            List<Tournament> tournaments = new ArrayList<>(player.getTournaments());
+            if (!tournaments.contains(tournament)) {
+                tournaments.add(tournament);
+            }
+            Map<Tournament, Integer> rankings = new HashMap<>(player.getTournamentRankings());
+            rankings.put(tournament, ranking);
+            player.setTournaments(tournaments);
+            player.setTournamentRankings(rankings);
+            changes.markClean(Player.Field.TOURNAMENTS);
+        }
+    }
+
+    private static void refreshFields(Player player, Player loaded) {
+        ChangeTracker<Player.Field> changes = player.getChanges();
+        if (!changes.isDirty(Player.Field.NAME)) {
+            player.setName(loaded.getName());
+            changes.markClean(Player.Field.NAME);
+        }
+        if (!changes.isDirty(Player.Field.EMAIL)) {
+            player.setEmail(loaded.getEmail());
+            changes.markClean(Player.Field.EMAIL);
+        }
+        if (!changes.isDirty(Player.Field.GAMES_WON)) {
+            player.setGamesWon(loaded.getGamesWon());
+            changes.markClean(Player.Field.GAMES_WON);
+        }
+        if (!changes.isDirty(Player.Field.GAMES_LOST)) {
+            player.setGamesLost(loaded.getGamesLost());
+            changes.markClean(Player.Field.GAMES_LOST);
+        }
+    }
+
+    /**
+     * Entfernt einen Spieler aus der Identity-Map.
+     * @param id Die ID des Spielers
+     */
+    public void evictPlayer(Long id) {
+        players.remove(id);
+    }
+
+    /**
+     * Zieht die Bilanz bereits geladener Spieler nach einem direkt in der Datenbank gezählten
+     * Spiel nach, ohne sie als geändert zu markieren. Noch nicht geschriebene Änderungen an
+     * der Bilanz bleiben markiert und enthalten danach ebenfalls das neue Spiel.
+     * @param winnerId ID des Siegers
+     * @param loserId ID des Verlierers
+     */
+    void countGame(Long winnerId, Long loserId) {
+        Player winner = players.get(winnerId);
+        if (winner != null) {
+            synchronized (winner) {
+                boolean pending = winner.getChanges().isDirty(Player.Field.GAMES_WON);
+                winner.setGamesWon(winner.getGamesWon() + 1);
+                if (!pending) {
+                    winner.getChanges().markClean(Player.Field.GAMES_WON);
+                }
+            }
+        }
+        Player loser = players.get(loserId);
+        if (loser != null) {
+            synchronized (loser) {
+                boolean pending = loser.getChanges().isDirty(Player.Field.GAMES_LOST);
+                loser.setGamesLost(loser.getGamesLost() + 1);
+                if (!pending) {
+                    loser.getChanges().markClean(Player.Field.GAMES_LOST);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gibt die kanonische Instanz eines Turniers zurück.
+     * @param id Die ID des Turniers
+     * @return Die bekannte Instanz oder null
+     */
+    public Tournament getTournament(Long id) {
+        return tournaments.get(id);
+    }
+
+    /**
+     * Registriert ein Turnier, sofern für seine ID noch keine Instanz bekannt ist.
+     * @param tournament Das frisch geladene oder gespeicherte Turnier
+     * @return Die kanonische Instanz (die bereits bekannte oder das übergebene Turnier)
+     */
+    public Tournament registerTournament(Tournament tournament) {
+        return tournaments.register(tournament.getId(), tournament);
+    }
+
+    /**
+     * Übernimmt die skalaren Felder eines frisch geladenen Turniers, ohne Teilnehmer und
+     * Runden zu verändern. Felder mit ausstehenden Änderungen bleiben erhalten.
+     * @param loaded Das geladene Turnier, das außerhalb der Identity-Map aufgebaut wurde
+     * @return Die kanonische Instanz
+     */
+    public Tournament refreshTournament(Tournament loaded) {
+        Tournament tournament = tournaments.register(loaded.getId(), loaded);
+        if (tournament != loaded) {
+            synchronized (tournament) {
+                ChangeTracker<Tournament.Field> changes = tournament.getChanges();
+                if (!changes.isDirty(Tournament.Field.NAME)) {
+                    tournament.setName(loaded.getName());
+                    changes.markClean(Tournament.Field.NAME);
+                }
+                if (!changes.isDirty(Tournament.Field.START_DATE)) {
+                    tournament.setStartDate(loaded.getStartDate());
+                    changes.markClean(Tournament.Field.START_DATE);
+                }
+                if (!changes.isDirty(Tournament.Field.END_DATE)) {
+                    tournament.setEndDate(loaded.getEndDate());
+                    changes.markClean(Tournament.Field.END_DATE);
+                }
+                if (!changes.isDirty(Tournament.Field.STATUS)) {
+                    tournament.setStatus(loaded.getStatus());
+                    changes.markClean(Tournament.Field.STATUS);
+                }
+            }
+        }
+        return tournament;
+    }
+
+    /**
+     * Setzt die aus der Datenbank geladene Teilnehmerliste eines kanonischen Turniers ein,
+     * sofern seine Teilnehmer keine ausstehenden Änderungen haben.
+     * @param tournament Das kanonische Turnier
+     * @param loadedPlayers Die neu aufgebaute Teilnehmerliste
+     */
+    public void replacePlayers(Tournament tournament, List<Player> loadedPlayers) {
+        synchronized (tournament) {
+            ChangeTracker<Tournament.Field> changes = tournament.getChanges();
+            if (!changes.isDirty(Tournament.Field.PLAYERS)) {
+                tournament.setPlayers(loadedPlayers);
+                changes.markClean(Tournament.Field.PLAYERS);
+            }
+        }
+    }
+
+    /**
+     * Setzt die aus der Datenbank geladenen Runden eines kanonischen Turniers ein.
+     * @param tournament Das kanonische Turnier
+     * @param loadedRounds Die neu aufgebauten Runden
+     */
+    public void replaceRounds(Tournament tournament, List<Round> loadedRounds) {
+        synchronized (tournament) {
+            tournament.setRounds(loadedRounds);
+        }
+    }
+
+    /**
+     * Macht das übergebene Turnier zur kanonischen Instanz seiner ID.
+     * @param tournament Das geschriebene Turnier
+     */
+    public void putTournament(Tournament tournament) {
+        tournaments.put(tournament.getId(), tournament);
+    }
+
+    /**
+     * Entfernt ein Turnier aus der Identity-Map.
+     * @param id Die ID des Turniers
+     */
+    public void evictTournament(Long id) {
+        tournaments.remove(id);
+    }
+
+    /**
+     * Entfernt alle Spieler aus der Identity-Map.
+     */
+    public void evictAllPlayers() {
+        players.clear();
+    }
+
+    /**
+     * Entfernt alle Turniere aus der Identity-Map.
+     */
+    public void evictAllTournaments() {
+        tournaments.clear();
+    }
+
+    /**
+     * Leert die Identity-Map, z.B. nachdem Daten am DAO vorbei gelöscht wurden.
+     */
+    public void clear() {
+        players.clear();
+        tournaments.clear();
+    }
+
+    /**
+     * Gibt die Anzahl der aktuell bekannten Spieler zurück.
+     * @return Anzahl der Spieler
+     */
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    /**
+     * Gibt die Anzahl der aktuell bekannten Turniere zurück.
+     * @return Anzahl der Turniere
+     */
+    public int getTournamentCount() {
+        return tournaments.size();
+    }
+
+    /**
+     * Threadsichere Zuordnung von IDs zu schwach referenzierten Entitäten.
+     */
+    private static final class EntityCache<T> {
+        private final Map<Long, Entry<T>> entries = new ConcurrentHashMap<>();
+        private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+        T get(Long id) {
+            expungeCollected();
+            if (id == null) {
+                return null;
+            }
+            Entry<T> entry = entries.get(id);
+            return entry != null ? entry.get() : null;
+        }
+
+        T register(Long id, T entity) {
+            expungeCollected();
+            if (id == null) {
+                return entity;
+            }
+            Entry<T> entry = entries.compute(id, (key, existing) ->
+                existing != null && existing.get() != null ? existing : new Entry<>(key, entity, queue));
+            T canonical = entry.get();
+            return canonical != null ? canonical : entity;
+        }
+
+        void put(Long id, T entity) {
+            expungeCollected();
+            if (id != null) {
+                entries.put(id, new Entry<>(id, entity, queue));
+            }
+        }
+
+        void remove(Long id) {
+            expungeCollected();
+            if (id != null) {
+                entries.remove(id);
+            }
+        }
+
+        void clear() {
+            entries.clear();
+            expungeCollected();
+        }
+
+        int size() {
+            expungeCollected();
+            return entries.size();
+        }
+
+        private void expungeCollected() {
+            Reference<? extends T> reference;
+            while ((reference = queue.poll()) != null) {
+                Entry<?> entry = (Entry<?>) reference;
+                entries.remove(entry.id, entry);
+            }
+        }
+    }
+
+    private static final class Entry<T> extends WeakReference<T> {
+        private final Long id;
+
+        Entry(Long id, T referent, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.turniermanagement.db;
+
+import java.sql.SQLException;
+
+/**
+ * In-Memory-Implementierung der DAOFactory.
+ * Hält alle Daten in {@link LongMap}s statt in einer Datenbank und eignet sich für Simulationen,
+ * Lasttests und schnelle Servicetests. Die DAOs verhalten sich wie ihre SQLite-Gegenstücke,
+ * einschließlich Transaktionen, Eindeutigkeits- und Fremdschlüsselprüfungen.
+ * Die Daten gehen mit der Factory verloren.
+ */
+public class InMemoryDAOFactory extends DAOFactory {
+
+    private final InMemoryDatabase database = new InMemoryDatabase();
+
+    @Override
+    public void executeInTransaction(Work work) throws SQLException {
+        // Die DAOs treten der Transaktion des aktuellen Threads bei
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            work.execute();
+            transaction.commit();
+        }
+    }
+
+    @Override
+    public PlayerDAO createPlayerDAO() {
+        return new InMemoryPlayerDAO(database, getIdentityMap());
+    }
+
+    @Override
+    public TournamentDAO createTournamentDAO() {
+        return new InMemoryTournamentDAO(database, getIdentityMap());
+    }
+
+    @Override
+    public RoundDAO createRoundDAO() {
+        return new InMemoryRoundDAO(database, getIdentityMap());
+    }
+
+    @Override
+    public MatchDAO createMatchDAO() {
+        return new InMemoryMatchDAO(database, getIdentityMap());
+    }
+
+    @Override
+    public StatisticsDAO createStatisticsDAO() {
+        return new InMemoryStatisticsDAO(database);
+    }
+
+    @Override
+    public RatingDAO createRatingDAO() {
+        return new InMemoryRatingDAO(database);
+    }
+
+    @Override
+    public StandingsDAO createStandingsDAO() {
+        return new InMemoryStandingsDAO(database);
+    }
+}
@@ -0,0 +1,702 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Rating;
+import com.turniermanagement.model.TournamentStatus;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tabellen der In-Memory-Datenbank.
+ *
+ * Bildet das SQLite-Schema mit Zeilen-Records in {@link LongMap}s nach, einschließlich der
+ * Sekundärindizes auf Spielername, E-Mail-Adresse, Turnier-ID der Runden und Runden-ID der
+ * Matches. Wertungen liegen als {@link Rating} je Spieler vor, der Verlauf nach laufender
+ * Nummer geordnet. Primärschlüssel werden wie bei AUTOINCREMENT aufsteigend vergeben; Eindeutigkeit
+ * und Fremdschlüssel werden wie in der Datenbank geprüft und mit einer {@link SQLException}
+ * gemeldet.
+ *
+ * Lesezugriffe laufen parallel, Schreibzugriffe exklusiv in einer {@link Transaction}, die wie
+ * {@link ConnectionPool.Lease} verschachtelt werden kann und bei einem Abbruch über ein
+ * Undo-Protokoll zurückgerollt wird.
+ */
+final class InMemoryDatabase {
+
+    record PlayerRow(long id, String name, String email, int gamesWon, int gamesLost) {
+    }
+
+    record TournamentRow(long id, String name, LocalDate startDate, LocalDate endDate, TournamentStatus status) {
+    }
+
+    record RoundRow(long id, long tournamentId, int roundNumber, boolean completed) {
+    }
+
+    record MatchRow(long id, long roundId, Long player1Id, Long player2Id, Long winnerId,
+                    int scorePlayer1, int scorePlayer2, MatchStatus status) {
+    }
+
+    record StandingRow(long tournamentId, long playerId, int rank, int points, int games, int buchholz,
+                       int medianBuchholz, int sonnebornBerger, int weightedPoints) {
+    }
+
+    /**
+     * Lesezugriff auf die Tabellen.
+     * @param <T> Typ des Ergebnisses
+     */
+    @FunctionalInterface
+    interface Query<T> {
+        T run() throws SQLException;
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Tabellen
+    private final LongMap<PlayerRow> players = new LongMap<>();
+    private final LongMap<TournamentRow> tournaments = new LongMap<>();
+    private final LongMap<RoundRow> rounds = new LongMap<>();
+    private final LongMap<MatchRow> matches = new LongMap<>();
+    // tournament_player in beiden Richtungen, jeweils mit Ranking
+    private final LongMap<LongMap<Integer>> rankingsByTournament = new LongMap<>();
+    private final LongMap<LongMap<Integer>> rankingsByPlayer = new LongMap<>();
+    // player_rating und rating_history (Spieler-ID → laufende Nummer → Wertung)
+    private final LongMap<Rating> ratings = new LongMap<>();
+    private final LongMap<LongMap<Rating>> ratingHistory = new LongMap<>();
+    // standings (Turnier-ID → Spieler-ID → Tabelleneintrag)
+    private final LongMap<LongMap<StandingRow>> standingsByTournament = new LongMap<>();
+
+    // Sekundärindizes
+    private final Map<String, Long> playerIdsByName = new HashMap<>();
+    private final Map<String, LongMap<PlayerRow>> playersByEmail = new HashMap<>();
+    private final LongMap<LongMap<RoundRow>> roundsByTournament = new LongMap<>();
+    private final LongMap<LongMap<MatchRow>> matchesByRound = new LongMap<>();
+    // Anzahl der Matches, die einen Spieler referenzieren (Fremdschlüsselprüfung)
+    private final LongMap<Integer> matchReferencesByPlayer = new LongMap<>();
+
+    // AUTOINCREMENT-Zähler: Spieler, Turnier, Runde, Match, Wertungsverlauf
+    private final long[] sequences = new long[5];
+    private static final int PLAYER_SEQUENCE = 0;
+    private static final int TOURNAMENT_SEQUENCE = 1;
+    private static final int ROUND_SEQUENCE = 2;
+    private static final int MATCH_SEQUENCE = 3;
+    private static final int RATING_SEQUENCE = 4;
+
+    // Zustand der laufenden Schreibtransaktion; es gibt höchstens eine
+    private Deque<Runnable> undoLog;
+    private long[] sequencesAtBegin;
+    private boolean rollbackOnly;
+    private List<Runnable> afterCommit;
+
+    /**
+     * Führt einen Lesezugriff aus. Schreibtransaktionen anderer Threads werden abgewartet.
+     */
+    <T> T read(Query<T> query) throws SQLException {
+        lock.readLock().lock();
+        try {
+            return query.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Beginnt eine Schreibtransaktion oder tritt der des aktuellen Threads bei.
+     */
+    Transaction beginWrite() {
+        lock.writeLock().lock();
+        boolean outermost = lock.writeLock().getHoldCount() == 1;
+        if (outermost) {
+            undoLog = new ArrayDeque<>();
+            sequencesAtBegin = sequences.clone();
+            rollbackOnly = false;
+            afterCommit = new ArrayList<>();
+        }
+        return new Transaction(outermost);
+    }
+
+    /**
+     * Schreibtransaktion. Wird mit try-with-resources verwendet; ohne {@link #commit()}
+     * werden alle Änderungen der äußersten Transaktion verworfen.
+     */
+    final class Transaction implements AutoCloseable {
+        private final boolean outermost;
+        private boolean committed;
+        private boolean closed;
+
+        private Transaction(boolean outermost) {
+            this.outermost = outermost;
+        }
+
+        void commit() throws SQLException {
+            committed = true;
+            if (outermost && rollbackOnly) {
+                throw new SQLException("Transaktion wurde von einer inneren Arbeitseinheit abgebrochen");
+            }
+        }
+
+        /**
+         * Registriert eine Aktion, die erst nach dem Commit der äußersten Transaktion ausgeführt
+         * wird; bei einem Rollback entfällt sie.
+         */
+        void afterCommit(Runnable action) {
+            afterCommit.add(action);
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                if (!outermost) {
+                    if (!committed) {
+                        rollbackOnly = true;
+                    }
+                    return;
+                }
+                List<Runnable> actions = afterCommit;
+                afterCommit = null;
+                if (!committed || rollbackOnly) {
+                    rollback();
+                } else {
+                    actions.forEach(Runnable::run);
+                }
+                undoLog = null;
+                sequencesAtBegin = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void rollback() {
+        Deque<Runnable> log = undoLog;
+        // Beim Zurückrollen wird nicht protokolliert
+        undoLog = null;
+        while (!log.isEmpty()) {
+            log.pop().run();
+        }
+        System.arraycopy(sequencesAtBegin, 0, sequences, 0, sequences.length);
+    }
+
+    private void logUndo(Runnable undo) {
+        if (!lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("Write access requires a transaction");
+        }
+        if (undoLog != null) {
+            undoLog.push(undo);
+        }
+    }
+
+    private long nextId(int sequence) {
+        if (!lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("Write access requires a transaction");
+        }
+        return ++sequences[sequence];
+    }
+
+    // --- Spieler ---
+
+    long nextPlayerId() {
+        return nextId(PLAYER_SEQUENCE);
+    }
+
+    PlayerRow getPlayer(long id) {
+        return players.get(id);
+    }
+
+    List<PlayerRow> getPlayers() {
+        return players.sortedValues();
+    }
+
+    List<PlayerRow> getPlayersAfter(long afterId, int limit) {
+        return players.valuesAfter(afterId, limit);
+    }
+
+    int getPlayerCount() {
+        return players.size();
+    }
+
+    PlayerRow findPlayerByName(String name) {
+        Long id = playerIdsByName.get(name);
+        return id != null ? players.get(id) : null;
+    }
+
+    PlayerRow findPlayerByEmail(String email) {
+        LongMap<PlayerRow> candidates = playersByEmail.get(email);
+        if (candidates == null || candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(candidates.sortedKeys()[0]);
+    }
+
+    Set<String> getPlayerNames() {
+        return new HashSet<>(playerIdsByName.keySet());
+    }
+
+    Set<String> getPlayerEmails() {
+        Set<String> emails = new HashSet<>();
+        for (Map.Entry<String, LongMap<PlayerRow>> entry : playersByEmail.entrySet()) {
+            if (!entry.getKey().isEmpty() && !entry.getValue().isEmpty()) {
+                emails.add(entry.getKey());
+            }
+        }
+        return emails;
+    }
+
+    void putPlayer(PlayerRow row) throws SQLException {
+        if (row.name() == null) {
+            throw new SQLException("NOT NULL constraint failed: player.name");
+        }
+        Long owner = playerIdsByName.get(row.name());
+        if (owner != null && owner != row.id()) {
+            throw new SQLException("UNIQUE constraint failed: player.name");
+        }
+        PlayerRow previous = setPlayer(row.id(), row);
+        logUndo(() -> setPlayer(row.id(), previous));
+    }
+
+    boolean isReferencedByMatches(long playerId) {
+        return matchReferencesByPlayer.containsKey(playerId);
+    }
+
+    void deletePlayer(long id) throws SQLException {
+        if (hasEntries(rankingsByPlayer.get(id)) || matchReferencesByPlayer.containsKey(id)) {
+            throw new SQLException("FOREIGN KEY constraint failed");
+        }
+        PlayerRow previous = setPlayer(id, null);
+        if (previous != null) {
+            logUndo(() -> setPlayer(id, previous));
+        }
+        // Wertungen werden wie mit ON DELETE CASCADE mitgelöscht
+        Rating rating = ratings.remove(id);
+        LongMap<Rating> history = ratingHistory.remove(id);
+        if (rating != null || history != null) {
+            logUndo(() -> {
+                if (rating != null) {
+                    ratings.put(id, rating);
+                }
+                if (history != null) {
+                    ratingHistory.put(id, history);
+                }
+            });
+        }
+        List<StandingRow> standings = new ArrayList<>();
+        standingsByTournament.forEach((tournamentId, byPlayer) -> {
+            StandingRow standing = byPlayer.get(id);
+            if (standing != null) {
+                standings.add(standing);
+            }
+        });
+        for (StandingRow standing : standings) {
+            removeNested(standingsByTournament, standing.tournamentId(), id);
+            logUndo(() -> inner(standingsByTournament, standing.tournamentId()).put(id, standing));
+        }
+    }
+
+    private PlayerRow setPlayer(long id, PlayerRow row) {
+        PlayerRow previous = row != null ? players.put(id, row) : players.remove(id);
+        if (previous != null) {
+            playerIdsByName.remove(previous.name());
+            if (previous.email() != null) {
+                LongMap<PlayerRow> byEmail = playersByEmail.get(previous.email());
+                byEmail.remove(id);
+                if (byEmail.isEmpty()) {
+                    playersByEmail.remove(previous.email());
+                }
+            }
+        }
+        if (row != null) {
+            playerIdsByName.put(row.name(), id);
+            if (row.email() != null) {
+                playersByEmail.computeIfAbsent(row.email(), email -> new LongMap<>()).put(id, row);
+            }
+        }
+        return previous;
+    }
+
+    // --- Wertungen ---
+
+    Rating getRating(long playerId) {
+        return ratings.get(playerId);
+    }
+
+    List<Rating> getRatings() {
+        return ratings.sortedValues();
+    }
+
+    /**
+     * Gibt den Wertungsverlauf eines Spielers in der Reihenfolge des Speicherns zurück.
+     */
+    List<Rating> getRatingHistory(long playerId) {
+        LongMap<Rating> history = ratingHistory.get(playerId);
+        return history != null ? history.sortedValues() : List.of();
+    }
+
+    /**
+     * Setzt die aktuelle Wertung eines Spielers und hängt sie an seinen Verlauf an.
+     */
+    void putRating(Rating rating) throws SQLException {
+        long playerId = rating.playerId();
+        if (!players.containsKey(playerId)) {
+            throw new SQLException("FOREIGN KEY constraint failed");
+        }
+        long id = nextId(RATING_SEQUENCE);
+        Rating previous = ratings.put(playerId, rating);
+        inner(ratingHistory, playerId).put(id, rating);
+        logUndo(() -> {
+            removeNested(ratingHistory, playerId, id);
+            if (previous != null) {
+                ratings.put(playerId, previous);
+            } else {
+                ratings.remove(playerId);
+            }
+        });
+    }
+
+    void deleteAllRatings() {
+        LongMap<Rating> previousRatings = new LongMap<>(ratings.size());
+        ratings.forEach(previousRatings::put);
+        LongMap<LongMap<Rating>> previousHistory = new LongMap<>(ratingHistory.size());
+        ratingHistory.forEach(previousHistory::put);
+        ratings.clear();
+        ratingHistory.clear();
+        logUndo(() -> {
+            ratings.clear();
+            ratingHistory.clear();
+            previousRatings.forEach(ratings::put);
+            previousHistory.forEach(ratingHistory::put);
+        });
+    }
+
+    // --- Turniere ---
+
+    long nextTournamentId() {
+        return nextId(TOURNAMENT_SEQUENCE);
+    }
+
+    TournamentRow getTournament(long id) {
+        return tournaments.get(id);
+    }
+
+    List<TournamentRow> getTournaments() {
+        return tournaments.sortedValues();
+    }
+
+    int getTournamentCount() {
+        return tournaments.size();
+    }
+
+    void putTournament(TournamentRow row) throws SQLException {
+        if (row.name() == null) {
+            throw new SQLException("NOT NULL constraint failed: tournament.name");
+        }
+        TournamentRow previous = tournaments.put(row.id(), row);
+        logUndo(() -> {
+            if (previous != null) {
+                tournaments.put(row.id(), previous);
+            } else {
+                tournaments.remove(row.id());
+            }
+        });
+    }
+
+    void deleteTournament(long id) throws SQLException {
+        if (hasEntries(rankingsByTournament.get(id)) || hasEntries(roundsByTournament.get(id))) {
+            throw new SQLException("FOREIGN KEY constraint failed");
+        }
+        TournamentRow previous = tournaments.remove(id);
+        if (previous != null) {
+            logUndo(() -> tournaments.put(id, previous));
+        }
+        // Die Tabelle wird wie mit ON DELETE CASCADE mitgelöscht
+        deleteStandings(id);
+    }
+
+    // --- standings ---
+
+    StandingRow getStanding(long tournamentId, long playerId) {
+        LongMap<StandingRow> byPlayer = standingsByTournament.get(tournamentId);
+        return byPlayer != null ? byPlayer.get(playerId) : null;
+    }
+
+    /**
+     * Gibt die Tabelleneinträge eines Turniers in Spieler-ID-Reihenfolge zurück.
+     */
+    List<StandingRow> getStandings(long tournamentId) {
+        LongMap<StandingRow> byPlayer = standingsByTournament.get(tournamentId);
+        return byPlayer != null ? byPlayer.sortedValues() : List.of();
+    }
+
+    void putStanding(StandingRow row) throws SQLException {
+        if (!tournaments.containsKey(row.tournamentId()) || !players.containsKey(row.playerId())) {
+            throw new SQLException("FOREIGN KEY constraint failed");
+        }
+        StandingRow previous = inner(standingsByTournament, row.tournamentId()).put(row.playerId(), row);
+        logUndo(() -> {
+            if (previous != null) {
+                inner(standingsByTournament, row.tournamentId()).put(row.playerId(), previous);
+            } else {
+                removeNested(standingsByTournament, row.tournamentId(), row.playerId());
+            }
+        });
+    }
+
+    void deleteStandings(long tournamentId) {
+        LongMap<StandingRow> previous = standingsByTournament.remove(tournamentId);
+        if (previous != null) {
+            logUndo(() -> standingsByTournament.put(tournamentId, previous));
+        }
+    }
+
+    // --- tournament_player ---
+
+    /**
+     * Gibt die Rankings aller Teilnehmer eines Turniers zurück (Spieler-ID → Ranking).
+     */
+    LongMap<Integer> getRankingsByTournament(long tournamentId) {
+        LongMap<Integer> rankings = rankingsByTournament.get(tournamentId);
+        return rankings != null ? rankings : new LongMap<>();
+    }
+
+    /**
+     * Gibt die Rankings eines Spielers in allen Turnieren zurück (Turnier-ID → Ranking).
+     */
+    LongMap<Integer> getRankingsByPlayer(long playerId) {
+        LongMap<Integer> rankings = rankingsByPlayer.get(playerId);
+        return rankings != null ? rankings : new LongMap<>();
+    }
+
+    void putRelation(long tournamentId, long playerId, int ranking) throws SQLException {
+        if (!tournaments.containsKey(tournamentId) || !players.containsKey(playerId)) {
+            throw new SQLException("FOREIGN KEY constraint failed");
+        }
+        Integer previous = setRelation(tournamentId, playerId, ranking);
+        logUndo(() -> setRelation(tournamentId, playerId, previous));
+    }
+
+    void deleteRelation(long tournamentId, long playerId) {
+        Integer previous = setRelation(tournamentId, playerId, null);
+        if (previous != null) {
+            logUndo(() -> setRelation(tournamentId, playerId, previous));
+        }
+    }
+
+    private Integer setRelation(long tournamentId, long playerId, Integer ranking) {
+        if (ranking == null) {
+            Integer previous = removeNested(rankingsByTournament, tournamentId, playerId);
+            removeNested(rankingsByPlayer, playerId, tournamentId);
+            return previous;
+        }
+        inner(rankingsByPlayer, playerId).put(tournamentId, ranking);
+        return inner(rankingsByTournament, tournamentId).put(playerId, ranking);
+    }
+
+    /**
+     * Gleicht die Beziehungen eines Spielers oder Turniers mit dem gewünschten Stand ab,
+     * analog zu {@link TournamentPlayerRelations}.
+     * @param byPlayer true, wenn ownerId ein Spieler ist, sonst ein Turnier
+     * @param ownerId ID des Spielers bzw. Turniers
+     * @param rankings Gewünschte IDs der Gegenseite mit Ranking; null als Ranking behält den gespeicherten Wert
+     * @return IDs der nicht mehr verknüpften Gegenseite
+     */
+    Set<Long> syncRelations(boolean byPlayer, long ownerId, Map<Long, Integer> rankings) throws SQLException {
+        LongMap<Integer> stored = byPlayer ? getRankingsByPlayer(ownerId) : getRankingsByTournament(ownerId);
+        Set<Long> removed = new HashSet<>();
+        stored.forEach((otherId, ranking) -> {
+            if (!rankings.containsKey(otherId)) {
+                removed.add(otherId);
+            }
+        });
+        Map<Long, Integer> written = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : rankings.entrySet()) {
+            Integer storedRanking = stored.get(entry.getKey());
+            Integer ranking = entry.getValue();
+            if (storedRanking == null) {
+                written.put(entry.getKey(), ranking != null ? ranking : 0);
+            } else if (ranking != null && !ranking.equals(storedRanking)) {
+                written.put(entry.getKey(), ranking);
+            }
+        }
+        for (Long otherId : removed) {
+            if (byPlayer) {
+                deleteRelation(otherId, ownerId);
+            } else {
+                deleteRelation(ownerId, otherId);
+            }
+        }
+        for (Map.Entry<Long, Integer> entry : written.entrySet()) {
+            if (byPlayer) {
+                putRelation(entry.getKey(), ownerId, entry.getValue());
+            } else {
+                putRelation(ownerId, entry.getKey(), entry.getValue());
+            }
+        }
+        return removed;
+    }
+
+    // --- Runden ---
+
+    long nextRoundId() {
+        return nextId(ROUND_SEQUENCE);
+    }
+
+    RoundRow getRound(long id) {
+        return rounds.get(id);
+    }
+
+    List<RoundRow> getRounds() {
+        return rounds.sortedValues();
+    }
+
+    /**
+     * Gibt die Runden eines Turniers in ID-Reihenfolge zurück.
+     */
+    List<RoundRow> getRoundsByTournament(long tournamentId) {
+        LongMap<RoundRow> byTournament = roundsByTournament.get(tournamentId);
+        return byTournament != null ? byTournament.sortedValues() : List.of();
+    }
+
+    void putRound(RoundRow row) throws SQLException {
+        if (!tournaments.containsKey(row.tournamentId())) {
+            throw new SQLException("FOREIGN KEY constraint failed");
+        }
+        for (RoundRow other : getRoundsByTournament(row.tournamentId())) {
+            if (other.id() != row.id() && other.roundNumber() == row.roundNumber()) {
+                throw new SQLException("UNIQUE constraint failed: round.tournament_id, round.round_number");
+            }
+        }
+        RoundRow previous = setRound(row.id(), row);
+        logUndo(() -> setRound(row.id(), previous));
+    }
+
+    void deleteRound(long id) throws SQLException {
+        if (hasEntries(matchesByRound.get(id))) {
+            throw new SQLException("FOREIGN KEY constraint failed");
+        }
+        RoundRow previous = setRound(id, null);
+        if (previous != null) {
+            logUndo(() -> setRound(id, previous));
+        }
+    }
+
+    private RoundRow setRound(long id, RoundRow row) {
+        RoundRow previous = row != null ? rounds.put(id, row) : rounds.remove(id);
+        if (previous != null) {
+            removeNested(roundsByTournament, previous.tournamentId(), id);
+        }
+        if (row != null) {
+            inner(roundsByTournament, row.tournamentId()).put(id, row);
+        }
+        return previous;
+    }
+
+    // --- Matches ---
+
+    long nextMatchId() {
+        return nextId(MATCH_SEQUENCE);
+    }
+
+    MatchRow getMatch(long id) {
+        return matches.get(id);
+    }
+
+    List<MatchRow> getMatches() {
+        return matches.sortedValues();
+    }
+
+    int getMatchCount() {
+        return matches.size();
+    }
+
+    /**
+     * Gibt die Matches einer Runde in ID-Reihenfolge zurück.
+     */
+    List<MatchRow> getMatchesByRound(long roundId) {
+        LongMap<MatchRow> byRound = matchesByRound.get(roundId);
+        return byRound != null ? byRound.sortedValues() : List.of();
+    }
+
+    void putMatch(MatchRow row) throws SQLException {
+        if (!rounds.containsKey(row.roundId())
+                || !referencesPlayer(row.player1Id()) || !referencesPlayer(row.player2Id())
+                || !referencesPlayer(row.winnerId())) {
+            throw new SQLException("FOREIGN KEY constraint failed");
+        }
+        MatchRow previous = setMatch(row.id(), row);
+        logUndo(() -> setMatch(row.id(), previous));
+    }
+
+    void deleteMatch(long id) {
+        MatchRow previous = setMatch(id, null);
+        if (previous != null) {
+            logUndo(() -> setMatch(id, previous));
+        }
+    }
+
+    private boolean referencesPlayer(Long playerId) {
+        return playerId == null || players.containsKey(playerId);
+    }
+
+    private MatchRow setMatch(long id, MatchRow row) {
+        MatchRow previous = row != null ? matches.put(id, row) : matches.remove(id);
+        if (previous != null) {
+            removeNested(matchesByRound, previous.roundId(), id);
+            countReferences(previous, -1);
+        }
+        if (row != null) {
+            inner(matchesByRound, row.roundId()).put(id, row);
+            countReferences(row, 1);
+        }
+        return previous;
+    }
+
+    private void countReferences(MatchRow row, int delta) {
+        for (Long playerId : new Long[] { row.player1Id(), row.player2Id(), row.winnerId() }) {
+            if (playerId != null) {
+                int count = Objects.requireNonNullElse(matchReferencesByPlayer.get(playerId), 0) + delta;
+                if (count == 0) {
+                    matchReferencesByPlayer.remove(playerId);
+                } else {
+                    matchReferencesByPlayer.put(playerId, count);
+                }
+            }
+        }
+    }
+
+    private static boolean hasEntries(LongMap<?> map) {
+        return map != null && !map.isEmpty();
+    }
+
+    private static <V> LongMap<V> inner(LongMap<LongMap<V>> outer, long outerKey) {
+        LongMap<V> inner = outer.get(outerKey);
+        if (inner == null) {
+            inner = new LongMap<>();
+            outer.put(outerKey, inner);
+        }
+        return inner;
+    }
+
+    private static <V> V removeNested(LongMap<LongMap<V>> outer, long outerKey, long innerKey) {
+        LongMap<V> inner = outer.get(outerKey);
+        if (inner == null) {
+            return null;
+        }
+        V previous = inner.remove(innerKey);
+        if (inner.isEmpty()) {
+            outer.remove(outerKey);
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,198 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.ChangeTracker;
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-Memory-Implementierung des MatchDAO mit derselben Semantik wie {@link SQLiteMatchDAO}.
+ */
+public class InMemoryMatchDAO implements MatchDAO {
+
+    private final InMemoryDatabase database;
+    private final InMemoryPlayerDAO playerDAO;
+
+    InMemoryMatchDAO(InMemoryDatabase database, IdentityMap identityMap) {
+        this.database = database;
+        this.playerDAO = new InMemoryPlayerDAO(database, identityMap);
+    }
+
+    @Override
+    public void save(Match match) throws SQLException {
+        throw new UnsupportedOperationException("Bitte save(Match, Long) verwenden, um eine Verbindung zur Runde herzustellen");
+    }
+
+    @Override
+    public void save(Match match, Long roundId) throws SQLException {
+        saveAll(List.of(match), roundId);
+    }
+
+    @Override
+    public void saveAll(List<Match> matches, Long roundId) throws SQLException {
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            List<Long> ids = new ArrayList<>(matches.size());
+            for (Match match : matches) {
+                long id = database.nextMatchId();
+                database.putMatch(new InMemoryDatabase.MatchRow(id, roundId,
+                        getPlayerId(match.getPlayer1()), getPlayerId(match.getPlayer2()), getPlayerId(match.getWinner()),
+                        match.getScorePlayer1(), match.getScorePlayer2(), match.getStatus()));
+                ids.add(id);
+            }
+            transaction.commit();
+            // IDs erst nach erfolgreichem Schreiben aller Matches setzen
+            for (int i = 0; i < matches.size(); i++) {
+                matches.get(i).setId(ids.get(i));
+            }
+        }
+        for (Match match : matches) {
+            match.getChanges().markClean();
+        }
+    }
+
+    @Override
+    public void update(Match match) throws SQLException {
+        updateAll(List.of(match));
+    }
+
+    @Override
+    public void updateAll(List<Match> matches) throws SQLException {
+        // Unveränderte Matches überspringen
+        List<Match> changed = new ArrayList<>();
+        for (Match match : matches) {
+            if (match.getChanges().isDirty()) {
+                changed.add(match);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            for (Match match : changed) {
+                InMemoryDatabase.MatchRow row = database.getMatch(match.getId());
+                if (row == null) {
+                    continue;
+                }
+                ChangeTracker<Match.Field> changes = match.getChanges();
+                database.putMatch(new InMemoryDatabase.MatchRow(row.id(), row.roundId(),
+                        changes.isDirty(Match.Field.PLAYER1) ? getPlayerId(match.getPlayer1()) : row.player1Id(),
+                        changes.isDirty(Match.Field.PLAYER2) ? getPlayerId(match.getPlayer2()) : row.player2Id(),
+                        changes.isDirty(Match.Field.WINNER) ? getPlayerId(match.getWinner()) : row.winnerId(),
+                        changes.isDirty(Match.Field.SCORE_PLAYER1) ? match.getScorePlayer1() : row.scorePlayer1(),
+                        changes.isDirty(Match.Field.SCORE_PLAYER2) ? match.getScorePlayer2() : row.scorePlayer2(),
+                        changes.isDirty(Match.Field.STATUS) ? match.getStatus() : row.status()));
+            }
+            transaction.commit();
+        }
+        for (Match match : changed) {
+            match.getChanges().markClean();
+        }
+    }
+
+    @Override
+    public boolean complete(Match match) throws SQLException {
+        boolean completed = false;
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            InMemoryDatabase.MatchRow row = database.getMatch(match.getId());
+            if (row != null && row.status() != MatchStatus.COMPLETED) {
+                database.putMatch(new InMemoryDatabase.MatchRow(row.id(), row.roundId(), row.player1Id(),
+                        row.player2Id(), getPlayerId(match.getWinner()), match.getScorePlayer1(),
+                        match.getScorePlayer2(), MatchStatus.COMPLETED));
+                completed = true;
+            }
+            transaction.commit();
+        }
+        if (completed) {
+            match.setStatus(MatchStatus.COMPLETED);
+            match.getChanges().markClean();
+        }
+        return completed;
+    }
+
+    private static Long getPlayerId(Player player) {
+        // Freilose haben keinen zweiten Spieler
+        return player != null ? player.getId() : null;
+    }
+
+    @Override
+    public Optional<Match> findById(Long id) throws SQLException {
+        return database.read(() -> {
+            InMemoryDatabase.MatchRow row = database.getMatch(id);
+            return row != null ? Optional.of(loadMatches(List.of(row)).get(0)) : Optional.empty();
+        });
+    }
+
+    @Override
+    public List<Match> findByRoundId(Long roundId) throws SQLException {
+        return database.read(() -> loadMatches(database.getMatchesByRound(roundId)));
+    }
+
+    @Override
+    public Map<Long, List<Match>> findByTournamentId(Long tournamentId) throws SQLException {
+        return database.read(() -> {
+            Map<Long, List<Match>> matchesByRound = new LinkedHashMap<>();
+            for (InMemoryDatabase.RoundRow round : InMemoryRoundDAO.sortByRoundNumber(database.getRoundsByTournament(tournamentId))) {
+                List<Match> matches = loadMatches(database.getMatchesByRound(round.id()));
+                if (!matches.isEmpty()) {
+                    matchesByRound.put(round.id(), matches);
+                }
+            }
+            return matchesByRound;
+        });
+    }
+
+    @Override
+    public List<Match> findAll() throws SQLException {
+        return database.read(() -> loadMatches(database.getMatches()));
+    }
+
+    @Override
+    public void delete(Long id) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            database.deleteMatch(id);
+            transaction.commit();
+        }
+    }
+
+    /**
+     * Erzeugt neue Match-Instanzen und lädt jeden beteiligten Spieler dabei nur einmal.
+     * Muss unter der Lesesperre aufgerufen werden.
+     */
+    List<Match> loadMatches(List<InMemoryDatabase.MatchRow> rows) {
+        Map<Long, Player> players = new HashMap<>();
+        List<Match> matches = new ArrayList<>(rows.size());
+        for (InMemoryDatabase.MatchRow row : rows) {
+            Match match = new Match();
+            match.setId(row.id());
+            match.setPlayer1(resolvePlayer(row.player1Id(), players));
+            match.setPlayer2(resolvePlayer(row.player2Id(), players));
+            match.setWinner(resolvePlayer(row.winnerId(), players));
+            match.setScorePlayer1(row.scorePlayer1());
+            match.setScorePlayer2(row.scorePlayer2());
+            match.setStatus(row.status());
+            match.getChanges().markClean();
+            matches.add(match);
+        }
+        return matches;
+    }
+
+    private Player resolvePlayer(Long playerId, Map<Long, Player> players) {
+        if (playerId == null) {
+            return null;
+        }
+        return players.computeIfAbsent(playerId, id -> playerDAO.loadPlayer(database.getPlayer(id)));
+    }
+}
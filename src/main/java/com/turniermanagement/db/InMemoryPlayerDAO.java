@@ -0,0 +1,351 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.ChangeTracker;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Tournament;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * In-Memory-Implementierung des PlayerDAO mit derselben Semantik wie {@link SQLitePlayerDAO}.
+ */
+public class InMemoryPlayerDAO implements PlayerDAO {
+    // Seitengröße beim Streamen; die Spieler werden außerhalb der Lesesperre übergeben
+    private static final int STREAM_PAGE_SIZE = 500;
+
+    private final InMemoryDatabase database;
+    private final IdentityMap identityMap;
+
+    InMemoryPlayerDAO(InMemoryDatabase database, IdentityMap identityMap) {
+        this.database = database;
+        this.identityMap = identityMap;
+    }
+
+    @Override
+    public void save(Player player) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            insert(player);
+            transaction.commit();
+        }
+        player.getChanges().markClean();
+        identityMap.registerPlayer(player);
+    }
+
+    @Override
+    public void saveAll(List<Player> players) throws SQLException {
+        if (players.isEmpty()) {
+            return;
+        }
+
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            for (Player player : players) {
+                insert(player);
+            }
+            transaction.commit();
+        }
+        for (Player player : players) {
+            player.getChanges().markClean();
+            identityMap.registerPlayer(player);
+        }
+    }
+
+    private void insert(Player player) throws SQLException {
+        long id = database.nextPlayerId();
+        database.putPlayer(new InMemoryDatabase.PlayerRow(id, player.getName(), player.getEmail(),
+                player.getGamesWon(), player.getGamesLost()));
+        player.setId(id);
+
+        // Speichere Tournament-Beziehungen und Rankings
+        for (Tournament tournament : player.getTournaments()) {
+            if (tournament.getId() != null) {
+                database.putRelation(tournament.getId(), id, player.getRanking(tournament));
+                if (!tournament.getPlayers().contains(player)) {
+                    tournament.addPlayer(player);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void update(Player player) throws SQLException {
+        ChangeTracker<Player.Field> changes = player.getChanges();
+        if (!changes.isDirty()) {
+            // Unveränderte Spieler werden nicht geschrieben
+            return;
+        }
+
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            InMemoryDatabase.PlayerRow row = database.getPlayer(player.getId());
+            if (row != null) {
+                database.putPlayer(new InMemoryDatabase.PlayerRow(row.id(),
+                        changes.isDirty(Player.Field.NAME) ? player.getName() : row.name(),
+                        changes.isDirty(Player.Field.EMAIL) ? player.getEmail() : row.email(),
+                        changes.isDirty(Player.Field.GAMES_WON) ? player.getGamesWon() : row.gamesWon(),
+                        changes.isDirty(Player.Field.GAMES_LOST) ? player.getGamesLost() : row.gamesLost()));
+            }
+
+            // Aktualisiere Tournament-Beziehungen und Rankings
+            if (changes.isDirty(Player.Field.TOURNAMENTS)) {
+                updateTournamentRelations(player);
+            }
+
+            transaction.commit();
+        } catch (SQLException | RuntimeException e) {
+            // Abgelehnte Werte nicht als kanonischen Stand weitergeben; die nächste
+            // Abfrage lädt den gespeicherten Spieler neu
+            evictIfCanonical(player);
+            throw e;
+        }
+        Set<Player.Field> written = changes.getDirtyFields();
+        changes.markClean();
+        // Geschriebene Werte in die kanonische Instanz übernehmen, statt eine gespeicherte
+        // Kopie zur zweiten Instanz derselben ID zu machen
+        identityMap.applyUpdate(player, written);
+    }
+
+    private void evictIfCanonical(Player player) {
+        if (player.getId() != null && identityMap.getPlayer(player.getId()) == player) {
+            identityMap.evictPlayer(player.getId());
+        }
+    }
+
+    @Override
+    public void recordGameResult(Long winnerId, Long loserId) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            InMemoryDatabase.PlayerRow winner = database.getPlayer(winnerId);
+            if (winner != null) {
+                database.putPlayer(new InMemoryDatabase.PlayerRow(winner.id(), winner.name(), winner.email(),
+                        winner.gamesWon() + 1, winner.gamesLost()));
+            }
+            InMemoryDatabase.PlayerRow loser = database.getPlayer(loserId);
+            if (loser != null) {
+                database.putPlayer(new InMemoryDatabase.PlayerRow(loser.id(), loser.name(), loser.email(),
+                        loser.gamesWon(), loser.gamesLost() + 1));
+            }
+            // Geladene Spieler erst nachziehen, wenn auch eine umgebende Transaktion bestätigt ist
+            transaction.afterCommit(() -> identityMap.countGame(winnerId, loserId));
+            transaction.commit();
+        }
+    }
+
+    private void updateTournamentRelations(Player player) throws SQLException {
+        // Geladene Turniere verweisen auf die kanonische Instanz, nicht auf eine gespeicherte Kopie
+        Player member = identityMap.getPlayer(player.getId());
+        if (member == null) {
+            member = player;
+        }
+        Map<Long, Integer> rankings = new HashMap<>();
+        for (Tournament tournament : player.getTournaments()) {
+            if (tournament.getId() != null) {
+                rankings.put(tournament.getId(), player.getRanking(tournament));
+                if (!tournament.getPlayers().contains(member)) {
+                    tournament.addPlayer(member);
+                }
+            }
+        }
+        Set<Long> removed = database.syncRelations(true, player.getId(), rankings);
+
+        // Bereits geladene Turniere, aus denen der Spieler entfernt wurde, nachziehen
+        for (Long tournamentId : removed) {
+            Tournament tournament = identityMap.getTournament(tournamentId);
+            if (tournament != null) {
+                tournament.removePlayer(member);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Player> findById(Long id) throws SQLException {
+        return database.read(() -> Optional.ofNullable(loadPlayer(database.getPlayer(id))));
+    }
+
+    @Override
+    public Optional<Player> findByName(String name) throws SQLException {
+        return database.read(() -> Optional.ofNullable(loadPlayer(database.findPlayerByName(name))));
+    }
+
+    @Override
+    public Optional<Player> findByEmail(String email) throws SQLException {
+        if (email == null || email.isEmpty()) {
+            return Optional.empty();
+        }
+        return database.read(() -> Optional.ofNullable(loadPlayer(database.findPlayerByEmail(email))));
+    }
+
+    @Override
+    public Map<Long, Player> findByIds(Collection<Long> ids) throws SQLException {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return database.read(() -> {
+            Map<Long, Player> players = new HashMap<>();
+            for (Long id : ids) {
+                if (id != null && !players.containsKey(id)) {
+                    Player player = loadPlayer(database.getPlayer(id));
+                    if (player != null) {
+                        players.put(id, player);
+                    }
+                }
+            }
+            return players;
+        });
+    }
+
+    @Override
+    public List<Player> findAll() throws SQLException {
+        List<Player> players = new ArrayList<>();
+        streamAll(players::add);
+        return players;
+    }
+
+    @Override
+    public List<Player> findPage(Long afterId, int limit) throws SQLException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return database.read(() -> loadPlayers(database.getPlayersAfter(afterId != null ? afterId : 0L, limit)));
+    }
+
+    @Override
+    public void streamAll(Consumer<Player> consumer) throws SQLException {
+        long afterId = 0L;
+        List<Player> page;
+        do {
+            long pageAfterId = afterId;
+            page = database.read(() -> loadPlayers(database.getPlayersAfter(pageAfterId, STREAM_PAGE_SIZE)));
+            for (Player player : page) {
+                consumer.accept(player);
+                afterId = player.getId();
+            }
+        } while (page.size() == STREAM_PAGE_SIZE);
+    }
+
+    @Override
+    public void delete(Long id) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            if (database.isReferencedByMatches(id)) {
+                throw new IllegalStateException("Player " + id + " is referenced by matches and cannot be deleted");
+            }
+            // Lösche zuerst die Beziehungen, dann den Player
+            for (long tournamentId : database.getRankingsByPlayer(id).sortedKeys()) {
+                database.deleteRelation(tournamentId, id);
+            }
+            database.deletePlayer(id);
+            transaction.commit();
+        }
+
+        // Geladene Turniere enthalten über die Identity-Map dieselbe Spielerinstanz
+        Player player = identityMap.getPlayer(id);
+        if (player != null) {
+            for (Tournament tournament : new ArrayList<>(player.getTournaments())) {
+                tournament.removePlayer(player);
+            }
+        }
+        identityMap.evictPlayer(id);
+    }
+
+    @Override
+    public void deleteAll() throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            for (InMemoryDatabase.PlayerRow row : database.getPlayers()) {
+                for (long tournamentId : database.getRankingsByPlayer(row.id()).sortedKeys()) {
+                    database.deleteRelation(tournamentId, row.id());
+                }
+            }
+            for (InMemoryDatabase.PlayerRow row : database.getPlayers()) {
+                database.deletePlayer(row.id());
+            }
+            transaction.commit();
+        }
+        identityMap.evictAllPlayers();
+    }
+
+    @Override
+    public void updatePlayerRanking(Player player, Tournament tournament, int ranking) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            // Fügt die Beziehung hinzu, falls sie noch nicht existiert
+            database.putRelation(tournament.getId(), player.getId(), ranking);
+            transaction.commit();
+        }
+        // Aktualisiere das Objekt; die Beziehung ist bereits geschrieben
+        player.getTournamentRankings().put(tournament, ranking);
+    }
+
+    @Override
+    public Set<String> findAllNames() throws SQLException {
+        return database.read(database::getPlayerNames);
+    }
+
+    @Override
+    public Set<String> findAllEmails() throws SQLException {
+        return database.read(database::getPlayerEmails);
+    }
+
+    private List<Player> loadPlayers(List<InMemoryDatabase.PlayerRow> rows) {
+        List<Player> players = new ArrayList<>(rows.size());
+        for (InMemoryDatabase.PlayerRow row : rows) {
+            players.add(loadPlayer(row));
+        }
+        return players;
+    }
+
+    /**
+     * Gibt die kanonische Instanz eines Spielers mit neu aufgebauten Turnierbeziehungen zurück.
+     * Muss unter der Lesesperre aufgerufen werden.
+     */
+    Player loadPlayer(InMemoryDatabase.PlayerRow row) {
+        if (row == null) {
+            return null;
+        }
+        Player player = newPlayer(row);
+        database.getRankingsByPlayer(row.id()).forEach((tournamentId, ranking) -> {
+            Tournament tournament = canonicalTournament(database.getTournament(tournamentId));
+            player.getTournaments().add(tournament);
+            player.getTournamentRankings().put(tournament, ranking);
+        });
+        return identityMap.mergePlayer(player);
+    }
+
+    /**
+     * Gibt die kanonische Instanz eines Spielers mit den gespeicherten Feldern zurück,
+     * ohne ihre Beziehungen zu verändern.
+     */
+    Player canonicalPlayer(InMemoryDatabase.PlayerRow row) {
+        return identityMap.refreshPlayer(newPlayer(row));
+    }
+
+    private static Player newPlayer(InMemoryDatabase.PlayerRow row) {
+        Player player = new Player();
+        player.setId(row.id());
+        player.setName(row.name());
+        player.setEmail(row.email());
+        player.setGamesWon(row.gamesWon());
+        player.setGamesLost(row.gamesLost());
+        player.getChanges().markClean();
+        return player;
+    }
+
+    /**
+     * Gibt die kanonische Instanz eines Turniers mit den gespeicherten Feldern zurück,
+     * ohne Teilnehmer und Runden zu verändern.
+     */
+    Tournament canonicalTournament(InMemoryDatabase.TournamentRow row) {
+        Tournament tournament = new Tournament();
+        tournament.setId(row.id());
+        tournament.setName(row.name());
+        tournament.setStartDate(row.startDate());
+        tournament.setEndDate(row.endDate());
+        tournament.setStatus(row.status());
+        tournament.getChanges().markClean();
+        return identityMap.refreshTournament(tournament);
+    }
+}
@@ -0,0 +1,93 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Rating;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-Memory-Implementierung des RatingDAO mit derselben Semantik wie {@link SQLiteRatingDAO}.
+ */
+public class InMemoryRatingDAO implements RatingDAO {
+
+    private final InMemoryDatabase database;
+
+    InMemoryRatingDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public Optional<Rating> findByPlayerId(long playerId) throws SQLException {
+        return database.read(() -> Optional.ofNullable(database.getRating(playerId)));
+    }
+
+    @Override
+    public List<Rating> findAll() throws SQLException {
+        List<Rating> ratings = new ArrayList<>(database.read(database::getRatings));
+        ratings.sort(Comparator.comparingDouble(Rating::rating).reversed().thenComparingLong(Rating::playerId));
+        return ratings;
+    }
+
+    @Override
+    public List<Rating> findHistory(long playerId) throws SQLException {
+        return database.read(() -> database.getRatingHistory(playerId));
+    }
+
+    @Override
+    public void save(List<Rating> ratings) throws SQLException {
+        if (ratings.isEmpty()) {
+            return;
+        }
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            for (Rating rating : ratings) {
+                database.putRating(rating);
+            }
+            transaction.commit();
+        }
+    }
+
+    @Override
+    public void replaceAll(List<Rating> history) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            database.deleteAllRatings();
+            for (Rating rating : history) {
+                database.putRating(rating);
+            }
+            transaction.commit();
+        }
+    }
+
+    @Override
+    public List<Game> findRatedGames() throws SQLException {
+        // Sortierschlüssel wie ORDER BY t.start_date, t.id, r.round_number, m.id
+        record Entry(LocalDate startDate, long tournamentId, int roundNumber, Game game) {
+        }
+        List<Entry> entries = database.read(() -> {
+            List<Entry> result = new ArrayList<>();
+            for (InMemoryDatabase.MatchRow match : database.getMatches()) {
+                if (match.status() != MatchStatus.COMPLETED || match.player1Id() == null || match.player2Id() == null) {
+                    continue;
+                }
+                InMemoryDatabase.RoundRow round = database.getRound(match.roundId());
+                InMemoryDatabase.TournamentRow tournament = database.getTournament(round.tournamentId());
+                result.add(new Entry(tournament.startDate(), tournament.id(), round.roundNumber(),
+                        new Game(match.id(), round.id(), match.player1Id(), match.player2Id(), match.winnerId())));
+            }
+            return result;
+        });
+        entries.sort(Comparator.comparing(Entry::startDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(Entry::tournamentId)
+                .thenComparingInt(Entry::roundNumber)
+                .thenComparingLong(entry -> entry.game().matchId()));
+        List<Game> games = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            games.add(entry.game());
+        }
+        return games;
+    }
+}
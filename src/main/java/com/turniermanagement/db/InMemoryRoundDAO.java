@@ -0,0 +1,150 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Round;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-Memory-Implementierung des RoundDAO mit derselben Semantik wie {@link SQLiteRoundDAO}.
+ */
+public class InMemoryRoundDAO implements RoundDAO {
+
+    private final InMemoryDatabase database;
+    private final InMemoryMatchDAO matchDAO;
+
+    InMemoryRoundDAO(InMemoryDatabase database, IdentityMap identityMap) {
+        this.database = database;
+        this.matchDAO = new InMemoryMatchDAO(database, identityMap);
+    }
+
+    @Override
+    public void save(Round round) throws SQLException {
+        throw new UnsupportedOperationException("Bitte save(Round, Long) verwenden, um eine Verbindung zum Turnier herzustellen");
+    }
+
+    @Override
+    public void save(Round round, Long tournamentId) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            long id = database.nextRoundId();
+            database.putRound(new InMemoryDatabase.RoundRow(id, tournamentId, round.getRoundNumber(), round.isCompleted()));
+            round.setId(id);
+
+            // Speichere alle Matches der Runde
+            matchDAO.saveAll(round.getMatches(), id);
+
+            transaction.commit();
+        }
+        round.getChanges().markClean();
+    }
+
+    @Override
+    public void update(Round round) throws SQLException {
+        // Neue Matches einfügen, bestehende nur bei geändertem Zustand aktualisieren
+        List<Match> added = new ArrayList<>();
+        List<Match> changed = new ArrayList<>();
+        for (Match match : round.getMatches()) {
+            if (match.getId() == null) {
+                added.add(match);
+            } else if (match.getChanges().isDirty()) {
+                changed.add(match);
+            }
+        }
+        boolean roundChanged = round.getChanges().isDirty(Round.Field.ROUND_NUMBER)
+                || round.getChanges().isDirty(Round.Field.COMPLETED);
+        if (!roundChanged && added.isEmpty() && changed.isEmpty()) {
+            // Weder die Runde noch eines ihrer Matches wurde geändert
+            round.getChanges().markClean();
+            return;
+        }
+
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            InMemoryDatabase.RoundRow row = database.getRound(round.getId());
+            if (roundChanged && row != null) {
+                database.putRound(new InMemoryDatabase.RoundRow(row.id(), row.tournamentId(),
+                        round.getChanges().isDirty(Round.Field.ROUND_NUMBER) ? round.getRoundNumber() : row.roundNumber(),
+                        round.getChanges().isDirty(Round.Field.COMPLETED) ? round.isCompleted() : row.completed()));
+            }
+            matchDAO.updateAll(changed);
+            matchDAO.saveAll(added, round.getId());
+
+            transaction.commit();
+        }
+        round.getChanges().markClean();
+    }
+
+    @Override
+    public Optional<Round> findById(Long id) throws SQLException {
+        return database.read(() -> {
+            InMemoryDatabase.RoundRow row = database.getRound(id);
+            return row != null ? Optional.of(loadRound(row)) : Optional.empty();
+        });
+    }
+
+    @Override
+    public List<Round> findByTournamentId(Long tournamentId) throws SQLException {
+        return database.read(() -> loadRounds(sortByRoundNumber(database.getRoundsByTournament(tournamentId))));
+    }
+
+    @Override
+    public List<Round> findAll() throws SQLException {
+        return database.read(() -> {
+            List<InMemoryDatabase.RoundRow> rows = database.getRounds();
+            rows.sort(Comparator.comparingLong(InMemoryDatabase.RoundRow::tournamentId)
+                    .thenComparingInt(InMemoryDatabase.RoundRow::roundNumber));
+            return loadRounds(rows);
+        });
+    }
+
+    @Override
+    public void delete(Long id) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            deleteWithMatches(database, id);
+            transaction.commit();
+        }
+    }
+
+    /**
+     * Löscht eine Runde mit allen Matches. Muss in einer Schreibtransaktion aufgerufen werden.
+     */
+    static void deleteWithMatches(InMemoryDatabase database, long roundId) throws SQLException {
+        for (InMemoryDatabase.MatchRow match : database.getMatchesByRound(roundId)) {
+            database.deleteMatch(match.id());
+        }
+        database.deleteRound(roundId);
+    }
+
+    /**
+     * Sortiert die Runden eines Turniers nach Rundennummer.
+     */
+    static List<InMemoryDatabase.RoundRow> sortByRoundNumber(List<InMemoryDatabase.RoundRow> rows) {
+        List<InMemoryDatabase.RoundRow> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingInt(InMemoryDatabase.RoundRow::roundNumber));
+        return sorted;
+    }
+
+    private List<Round> loadRounds(List<InMemoryDatabase.RoundRow> rows) {
+        List<Round> rounds = new ArrayList<>(rows.size());
+        for (InMemoryDatabase.RoundRow row : rows) {
+            rounds.add(loadRound(row));
+        }
+        return rounds;
+    }
+
+    /**
+     * Erzeugt eine neue Runde mit ihren Matches. Muss unter der Lesesperre aufgerufen werden.
+     */
+    Round loadRound(InMemoryDatabase.RoundRow row) {
+        Round round = new Round();
+        round.setId(row.id());
+        round.setRoundNumber(row.roundNumber());
+        round.setCompleted(row.completed());
+        round.getMatches().addAll(matchDAO.loadMatches(database.getMatchesByRound(row.id())));
+        round.getChanges().markClean();
+        return round;
+    }
+}
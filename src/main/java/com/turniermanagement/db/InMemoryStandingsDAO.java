@@ -0,0 +1,235 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.TournamentStanding;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-Memory-Implementierung des StandingsDAO mit derselben Semantik wie {@link SQLiteStandingsDAO}.
+ * Punkte und Buchholz-Wertungen werden wie dort in halben Punkten geführt, Sonneborn-Berger in
+ * Viertelpunkten.
+ */
+public class InMemoryStandingsDAO implements StandingsDAO {
+
+    // Indizes in den Werten je Spieler
+    private static final int POINTS = 0;
+    private static final int GAMES = 1;
+    private static final int BUCHHOLZ = 2;
+    private static final int MEDIAN_BUCHHOLZ = 3;
+    private static final int SONNEBORN_BERGER = 4;
+    private static final int WEIGHTED_POINTS = 5;
+
+    // Dieselbe Rangfolge wie in der Tabelle der Paarung (com.turniermanagement.service.Standings)
+    private static final Comparator<Map.Entry<Long, int[]>> RANK_ORDER = Comparator
+            .<Map.Entry<Long, int[]>>comparingInt(entry -> -entry.getValue()[POINTS])
+            .thenComparingInt(entry -> -entry.getValue()[BUCHHOLZ])
+            .thenComparingInt(entry -> -entry.getValue()[MEDIAN_BUCHHOLZ])
+            .thenComparingInt(entry -> -entry.getValue()[SONNEBORN_BERGER])
+            .thenComparingInt(entry -> entry.getValue()[WEIGHTED_POINTS])
+            .thenComparingLong(Map.Entry::getKey);
+
+    private final InMemoryDatabase database;
+
+    InMemoryStandingsDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public List<TournamentStanding> findByTournamentId(long tournamentId) throws SQLException {
+        List<InMemoryDatabase.StandingRow> rows = new ArrayList<>(database.read(() -> database.getStandings(tournamentId)));
+        rows.sort(Comparator.comparingInt(InMemoryDatabase.StandingRow::rank));
+        List<TournamentStanding> standings = new ArrayList<>(rows.size());
+        for (InMemoryDatabase.StandingRow row : rows) {
+            standings.add(new TournamentStanding(row.tournamentId(), row.playerId(), row.rank(),
+                    row.points() / 2.0, row.games(), row.buchholz() / 2.0));
+        }
+        return standings;
+    }
+
+    @Override
+    public void recordResult(long matchId) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            InMemoryDatabase.MatchRow match = database.getMatch(matchId);
+            if (match != null && match.status() == MatchStatus.COMPLETED && match.player1Id() != null) {
+                applyResult(match);
+            }
+            transaction.commit();
+        }
+    }
+
+    private void applyResult(InMemoryDatabase.MatchRow match) throws SQLException {
+        InMemoryDatabase.RoundRow round = database.getRound(match.roundId());
+        long tournamentId = round.tournamentId();
+        Map<Long, int[]> values = new HashMap<>();
+        for (InMemoryDatabase.StandingRow row : database.getStandings(tournamentId)) {
+            values.put(row.playerId(), new int[] { row.points(), row.games(), row.buchholz(),
+                    row.medianBuchholz(), row.sonnebornBerger(), row.weightedPoints() });
+        }
+        database.getRankingsByTournament(tournamentId).forEach((playerId, ranking) -> values(values, playerId));
+
+        long player1Id = match.player1Id();
+        Long player2Id = match.player2Id();
+        Set<Long> affected = new HashSet<>();
+        addResult(values(values, player1Id), points(player1Id, player2Id, match.winnerId()), round.roundNumber());
+        affected.add(player1Id);
+        if (player2Id != null) {
+            addResult(values(values, player2Id), points(player2Id, player1Id, match.winnerId()), round.roundNumber());
+            affected.add(player2Id);
+        }
+        // Die Feinwertungen der beiden Spieler und ihrer Gegner hängen von den neuen Punkten ab
+        List<InMemoryDatabase.MatchRow> games = completedGames(tournamentId);
+        for (InMemoryDatabase.MatchRow other : games) {
+            if (other.player1Id() == player1Id || other.player1Id().equals(player2Id)) {
+                affected.add(other.player2Id());
+            }
+            if (other.player2Id() == player1Id || other.player2Id().equals(player2Id)) {
+                affected.add(other.player1Id());
+            }
+        }
+        updateTiebreaks(values, games, affected);
+        store(tournamentId, values);
+    }
+
+    private static void addResult(int[] value, int points, int roundNumber) {
+        value[POINTS] += points;
+        value[GAMES]++;
+        value[WEIGHTED_POINTS] += points * roundNumber;
+    }
+
+    /**
+     * Berechnet Buchholz, Median-Buchholz und Sonneborn-Berger der Spieler aus den Matches und
+     * den Punkten der Gegner neu.
+     */
+    private static void updateTiebreaks(Map<Long, int[]> values, List<InMemoryDatabase.MatchRow> games,
+                                        Set<Long> playerIds) {
+        // Je Spieler die Paare {Punkte des Gegners, eigenes Ergebnis}
+        Map<Long, List<int[]>> opponents = new HashMap<>();
+        for (InMemoryDatabase.MatchRow game : games) {
+            long player1Id = game.player1Id();
+            long player2Id = game.player2Id();
+            if (playerIds.contains(player1Id)) {
+                opponents.computeIfAbsent(player1Id, id -> new ArrayList<>()).add(new int[] {
+                        values.get(player2Id)[POINTS], points(player1Id, player2Id, game.winnerId()) });
+            }
+            if (playerIds.contains(player2Id)) {
+                opponents.computeIfAbsent(player2Id, id -> new ArrayList<>()).add(new int[] {
+                        values.get(player1Id)[POINTS], points(player2Id, player1Id, game.winnerId()) });
+            }
+        }
+        opponents.forEach((playerId, pairs) -> {
+            int sum = 0;
+            int max = Integer.MIN_VALUE;
+            int min = Integer.MAX_VALUE;
+            int sb = 0;
+            for (int[] pair : pairs) {
+                sum += pair[0];
+                max = Math.max(max, pair[0]);
+                min = Math.min(min, pair[0]);
+                sb += pair[0] * pair[1];
+            }
+            int[] value = values.get(playerId);
+            value[BUCHHOLZ] = sum;
+            value[MEDIAN_BUCHHOLZ] = pairs.size() >= 3 ? sum - max - min : sum;
+            value[SONNEBORN_BERGER] = sb;
+        });
+    }
+
+    @Override
+    public void rebuild(long tournamentId) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            rebuildTournament(tournamentId);
+            transaction.commit();
+        }
+    }
+
+    @Override
+    public void rebuildAll() throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            for (InMemoryDatabase.TournamentRow tournament : database.getTournaments()) {
+                rebuildTournament(tournament.id());
+            }
+            transaction.commit();
+        }
+    }
+
+    private void rebuildTournament(long tournamentId) throws SQLException {
+        Map<Long, int[]> values = new HashMap<>();
+        database.getRankingsByTournament(tournamentId).forEach((playerId, ranking) -> values(values, playerId));
+        List<InMemoryDatabase.MatchRow> games = new ArrayList<>();
+        for (InMemoryDatabase.RoundRow round : database.getRoundsByTournament(tournamentId)) {
+            for (InMemoryDatabase.MatchRow match : database.getMatchesByRound(round.id())) {
+                if (match.status() != MatchStatus.COMPLETED || match.player1Id() == null) {
+                    continue;
+                }
+                addResult(values(values, match.player1Id()),
+                        points(match.player1Id(), match.player2Id(), match.winnerId()), round.roundNumber());
+                if (match.player2Id() != null) {
+                    addResult(values(values, match.player2Id()),
+                            points(match.player2Id(), match.player1Id(), match.winnerId()), round.roundNumber());
+                    games.add(match);
+                }
+            }
+        }
+        updateTiebreaks(values, games, values.keySet());
+        database.deleteStandings(tournamentId);
+        store(tournamentId, values);
+    }
+
+    /**
+     * Abgeschlossene Matches eines Turniers mit zwei Spielern.
+     */
+    private List<InMemoryDatabase.MatchRow> completedGames(long tournamentId) {
+        List<InMemoryDatabase.MatchRow> games = new ArrayList<>();
+        for (InMemoryDatabase.RoundRow round : database.getRoundsByTournament(tournamentId)) {
+            for (InMemoryDatabase.MatchRow match : database.getMatchesByRound(round.id())) {
+                if (match.status() == MatchStatus.COMPLETED && match.player1Id() != null && match.player2Id() != null) {
+                    games.add(match);
+                }
+            }
+        }
+        return games;
+    }
+
+    /**
+     * Vergibt die Tabellenplätze wie {@link SQLiteStandingsDAO} und schreibt geänderte Einträge.
+     */
+    private void store(long tournamentId, Map<Long, int[]> values) throws SQLException {
+        List<Map.Entry<Long, int[]>> entries = new ArrayList<>(values.entrySet());
+        entries.sort(RANK_ORDER);
+        int rank = 0;
+        for (Map.Entry<Long, int[]> entry : entries) {
+            int[] value = entry.getValue();
+            InMemoryDatabase.StandingRow row = new InMemoryDatabase.StandingRow(tournamentId, entry.getKey(),
+                    ++rank, value[POINTS], value[GAMES], value[BUCHHOLZ], value[MEDIAN_BUCHHOLZ],
+                    value[SONNEBORN_BERGER], value[WEIGHTED_POINTS]);
+            if (!row.equals(database.getStanding(tournamentId, entry.getKey()))) {
+                database.putStanding(row);
+            }
+        }
+    }
+
+    private static int[] values(Map<Long, int[]> values, long playerId) {
+        return values.computeIfAbsent(playerId, id -> new int[6]);
+    }
+
+    /**
+     * Punkte eines Spielers aus einem Match in halben Punkten.
+     */
+    private static int points(long playerId, Long opponentId, Long winnerId) {
+        if (opponentId == null) {
+            return 2;
+        }
+        if (winnerId == null) {
+            return 1;
+        }
+        return winnerId == playerId ? 2 : 0;
+    }
+}
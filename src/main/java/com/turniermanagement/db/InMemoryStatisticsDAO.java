@@ -0,0 +1,58 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Statistics;
+import com.turniermanagement.model.TournamentStatus;
+
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * In-Memory-Implementierung des StatisticsDAO mit derselben Semantik wie {@link SQLiteStatisticsDAO}.
+ */
+public class InMemoryStatisticsDAO implements StatisticsDAO {
+
+    private final InMemoryDatabase database;
+
+    InMemoryStatisticsDAO(InMemoryDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public Statistics getStatistics() throws SQLException {
+        // Alle Kennzahlen unter derselben Lesesperre, damit sie zueinander passen
+        return database.read(() -> {
+            Map<TournamentStatus, Long> byStatus = new EnumMap<>(TournamentStatus.class);
+            for (InMemoryDatabase.TournamentRow tournament : database.getTournaments()) {
+                if (tournament.status() != null) {
+                    byStatus.merge(tournament.status(), 1L, Long::sum);
+                }
+            }
+            long completedMatches = 0;
+            for (InMemoryDatabase.MatchRow match : database.getMatches()) {
+                if (match.status() == MatchStatus.COMPLETED) {
+                    completedMatches++;
+                }
+            }
+            long gamesWon = 0;
+            long gamesLost = 0;
+            for (InMemoryDatabase.PlayerRow player : database.getPlayers()) {
+                gamesWon += player.gamesWon();
+                gamesLost += player.gamesLost();
+            }
+            return new Statistics(database.getPlayerCount(), database.getTournamentCount(), byStatus,
+                    database.getMatchCount(), completedMatches, gamesWon, gamesLost);
+        });
+    }
+
+    @Override
+    public long countPlayers() throws SQLException {
+        return database.read(database::getPlayerCount);
+    }
+
+    @Override
+    public long countTournaments() throws SQLException {
+        return database.read(database::getTournamentCount);
+    }
+}
@@ -0,0 +1,232 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.ChangeTracker;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-Memory-Implementierung des TournamentDAO mit derselben Semantik wie {@link SQLiteTournamentDAO}.
+ */
+public class InMemoryTournamentDAO implements TournamentDAO {
+
+    private final InMemoryDatabase database;
+    private final IdentityMap identityMap;
+    private final InMemoryPlayerDAO playerDAO;
+    private final InMemoryRoundDAO roundDAO;
+
+    InMemoryTournamentDAO(InMemoryDatabase database, IdentityMap identityMap) {
+        this.database = database;
+        this.identityMap = identityMap;
+        this.playerDAO = new InMemoryPlayerDAO(database, identityMap);
+        this.roundDAO = new InMemoryRoundDAO(database, identityMap);
+    }
+
+    @Override
+    public void save(Tournament tournament) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            long id = database.nextTournamentId();
+            database.putTournament(new InMemoryDatabase.TournamentRow(id, tournament.getName(),
+                    tournament.getStartDate(), tournament.getEndDate(), tournament.getStatus()));
+            tournament.setId(id);
+
+            // Speichere Player-Beziehungen mit dem Standard-Ranking
+            for (Player player : tournament.getPlayers()) {
+                if (player.getId() != null) {
+                    database.putRelation(id, player.getId(), 0);
+                    player.addTournament(tournament);
+                }
+            }
+
+            transaction.commit();
+        }
+        tournament.getChanges().markClean();
+        identityMap.registerTournament(tournament);
+    }
+
+    @Override
+    public void update(Tournament tournament) throws SQLException {
+        ChangeTracker<Tournament.Field> changes = tournament.getChanges();
+        if (!changes.isDirty()) {
+            // Unveränderte Turniere werden nicht geschrieben
+            return;
+        }
+
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            InMemoryDatabase.TournamentRow row = database.getTournament(tournament.getId());
+            if (row != null) {
+                database.putTournament(new InMemoryDatabase.TournamentRow(row.id(),
+                        changes.isDirty(Tournament.Field.NAME) ? tournament.getName() : row.name(),
+                        changes.isDirty(Tournament.Field.START_DATE) ? tournament.getStartDate() : row.startDate(),
+                        changes.isDirty(Tournament.Field.END_DATE) ? tournament.getEndDate() : row.endDate(),
+                        changes.isDirty(Tournament.Field.STATUS) ? tournament.getStatus() : row.status()));
+            }
+
+            // Aktualisiere Player-Beziehungen
+            if (changes.isDirty(Tournament.Field.PLAYERS)) {
+                updatePlayerRelations(tournament);
+            }
+
+            transaction.commit();
+        }
+        changes.markClean();
+        // Die geschriebene Instanz ersetzt einen eventuell veralteten Eintrag
+        identityMap.putTournament(tournament);
+    }
+
+    private void updatePlayerRelations(Tournament tournament) throws SQLException {
+        // Rankings werden nur übernommen, wenn der Spieler eines für dieses Turnier kennt
+        Map<Long, Integer> rankings = new HashMap<>();
+        for (Player player : tournament.getPlayers()) {
+            if (player.getId() != null) {
+                rankings.put(player.getId(), player.getTournamentRankings().get(tournament));
+            }
+        }
+        Set<Long> removed = database.syncRelations(false, tournament.getId(), rankings);
+
+        // Bereits geladene Spieler, die nicht mehr teilnehmen, nachziehen
+        for (Long playerId : removed) {
+            Player player = identityMap.getPlayer(playerId);
+            if (player != null) {
+                player.removeTournament(tournament);
+            }
+        }
+        for (Player player : tournament.getPlayers()) {
+            if (player.getId() != null) {
+                player.addTournament(tournament);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Tournament> findById(Long id) throws SQLException {
+        return database.read(() -> Optional.ofNullable(loadTournament(database.getTournament(id))));
+    }
+
+    @Override
+    public List<Tournament> findAll() throws SQLException {
+        return database.read(() -> {
+            List<Tournament> tournaments = new ArrayList<>();
+            for (InMemoryDatabase.TournamentRow row : database.getTournaments()) {
+                tournaments.add(loadTournament(row));
+            }
+            return tournaments;
+        });
+    }
+
+    @Override
+    public Optional<Tournament> loadGraph(Long id) throws SQLException {
+        return database.read(() -> {
+            Tournament tournament = loadTournament(database.getTournament(id));
+            if (tournament == null) {
+                return Optional.empty();
+            }
+            // Matches verweisen auf die kanonischen Instanzen der Teilnehmer
+            List<Round> rounds = new ArrayList<>();
+            for (InMemoryDatabase.RoundRow row : InMemoryRoundDAO.sortByRoundNumber(database.getRoundsByTournament(id))) {
+                rounds.add(roundDAO.loadRound(row));
+            }
+            identityMap.replaceRounds(tournament, rounds);
+            return Optional.of(tournament);
+        });
+    }
+
+    @Override
+    public void delete(Long id) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            // Matches -> Runden -> Beziehungen -> Turnier
+            for (InMemoryDatabase.RoundRow round : database.getRoundsByTournament(id)) {
+                InMemoryRoundDAO.deleteWithMatches(database, round.id());
+            }
+            removeRelations(id);
+            database.deleteTournament(id);
+            transaction.commit();
+        }
+
+        detachPlayers(identityMap.getTournament(id));
+        identityMap.evictTournament(id);
+    }
+
+    @Override
+    public void deleteAll() throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            for (InMemoryDatabase.TournamentRow tournament : database.getTournaments()) {
+                for (InMemoryDatabase.RoundRow round : database.getRoundsByTournament(tournament.id())) {
+                    InMemoryRoundDAO.deleteWithMatches(database, round.id());
+                }
+                removeRelations(tournament.id());
+                database.deleteTournament(tournament.id());
+            }
+            transaction.commit();
+        }
+        identityMap.evictAllTournaments();
+    }
+
+    @Override
+    public void deleteRound(Long roundId) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            InMemoryRoundDAO.deleteWithMatches(database, roundId);
+            transaction.commit();
+        }
+    }
+
+    @Override
+    public void removePlayers(Long tournamentId) throws SQLException {
+        try (InMemoryDatabase.Transaction transaction = database.beginWrite()) {
+            removeRelations(tournamentId);
+            transaction.commit();
+        }
+
+        // Aktualisiere die Objektreferenzen, ohne das Turnier erneut zu laden
+        detachPlayers(identityMap.getTournament(tournamentId));
+    }
+
+    private void removeRelations(long tournamentId) {
+        for (long playerId : database.getRankingsByTournament(tournamentId).sortedKeys()) {
+            database.deleteRelation(tournamentId, playerId);
+        }
+    }
+
+    /**
+     * Entfernt die Beziehungen zwischen einem geladenen Turnier und seinen Spielern im Speicher.
+     */
+    private void detachPlayers(Tournament tournament) {
+        if (tournament == null) {
+            return;
+        }
+        for (Player player : new ArrayList<>(tournament.getPlayers())) {
+            player.removeTournament(tournament);
+            tournament.removePlayer(player);
+        }
+    }
+
+    /**
+     * Gibt die kanonische Instanz eines Turniers mit neu aufgebauter Teilnehmerliste zurück.
+     * Die übrigen Turnierbeziehungen bereits bekannter Spieler bleiben erhalten.
+     * Muss unter der Lesesperre aufgerufen werden.
+     */
+    private Tournament loadTournament(InMemoryDatabase.TournamentRow row) {
+        if (row == null) {
+            return null;
+        }
+        Tournament tournament = playerDAO.canonicalTournament(row);
+        long[] playerIds = database.getRankingsByTournament(row.id()).sortedKeys();
+        List<Player> participants = new ArrayList<>(playerIds.length);
+        for (long playerId : playerIds) {
+            Player player = playerDAO.canonicalPlayer(database.getPlayer(playerId));
+            int ranking = database.getRankingsByTournament(row.id()).get(playerId);
+            identityMap.linkTournament(player, tournament, ranking);
+            participants.add(player);
+        }
+        identityMap.replacePlayers(tournament, participants);
+        return tournament;
+    }
+}
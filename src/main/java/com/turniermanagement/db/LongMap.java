@@ -0,0 +1,239 @@
+package com.turniermanagement.db;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hash-Map mit primitiven long-Schlüsseln für die In-Memory-Tabellen.
+ *
+ * Die Einträge liegen in Einfügereihenfolge in dichten Arrays, eine offene Hashtabelle
+ * verweist auf ihre Positionen. Entfernte Einträge bleiben bis zur nächsten Reorganisation
+ * als Lücke stehen. Da die IDs der Tabellen aufsteigend vergeben werden, entspricht die
+ * Einfügereihenfolge dort der ID-Reihenfolge, und seitenweises Lesen kommt ohne Sortierung aus.
+ *
+ * Null-Werte werden nicht unterstützt. Die Klasse ist nicht threadsicher.
+ *
+ * @param <V> Typ der Werte
+ */
+final class LongMap<V> {
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Empfänger für Schlüssel-Wert-Paare.
+     * @param <V> Typ der Werte
+     */
+    @FunctionalInterface
+    interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private long[] keys;
+    private Object[] values;
+    // Positionen + 1 in den dichten Arrays; 0 kennzeichnet einen freien Platz
+    private int[] index;
+    private int end;
+    private int size;
+    private boolean ascending = true;
+
+    LongMap() {
+        this(8);
+    }
+
+    LongMap(int expectedSize) {
+        int capacity = Math.max(8, Integer.highestOneBit(Math.max(1, expectedSize) - 1) << 1);
+        keys = new long[capacity];
+        values = new Object[capacity];
+        index = new int[capacity * 2];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int position = find(key);
+        return position < 0 ? null : (V) values[position];
+    }
+
+    boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Fügt einen Eintrag hinzu oder ersetzt den Wert eines vorhandenen Schlüssels an seiner Position.
+     * @return Der bisherige Wert oder null
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        int position = find(key);
+        if (position >= 0) {
+            V previous = (V) values[position];
+            values[position] = value;
+            return previous;
+        }
+        if (end == keys.length) {
+            // Lücken entfernen und bei Bedarf vergrößern
+            rebuild(size + 1 > keys.length / 2 ? keys.length * 2 : keys.length);
+        }
+        if (end > 0 && key <= keys[end - 1]) {
+            ascending = false;
+        }
+        keys[end] = key;
+        values[end] = value;
+        insertIndex(key, end);
+        end++;
+        size++;
+        return null;
+    }
+
+    /**
+     * Entfernt einen Eintrag.
+     * @return Der entfernte Wert oder null
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int position = find(key);
+        if (position < 0) {
+            return null;
+        }
+        V previous = (V) values[position];
+        values[position] = null;
+        size--;
+        return previous;
+    }
+
+    void clear() {
+        Arrays.fill(values, 0, end, null);
+        Arrays.fill(index, 0);
+        end = 0;
+        size = 0;
+        ascending = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(EntryConsumer<? super V> consumer) {
+        for (int i = 0; i < end; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Gibt die Schlüssel aufsteigend sortiert zurück.
+     */
+    long[] sortedKeys() {
+        long[] result = new long[size];
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (values[i] != null) {
+                result[count++] = keys[i];
+            }
+        }
+        if (!ascending) {
+            Arrays.sort(result);
+        }
+        return result;
+    }
+
+    /**
+     * Gibt die Werte in aufsteigender Schlüsselreihenfolge zurück.
+     */
+    List<V> sortedValues() {
+        return valuesAfter(Long.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gibt höchstens {@code limit} Werte mit einem Schlüssel größer als {@code afterKey}
+     * in aufsteigender Schlüsselreihenfolge zurück.
+     */
+    @SuppressWarnings("unchecked")
+    List<V> valuesAfter(long afterKey, int limit) {
+        List<V> result = new ArrayList<>(Math.min(size, limit));
+        if (ascending) {
+            // Die dichten Arrays sind aufsteigend sortiert, auch über Lücken hinweg
+            int start = afterKey == Long.MIN_VALUE ? 0 : upperBound(afterKey);
+            for (int i = start; i < end && result.size() < limit; i++) {
+                if (values[i] != null) {
+                    result.add((V) values[i]);
+                }
+            }
+            return result;
+        }
+        for (long key : sortedKeys()) {
+            if (key > afterKey) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(get(key));
+            }
+        }
+        return result;
+    }
+
+    private int upperBound(long key) {
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int find(long key) {
+        int mask = index.length - 1;
+        for (int slot = hash(key) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            int position = index[slot] - 1;
+            if (keys[position] == key && values[position] != null) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private void insertIndex(long key, int position) {
+        int mask = index.length - 1;
+        int slot = hash(key) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private void rebuild(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldEnd = end;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        index = new int[capacity * 2];
+        end = 0;
+        for (int i = 0; i < oldEnd; i++) {
+            if (oldValues[i] != null) {
+                keys[end] = oldKeys[i];
+                values[end] = oldValues[i];
+                insertIndex(oldKeys[i], end);
+                end++;
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long mixed = key * GOLDEN_RATIO;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
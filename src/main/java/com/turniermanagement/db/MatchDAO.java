@@ -3,6 +3,7 @@ package com.turniermanagement.db;
 import com.turniermanagement.model.Match;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface für den Datenbankzugriff auf Match-Objekte.
@@ -17,6 +18,32 @@ public interface MatchDAO extends DAO<Match, Long> {
      */
     void save(Match match, Long roundId) throws SQLException;
     
+    /**
+     * Speichert mehrere neue Matches einer Runde als JDBC-Batch in einer gemeinsamen
+     * Transaktion und setzt die vergebenen IDs.
+     * @param matches Die zu speichernden Matches
+     * @param roundId Die ID der zugehörigen Runde
+     * @throws SQLException Bei Datenbankfehlern; in diesem Fall wird kein Match gespeichert
+     */
+    void saveAll(List<Match> matches, Long roundId) throws SQLException;
+    
+    /**
+     * Aktualisiert mehrere bestehende Matches als JDBC-Batch in einer gemeinsamen Transaktion.
+     * @param matches Die zu aktualisierenden Matches
+     * @throws SQLException Bei Datenbankfehlern; in diesem Fall wird kein Match aktualisiert
+     */
+    void updateAll(List<Match> matches) throws SQLException;
+    
+    /**
+     * Schreibt Ergebnis und Sieger eines Matches und schließt es ab, sofern es in der Datenbank
+     * noch nicht abgeschlossen ist. Prüfung und Schreiben erfolgen in einer Anweisung, sodass
+     * von gleichzeitig eingetragenen Ergebnissen desselben Matches nur eines übernommen wird.
+     * @param match Das Match mit dem einzutragenden Ergebnis
+     * @return false, wenn das Match bereits abgeschlossen war oder nicht existiert
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    boolean complete(Match match) throws SQLException;
+    
     /**
      * Findet alle Matches einer bestimmten Runde.
      * @param roundId Die ID der Runde
@@ -24,4 +51,12 @@ public interface MatchDAO extends DAO<Match, Long> {
      * @throws SQLException Bei Datenbankfehlern
      */
     List<Match> findByRoundId(Long roundId) throws SQLException;
+    
+    /**
+     * Findet alle Matches eines Turniers mit einer einzigen Abfrage.
+     * @param tournamentId Die ID des Turniers
+     * @return Map von Runden-ID auf die Matches dieser Runde
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    Map<Long, List<Match>> findByTournamentId(Long tournamentId) throws SQLException;
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.turniermanagement.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Baut UPDATE-Anweisungen, die nur die geänderten Spalten einer Entität schreiben.
+ *
+ * @param <F> Aufzählung der Felder der Entität
+ */
+final class PartialUpdate<F extends Enum<F>> {
+    private final String sql;
+    private final List<F> fields;
+
+    private PartialUpdate(String sql, List<F> fields) {
+        this.sql = sql;
+        this.fields = fields;
+    }
+
+    /**
+     * Erstellt die Anweisung für die geänderten Felder, die einer Spalte entsprechen.
+     * @param table Name der Tabelle
+     * @param columns Spaltennamen der Felder in Schreibreihenfolge; Felder ohne Spalte werden ignoriert
+     * @param dirtyFields Die geänderten Felder
+     * @param <F> Aufzählung der Felder der Entität
+     * @return Die Anweisung oder null, wenn keine Spalte geändert wurde
+     */
+    static <F extends Enum<F>> PartialUpdate<F> of(String table, Map<F, String> columns, Set<F> dirtyFields) {
+        List<F> fields = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        for (Map.Entry<F, String> column : columns.entrySet()) {
+            if (dirtyFields.contains(column.getKey())) {
+                if (!fields.isEmpty()) {
+                    sql.append(", ");
+                }
+                sql.append(column.getValue()).append(" = ?");
+                fields.add(column.getKey());
+            }
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+        sql.append(" WHERE id = ?");
+        return new PartialUpdate<>(sql.toString(), fields);
+    }
+
+    /**
+     * Gibt den SQL-Text zurück; der letzte Parameter ist die ID.
+     * @return Die UPDATE-Anweisung
+     */
+    String getSql() {
+        return sql;
+    }
+
+    /**
+     * Gibt die zu schreibenden Felder in Parameterreihenfolge zurück.
+     * @return Die Felder, beginnend mit Parameter 1
+     */
+    List<F> getFields() {
+        return fields;
+    }
+}
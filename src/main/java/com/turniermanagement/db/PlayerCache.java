@@ -0,0 +1,221 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Player;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Begrenzter Second-Level-Cache für Spielerabfragen nach ID, Name und E-Mail.
+ * Auch negative Ergebnisse ("kein Spieler mit diesem Namen") werden gespeichert,
+ * da sie bei der Validierung neuer Spieler der Normalfall sind.
+ *
+ * Die Einträge werden nach LRU-Strategie verdrängt, sobald die Kapazität erreicht ist.
+ * Schreibzugriffe über {@link CachingPlayerDAO} invalidieren alle Einträge des
+ * betroffenen Spielers sowie negative Einträge für seinen neuen Namen und seine E-Mail.
+ */
+public class PlayerCache {
+
+    /** Standardkapazität des Caches (Anzahl Einträge über alle Schlüsselarten). */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Optional<Player>> entries;
+    // Rückwärtsindex: alle Schlüssel, unter denen ein Spieler gespeichert ist
+    private final Map<Long, Set<Key>> keysByPlayer = new HashMap<>();
+    // Wird bei jeder Invalidierung erhöht, um parallel geladene veraltete Ergebnisse zu verwerfen
+    private long generation;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Erstellt einen Cache mit der Standardkapazität.
+     */
+    public PlayerCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Erstellt einen Cache mit der angegebenen Kapazität.
+     * @param capacity Maximale Anzahl der Einträge
+     */
+    public PlayerCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Optional<Player>> eldest) {
+                if (size() > PlayerCache.this.capacity) {
+                    unlinkFromPlayer(eldest.getKey(), eldest.getValue());
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Schlüsselarten des Caches.
+     */
+    enum Kind { ID, NAME, EMAIL }
+
+    /**
+     * Cache-Schlüssel aus Art und Wert.
+     */
+    record Key(Kind kind, Object value) {
+        static Key id(Long id) { return new Key(Kind.ID, id); }
+        static Key name(String name) { return new Key(Kind.NAME, name); }
+        static Key email(String email) { return new Key(Kind.EMAIL, email); }
+    }
+
+    /**
+     * Sucht einen Eintrag und zählt Treffer bzw. Fehlschläge.
+     * @return Das gespeicherte Ergebnis oder null, wenn der Schlüssel unbekannt ist
+     */
+    synchronized Optional<Player> lookup(Key key) {
+        Optional<Player> cached = entries.get(key);
+        if (cached != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return cached;
+    }
+
+    /**
+     * Gibt den aktuellen Invalidierungsstand zurück; vor dem Laden aus der Datenbank abzufragen.
+     */
+    synchronized long currentGeneration() {
+        return generation;
+    }
+
+    /**
+     * Speichert ein geladenes Ergebnis, sofern seit dem Laden keine Invalidierung stattfand.
+     */
+    synchronized void store(Key key, Optional<Player> result, long loadedGeneration) {
+        if (loadedGeneration != generation) {
+            return;
+        }
+        Optional<Player> previous = entries.put(key, result);
+        if (previous != null) {
+            unlinkFromPlayer(key, previous);
+        }
+        result.map(Player::getId).ifPresent(id -> keysByPlayer.computeIfAbsent(id, k -> new HashSet<>()).add(key));
+    }
+
+    /**
+     * Entfernt alle Einträge eines geschriebenen Spielers sowie negative Einträge,
+     * die durch seinen (neuen) Namen oder seine E-Mail ungültig geworden sind.
+     * @param player Der gespeicherte oder aktualisierte Spieler
+     */
+    public synchronized void invalidate(Player player) {
+        if (player.getId() != null) {
+            removePlayerEntries(player.getId());
+            remove(Key.id(player.getId()));
+        }
+        if (player.getName() != null) {
+            remove(Key.name(player.getName()));
+        }
+        if (player.getEmail() != null) {
+            remove(Key.email(player.getEmail()));
+        }
+        generation++;
+    }
+
+    /**
+     * Entfernt alle Einträge eines gelöschten Spielers.
+     * @param playerId Die ID des Spielers
+     */
+    public synchronized void invalidate(Long playerId) {
+        removePlayerEntries(playerId);
+        remove(Key.id(playerId));
+        generation++;
+    }
+
+    /**
+     * Leert den Cache vollständig. Die Zähler bleiben erhalten.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        keysByPlayer.clear();
+        generation++;
+    }
+
+    /**
+     * Gibt die Anzahl der Cache-Treffer zurück.
+     * @return Anzahl der Treffer
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gibt die Anzahl der Cache-Fehlschläge (Datenbankzugriffe) zurück.
+     * @return Anzahl der Fehlschläge
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gibt die Anzahl der wegen der Kapazitätsgrenze verdrängten Einträge zurück.
+     * @return Anzahl der Verdrängungen
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gibt die aktuelle Anzahl der Einträge zurück.
+     * @return Anzahl der Einträge
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gibt die Kapazität des Caches zurück.
+     * @return Maximale Anzahl der Einträge
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void removePlayerEntries(Long playerId) {
+        Set<Key> keys = keysByPlayer.remove(playerId);
+        if (keys != null) {
+            for (Key key : keys) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        Optional<Player> removed = entries.remove(key);
+        if (removed != null) {
+            unlinkFromPlayer(key, removed);
+        }
+    }
+
+    private void unlinkFromPlayer(Key key, Optional<Player> value) {
+        if (value.isEmpty() || value.get().getId() == null) {
+            return;
+        }
+        Set<Key> keys = keysByPlayer.get(value.get().getId());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByPlayer.remove(value.get().getId());
+            }
+        }
+    }
+}
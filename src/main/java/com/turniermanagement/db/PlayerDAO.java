@@ -3,7 +3,12 @@ package com.turniermanagement.db;
 import com.turniermanagement.model.Player;
 import com.turniermanagement.model.Tournament;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Interface für den Datenbankzugriff auf Player-Objekte.
@@ -19,6 +24,17 @@ public interface PlayerDAO extends DAO<Player, Long> {
      */
     void updatePlayerRanking(Player player, Tournament tournament, int ranking) throws SQLException;
     
+    /**
+     * Zählt ein entschiedenes Spiel direkt in der Datenbank auf die Bilanz beider Spieler
+     * ({@code games_won = games_won + 1} bzw. {@code games_lost = games_lost + 1}), ohne die
+     * Spieler zu laden oder ihre Turnierzuordnungen zu schreiben. Bereits geladene Instanzen
+     * werden nachgezogen.
+     * @param winnerId ID des Siegers
+     * @param loserId ID des Verlierers
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void recordGameResult(Long winnerId, Long loserId) throws SQLException;
+    
     /**
      * Sucht einen Spieler anhand seines Namens.
      * @param name Der Name des Spielers
@@ -34,4 +50,72 @@ public interface PlayerDAO extends DAO<Player, Long> {
      * @throws SQLException Bei Datenbankfehlern
      */
     Optional<Player> findByEmail(String email) throws SQLException;
+    
+    /**
+     * Lädt mehrere Spieler anhand ihrer IDs mit einer gebündelten Abfrage.
+     * @param ids Die IDs der Spieler
+     * @return Map von Spieler-ID auf Spieler; nicht gefundene IDs fehlen in der Map
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    Map<Long, Player> findByIds(Collection<Long> ids) throws SQLException;
+    
+    /**
+     * Lädt eine Seite von Spielern per Keyset-Paginierung, sortiert nach ID.
+     * Im Gegensatz zu einem OFFSET bleibt der Aufwand pro Seite unabhängig davon,
+     * wie weit bereits geblättert wurde.
+     * @param afterId ID des letzten Spielers der vorherigen Seite oder null für die erste Seite
+     * @param limit Maximale Anzahl an Spielern der Seite
+     * @return Die Spieler der Seite; weniger als limit Einträge kennzeichnen die letzte Seite
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    List<Player> findPage(Long afterId, int limit) throws SQLException;
+    
+    /**
+     * Übergibt alle Spieler nacheinander, sortiert nach ID, an den Consumer, ohne sie
+     * gesammelt im Speicher zu halten. Der Consumer wird während der laufenden Abfrage
+     * aufgerufen und darf daher keine Schreibzugriffe auf die Datenbank ausführen.
+     * @param consumer Empfänger der Spieler
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void streamAll(Consumer<Player> consumer) throws SQLException;
+    
+    /**
+     * Speichert mehrere neue Spieler als JDBC-Batch in einer gemeinsamen Transaktion
+     * und setzt die vergebenen IDs.
+     * @param players Die zu speichernden Spieler
+     * @throws SQLException Bei Datenbankfehlern; in diesem Fall wird kein Spieler gespeichert
+     */
+    void saveAll(List<Player> players) throws SQLException;
+    
+    /**
+     * Löscht einen Spieler mit seinen Turnierzuordnungen, Wertungen und Tabelleneinträgen.
+     * Spieler, die in Matches vorkommen, werden nicht gelöscht, da sonst Ergebnisse, Tabellen
+     * und Wertungen ihrer Gegner verfälscht würden; solche Matches verschwinden erst mit ihrem Turnier.
+     * @param id Die ID des zu löschenden Spielers
+     * @throws SQLException Bei Datenbankfehlern
+     * @throws IllegalStateException Wenn der Spieler in einem Match vorkommt
+     */
+    @Override
+    void delete(Long id) throws SQLException;
+    
+    /**
+     * Löscht alle Spieler mit ihren Turnierzuordnungen.
+     * Matches, an denen Spieler beteiligt sind, müssen vorher gelöscht werden.
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void deleteAll() throws SQLException;
+    
+    /**
+     * Lädt die Namen aller Spieler, z.B. als Eindeutigkeitsindex für Massenimporte.
+     * @return Menge aller Spielernamen
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    Set<String> findAllNames() throws SQLException;
+    
+    /**
+     * Lädt die E-Mail-Adressen aller Spieler, die eine E-Mail-Adresse haben.
+     * @return Menge aller E-Mail-Adressen
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    Set<String> findAllEmails() throws SQLException;
 }
\ No newline at end of file
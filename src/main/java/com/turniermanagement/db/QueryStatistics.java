@@ -0,0 +1,453 @@
+package com.turniermanagement.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Zählt die SQL-Anweisungen eines Verbindungspools je SQL-Form und aufrufender DAO-Methode.
+ *
+ * Der Pool umhüllt jede Verbindung zusätzlich zum {@link StatementCache} mit dieser
+ * Instrumentierung. Für jede Ausführung werden Anzahl, gelesene Zeilen und Laufzeit erfasst;
+ * die Laufzeit einer Abfrage umfasst auch das Durchlaufen ihres ResultSets, da SQLite erst dabei
+ * die Zeilen berechnet. Als SQL-Form gilt der Text mit zusammengefassten Leerzeichen, Literalen
+ * als {@code ?} und verkürzten IN-Listen, sodass gebündelte Abfragen unterschiedlicher Länge
+ * zusammengezählt werden. Als Aufrufer gilt die äußerste Methode der innersten DAO-Klasse im
+ * Aufrufstapel, z.B. {@code SQLitePlayerDAO.findByIds} statt des privaten Hilfsmethodennamens.
+ *
+ * Ein Anstieg der Anweisungen pro Operation nach einer Änderung weist so auf N+1-Abfragen hin.
+ */
+public final class QueryStatistics {
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String PACKAGE = "com.turniermanagement.";
+    private static final String DB_PACKAGE = "com.turniermanagement.db.";
+    // Obergrenze der zwischengespeicherten SQL-Formen; IN-Listen erzeugen viele Varianten
+    private static final int MAX_CACHED_SHAPES = 1024;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    /**
+     * Kennzahlen einer SQL-Form für eine aufrufende Operation.
+     * @param operation Aufrufende DAO-Methode, z.B. {@code SQLitePlayerDAO.findById}
+     * @param sql Normalisierte SQL-Form
+     * @param statements Anzahl der Ausführungen (ein Batch zählt einmal)
+     * @param rowsRead Anzahl der gelesenen Zeilen
+     * @param totalNanos Summe der Laufzeiten
+     * @param p50Nanos Median der Laufzeit
+     * @param p95Nanos 95. Perzentil der Laufzeit
+     * @param p99Nanos 99. Perzentil der Laufzeit
+     * @param maxNanos Längste Laufzeit
+     */
+    public record Entry(String operation, String sql, long statements, long rowsRead, long totalNanos,
+                        long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos) {
+    }
+
+    /**
+     * Momentaufnahme aller Kennzahlen, absteigend nach Gesamtlaufzeit sortiert.
+     * @param entries Die Kennzahlen je Operation und SQL-Form
+     */
+    public record Snapshot(List<Entry> entries) {
+
+        public Snapshot {
+            entries = List.copyOf(entries);
+        }
+
+        /**
+         * Gibt die Anzahl aller ausgeführten Anweisungen zurück.
+         * @return Summe über alle Einträge
+         */
+        public long totalStatements() {
+            return entries.stream().mapToLong(Entry::statements).sum();
+        }
+
+        /**
+         * Summiert die ausgeführten Anweisungen je Operation.
+         * @return Anweisungen je Operation, absteigend sortiert
+         */
+        public Map<String, Long> statementsByOperation() {
+            Map<String, Long> totals = new LinkedHashMap<>();
+            entries.stream()
+                    .sorted(Comparator.comparing(Entry::operation))
+                    .forEach(entry -> totals.merge(entry.operation(), entry.statements(), Long::sum));
+            Map<String, Long> sorted = new LinkedHashMap<>();
+            totals.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+            return sorted;
+        }
+
+        /**
+         * Gibt die Einträge einer Operation zurück.
+         * @param operation Die Operation, z.B. {@code SQLiteTournamentDAO.loadGraph}
+         * @return Die Einträge der Operation
+         */
+        public List<Entry> forOperation(String operation) {
+            return entries.stream().filter(entry -> entry.operation().equals(operation)).toList();
+        }
+
+        /**
+         * Formatiert die Kennzahlen als Tabelle, z.B. für die Konsole.
+         * @return Die Tabelle mit Laufzeiten in Millisekunden
+         */
+        public String format() {
+            StringBuilder text = new StringBuilder();
+            text.append(String.format("%-45s %9s %10s %10s %8s %8s %8s %8s  %s%n",
+                    "Operation", "Anzahl", "Zeilen", "Gesamt ms", "p50 ms", "p95 ms", "p99 ms", "max ms", "SQL"));
+            for (Entry entry : entries) {
+                text.append(String.format("%-45s %9d %10d %10.2f %8.3f %8.3f %8.3f %8.3f  %s%n",
+                        entry.operation(), entry.statements(), entry.rowsRead(), millis(entry.totalNanos()),
+                        millis(entry.p50Nanos()), millis(entry.p95Nanos()), millis(entry.p99Nanos()),
+                        millis(entry.maxNanos()), entry.sql()));
+            }
+            return text.toString();
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    private final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    /**
+     * Schaltet die Erfassung ein oder aus. Bereits erfasste Kennzahlen bleiben erhalten.
+     * @param enabled true, um Anweisungen zu erfassen
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gibt an, ob Anweisungen erfasst werden.
+     * @return true, wenn die Erfassung eingeschaltet ist
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Erstellt eine Momentaufnahme der bisher erfassten Kennzahlen.
+     * @return Die Kennzahlen, absteigend nach Gesamtlaufzeit sortiert
+     */
+    public Snapshot snapshot() {
+        List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<Key, Counter> entry : counters.entrySet()) {
+            entries.add(entry.getValue().toEntry(entry.getKey()));
+        }
+        entries.sort(Comparator.comparingLong(Entry::totalNanos).reversed());
+        return new Snapshot(entries);
+    }
+
+    /**
+     * Verwirft alle erfassten Kennzahlen.
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * Umhüllt eine Verbindung, sodass ihre Anweisungen erfasst werden.
+     * @param connection Die Verbindung
+     * @return Die instrumentierte Verbindung
+     */
+    Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryStatistics.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && args != null && args[0] instanceof String sql) {
+                        return new StatementHandler(statement, sql).proxy(PreparedStatement.class);
+                    }
+                    if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                        return new StatementHandler(statement, null).proxy(Statement.class);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Gibt die normalisierte Form eines SQL-Textes zurück.
+     * @param sql Der SQL-Text
+     * @return Die SQL-Form
+     */
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return IN_LIST.matcher(shape).replaceAll("(?, ...)");
+    }
+
+    private Counter counterFor(String sql) {
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = shapeOf(sql);
+            if (shapes.size() < MAX_CACHED_SHAPES) {
+                shapes.put(sql, shape);
+            }
+        }
+        return counters.computeIfAbsent(new Key(callingOperation(), shape), key -> new Counter());
+    }
+
+    /**
+     * Ermittelt die aufrufende DAO-Methode aus dem Aufrufstapel.
+     */
+    private static String callingOperation() {
+        return STACK_WALKER.walk(frames -> {
+            String daoClass = null;
+            String operation = null;
+            String fallback = null;
+            Iterator<StackWalker.StackFrame> iterator = frames.iterator();
+            while (iterator.hasNext()) {
+                StackWalker.StackFrame frame = iterator.next();
+                String className = frame.getClassName();
+                if (daoClass != null) {
+                    if (!className.equals(daoClass)) {
+                        break;
+                    }
+                    operation = describe(frame);
+                } else if (className.startsWith(PACKAGE) && !isInfrastructure(className)) {
+                    if (isDAO(className)) {
+                        daoClass = className;
+                        operation = describe(frame);
+                    } else if (fallback == null) {
+                        fallback = describe(frame);
+                    }
+                }
+            }
+            if (operation != null) {
+                return operation;
+            }
+            return fallback != null ? fallback : "unbekannt";
+        });
+    }
+
+    private static boolean isInfrastructure(String className) {
+        return className.startsWith(QueryStatistics.class.getName())
+                || className.startsWith(StatementCache.class.getName())
+                || className.startsWith(ConnectionPool.class.getName());
+    }
+
+    private static boolean isDAO(String className) {
+        return className.startsWith(DB_PACKAGE) && className.endsWith("DAO");
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record Key(String operation, String sql) {
+    }
+
+    /**
+     * Zähler einer Operation und SQL-Form.
+     */
+    private static final class Counter {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long statements;
+        private long rowsRead;
+        private long totalNanos;
+
+        synchronized void record(long nanos, long rows) {
+            statements++;
+            rowsRead += rows;
+            totalNanos += nanos;
+            latencies.record(nanos);
+        }
+
+        synchronized Entry toEntry(Key key) {
+            return new Entry(key.operation(), key.sql(), statements, rowsRead, totalNanos,
+                    latencies.percentile(0.50), latencies.percentile(0.95), latencies.percentile(0.99),
+                    latencies.max());
+        }
+    }
+
+    /**
+     * Histogramm mit logarithmischen Klassen: vier Unterklassen je Zweierpotenz, also
+     * höchstens etwa 19 % Abweichung vom tatsächlichen Perzentil bei fester Größe.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKETS = 4;
+        private final long[] counts = new long[64 * SUB_BUCKETS];
+        private long total;
+        private long max;
+
+        void record(long nanos) {
+            long value = Math.max(1, nanos);
+            counts[bucketOf(value)]++;
+            total++;
+            max = Math.max(max, value);
+        }
+
+        /**
+         * Gibt die Obergrenze der Klasse zurück, in die das Perzentil fällt.
+         */
+        long percentile(double quantile) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    return Math.min(upperBound(bucket), max);
+                }
+            }
+            return max;
+        }
+
+        long max() {
+            return max;
+        }
+
+        private static int bucketOf(long value) {
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            if (exponent < 2) {
+                return (int) value;
+            }
+            int sub = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+            return exponent * SUB_BUCKETS + sub;
+        }
+
+        private static long upperBound(int bucket) {
+            int exponent = bucket / SUB_BUCKETS;
+            if (exponent < 2) {
+                return bucket;
+            }
+            int sub = bucket % SUB_BUCKETS;
+            long width = 1L << (exponent - 2);
+            return (1L << exponent) + (sub + 1) * width - 1;
+        }
+    }
+
+    /**
+     * Laufende Ausführung; eine Abfrage wird erst mit ihrem ResultSet abgeschlossen.
+     */
+    private static final class Execution {
+        private final Counter counter;
+        private long nanos;
+        private long rows;
+        private boolean finished;
+
+        private Execution(Counter counter, long nanos) {
+            this.counter = counter;
+            this.nanos = nanos;
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                counter.record(nanos, rows);
+            }
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String preparedSql;
+        private Execution pending;
+        private String lastBatchSql;
+
+        private StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        private <T extends Statement> T proxy(Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(QueryStatistics.class.getClassLoader(),
+                    new Class<?>[] { type }, this));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("close")) {
+                finishPending();
+            } else if (name.equals("addBatch") && args != null && args[0] instanceof String sql) {
+                lastBatchSql = sql;
+            } else if (enabled && name.startsWith("execute")) {
+                return execute(method, args, name);
+            }
+            return QueryStatistics.invoke(statement, method, args);
+        }
+
+        private Object execute(Method method, Object[] args, String name) throws Throwable {
+            finishPending();
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text
+                    : name.equals("executeBatch") && preparedSql == null ? lastBatchSql : preparedSql;
+            if (sql == null) {
+                return QueryStatistics.invoke(statement, method, args);
+            }
+            Counter counter = counterFor(sql);
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = QueryStatistics.invoke(statement, method, args);
+            } catch (Throwable e) {
+                new Execution(counter, System.nanoTime() - start).finish();
+                throw e;
+            }
+            Execution execution = new Execution(counter, System.nanoTime() - start);
+            if (result instanceof ResultSet resultSet) {
+                pending = execution;
+                return wrapResultSet(resultSet, execution);
+            }
+            execution.finish();
+            return result;
+        }
+
+        private void finishPending() {
+            if (pending != null) {
+                pending.finish();
+                pending = null;
+            }
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet, Execution execution) {
+            return (ResultSet) Proxy.newProxyInstance(QueryStatistics.class.getClassLoader(),
+                    new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("next")) {
+                            long start = System.nanoTime();
+                            Object hasRow = QueryStatistics.invoke(resultSet, method, args);
+                            execution.nanos += System.nanoTime() - start;
+                            if (Boolean.TRUE.equals(hasRow)) {
+                                execution.rows++;
+                            }
+                            return hasRow;
+                        }
+                        if (name.equals("close")) {
+                            execution.finish();
+                        }
+                        return QueryStatistics.invoke(resultSet, method, args);
+                    });
+        }
+    }
+}
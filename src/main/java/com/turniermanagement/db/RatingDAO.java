@@ -0,0 +1,72 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Rating;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface für die Glicko-2-Wertungen der Spieler.
+ * Zu jedem Spieler werden die aktuelle Wertung und der Verlauf aller bisherigen Wertungen
+ * gespeichert; Spieler ohne gewertetes Match haben keinen Eintrag.
+ */
+public interface RatingDAO {
+
+    /**
+     * Ein gewertetes Match in der Form, in der es für die Neuberechnung gebraucht wird.
+     * @param matchId ID des Matches
+     * @param roundId ID der Runde
+     * @param player1Id ID des ersten Spielers
+     * @param player2Id ID des zweiten Spielers
+     * @param winnerId ID des Siegers (null bei Remis)
+     */
+    record Game(long matchId, long roundId, long player1Id, long player2Id, Long winnerId) {
+    }
+
+    /**
+     * Sucht die aktuelle Wertung eines Spielers.
+     * @param playerId ID des Spielers
+     * @return Die Wertung oder ein leeres Optional, wenn der Spieler noch nicht gewertet wurde
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    Optional<Rating> findByPlayerId(long playerId) throws SQLException;
+
+    /**
+     * Gibt die aktuellen Wertungen aller gewerteten Spieler zurück.
+     * @return Die Wertungen, höchste Wertungszahl zuerst
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    List<Rating> findAll() throws SQLException;
+
+    /**
+     * Gibt den Wertungsverlauf eines Spielers zurück.
+     * @param playerId ID des Spielers
+     * @return Die Wertungen in der Reihenfolge, in der sie gespeichert wurden
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    List<Rating> findHistory(long playerId) throws SQLException;
+
+    /**
+     * Speichert neue Wertungen als aktuelle Wertung der Spieler und hängt sie an deren Verlauf an.
+     * @param ratings Die neuen Wertungen
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void save(List<Rating> ratings) throws SQLException;
+
+    /**
+     * Ersetzt alle gespeicherten Wertungen durch einen neu berechneten Verlauf.
+     * Als aktuelle Wertung eines Spielers gilt seine letzte Wertung im Verlauf.
+     * @param history Der vollständige Verlauf in chronologischer Reihenfolge
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void replaceAll(List<Rating> history) throws SQLException;
+
+    /**
+     * Gibt alle abgeschlossenen Matches mit zwei Spielern in chronologischer Reihenfolge zurück:
+     * nach Startdatum und ID des Turniers, Rundennummer und ID des Matches.
+     * @return Die gewerteten Matches
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    List<Game> findRatedGames() throws SQLException;
+}
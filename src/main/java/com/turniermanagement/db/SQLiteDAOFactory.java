@@ -1,6 +1,6 @@
 package com.turniermanagement.db;
 
-import java.sql.Connection;
+import java.sql.SQLException;
 
 /**
  * SQLite-Implementierung der DAOFactory.
@@ -8,23 +8,81 @@ import java.sql.Connection;
  */
 public class SQLiteDAOFactory extends DAOFactory {
     
+    private final ConnectionPool connectionPool;
+    private final PlayerCache playerCache = new PlayerCache();
+    
+    /**
+     * Erstellt eine SQLiteDAOFactory mit dem Verbindungspool der Anwendung.
+     */
+    public SQLiteDAOFactory() {
+        this(DatabaseConnection.getInstance().getConnectionPool());
+    }
+    
+    /**
+     * Erstellt eine SQLiteDAOFactory mit dem angegebenen Verbindungspool.
+     * @param connectionPool Der von allen erzeugten DAOs gemeinsam genutzte Pool
+     */
+    public SQLiteDAOFactory(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+    
+    /**
+     * Gibt den Verbindungspool dieser Factory zurück.
+     * @return Der Verbindungspool
+     */
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+    
+    /**
+     * Gibt den von allen PlayerDAOs dieser Factory geteilten Cache zurück.
+     * @return Der Spieler-Cache mit seinen Treffer- und Fehlschlagzählern
+     */
+    public PlayerCache getPlayerCache() {
+        return playerCache;
+    }
+    
+    @Override
+    public void executeInTransaction(Work work) throws SQLException {
+        // Die DAOs treten der Transaktion des aktuellen Threads bei
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            work.execute();
+            lease.commit();
+        }
+    }
+    
     @Override
     public PlayerDAO createPlayerDAO() {
-        return new SQLitePlayerDAO();
+        return new CachingPlayerDAO(new SQLitePlayerDAO(connectionPool, getIdentityMap()), playerCache);
     }
     
     @Override
     public TournamentDAO createTournamentDAO() {
-        return new SQLiteTournamentDAO();
+        return new SQLiteTournamentDAO(connectionPool, getIdentityMap());
     }
     
     @Override
     public RoundDAO createRoundDAO() {
-        return new SQLiteRoundDAO();
+        return new SQLiteRoundDAO(connectionPool, getIdentityMap());
     }
     
     @Override
     public MatchDAO createMatchDAO() {
-        return new SQLiteMatchDAO();
+        return new SQLiteMatchDAO(connectionPool, getIdentityMap());
+    }
+    
+    @Override
+    public StatisticsDAO createStatisticsDAO() {
+        return new SQLiteStatisticsDAO(connectionPool);
+    }
+    
+    @Override
+    public RatingDAO createRatingDAO() {
+        return new SQLiteRatingDAO(connectionPool);
+    }
+    
+    @Override
+    public StandingsDAO createStandingsDAO() {
+        return new SQLiteStandingsDAO(connectionPool);
     }
 }
\ No newline at end of file
@@ -5,24 +5,51 @@ import com.turniermanagement.model.MatchStatus;
 import com.turniermanagement.model.Player;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class SQLiteMatchDAO implements MatchDAO {
+    private static final String INSERT_SQL =
+            "INSERT INTO match (round_id, player1_id, player2_id, winner_id, score_player1, score_player2, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final Map<Match.Field, String> COLUMNS = new EnumMap<>(Map.of(
+            Match.Field.PLAYER1, "player1_id",
+            Match.Field.PLAYER2, "player2_id",
+            Match.Field.WINNER, "winner_id",
+            Match.Field.SCORE_PLAYER1, "score_player1",
+            Match.Field.SCORE_PLAYER2, "score_player2",
+            Match.Field.STATUS, "status"));
+    private static final String COMPLETE_SQL =
+            "UPDATE match SET winner_id = ?, score_player1 = ?, score_player2 = ?, status = ? " +
+            "WHERE id = ? AND status <> ?";
+
     private final PlayerDAO playerDAO;
-    private Connection connection;
+    private final ConnectionPool connectionPool;
 
     public SQLiteMatchDAO() {
-        this(DatabaseConnection.getInstance().getConnection());
+        this(DatabaseConnection.getInstance().getConnectionPool());
     }
     
     public SQLiteMatchDAO(Connection connection) {
-        this.connection = connection;
-        this.playerDAO = new SQLitePlayerDAO(connection);
+        this(ConnectionPool.shared(connection));
+    }
+
+    public SQLiteMatchDAO(ConnectionPool connectionPool) {
+        this(connectionPool, new IdentityMap());
+    }
+
+    public SQLiteMatchDAO(ConnectionPool connectionPool, IdentityMap identityMap) {
+        this.connectionPool = connectionPool;
+        this.playerDAO = new SQLitePlayerDAO(connectionPool, identityMap);
     }
 
-    protected Connection getConnection() {
-        return connection;
+    protected ConnectionPool getConnectionPool() {
+        return connectionPool;
     }
 
     @Override
@@ -32,16 +59,9 @@ public class SQLiteMatchDAO implements MatchDAO {
     
     @Override
     public void save(Match match, Long roundId) throws SQLException {
-        String sql = "INSERT INTO match (round_id, player1_id, player2_id, winner_id, score_player1, score_player2, status) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setLong(1, roundId);
-            pstmt.setLong(2, match.getPlayer1().getId());
-            pstmt.setLong(3, match.getPlayer2().getId());
-            pstmt.setObject(4, match.getWinner() != null ? match.getWinner().getId() : null);
-            pstmt.setInt(5, match.getScorePlayer1());
-            pstmt.setInt(6, match.getScorePlayer2());
-            pstmt.setString(7, match.getStatus().toString());
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            setInsertParameters(pstmt, match, roundId);
             pstmt.executeUpdate();
 
             try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
@@ -49,95 +69,265 @@ public class SQLiteMatchDAO implements MatchDAO {
                     match.setId(generatedKeys.getLong(1));
                 }
             }
+            lease.commit();
+        }
+        match.getChanges().markClean();
+    }
+
+    @Override
+    public void saveAll(List<Match> matches, Long roundId) throws SQLException {
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
+            try (PreparedStatement pstmt = connection.prepareStatement(INSERT_SQL)) {
+                for (Match match : matches) {
+                    setInsertParameters(pstmt, match, roundId);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+
+            // Innerhalb der Schreibtransaktion vergibt SQLite fortlaufende IDs,
+            // daher lässt sich jede ID aus der zuletzt vergebenen zurückrechnen
+            long nextId;
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                rs.next();
+                nextId = rs.getLong(1) - matches.size() + 1;
+            }
+            for (Match match : matches) {
+                match.setId(nextId++);
+            }
+
+            lease.commit();
+        }
+        for (Match match : matches) {
+            match.getChanges().markClean();
         }
     }
 
     @Override
     public void update(Match match) throws SQLException {
-        String sql = "UPDATE match SET player1_id = ?, player2_id = ?, winner_id = ?, " +
-                    "score_player1 = ?, score_player2 = ?, status = ? WHERE id = ?";
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
-            pstmt.setLong(1, match.getPlayer1().getId());
-            pstmt.setLong(2, match.getPlayer2().getId());
-            pstmt.setObject(3, match.getWinner() != null ? match.getWinner().getId() : null);
-            pstmt.setInt(4, match.getScorePlayer1());
-            pstmt.setInt(5, match.getScorePlayer2());
-            pstmt.setString(6, match.getStatus().toString());
-            pstmt.setLong(7, match.getId());
-            pstmt.executeUpdate();
+        updateAll(List.of(match));
+    }
+
+    @Override
+    public void updateAll(List<Match> matches) throws SQLException {
+        // Unveränderte Matches überspringen, die übrigen nach geänderten Spalten bündeln
+        Map<Set<Match.Field>, List<Match>> matchesByFields = new LinkedHashMap<>();
+        for (Match match : matches) {
+            if (match.getChanges().isDirty()) {
+                matchesByFields.computeIfAbsent(match.getChanges().getDirtyFields(), fields -> new ArrayList<>()).add(match);
+            }
+        }
+        if (matchesByFields.isEmpty()) {
+            return;
+        }
+
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            for (Map.Entry<Set<Match.Field>, List<Match>> entry : matchesByFields.entrySet()) {
+                PartialUpdate<Match.Field> update = PartialUpdate.of("match", COLUMNS, entry.getKey());
+                try (PreparedStatement pstmt = lease.getConnection().prepareStatement(update.getSql())) {
+                    for (Match match : entry.getValue()) {
+                        int index = 1;
+                        for (Match.Field field : update.getFields()) {
+                            setColumn(pstmt, index++, match, field);
+                        }
+                        pstmt.setLong(index, match.getId());
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                }
+            }
+            lease.commit();
+        }
+        for (List<Match> written : matchesByFields.values()) {
+            for (Match match : written) {
+                match.getChanges().markClean();
+            }
+        }
+    }
+
+    @Override
+    public boolean complete(Match match) throws SQLException {
+        int rowsAffected;
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(COMPLETE_SQL)) {
+            pstmt.setObject(1, getPlayerId(match.getWinner()));
+            pstmt.setInt(2, match.getScorePlayer1());
+            pstmt.setInt(3, match.getScorePlayer2());
+            pstmt.setString(4, MatchStatus.COMPLETED.toString());
+            pstmt.setLong(5, match.getId());
+            pstmt.setString(6, MatchStatus.COMPLETED.toString());
+            rowsAffected = pstmt.executeUpdate();
+            lease.commit();
+        }
+        if (rowsAffected == 0) {
+            return false;
         }
+        match.setStatus(MatchStatus.COMPLETED);
+        match.getChanges().markClean();
+        return true;
+    }
+
+    private static void setInsertParameters(PreparedStatement pstmt, Match match, Long roundId) throws SQLException {
+        pstmt.setLong(1, roundId);
+        pstmt.setObject(2, getPlayerId(match.getPlayer1()));
+        pstmt.setObject(3, getPlayerId(match.getPlayer2()));
+        pstmt.setObject(4, getPlayerId(match.getWinner()));
+        pstmt.setInt(5, match.getScorePlayer1());
+        pstmt.setInt(6, match.getScorePlayer2());
+        pstmt.setString(7, match.getStatus().toString());
+    }
+
+    private static void setColumn(PreparedStatement pstmt, int index, Match match, Match.Field field) throws SQLException {
+        switch (field) {
+            case PLAYER1 -> pstmt.setObject(index, getPlayerId(match.getPlayer1()));
+            case PLAYER2 -> pstmt.setObject(index, getPlayerId(match.getPlayer2()));
+            case WINNER -> pstmt.setObject(index, getPlayerId(match.getWinner()));
+            case SCORE_PLAYER1 -> pstmt.setInt(index, match.getScorePlayer1());
+            case SCORE_PLAYER2 -> pstmt.setInt(index, match.getScorePlayer2());
+            case STATUS -> pstmt.setString(index, match.getStatus().toString());
+        }
+    }
+
+    private static Long getPlayerId(Player player) {
+        // Freilose haben keinen zweiten Spieler
+        return player != null ? player.getId() : null;
     }
 
     @Override
     public Optional<Match> findById(Long id) throws SQLException {
         String sql = "SELECT * FROM match WHERE id = ?";
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setLong(1, id);
-            ResultSet rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return Optional.of(createMatchFromResultSet(rs));
-            }
+            List<MatchRow> rows = readMatchRows(pstmt.executeQuery());
+            resolvePlayers(rows);
+            return rows.stream().findFirst().map(row -> row.match);
         }
-        return Optional.empty();
     }
 
     @Override
     public List<Match> findByRoundId(Long roundId) throws SQLException {
-        List<Match> matches = new ArrayList<>();
-        String sql = "SELECT * FROM match WHERE round_id = ?";
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        String sql = "SELECT * FROM match WHERE round_id = ? ORDER BY id";
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setLong(1, roundId);
-            ResultSet rs = pstmt.executeQuery();
+            List<MatchRow> rows = readMatchRows(pstmt.executeQuery());
+            resolvePlayers(rows);
+            return toMatches(rows);
+        }
+    }
+
+    @Override
+    public Map<Long, List<Match>> findByTournamentId(Long tournamentId) throws SQLException {
+        String sql = "SELECT m.* FROM match m " +
+                    "JOIN round r ON m.round_id = r.id " +
+                    "WHERE r.tournament_id = ? " +
+                    "ORDER BY r.round_number, m.id";
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
+            pstmt.setLong(1, tournamentId);
+            List<MatchRow> rows = readMatchRows(pstmt.executeQuery());
+            resolvePlayers(rows);
             
-            while (rs.next()) {
-                matches.add(createMatchFromResultSet(rs));
+            Map<Long, List<Match>> matchesByRound = new LinkedHashMap<>();
+            for (MatchRow row : rows) {
+                matchesByRound.computeIfAbsent(row.roundId, id -> new ArrayList<>()).add(row.match);
             }
+            return matchesByRound;
         }
-        return matches;
     }
 
     @Override
     public List<Match> findAll() throws SQLException {
-        List<Match> matches = new ArrayList<>();
-        String sql = "SELECT * FROM match";
-        try (Statement stmt = getConnection().createStatement();
+        String sql = "SELECT * FROM match ORDER BY id";
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             Statement stmt = lease.getConnection().createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
-            
-            while (rs.next()) {
-                matches.add(createMatchFromResultSet(rs));
-            }
+            List<MatchRow> rows = readMatchRows(rs);
+            resolvePlayers(rows);
+            return toMatches(rows);
         }
-        return matches;
     }
 
     @Override
     public void delete(Long id) throws SQLException {
         String sql = "DELETE FROM match WHERE id = ?";
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setLong(1, id);
             pstmt.executeUpdate();
+            lease.commit();
         }
     }
 
-    private Match createMatchFromResultSet(ResultSet rs) throws SQLException {
-        Match match = new Match();
-        match.setId(rs.getLong("id"));
-        
-        Long player1Id = rs.getLong("player1_id");
-        Long player2Id = rs.getLong("player2_id");
-        Long winnerId = rs.getObject("winner_id") != null ? rs.getLong("winner_id") : null;
-        
-        playerDAO.findById(player1Id).ifPresent(match::setPlayer1);
-        playerDAO.findById(player2Id).ifPresent(match::setPlayer2);
-        if (winnerId != null) {
-            playerDAO.findById(winnerId).ifPresent(match::setWinner);
+    /**
+     * Liest alle Match-Zeilen eines ResultSets, ohne die Spieler nachzuladen.
+     */
+    private List<MatchRow> readMatchRows(ResultSet rs) throws SQLException {
+        List<MatchRow> rows = new ArrayList<>();
+        while (rs.next()) {
+            MatchRow row = new MatchRow();
+            row.match = new Match();
+            row.match.setId(rs.getLong("id"));
+            row.match.setScorePlayer1(rs.getInt("score_player1"));
+            row.match.setScorePlayer2(rs.getInt("score_player2"));
+            row.match.setStatus(MatchStatus.valueOf(rs.getString("status")));
+            row.roundId = rs.getLong("round_id");
+            row.player1Id = getNullableLong(rs, "player1_id");
+            row.player2Id = getNullableLong(rs, "player2_id");
+            row.winnerId = getNullableLong(rs, "winner_id");
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Lädt die Spieler aller Zeilen mit einer gebündelten Abfrage und ordnet sie den Matches zu.
+     */
+    private void resolvePlayers(List<MatchRow> rows) throws SQLException {
+        Set<Long> playerIds = new HashSet<>();
+        for (MatchRow row : rows) {
+            if (row.player1Id != null) playerIds.add(row.player1Id);
+            if (row.player2Id != null) playerIds.add(row.player2Id);
+            if (row.winnerId != null) playerIds.add(row.winnerId);
         }
         
-        match.setScorePlayer1(rs.getInt("score_player1"));
-        match.setScorePlayer2(rs.getInt("score_player2"));
-        match.setStatus(MatchStatus.valueOf(rs.getString("status")));
-        
-        return match;
+        Map<Long, Player> players = playerDAO.findByIds(playerIds);
+        for (MatchRow row : rows) {
+            row.match.setPlayer1(row.player1Id != null ? players.get(row.player1Id) : null);
+            row.match.setPlayer2(row.player2Id != null ? players.get(row.player2Id) : null);
+            row.match.setWinner(row.winnerId != null ? players.get(row.winnerId) : null);
+            row.match.getChanges().markClean();
+        }
+    }
+
+    private List<Match> toMatches(List<MatchRow> rows) {
+        List<Match> matches = new ArrayList<>(rows.size());
+        for (MatchRow row : rows) {
+            matches.add(row.match);
+        }
+        return matches;
+    }
+
+    private static Long getNullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * Zwischenergebnis einer Match-Zeile mit den noch aufzulösenden Spieler-IDs.
+     */
+    private static class MatchRow {
+        Match match;
+        long roundId;
+        Long player1Id;
+        Long player2Id;
+        Long winnerId;
     }
 }
\ No newline at end of file
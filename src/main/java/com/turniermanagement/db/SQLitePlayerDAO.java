@@ -1,36 +1,67 @@
 package com.turniermanagement.db;
 
+import com.turniermanagement.model.ChangeTracker;
 import com.turniermanagement.model.Player;
 import com.turniermanagement.model.Tournament;
 import com.turniermanagement.model.TournamentStatus;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class SQLitePlayerDAO implements PlayerDAO {
-    private Connection connection;
+    // Obergrenze für Platzhalter pro IN-Liste, deutlich unter dem SQLite-Limit
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    private static final Map<Player.Field, String> COLUMNS = new EnumMap<>(Map.of(
+            Player.Field.NAME, "name",
+            Player.Field.EMAIL, "email",
+            Player.Field.GAMES_WON, "games_won",
+            Player.Field.GAMES_LOST, "games_lost"));
+
+    private final ConnectionPool connectionPool;
+    private final IdentityMap identityMap;
     
     public SQLitePlayerDAO() {
         // Standardkonstruktor für normale Anwendung
-        this(DatabaseConnection.getInstance().getConnection());
+        this(DatabaseConnection.getInstance().getConnectionPool());
     }
     
     public SQLitePlayerDAO(Connection connection) {
         // Konstruktor für Tests mit übergebener Verbindung
-        this.connection = connection;
+        this(ConnectionPool.shared(connection));
+    }
+
+    public SQLitePlayerDAO(ConnectionPool connectionPool) {
+        this(connectionPool, new IdentityMap());
+    }
+
+    public SQLitePlayerDAO(ConnectionPool connectionPool, IdentityMap identityMap) {
+        this.connectionPool = connectionPool;
+        this.identityMap = identityMap;
     }
 
-    protected Connection getConnection() {
-        return connection;
+    protected ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    protected IdentityMap getIdentityMap() {
+        return identityMap;
     }
 
     @Override
     public void save(Player player) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
             String sql = "INSERT INTO player (name, email, games_won, games_lost) VALUES (?, ?, ?, ?)";
             try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 pstmt.setString(1, player.getName());
@@ -51,12 +82,52 @@ public class SQLitePlayerDAO implements PlayerDAO {
                 saveTournamentRelations(player, connection);
             }
 
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            lease.commit();
+        }
+        player.getChanges().markClean();
+        identityMap.registerPlayer(player);
+    }
+
+    @Override
+    public void saveAll(List<Player> players) throws SQLException {
+        if (players.isEmpty()) {
+            return;
+        }
+        
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
+            String sql = "INSERT INTO player (name, email, games_won, games_lost) VALUES (?, ?, ?, ?)";
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (Player player : players) {
+                    pstmt.setString(1, player.getName());
+                    pstmt.setString(2, player.getEmail());
+                    pstmt.setInt(3, player.getGamesWon());
+                    pstmt.setInt(4, player.getGamesLost());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+            
+            // Innerhalb der Schreibtransaktion vergibt SQLite fortlaufende IDs,
+            // daher lässt sich jede ID aus der zuletzt vergebenen zurückrechnen
+            long nextId;
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                rs.next();
+                nextId = rs.getLong(1) - players.size() + 1;
+            }
+            for (Player player : players) {
+                player.setId(nextId++);
+                if (player.getTournaments() != null && !player.getTournaments().isEmpty()) {
+                    saveTournamentRelations(player, connection);
+                }
+            }
+            
+            lease.commit();
+        }
+        for (Player player : players) {
+            player.getChanges().markClean();
+            identityMap.registerPlayer(player);
         }
     }
 
@@ -83,44 +154,110 @@ public class SQLitePlayerDAO implements PlayerDAO {
 
     @Override
     public void update(Player player) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
-            String sql = "UPDATE player SET name = ?, email = ?, games_won = ?, games_lost = ? WHERE id = ?";
-            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-                pstmt.setString(1, player.getName());
-                pstmt.setString(2, player.getEmail());
-                pstmt.setInt(3, player.getGamesWon());
-                pstmt.setInt(4, player.getGamesLost());
-                pstmt.setLong(5, player.getId());
-                pstmt.executeUpdate();
+        ChangeTracker<Player.Field> changes = player.getChanges();
+        if (!changes.isDirty()) {
+            // Unveränderte Spieler werden nicht geschrieben
+            return;
+        }
+
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
+            PartialUpdate<Player.Field> update = PartialUpdate.of("player", COLUMNS, changes.getDirtyFields());
+            if (update != null) {
+                try (PreparedStatement pstmt = connection.prepareStatement(update.getSql())) {
+                    int index = 1;
+                    for (Player.Field field : update.getFields()) {
+                        setColumn(pstmt, index++, player, field);
+                    }
+                    pstmt.setLong(index, player.getId());
+                    pstmt.executeUpdate();
+                }
             }
 
             // Aktualisiere Tournament-Beziehungen und Rankings
-            updateTournamentRelations(player, connection);
+            if (changes.isDirty(Player.Field.TOURNAMENTS)) {
+                updateTournamentRelations(player, connection);
+            }
 
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
+            lease.commit();
+        } catch (SQLException | RuntimeException e) {
+            // Abgelehnte Werte nicht als kanonischen Stand weitergeben; die nächste
+            // Abfrage lädt den gespeicherten Spieler neu
+            evictIfCanonical(player);
             throw e;
-        } finally {
-            connection.setAutoCommit(true);
+        }
+        Set<Player.Field> written = changes.getDirtyFields();
+        changes.markClean();
+        // Geschriebene Werte in die kanonische Instanz übernehmen, statt eine gespeicherte
+        // Kopie zur zweiten Instanz derselben ID zu machen
+        identityMap.applyUpdate(player, written);
+    }
+
+    private void evictIfCanonical(Player player) {
+        if (player.getId() != null && identityMap.getPlayer(player.getId()) == player) {
+            identityMap.evictPlayer(player.getId());
+        }
+    }
+
+    @Override
+    public void recordGameResult(Long winnerId, Long loserId) throws SQLException {
+        // Relative Updates: gleichzeitig gewertete Spiele desselben Spielers gehen nicht verloren
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "UPDATE player SET games_won = games_won + 1 WHERE id = ?")) {
+                pstmt.setLong(1, winnerId);
+                pstmt.executeUpdate();
+            }
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "UPDATE player SET games_lost = games_lost + 1 WHERE id = ?")) {
+                pstmt.setLong(1, loserId);
+                pstmt.executeUpdate();
+            }
+            // Geladene Spieler erst nachziehen, wenn auch eine umgebende Transaktion bestätigt ist
+            lease.afterCommit(() -> identityMap.countGame(winnerId, loserId));
+            lease.commit();
+        }
+    }
+
+    private static void setColumn(PreparedStatement pstmt, int index, Player player, Player.Field field) throws SQLException {
+        switch (field) {
+            case NAME -> pstmt.setString(index, player.getName());
+            case EMAIL -> pstmt.setString(index, player.getEmail());
+            case GAMES_WON -> pstmt.setInt(index, player.getGamesWon());
+            case GAMES_LOST -> pstmt.setInt(index, player.getGamesLost());
+            default -> throw new IllegalArgumentException("No column for field " + field);
         }
     }
 
     private void updateTournamentRelations(Player player, Connection connection) throws SQLException {
-        // Lösche alte Beziehungen
-        String deleteSql = "DELETE FROM tournament_player WHERE player_id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSql)) {
-            pstmt.setLong(1, player.getId());
-            pstmt.executeUpdate();
+        // Geladene Turniere verweisen auf die kanonische Instanz, nicht auf eine gespeicherte Kopie
+        Player member = identityMap.getPlayer(player.getId());
+        if (member == null) {
+            member = player;
         }
+        // Nur die Differenz zum gespeicherten Stand schreiben
+        Map<Long, Integer> rankings = new HashMap<>();
+        if (player.getTournaments() != null) {
+            for (Tournament tournament : player.getTournaments()) {
+                if (tournament.getId() != null) {
+                    rankings.put(tournament.getId(), player.getRanking(tournament));
+                    if (!tournament.getPlayers().contains(member)) {
+                        tournament.addPlayer(member);
+                    }
+                }
+            }
+        }
+        TournamentPlayerRelations.Changes changes =
+                TournamentPlayerRelations.syncPlayer(connection, player.getId(), rankings);
 
-        // Füge neue Beziehungen hinzu
-        if (player.getTournaments() != null && !player.getTournaments().isEmpty()) {
-            saveTournamentRelations(player, connection);
+        // Bereits geladene Turniere, aus denen der Spieler entfernt wurde, nachziehen
+        for (Long tournamentId : changes.removed()) {
+            Tournament tournament = identityMap.getTournament(tournamentId);
+            if (tournament != null) {
+                tournament.removePlayer(member);
+            }
         }
-        connection.commit();
     }
 
     @Override
@@ -132,7 +269,8 @@ public class SQLitePlayerDAO implements PlayerDAO {
                     "LEFT JOIN tournament t ON tp.tournament_id = t.id " +
                     "WHERE p.id = ?";
         
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setLong(1, id);
             ResultSet rs = pstmt.executeQuery();
             
@@ -148,10 +286,10 @@ public class SQLitePlayerDAO implements PlayerDAO {
                     
                     // Setze das Ranking für dieses Tournament
                     int ranking = rs.getInt("ranking");
-                    player.setRanking(tournament, ranking);
+                    player.getTournamentRankings().put(tournament, ranking);
                 }
             }
-            return Optional.ofNullable(player);
+            return Optional.ofNullable(player).map(identityMap::mergePlayer);
         }
     }
 
@@ -162,65 +300,107 @@ public class SQLitePlayerDAO implements PlayerDAO {
         tournament.setStartDate(DatabaseConnection.getLocalDate(rs, "start_date"));
         tournament.setEndDate(DatabaseConnection.getLocalDate(rs, "end_date"));
         tournament.setStatus(TournamentStatus.valueOf(rs.getString("status")));
-        return tournament;
+        tournament.getChanges().markClean();
+        return identityMap.refreshTournament(tournament);
     }
 
     @Override
     public List<Player> findAll() throws SQLException {
         List<Player> players = new ArrayList<>();
+        streamAll(players::add);
+        return players;
+    }
+
+    @Override
+    public List<Player> findPage(Long afterId, int limit) throws SQLException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        // Erst die Spielerseite über den Primärschlüssel begrenzen, dann die Turniere anfügen
+        String sql = "SELECT p.*, t.id as tournament_id, t.name as tournament_name, " +
+                    "t.start_date, t.end_date, t.status, tp.ranking " +
+                    "FROM (SELECT * FROM player WHERE id > ? ORDER BY id LIMIT ?) p " +
+                    "LEFT JOIN tournament_player tp ON p.id = tp.player_id " +
+                    "LEFT JOIN tournament t ON tp.tournament_id = t.id " +
+                    "ORDER BY p.id";
+        
+        List<Player> players = new ArrayList<>(limit);
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
+            pstmt.setLong(1, afterId != null ? afterId : 0L);
+            pstmt.setInt(2, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                readPlayers(rs, players::add);
+            }
+        }
+        return players;
+    }
+
+    @Override
+    public void streamAll(Consumer<Player> consumer) throws SQLException {
         String sql = "SELECT p.*, t.id as tournament_id, t.name as tournament_name, " +
                     "t.start_date, t.end_date, t.status, tp.ranking " +
                     "FROM player p " +
                     "LEFT JOIN tournament_player tp ON p.id = tp.player_id " +
-                    "LEFT JOIN tournament t ON tp.tournament_id = t.id";
+                    "LEFT JOIN tournament t ON tp.tournament_id = t.id " +
+                    "ORDER BY p.id";
         
-        try (Statement stmt = getConnection().createStatement();
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             Statement stmt = lease.getConnection().createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
-            
-            Long currentPlayerId = null;
-            Player currentPlayer = null;
-            
-            while (rs.next()) {
-                Long playerId = rs.getLong("id");
-                if (!playerId.equals(currentPlayerId)) {
-                    currentPlayer = createPlayerFromResultSet(rs);
-                    currentPlayerId = playerId;
-                    players.add(currentPlayer);
+            readPlayers(rs, consumer);
+        }
+    }
+
+    /**
+     * Liest nach Spieler-ID sortierte Zeilen (Spieler × Turnier) und übergibt jeden Spieler,
+     * sobald alle seine Turnierzeilen gelesen wurden.
+     */
+    private void readPlayers(ResultSet rs, Consumer<Player> consumer) throws SQLException {
+        Long currentPlayerId = null;
+        Player currentPlayer = null;
+        
+        while (rs.next()) {
+            Long playerId = rs.getLong("id");
+            if (!playerId.equals(currentPlayerId)) {
+                if (currentPlayer != null) {
+                    consumer.accept(identityMap.mergePlayer(currentPlayer));
                 }
+                currentPlayer = createPlayerFromResultSet(rs);
+                currentPlayerId = playerId;
+            }
+            
+            Long tournamentId = rs.getLong("tournament_id");
+            if (!rs.wasNull()) {
+                Tournament tournament = createTournamentFromResultSet(rs);
+                currentPlayer.getTournaments().add(tournament);
                 
-                Long tournamentId = rs.getLong("tournament_id");
-                if (!rs.wasNull()) {
-                    Tournament tournament = createTournamentFromResultSet(rs);
-                    currentPlayer.getTournaments().add(tournament);
-                    
-                    // Setze das Ranking für dieses Tournament
-                    int ranking = rs.getInt("ranking");
-                    currentPlayer.setRanking(tournament, ranking);
-                }
+                // Setze das Ranking für dieses Tournament
+                int ranking = rs.getInt("ranking");
+                currentPlayer.getTournamentRankings().put(tournament, ranking);
             }
         }
-        return players;
+        if (currentPlayer != null) {
+            consumer.accept(identityMap.mergePlayer(currentPlayer));
+        }
     }
 
     @Override
     public void delete(Long id) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
-            // First get the player to update tournament relationships
-            Optional<Player> player = findById(id);
-            
-            // Update tournaments to remove this player from their lists
-            if (player.isPresent()) {
-                // Get list of tournaments this player belongs to
-                List<Tournament> playerTournaments = new ArrayList<>(player.get().getTournaments());
-                
-                // Prepare Tournament objects for relationship removal
-                for (Tournament tournament : playerTournaments) {
-                    tournament.removePlayer(player.get());
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "SELECT 1 FROM match WHERE player1_id = ? OR player2_id = ? OR winner_id = ? LIMIT 1")) {
+                pstmt.setLong(1, id);
+                pstmt.setLong(2, id);
+                pstmt.setLong(3, id);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        throw new IllegalStateException("Player " + id + " is referenced by matches and cannot be deleted");
+                    }
                 }
             }
-            
+
             // Lösche zuerst die Beziehungen
             String deleteRelationsSql = "DELETE FROM tournament_player WHERE player_id = ?";
             try (PreparedStatement pstmt = connection.prepareStatement(deleteRelationsSql)) {
@@ -235,15 +415,35 @@ public class SQLitePlayerDAO implements PlayerDAO {
                 pstmt.executeUpdate();
             }
 
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            lease.commit();
+        }
+        
+        // Geladene Turniere enthalten über die Identity-Map dieselbe Spielerinstanz
+        Player player = identityMap.getPlayer(id);
+        if (player != null) {
+            for (Tournament tournament : new ArrayList<>(player.getTournaments())) {
+                tournament.removePlayer(player);
+            }
+        }
+        identityMap.evictPlayer(id);
+    }
+
+    @Override
+    public void deleteAll() throws SQLException {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite();
+             Statement stmt = lease.getConnection().createStatement()) {
+            stmt.executeUpdate("DELETE FROM tournament_player");
+            stmt.executeUpdate("DELETE FROM player");
+            lease.commit();
         }
+        identityMap.evictAllPlayers();
     }
 
+    /**
+     * Erzeugt den Spieler der aktuellen Zeile mit leeren Turnierbeziehungen. Die Aufrufer bauen
+     * die Beziehungen aus den folgenden Zeilen auf und übernehmen den Spieler danach mit
+     * {@link IdentityMap#mergePlayer(Player)}, sodass kanonische Instanzen nie halb aufgebaut sind.
+     */
     private Player createPlayerFromResultSet(ResultSet rs) throws SQLException {
         Player player = new Player();
         player.setId(rs.getLong("id"));
@@ -251,14 +451,14 @@ public class SQLitePlayerDAO implements PlayerDAO {
         player.setEmail(rs.getString("email"));
         player.setGamesWon(rs.getInt("games_won"));
         player.setGamesLost(rs.getInt("games_lost"));
+        player.getChanges().markClean();
         return player;
     }
     
     @Override
     public void updatePlayerRanking(Player player, Tournament tournament, int ranking) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
             String sql = "UPDATE tournament_player SET ranking = ? WHERE player_id = ? AND tournament_id = ?";
             try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
                 pstmt.setInt(1, ranking);
@@ -277,16 +477,10 @@ public class SQLitePlayerDAO implements PlayerDAO {
                     }
                 }
             }
-            connection.commit();
+            lease.commit();
             
-            // Aktualisiere das Objekt
-            player.setRanking(tournament, ranking);
-            
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            // Aktualisiere das Objekt; die Beziehung ist bereits geschrieben
+            player.getTournamentRankings().put(tournament, ranking);
         }
     }
 
@@ -299,7 +493,8 @@ public class SQLitePlayerDAO implements PlayerDAO {
                     "LEFT JOIN tournament t ON tp.tournament_id = t.id " +
                     "WHERE p.name = ?";
         
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setString(1, name);
             ResultSet rs = pstmt.executeQuery();
             
@@ -315,10 +510,10 @@ public class SQLitePlayerDAO implements PlayerDAO {
                     
                     // Setze das Ranking für dieses Tournament
                     int ranking = rs.getInt("ranking");
-                    player.setRanking(tournament, ranking);
+                    player.getTournamentRankings().put(tournament, ranking);
                 }
             }
-            return Optional.ofNullable(player);
+            return Optional.ofNullable(player).map(identityMap::mergePlayer);
         }
     }
     
@@ -335,7 +530,8 @@ public class SQLitePlayerDAO implements PlayerDAO {
                     "LEFT JOIN tournament t ON tp.tournament_id = t.id " +
                     "WHERE p.email = ?";
         
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setString(1, email);
             ResultSet rs = pstmt.executeQuery();
             
@@ -351,10 +547,87 @@ public class SQLitePlayerDAO implements PlayerDAO {
                     
                     // Setze das Ranking für dieses Tournament
                     int ranking = rs.getInt("ranking");
-                    player.setRanking(tournament, ranking);
+                    player.getTournamentRankings().put(tournament, ranking);
+                }
+            }
+            return Optional.ofNullable(player).map(identityMap::mergePlayer);
+        }
+    }
+
+    @Override
+    public Set<String> findAllNames() throws SQLException {
+        return findColumnValues("SELECT name FROM player WHERE name IS NOT NULL");
+    }
+
+    @Override
+    public Set<String> findAllEmails() throws SQLException {
+        return findColumnValues("SELECT email FROM player WHERE email IS NOT NULL AND email <> ''");
+    }
+
+    private Set<String> findColumnValues(String sql) throws SQLException {
+        Set<String> values = new HashSet<>();
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             Statement stmt = lease.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                values.add(rs.getString(1));
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public Map<Long, Player> findByIds(Collection<Long> ids) throws SQLException {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        
+        Map<Long, Player> players = new HashMap<>();
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead()) {
+            Iterator<Long> iterator = ids.stream().distinct().iterator();
+            List<Long> chunk = new ArrayList<>();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == MAX_IN_LIST_SIZE || !iterator.hasNext()) {
+                    loadPlayerChunk(lease.getConnection(), chunk, players);
+                    chunk.clear();
+                }
+            }
+        }
+        return players;
+    }
+
+    private void loadPlayerChunk(Connection connection, List<Long> ids, Map<Long, Player> players) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "SELECT p.*, t.id as tournament_id, t.name as tournament_name, " +
+                    "t.start_date, t.end_date, t.status, tp.ranking " +
+                    "FROM player p " +
+                    "LEFT JOIN tournament_player tp ON p.id = tp.player_id " +
+                    "LEFT JOIN tournament t ON tp.tournament_id = t.id " +
+                    "WHERE p.id IN (" + placeholders + ")";
+        
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            for (int i = 0; i < ids.size(); i++) {
+                pstmt.setLong(i + 1, ids.get(i));
+            }
+            ResultSet rs = pstmt.executeQuery();
+            
+            Map<Long, Player> loaded = new HashMap<>();
+            while (rs.next()) {
+                Long playerId = rs.getLong("id");
+                Player player = loaded.get(playerId);
+                if (player == null) {
+                    player = createPlayerFromResultSet(rs);
+                    loaded.put(playerId, player);
+                }
+                Long tournamentId = rs.getLong("tournament_id");
+                if (!rs.wasNull()) {
+                    Tournament tournament = createTournamentFromResultSet(rs);
+                    player.getTournaments().add(tournament);
+                    player.getTournamentRankings().put(tournament, rs.getInt("ranking"));
                 }
             }
-            return Optional.ofNullable(player);
+            loaded.forEach((playerId, player) -> players.put(playerId, identityMap.mergePlayer(player)));
         }
     }
 }
\ No newline at end of file
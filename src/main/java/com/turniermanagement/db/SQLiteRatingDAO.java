@@ -0,0 +1,159 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Rating;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class SQLiteRatingDAO implements RatingDAO {
+
+    private static final String UPSERT_CURRENT_SQL =
+            "INSERT INTO player_rating (player_id, match_id, rating, rating_deviation, volatility) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (player_id) DO UPDATE SET match_id = excluded.match_id, rating = excluded.rating, " +
+            "rating_deviation = excluded.rating_deviation, volatility = excluded.volatility";
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO rating_history (player_id, match_id, rating, rating_deviation, volatility) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final ConnectionPool connectionPool;
+
+    public SQLiteRatingDAO() {
+        // Standardkonstruktor für normale Anwendung
+        this(DatabaseConnection.getInstance().getConnectionPool());
+    }
+
+    public SQLiteRatingDAO(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public Optional<Rating> findByPlayerId(long playerId) throws SQLException {
+        String sql = "SELECT * FROM player_rating WHERE player_id = ?";
+        try (ConnectionPool.Lease lease = connectionPool.beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
+            pstmt.setLong(1, playerId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? Optional.of(createRatingFromResultSet(rs)) : Optional.empty();
+            }
+        }
+    }
+
+    @Override
+    public List<Rating> findAll() throws SQLException {
+        return query("SELECT * FROM player_rating ORDER BY rating DESC, player_id", null);
+    }
+
+    @Override
+    public List<Rating> findHistory(long playerId) throws SQLException {
+        return query("SELECT * FROM rating_history WHERE player_id = ? ORDER BY id", playerId);
+    }
+
+    private List<Rating> query(String sql, Long playerId) throws SQLException {
+        List<Rating> ratings = new ArrayList<>();
+        try (ConnectionPool.Lease lease = connectionPool.beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
+            if (playerId != null) {
+                pstmt.setLong(1, playerId);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ratings.add(createRatingFromResultSet(rs));
+                }
+            }
+        }
+        return ratings;
+    }
+
+    @Override
+    public void save(List<Rating> ratings) throws SQLException {
+        if (ratings.isEmpty()) {
+            return;
+        }
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            Connection connection = lease.getConnection();
+            insert(connection, UPSERT_CURRENT_SQL, ratings);
+            insert(connection, INSERT_HISTORY_SQL, ratings);
+            lease.commit();
+        }
+    }
+
+    @Override
+    public void replaceAll(List<Rating> history) throws SQLException {
+        // Als aktuelle Wertung bleibt die letzte Wertung je Spieler
+        Map<Long, Rating> current = new LinkedHashMap<>();
+        for (Rating rating : history) {
+            current.put(rating.playerId(), rating);
+        }
+
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            Connection connection = lease.getConnection();
+            try (Statement stmt = connection.createStatement()) {
+                stmt.executeUpdate("DELETE FROM rating_history");
+                stmt.executeUpdate("DELETE FROM player_rating");
+            }
+            insert(connection, INSERT_HISTORY_SQL, history);
+            insert(connection, UPSERT_CURRENT_SQL, current.values());
+            lease.commit();
+        }
+    }
+
+    private static void insert(Connection connection, String sql, Iterable<Rating> ratings) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            for (Rating rating : ratings) {
+                pstmt.setLong(1, rating.playerId());
+                if (rating.matchId() != null) {
+                    pstmt.setLong(2, rating.matchId());
+                } else {
+                    pstmt.setNull(2, Types.INTEGER);
+                }
+                pstmt.setDouble(3, rating.rating());
+                pstmt.setDouble(4, rating.deviation());
+                pstmt.setDouble(5, rating.volatility());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    @Override
+    public List<Game> findRatedGames() throws SQLException {
+        // Turniere ohne Startdatum zuerst, wie NULL in aufsteigender Sortierung
+        String sql = "SELECT m.id, m.round_id, m.player1_id, m.player2_id, m.winner_id " +
+                    "FROM match m " +
+                    "JOIN round r ON m.round_id = r.id " +
+                    "JOIN tournament t ON r.tournament_id = t.id " +
+                    "WHERE m.status = ? AND m.player1_id IS NOT NULL AND m.player2_id IS NOT NULL " +
+                    "ORDER BY t.start_date, t.id, r.round_number, m.id";
+        List<Game> games = new ArrayList<>();
+        try (ConnectionPool.Lease lease = connectionPool.beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
+            pstmt.setString(1, MatchStatus.COMPLETED.name());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    long winnerId = rs.getLong(5);
+                    Long winner = rs.wasNull() ? null : winnerId;
+                    games.add(new Game(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), winner));
+                }
+            }
+        }
+        return games;
+    }
+
+    private static Rating createRatingFromResultSet(ResultSet rs) throws SQLException {
+        long matchId = rs.getLong("match_id");
+        Long match = rs.wasNull() ? null : matchId;
+        return new Rating(rs.getLong("player_id"), match, rs.getDouble("rating"),
+                rs.getDouble("rating_deviation"), rs.getDouble("volatility"));
+    }
+}
@@ -4,24 +4,39 @@ import com.turniermanagement.model.Round;
 import com.turniermanagement.model.Match;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class SQLiteRoundDAO implements RoundDAO {
+    private static final Map<Round.Field, String> COLUMNS = new EnumMap<>(Map.of(
+            Round.Field.ROUND_NUMBER, "round_number",
+            Round.Field.COMPLETED, "completed"));
+
     private final MatchDAO matchDAO;
-    private Connection connection;
+    private final ConnectionPool connectionPool;
 
     public SQLiteRoundDAO() {
-        this(DatabaseConnection.getInstance().getConnection());
+        this(DatabaseConnection.getInstance().getConnectionPool());
     }
     
     public SQLiteRoundDAO(Connection connection) {
-        this.connection = connection;
-        this.matchDAO = new SQLiteMatchDAO(connection);
+        this(ConnectionPool.shared(connection));
+    }
+
+    public SQLiteRoundDAO(ConnectionPool connectionPool) {
+        this(connectionPool, new IdentityMap());
     }
 
-    protected Connection getConnection() {
-        return connection;
+    public SQLiteRoundDAO(ConnectionPool connectionPool, IdentityMap identityMap) {
+        this.connectionPool = connectionPool;
+        this.matchDAO = new SQLiteMatchDAO(connectionPool, identityMap);
+    }
+
+    protected ConnectionPool getConnectionPool() {
+        return connectionPool;
     }
 
     @Override
@@ -31,9 +46,8 @@ public class SQLiteRoundDAO implements RoundDAO {
     
     @Override
     public void save(Round round, Long tournamentId) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
             String sql = "INSERT INTO round (tournament_id, round_number, completed) VALUES (?, ?, ?)";
             try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 pstmt.setLong(1, tournamentId);
@@ -48,55 +62,61 @@ public class SQLiteRoundDAO implements RoundDAO {
                 }
             }
 
-            // Speichere alle Matches der Runde
-            for (Match match : round.getMatches()) {
-                matchDAO.save(match, round.getId());
-            }
+            // Speichere alle Matches der Runde als ein Batch
+            matchDAO.saveAll(round.getMatches(), round.getId());
 
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            lease.commit();
         }
+        round.getChanges().markClean();
     }
 
     @Override
     public void update(Round round) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
-            String sql = "UPDATE round SET round_number = ?, completed = ? WHERE id = ?";
-            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-                pstmt.setInt(1, round.getRoundNumber());
-                pstmt.setBoolean(2, round.isCompleted());
-                pstmt.setLong(3, round.getId());
-                pstmt.executeUpdate();
+        // Neue Matches einfügen, bestehende nur bei geändertem Zustand aktualisieren
+        List<Match> added = new ArrayList<>();
+        List<Match> changed = new ArrayList<>();
+        for (Match match : round.getMatches()) {
+            if (match.getId() == null) {
+                added.add(match);
+            } else if (match.getChanges().isDirty()) {
+                changed.add(match);
             }
+        }
+        PartialUpdate<Round.Field> update = PartialUpdate.of("round", COLUMNS, round.getChanges().getDirtyFields());
+        if (update == null && added.isEmpty() && changed.isEmpty()) {
+            // Weder die Runde noch eines ihrer Matches wurde geändert
+            round.getChanges().markClean();
+            return;
+        }
 
-            // Update existierende Matches
-            for (Match match : round.getMatches()) {
-                if (match.getId() != null) {
-                    matchDAO.update(match);
-                } else {
-                    matchDAO.save(match, round.getId());
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            if (update != null) {
+                try (PreparedStatement pstmt = lease.getConnection().prepareStatement(update.getSql())) {
+                    int index = 1;
+                    for (Round.Field field : update.getFields()) {
+                        switch (field) {
+                            case ROUND_NUMBER -> pstmt.setInt(index++, round.getRoundNumber());
+                            case COMPLETED -> pstmt.setBoolean(index++, round.isCompleted());
+                            default -> throw new IllegalArgumentException("No column for field " + field);
+                        }
+                    }
+                    pstmt.setLong(index, round.getId());
+                    pstmt.executeUpdate();
                 }
             }
+            matchDAO.updateAll(changed);
+            matchDAO.saveAll(added, round.getId());
 
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            lease.commit();
         }
+        round.getChanges().markClean();
     }
 
     @Override
     public Optional<Round> findById(Long id) throws SQLException {
         String sql = "SELECT * FROM round WHERE id = ?";
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setLong(1, id);
             ResultSet rs = pstmt.executeQuery();
             
@@ -113,14 +133,18 @@ public class SQLiteRoundDAO implements RoundDAO {
     public List<Round> findByTournamentId(Long tournamentId) throws SQLException {
         List<Round> rounds = new ArrayList<>();
         String sql = "SELECT * FROM round WHERE tournament_id = ? ORDER BY round_number";
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setLong(1, tournamentId);
             ResultSet rs = pstmt.executeQuery();
             
             while (rs.next()) {
-                Round round = createRoundFromResultSet(rs);
-                loadRoundMatches(round);
-                rounds.add(round);
+                rounds.add(createRoundFromResultSet(rs));
+            }
+            
+            // Alle Matches des Turniers mit einer Abfrage laden
+            if (!rounds.isEmpty()) {
+                attachMatches(rounds, matchDAO.findByTournamentId(tournamentId));
             }
         }
         return rounds;
@@ -128,29 +152,35 @@ public class SQLiteRoundDAO implements RoundDAO {
 
     @Override
     public List<Round> findAll() throws SQLException {
+        Map<Long, List<Round>> roundsByTournament = new LinkedHashMap<>();
         List<Round> rounds = new ArrayList<>();
         String sql = "SELECT * FROM round ORDER BY tournament_id, round_number";
-        try (Statement stmt = getConnection().createStatement();
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             Statement stmt = lease.getConnection().createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             while (rs.next()) {
                 Round round = createRoundFromResultSet(rs);
-                loadRoundMatches(round);
+                roundsByTournament.computeIfAbsent(rs.getLong("tournament_id"), id -> new ArrayList<>()).add(round);
                 rounds.add(round);
             }
+            
+            // Matches pro Turnier gebündelt laden statt pro Runde
+            for (Map.Entry<Long, List<Round>> entry : roundsByTournament.entrySet()) {
+                attachMatches(entry.getValue(), matchDAO.findByTournamentId(entry.getKey()));
+            }
         }
         return rounds;
     }
 
     @Override
     public void delete(Long id) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
-            // Lösche erst alle Matches der Runde
-            List<Match> matches = matchDAO.findByRoundId(id);
-            for (Match match : matches) {
-                matchDAO.delete(match.getId());
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
+            // Lösche erst alle Matches der Runde mit einer Anweisung
+            try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM match WHERE round_id = ?")) {
+                pstmt.setLong(1, id);
+                pstmt.executeUpdate();
             }
 
             // Dann lösche die Runde selbst
@@ -160,12 +190,7 @@ public class SQLiteRoundDAO implements RoundDAO {
                 pstmt.executeUpdate();
             }
 
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            lease.commit();
         }
     }
 
@@ -174,13 +199,18 @@ public class SQLiteRoundDAO implements RoundDAO {
         round.setId(rs.getLong("id"));
         round.setRoundNumber(rs.getInt("round_number"));
         round.setCompleted(rs.getBoolean("completed"));
+        round.getChanges().markClean();
         return round;
     }
 
+    private void attachMatches(List<Round> rounds, Map<Long, List<Match>> matchesByRound) {
+        for (Round round : rounds) {
+            round.getMatches().addAll(matchesByRound.getOrDefault(round.getId(), List.of()));
+        }
+    }
+
     private void loadRoundMatches(Round round) throws SQLException {
         List<Match> matches = matchDAO.findByRoundId(round.getId());
-        for (Match match : matches) {
-            round.addMatch(match);
-        }
+        round.getMatches().addAll(matches);
     }
 }
\ No newline at end of file
@@ -0,0 +1,340 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.TournamentStanding;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class SQLiteStandingsDAO implements StandingsDAO {
+
+    // Punkte in halben Punkten: Sieg und Freilos 2, Remis 1
+    private static final String PLAYER1_POINTS =
+            "CASE WHEN m.player2_id IS NULL OR m.winner_id = m.player1_id THEN 2 WHEN m.winner_id IS NULL THEN 1 ELSE 0 END";
+    private static final String PLAYER2_POINTS =
+            "CASE WHEN m.winner_id = m.player2_id THEN 2 WHEN m.winner_id IS NULL THEN 1 ELSE 0 END";
+    // Dieselbe Rangfolge wie in der Tabelle der Paarung (com.turniermanagement.service.Standings)
+    private static final String RANK_ORDER = "points DESC, buchholz DESC, median_buchholz DESC, " +
+            "sonneborn_berger DESC, weighted_points, player_id";
+
+    private final ConnectionPool connectionPool;
+
+    public SQLiteStandingsDAO() {
+        // Standardkonstruktor für normale Anwendung
+        this(DatabaseConnection.getInstance().getConnectionPool());
+    }
+
+    public SQLiteStandingsDAO(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public List<TournamentStanding> findByTournamentId(long tournamentId) throws SQLException {
+        String sql = "SELECT * FROM standings WHERE tournament_id = ? ORDER BY rank";
+        List<TournamentStanding> standings = new ArrayList<>();
+        try (ConnectionPool.Lease lease = connectionPool.beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
+            pstmt.setLong(1, tournamentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    standings.add(new TournamentStanding(rs.getLong("tournament_id"), rs.getLong("player_id"),
+                            rs.getInt("rank"), rs.getInt("points") / 2.0, rs.getInt("games"),
+                            rs.getInt("buchholz") / 2.0));
+                }
+            }
+        }
+        return standings;
+    }
+
+    @Override
+    public void recordResult(long matchId) throws SQLException {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            Connection connection = lease.getConnection();
+            Result result = findResult(connection, matchId);
+            // Auch ohne Änderung bestätigen, sonst würde eine umgebende Transaktion abgebrochen
+            if (result != null) {
+                applyResult(connection, result);
+            }
+            lease.commit();
+        }
+    }
+
+    /**
+     * Abgeschlossenes Match mit dem Turnier und der Nummer seiner Runde.
+     */
+    private record Result(long tournamentId, int roundNumber, long player1Id, Long player2Id, Long winnerId) {
+    }
+
+    private static Result findResult(Connection connection, long matchId) throws SQLException {
+        String sql = "SELECT m.player1_id, m.player2_id, m.winner_id, m.status, r.tournament_id, r.round_number " +
+                    "FROM match m JOIN round r ON m.round_id = r.id WHERE m.id = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setLong(1, matchId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next() || !MatchStatus.COMPLETED.name().equals(rs.getString("status"))) {
+                    return null;
+                }
+                long player1Id = rs.getLong("player1_id");
+                if (rs.wasNull()) {
+                    return null;
+                }
+                long player2Id = rs.getLong("player2_id");
+                Long player2 = rs.wasNull() ? null : player2Id;
+                long winnerId = rs.getLong("winner_id");
+                Long winner = rs.wasNull() ? null : winnerId;
+                return new Result(rs.getLong("tournament_id"), rs.getInt("round_number"), player1Id, player2,
+                        winner);
+            }
+        }
+    }
+
+    private static void applyResult(Connection connection, Result result) throws SQLException {
+        long tournamentId = result.tournamentId();
+        long player1Id = result.player1Id();
+        Long player2Id = result.player2Id();
+        insertMissingRows(connection, tournamentId, player1Id, player2Id);
+
+        // Änderungen je Spieler: {Punkte, Partien, Punkte mal Rundennummer}
+        Map<Long, int[]> deltas = new LinkedHashMap<>();
+        int points1 = points(player1Id, player2Id, result.winnerId());
+        delta(deltas, player1Id)[0] += points1;
+        delta(deltas, player1Id)[1]++;
+        delta(deltas, player1Id)[2] += points1 * result.roundNumber();
+        if (player2Id != null) {
+            int points2 = points(player2Id, player1Id, result.winnerId());
+            delta(deltas, player2Id)[0] += points2;
+            delta(deltas, player2Id)[1]++;
+            delta(deltas, player2Id)[2] += points2 * result.roundNumber();
+        }
+
+        String sql = "UPDATE standings SET points = points + ?, games = games + ?, " +
+                    "weighted_points = weighted_points + ? WHERE tournament_id = ? AND player_id = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            for (Map.Entry<Long, int[]> entry : deltas.entrySet()) {
+                int[] delta = entry.getValue();
+                pstmt.setInt(1, delta[0]);
+                pstmt.setInt(2, delta[1]);
+                pstmt.setInt(3, delta[2]);
+                pstmt.setLong(4, tournamentId);
+                pstmt.setLong(5, entry.getKey());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+        // Die Feinwertungen der beiden Spieler und ihrer Gegner hängen von den neuen Punkten ab
+        Set<Long> affected = findOpponents(connection, tournamentId, deltas.keySet());
+        affected.addAll(deltas.keySet());
+        updateTiebreaks(connection, tournamentId, affected);
+        rank(connection, tournamentId);
+    }
+
+    /**
+     * Legt fehlende Einträge für alle Teilnehmer und die beiden Spieler des Matches an.
+     */
+    private static void insertMissingRows(Connection connection, long tournamentId, long player1Id, Long player2Id)
+            throws SQLException {
+        String participantsSql = "INSERT OR IGNORE INTO standings (tournament_id, player_id) " +
+                                "SELECT tournament_id, player_id FROM tournament_player WHERE tournament_id = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(participantsSql)) {
+            pstmt.setLong(1, tournamentId);
+            pstmt.executeUpdate();
+        }
+        String playerSql = "INSERT OR IGNORE INTO standings (tournament_id, player_id) VALUES (?, ?)";
+        try (PreparedStatement pstmt = connection.prepareStatement(playerSql)) {
+            for (Long playerId : player2Id != null ? List.of(player1Id, player2Id) : List.of(player1Id)) {
+                pstmt.setLong(1, tournamentId);
+                pstmt.setLong(2, playerId);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * Gibt die Gegner der Spieler aus den abgeschlossenen Matches des Turniers zurück.
+     */
+    private static Set<Long> findOpponents(Connection connection, long tournamentId, Set<Long> playerIds)
+            throws SQLException {
+        String placeholders = placeholders(playerIds.size());
+        String sql = "SELECT m.player1_id, m.player2_id FROM match m JOIN round r ON m.round_id = r.id " +
+                    "WHERE r.tournament_id = ? AND m.status = ? AND m.player2_id IS NOT NULL " +
+                    "AND (m.player1_id IN " + placeholders + " OR m.player2_id IN " + placeholders + ")";
+        Set<Long> opponents = new HashSet<>();
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            int index = 1;
+            pstmt.setLong(index++, tournamentId);
+            pstmt.setString(index++, MatchStatus.COMPLETED.name());
+            for (int i = 0; i < 2; i++) {
+                for (Long playerId : playerIds) {
+                    pstmt.setLong(index++, playerId);
+                }
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    long first = rs.getLong(1);
+                    long second = rs.getLong(2);
+                    opponents.add(playerIds.contains(first) ? second : first);
+                    if (playerIds.contains(second)) {
+                        opponents.add(first);
+                    }
+                }
+            }
+        }
+        return opponents;
+    }
+
+    /**
+     * Punkte eines Spielers aus einem Match in halben Punkten.
+     */
+    private static int points(long playerId, Long opponentId, Long winnerId) {
+        if (opponentId == null) {
+            return 2;
+        }
+        if (winnerId == null) {
+            return 1;
+        }
+        return winnerId == playerId ? 2 : 0;
+    }
+
+    private static int[] delta(Map<Long, int[]> deltas, long playerId) {
+        return deltas.computeIfAbsent(playerId, id -> new int[3]);
+    }
+
+    @Override
+    public void rebuild(long tournamentId) throws SQLException {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            rebuild(lease.getConnection(), tournamentId);
+            lease.commit();
+        }
+    }
+
+    @Override
+    public void rebuildAll() throws SQLException {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            rebuild(lease.getConnection(), null);
+            lease.commit();
+        }
+    }
+
+    /**
+     * Berechnet die Tabelle eines Turniers oder aller Turniere mengenbasiert neu. Die Transaktion
+     * verwaltet der Aufrufer.
+     * @param connection Die Verbindung zur Datenbank
+     * @param tournamentId ID des Turniers oder null für alle Turniere
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    static void rebuild(Connection connection, Long tournamentId) throws SQLException {
+        String standingsFilter = tournamentId != null ? " WHERE tournament_id = ?" : "";
+        String roundFilter = tournamentId != null ? " AND r.tournament_id = ?" : "";
+        String completedMatches = "FROM match m JOIN round r ON m.round_id = r.id " +
+                                 "WHERE m.status = ? AND m.player1_id IS NOT NULL" + roundFilter;
+
+        execute(connection, "DELETE FROM standings" + standingsFilter, tournamentId);
+
+        // Teilnehmer ohne Ergebnis gehen mit null Punkten ein
+        execute(connection,
+                "INSERT INTO standings (tournament_id, player_id, points, games, weighted_points) " +
+                "SELECT tournament_id, player_id, SUM(points), SUM(games), SUM(weighted) FROM (" +
+                "SELECT tournament_id, player_id, 0 AS points, 0 AS games, 0 AS weighted FROM tournament_player" +
+                standingsFilter +
+                " UNION ALL SELECT r.tournament_id, m.player1_id, " + PLAYER1_POINTS + ", 1, (" + PLAYER1_POINTS +
+                ") * r.round_number " + completedMatches +
+                " UNION ALL SELECT r.tournament_id, m.player2_id, " + PLAYER2_POINTS + ", 1, (" + PLAYER2_POINTS +
+                ") * r.round_number " + completedMatches + " AND m.player2_id IS NOT NULL" +
+                ") GROUP BY tournament_id, player_id",
+                tournamentId, MatchStatus.COMPLETED, tournamentId, MatchStatus.COMPLETED, tournamentId);
+
+        updateTiebreaks(connection, tournamentId, null);
+        rankWhere(connection, standingsFilter, tournamentId);
+    }
+
+    private static void rank(Connection connection, long tournamentId) throws SQLException {
+        rankWhere(connection, " WHERE tournament_id = ?", tournamentId);
+    }
+
+    /**
+     * Berechnet Buchholz, Median-Buchholz und Sonneborn-Berger aus den abgeschlossenen Matches
+     * und den gespeicherten Punkten der Gegner neu.
+     * @param tournamentId ID des Turniers oder null für alle Turniere
+     * @param playerIds IDs der neu zu berechnenden Spieler oder null für alle
+     */
+    private static void updateTiebreaks(Connection connection, Long tournamentId, Set<Long> playerIds)
+            throws SQLException {
+        String roundFilter = tournamentId != null ? " AND r.tournament_id = ?" : "";
+        String pairs = "FROM match m JOIN round r ON m.round_id = r.id " +
+                      "WHERE m.status = ? AND m.player1_id IS NOT NULL AND m.player2_id IS NOT NULL" + roundFilter;
+        String player1Filter = "";
+        String player2Filter = "";
+        List<Object> parameters = new ArrayList<>();
+        if (playerIds != null) {
+            player1Filter = " AND m.player1_id IN " + placeholders(playerIds.size());
+            player2Filter = " AND m.player2_id IN " + placeholders(playerIds.size());
+        }
+        for (int i = 0; i < 2; i++) {
+            parameters.add(MatchStatus.COMPLETED);
+            parameters.add(tournamentId);
+            if (playerIds != null) {
+                parameters.addAll(playerIds);
+            }
+        }
+        // Ergebnis in halben und Gegnerpunkte in halben Punkten ergeben Sonneborn-Berger in Viertelpunkten
+        execute(connection,
+                "UPDATE standings SET buchholz = t.total, median_buchholz = CASE WHEN t.opponents >= 3 " +
+                "THEN t.total - t.best - t.worst ELSE t.total END, sonneborn_berger = t.sb FROM (" +
+                "SELECT pairs.tournament_id, pairs.player_id, SUM(o.points) AS total, COUNT(*) AS opponents, " +
+                "MAX(o.points) AS best, MIN(o.points) AS worst, SUM(pairs.result * o.points) AS sb FROM (" +
+                "SELECT r.tournament_id, m.player1_id AS player_id, m.player2_id AS opponent_id, " +
+                PLAYER1_POINTS + " AS result " + pairs + player1Filter +
+                " UNION ALL SELECT r.tournament_id, m.player2_id, m.player1_id, " + PLAYER2_POINTS + " " +
+                pairs + player2Filter +
+                ") pairs JOIN standings o ON o.tournament_id = pairs.tournament_id AND o.player_id = pairs.opponent_id " +
+                "GROUP BY pairs.tournament_id, pairs.player_id" +
+                ") AS t WHERE standings.tournament_id = t.tournament_id AND standings.player_id = t.player_id",
+                parameters.toArray());
+    }
+
+    /**
+     * Vergibt die Tabellenplätze in derselben Rangfolge wie die Tabelle der Paarung. Nur
+     * geänderte Plätze werden geschrieben.
+     */
+    private static void rankWhere(Connection connection, String standingsFilter, Long tournamentId)
+            throws SQLException {
+        execute(connection,
+                "UPDATE standings SET rank = ranked.position FROM (" +
+                "SELECT tournament_id, player_id, ROW_NUMBER() OVER (PARTITION BY tournament_id " +
+                "ORDER BY " + RANK_ORDER + ") AS position FROM standings" + standingsFilter +
+                ") AS ranked WHERE standings.tournament_id = ranked.tournament_id " +
+                "AND standings.player_id = ranked.player_id AND standings.rank <> ranked.position",
+                tournamentId);
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    /**
+     * Führt eine Anweisung aus; null-Parameter werden übersprungen, Statuswerte als Name gebunden.
+     */
+    private static void execute(Connection connection, String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (Object parameter : parameters) {
+                if (parameter instanceof MatchStatus status) {
+                    pstmt.setString(index++, status.name());
+                } else if (parameter != null) {
+                    pstmt.setLong(index++, (Long) parameter);
+                }
+            }
+            pstmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Statistics;
+import com.turniermanagement.model.TournamentStatus;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class SQLiteStatisticsDAO implements StatisticsDAO {
+
+    private final ConnectionPool connectionPool;
+
+    public SQLiteStatisticsDAO() {
+        // Standardkonstruktor für normale Anwendung
+        this(DatabaseConnection.getInstance().getConnectionPool());
+    }
+
+    public SQLiteStatisticsDAO(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * Alle Kennzahlen in einer einzigen Abfrage: Eine Anweisung liest einen einheitlichen
+     * Datenstand, sodass die Zahlen auch bei gleichzeitigen Schreibzugriffen zueinander passen.
+     * Skalare Unterabfragen liefern eine Zeile, ohne Joins und ohne Entitäten zu laden.
+     */
+    private static final String STATISTICS_SQL = buildStatisticsSql();
+
+    private static String buildStatisticsSql() {
+        StringBuilder sql = new StringBuilder("SELECT " +
+                    "(SELECT COUNT(*) FROM player) AS player_count, " +
+                    "(SELECT COUNT(*) FROM match) AS match_count, " +
+                    "(SELECT COUNT(*) FROM match WHERE status = ?) AS completed_match_count, " +
+                    "(SELECT COALESCE(SUM(games_won), 0) FROM player) AS games_won, " +
+                    "(SELECT COALESCE(SUM(games_lost), 0) FROM player) AS games_lost");
+        // Turniere je Status aus einem Durchlauf über die Tabelle, in Reihenfolge der Enum-Werte
+        sql.append(", tournament_status.* FROM (SELECT COUNT(*) AS tournament_count");
+        TournamentStatus[] statuses = TournamentStatus.values();
+        for (int i = 0; i < statuses.length; i++) {
+            sql.append(", COALESCE(SUM(status = ?), 0) AS status_").append(i);
+        }
+        sql.append(" FROM tournament) AS tournament_status");
+        return sql.toString();
+    }
+
+    @Override
+    public Statistics getStatistics() throws SQLException {
+        try (ConnectionPool.Lease lease = connectionPool.beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(STATISTICS_SQL)) {
+            TournamentStatus[] statuses = TournamentStatus.values();
+            int index = 1;
+            pstmt.setString(index++, MatchStatus.COMPLETED.name());
+            for (TournamentStatus status : statuses) {
+                pstmt.setString(index++, status.name());
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                Map<TournamentStatus, Long> byStatus = new EnumMap<>(TournamentStatus.class);
+                for (int i = 0; i < statuses.length; i++) {
+                    byStatus.put(statuses[i], rs.getLong("status_" + i));
+                }
+                return new Statistics(
+                    rs.getLong("player_count"),
+                    rs.getLong("tournament_count"),
+                    byStatus,
+                    rs.getLong("match_count"),
+                    rs.getLong("completed_match_count"),
+                    rs.getLong("games_won"),
+                    rs.getLong("games_lost"));
+            }
+        }
+    }
+
+    @Override
+    public long countPlayers() throws SQLException {
+        return count("SELECT COUNT(*) FROM player");
+    }
+
+    @Override
+    public long countTournaments() throws SQLException {
+        return count("SELECT COUNT(*) FROM tournament");
+    }
+
+    private long count(String sql) throws SQLException {
+        try (ConnectionPool.Lease lease = connectionPool.beginRead();
+             Statement stmt = lease.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+}
@@ -1,36 +1,64 @@
 package com.turniermanagement.db;
 
+import com.turniermanagement.model.ChangeTracker;
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
 import com.turniermanagement.model.Tournament;
 import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
 import com.turniermanagement.model.TournamentStatus;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class SQLiteTournamentDAO implements TournamentDAO {
+    private static final Map<Tournament.Field, String> COLUMNS = new EnumMap<>(Map.of(
+            Tournament.Field.NAME, "name",
+            Tournament.Field.START_DATE, "start_date",
+            Tournament.Field.END_DATE, "end_date",
+            Tournament.Field.STATUS, "status"));
+
     private final PlayerDAO playerDAO;
-    private Connection connection;
+    private final ConnectionPool connectionPool;
+    private final IdentityMap identityMap;
 
     public SQLiteTournamentDAO() {
-        this(DatabaseConnection.getInstance().getConnection());
+        this(DatabaseConnection.getInstance().getConnectionPool());
     }
     
     public SQLiteTournamentDAO(Connection connection) {
-        this.connection = connection;
-        this.playerDAO = new SQLitePlayerDAO(connection);
+        this(ConnectionPool.shared(connection));
+    }
+
+    public SQLiteTournamentDAO(ConnectionPool connectionPool) {
+        this(connectionPool, new IdentityMap());
+    }
+
+    public SQLiteTournamentDAO(ConnectionPool connectionPool, IdentityMap identityMap) {
+        this.connectionPool = connectionPool;
+        this.identityMap = identityMap;
+        this.playerDAO = new SQLitePlayerDAO(connectionPool, identityMap);
+    }
+
+    protected ConnectionPool getConnectionPool() {
+        return connectionPool;
     }
 
-    protected Connection getConnection() {
-        return connection;
+    protected IdentityMap getIdentityMap() {
+        return identityMap;
     }
 
     @Override
     public void save(Tournament tournament) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
             String sql = "INSERT INTO tournament (name, start_date, end_date, status) VALUES (?, ?, ?, ?)";
             try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 pstmt.setString(1, tournament.getName());
@@ -51,13 +79,10 @@ public class SQLiteTournamentDAO implements TournamentDAO {
                 savePlayerRelations(tournament, connection);
             }
     
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            lease.commit();
         }
+        tournament.getChanges().markClean();
+        identityMap.registerTournament(tournament);
     }
 
     private void savePlayerRelations(Tournament tournament, Connection connection) throws SQLException {
@@ -79,107 +104,264 @@ public class SQLiteTournamentDAO implements TournamentDAO {
 
     @Override
     public void update(Tournament tournament) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
-            String sql = "UPDATE tournament SET name = ?, start_date = ?, end_date = ?, status = ? WHERE id = ?";
-            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-                pstmt.setString(1, tournament.getName());
-                DatabaseConnection.setDateParameter(pstmt, 2, tournament.getStartDate(), connection);
-                DatabaseConnection.setDateParameter(pstmt, 3, tournament.getEndDate(), connection);
-                pstmt.setString(4, tournament.getStatus().name());
-                pstmt.setLong(5, tournament.getId());
-                pstmt.executeUpdate();
+        ChangeTracker<Tournament.Field> changes = tournament.getChanges();
+        if (!changes.isDirty()) {
+            // Unveränderte Turniere werden nicht geschrieben
+            return;
+        }
+
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
+            PartialUpdate<Tournament.Field> update = PartialUpdate.of("tournament", COLUMNS, changes.getDirtyFields());
+            if (update != null) {
+                try (PreparedStatement pstmt = connection.prepareStatement(update.getSql())) {
+                    int index = 1;
+                    for (Tournament.Field field : update.getFields()) {
+                        setColumn(pstmt, index++, tournament, field, connection);
+                    }
+                    pstmt.setLong(index, tournament.getId());
+                    pstmt.executeUpdate();
+                }
             }
 
             // Aktualisiere Player-Beziehungen
-            updatePlayerRelations(tournament, connection);
-
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            if (changes.isDirty(Tournament.Field.PLAYERS)) {
+                updatePlayerRelations(tournament, connection);
+            }
+
+            lease.commit();
+        }
+        changes.markClean();
+        // Die geschriebene Instanz ersetzt einen eventuell veralteten Eintrag
+        identityMap.putTournament(tournament);
+    }
+
+    private static void setColumn(PreparedStatement pstmt, int index, Tournament tournament,
+                                  Tournament.Field field, Connection connection) throws SQLException {
+        switch (field) {
+            case NAME -> pstmt.setString(index, tournament.getName());
+            case START_DATE -> DatabaseConnection.setDateParameter(pstmt, index, tournament.getStartDate(), connection);
+            case END_DATE -> DatabaseConnection.setDateParameter(pstmt, index, tournament.getEndDate(), connection);
+            case STATUS -> pstmt.setString(index, tournament.getStatus().name());
+            default -> throw new IllegalArgumentException("No column for field " + field);
         }
     }
 
     private void updatePlayerRelations(Tournament tournament, Connection connection) throws SQLException {
-        // Get current player associations before removing them
-        List<Player> previousPlayers = new ArrayList<>();
-        String selectSql = "SELECT player_id FROM tournament_player WHERE tournament_id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(selectSql)) {
-            pstmt.setLong(1, tournament.getId());
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    Long playerId = rs.getLong("player_id");
-                    playerDAO.findById(playerId).ifPresent(previousPlayers::add);
+        // Nur die Differenz zum gespeicherten Stand schreiben; Rankings werden nur übernommen,
+        // wenn der Spieler eines für dieses Turnier kennt, sonst bleibt der gespeicherte Wert
+        Map<Long, Integer> rankings = new HashMap<>();
+        if (tournament.getPlayers() != null) {
+            for (Player player : tournament.getPlayers()) {
+                if (player.getId() != null) {
+                    rankings.put(player.getId(), player.getTournamentRankings().get(tournament));
                 }
             }
         }
-        
-        // Lösche alte Beziehungen
-        String deleteSql = "DELETE FROM tournament_player WHERE tournament_id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(deleteSql)) {
-            pstmt.setLong(1, tournament.getId());
-            pstmt.executeUpdate();
-        }
+        TournamentPlayerRelations.Changes changes =
+                TournamentPlayerRelations.syncTournament(connection, tournament.getId(), rankings);
 
-        // Update player objects to remove this tournament from their list if they're no longer in it
-        for (Player player : previousPlayers) {
-            if (!tournament.getPlayers().contains(player)) {
+        // Bereits geladene Spieler, die nicht mehr teilnehmen, nachziehen
+        for (Long playerId : changes.removed()) {
+            Player player = identityMap.getPlayer(playerId);
+            if (player != null) {
                 player.removeTournament(tournament);
             }
         }
-
-        // Füge neue Beziehungen hinzu
-        if (tournament.getPlayers() != null && !tournament.getPlayers().isEmpty()) {
-            savePlayerRelations(tournament, connection);
+        if (tournament.getPlayers() != null) {
+            for (Player player : tournament.getPlayers()) {
+                if (player.getId() != null) {
+                    player.addTournament(tournament);
+                }
+            }
         }
     }
 
     @Override
     public Optional<Tournament> findById(Long id) throws SQLException {
-        String sql = "SELECT t.*, p.id as player_id, p.name as player_name, " +
+        String sql = "SELECT t.*, p.id as player_id, p.name as player_name, p.email as player_email, " +
                     "tp.ranking, p.games_won, p.games_lost " +
                     "FROM tournament t " +
                     "LEFT JOIN tournament_player tp ON t.id = tp.tournament_id " +
                     "LEFT JOIN player p ON tp.player_id = p.id " +
                     "WHERE t.id = ?";
         
-        try (PreparedStatement pstmt = getConnection().prepareStatement(sql)) {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             PreparedStatement pstmt = lease.getConnection().prepareStatement(sql)) {
             pstmt.setLong(1, id);
             ResultSet rs = pstmt.executeQuery();
             
             Tournament tournament = null;
+            List<Player> participants = new ArrayList<>();
             while (rs.next()) {
                 if (tournament == null) {
                     tournament = createTournamentFromResultSet(rs);
                 }
                 Long playerId = rs.getLong("player_id");
                 if (!rs.wasNull()) {
-                    Player player = createPlayerFromResultSet(rs);
-                    tournament.addPlayer(player);
+                    participants.add(linkPlayerFromResultSet(rs, tournament));
                 }
             }
+            if (tournament != null) {
+                identityMap.replacePlayers(tournament, participants);
+            }
             return Optional.ofNullable(tournament);
         }
     }
 
+    @Override
+    public Optional<Tournament> loadGraph(Long id) throws SQLException {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead()) {
+            Connection connection = lease.getConnection();
+            
+            // 1. Turnier
+            Tournament tournament;
+            try (PreparedStatement pstmt = connection.prepareStatement("SELECT * FROM tournament WHERE id = ?")) {
+                pstmt.setLong(1, id);
+                ResultSet rs = pstmt.executeQuery();
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                tournament = createTournamentFromResultSet(rs);
+            }
+            
+            // 2. Teilnehmer mit Ranking; die Map ordnet den Matches die Spieler des Graphen zu
+            Map<Long, Player> players = new HashMap<>();
+            List<Player> participants = new ArrayList<>();
+            String playerSql = "SELECT p.*, tp.ranking FROM tournament_player tp " +
+                              "JOIN player p ON tp.player_id = p.id " +
+                              "WHERE tp.tournament_id = ? ORDER BY p.id";
+            try (PreparedStatement pstmt = connection.prepareStatement(playerSql)) {
+                pstmt.setLong(1, id);
+                ResultSet rs = pstmt.executeQuery();
+                while (rs.next()) {
+                    Player player = new Player();
+                    player.setId(rs.getLong("id"));
+                    player.setName(rs.getString("name"));
+                    player.setEmail(rs.getString("email"));
+                    player.setGamesWon(rs.getInt("games_won"));
+                    player.setGamesLost(rs.getInt("games_lost"));
+                    player.getChanges().markClean();
+                    player = identityMap.refreshPlayer(player);
+                    identityMap.linkTournament(player, tournament, rs.getInt("ranking"));
+                    // Primärschlüssel garantiert Eindeutigkeit, daher ohne contains-Prüfung
+                    participants.add(player);
+                    players.put(player.getId(), player);
+                }
+            }
+            identityMap.replacePlayers(tournament, participants);
+            
+            // 3. Runden
+            List<Round> loadedRounds = new ArrayList<>();
+            Map<Long, Round> rounds = new HashMap<>();
+            try (PreparedStatement pstmt = connection.prepareStatement(
+                    "SELECT * FROM round WHERE tournament_id = ? ORDER BY round_number")) {
+                pstmt.setLong(1, id);
+                ResultSet rs = pstmt.executeQuery();
+                while (rs.next()) {
+                    Round round = new Round();
+                    round.setId(rs.getLong("id"));
+                    round.setRoundNumber(rs.getInt("round_number"));
+                    round.setCompleted(rs.getBoolean("completed"));
+                    round.getChanges().markClean();
+                    loadedRounds.add(round);
+                    rounds.put(round.getId(), round);
+                }
+            }
+            
+            // 4. Matches aller Runden
+            List<Match> unresolved = new ArrayList<>();
+            List<Long[]> unresolvedIds = new ArrayList<>();
+            String matchSql = "SELECT m.* FROM match m JOIN round r ON m.round_id = r.id " +
+                             "WHERE r.tournament_id = ? ORDER BY r.round_number, m.id";
+            try (PreparedStatement pstmt = connection.prepareStatement(matchSql)) {
+                pstmt.setLong(1, id);
+                ResultSet rs = pstmt.executeQuery();
+                while (rs.next()) {
+                    Long[] playerIds = {
+                        getNullableLong(rs, "player1_id"),
+                        getNullableLong(rs, "player2_id"),
+                        getNullableLong(rs, "winner_id")
+                    };
+                    Match match = new Match();
+                    match.setId(rs.getLong("id"));
+                    match.setScorePlayer1(rs.getInt("score_player1"));
+                    match.setScorePlayer2(rs.getInt("score_player2"));
+                    match.setStatus(MatchStatus.valueOf(rs.getString("status")));
+                    if (!assignPlayers(match, playerIds, players)) {
+                        unresolved.add(match);
+                        unresolvedIds.add(playerIds);
+                    }
+                    match.getChanges().markClean();
+                    Round round = rounds.get(rs.getLong("round_id"));
+                    round.addMatch(match);
+                    round.getChanges().markClean(Round.Field.MATCHES);
+                }
+            }
+            
+            // 5. Nur falls nötig: Spieler, die in Matches vorkommen, aber nicht mehr Teilnehmer sind
+            if (!unresolved.isEmpty()) {
+                Set<Long> missingIds = new HashSet<>();
+                for (Long[] playerIds : unresolvedIds) {
+                    for (Long playerId : playerIds) {
+                        if (playerId != null && !players.containsKey(playerId)) {
+                            missingIds.add(playerId);
+                        }
+                    }
+                }
+                players.putAll(playerDAO.findByIds(missingIds));
+                for (int i = 0; i < unresolved.size(); i++) {
+                    assignPlayers(unresolved.get(i), unresolvedIds.get(i), players);
+                    unresolved.get(i).getChanges().markClean();
+                }
+            }
+            
+            identityMap.replaceRounds(tournament, loadedRounds);
+            return Optional.of(tournament);
+        }
+    }
+
+    /**
+     * Setzt die Spieler eines Matches aus der Identity-Map.
+     * @return false, wenn mindestens ein Spieler noch nicht geladen ist
+     */
+    private boolean assignPlayers(Match match, Long[] playerIds, Map<Long, Player> players) {
+        boolean complete = true;
+        Player[] resolved = new Player[playerIds.length];
+        for (int i = 0; i < playerIds.length; i++) {
+            if (playerIds[i] != null) {
+                resolved[i] = players.get(playerIds[i]);
+                complete &= resolved[i] != null;
+            }
+        }
+        match.setPlayer1(resolved[0]);
+        match.setPlayer2(resolved[1]);
+        match.setWinner(resolved[2]);
+        return complete;
+    }
+
+    private static Long getNullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
     @Override
     public List<Tournament> findAll() throws SQLException {
         List<Tournament> tournaments = new ArrayList<>();
-        String sql = "SELECT t.*, p.id as player_id, p.name as player_name, " +
+        String sql = "SELECT t.*, p.id as player_id, p.name as player_name, p.email as player_email, " +
                     "tp.ranking, p.games_won, p.games_lost " +
                     "FROM tournament t " +
                     "LEFT JOIN tournament_player tp ON t.id = tp.tournament_id " +
-                    "LEFT JOIN player p ON tp.player_id = p.id";
+                    "LEFT JOIN player p ON tp.player_id = p.id " +
+                    "ORDER BY t.id";
         
-        try (Statement stmt = getConnection().createStatement();
+        try (ConnectionPool.Lease lease = getConnectionPool().beginRead();
+             Statement stmt = lease.getConnection().createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             Long currentTournamentId = null;
             Tournament currentTournament = null;
+            List<List<Player>> participants = new ArrayList<>();
             
             while (rs.next()) {
                 Long tournamentId = rs.getLong("id");
@@ -187,61 +369,77 @@ public class SQLiteTournamentDAO implements TournamentDAO {
                     currentTournament = createTournamentFromResultSet(rs);
                     currentTournamentId = tournamentId;
                     tournaments.add(currentTournament);
+                    participants.add(new ArrayList<>());
                 }
                 
                 Long playerId = rs.getLong("player_id");
                 if (!rs.wasNull()) {
-                    Player player = createPlayerFromResultSet(rs);
-                    currentTournament.addPlayer(player);
+                    participants.get(participants.size() - 1).add(linkPlayerFromResultSet(rs, currentTournament));
                 }
             }
+            for (int i = 0; i < tournaments.size(); i++) {
+                identityMap.replacePlayers(tournaments.get(i), participants.get(i));
+            }
         }
         return tournaments;
     }
 
     @Override
     public void delete(Long id) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
-            // First get the tournament to manage player relationships
-            Optional<Tournament> tournament = findById(id);
-            
-            // Lösche zuerst die Beziehungen
-            String deleteRelationsSql = "DELETE FROM tournament_player WHERE tournament_id = ?";
-            try (PreparedStatement pstmt = connection.prepareStatement(deleteRelationsSql)) {
-                pstmt.setLong(1, id);
-                pstmt.executeUpdate();
-            }
-
-            // Update tournament references in players
-            if (tournament.isPresent()) {
-                for (Player player : tournament.get().getPlayers()) {
-                    player.removeTournament(tournament.get());
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
+            // Mengenbasiert in einer Transaktion: Matches -> Runden -> Beziehungen -> Turnier
+            String[] statements = {
+                "DELETE FROM match WHERE round_id IN (SELECT id FROM round WHERE tournament_id = ?)",
+                "DELETE FROM round WHERE tournament_id = ?",
+                "DELETE FROM tournament_player WHERE tournament_id = ?",
+                "DELETE FROM tournament WHERE id = ?"
+            };
+            for (String sql : statements) {
+                try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                    pstmt.setLong(1, id);
+                    pstmt.executeUpdate();
                 }
             }
 
-            // Dann lösche das Tournament
-            String deleteTournamentSql = "DELETE FROM tournament WHERE id = ?";
-            try (PreparedStatement pstmt = connection.prepareStatement(deleteTournamentSql)) {
-                pstmt.setLong(1, id);
-                pstmt.executeUpdate();
-            }
+            lease.commit();
+        }
+        
+        detachPlayers(identityMap.getTournament(id));
+        identityMap.evictTournament(id);
+    }
 
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+    @Override
+    public void deleteAll() throws SQLException {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite();
+             Statement stmt = lease.getConnection().createStatement()) {
+            stmt.executeUpdate("DELETE FROM match");
+            stmt.executeUpdate("DELETE FROM round");
+            stmt.executeUpdate("DELETE FROM tournament_player");
+            stmt.executeUpdate("DELETE FROM tournament");
+            lease.commit();
+        }
+        identityMap.evictAllTournaments();
+    }
+
+    /**
+     * Entfernt die Beziehungen zwischen einem geladenen Turnier und seinen Spielern im Speicher.
+     * Über die Identity-Map sind dies dieselben Instanzen, die auch die übrigen DAOs liefern.
+     */
+    private void detachPlayers(Tournament tournament) {
+        if (tournament == null) {
+            return;
+        }
+        for (Player player : new ArrayList<>(tournament.getPlayers())) {
+            player.removeTournament(tournament);
+            tournament.removePlayer(player);
         }
     }
 
     @Override
     public void deleteRound(Long roundId) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
+            Connection connection = lease.getConnection();
             // Lösche zuerst alle Matches der Runde
             String deleteMatchesSql = "DELETE FROM match WHERE round_id = ?";
             try (PreparedStatement pstmt = connection.prepareStatement(deleteMatchesSql)) {
@@ -256,65 +454,54 @@ public class SQLiteTournamentDAO implements TournamentDAO {
                 pstmt.executeUpdate();
             }
 
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            lease.commit();
         }
     }
 
     @Override
     public void removePlayers(Long tournamentId) throws SQLException {
-        Connection connection = getConnection();
-        connection.setAutoCommit(false);
-        try {
-            // Hole zuerst das Turnier und die Spieler, um die Objektreferenzen zu aktualisieren
-            Optional<Tournament> tournament = findById(tournamentId);
-            
-            // Lösche dann die Beziehungen aus der Datenbank
+        try (ConnectionPool.Lease lease = getConnectionPool().beginWrite()) {
             String deleteSql = "DELETE FROM tournament_player WHERE tournament_id = ?";
-            try (PreparedStatement pstmt = connection.prepareStatement(deleteSql)) {
+            try (PreparedStatement pstmt = lease.getConnection().prepareStatement(deleteSql)) {
                 pstmt.setLong(1, tournamentId);
                 pstmt.executeUpdate();
             }
-
-            // Aktualisiere die Objektreferenzen in den Spielern
-            if (tournament.isPresent()) {
-                Tournament t = tournament.get();
-                for (Player player : new ArrayList<>(t.getPlayers())) {
-                    player.removeTournament(t);
-                    t.removePlayer(player);
-                }
-            }
-
-            connection.commit();
-        } catch (SQLException e) {
-            connection.rollback();
-            throw e;
-        } finally {
-            connection.setAutoCommit(true);
+            lease.commit();
         }
+        
+        // Aktualisiere die Objektreferenzen, ohne das Turnier erneut zu laden
+        detachPlayers(identityMap.getTournament(tournamentId));
     }
 
+    /**
+     * Gibt die kanonische Instanz des Turniers der aktuellen Zeile mit den geladenen Feldern zurück.
+     * Teilnehmer und Runden setzen die Aufrufer erst nach vollständigem Aufbau ein.
+     */
     private Tournament createTournamentFromResultSet(ResultSet rs) throws SQLException {
         Tournament tournament = new Tournament();
         tournament.setId(rs.getLong("id"));
         tournament.setName(rs.getString("name"));
-        tournament.setStartDate(DatabaseConnection.getDateParameter(rs, "start_date", getConnection()));
-        tournament.setEndDate(DatabaseConnection.getDateParameter(rs, "end_date", getConnection()));
+        tournament.setStartDate(DatabaseConnection.getLocalDate(rs, "start_date"));
+        tournament.setEndDate(DatabaseConnection.getLocalDate(rs, "end_date"));
         tournament.setStatus(TournamentStatus.valueOf(rs.getString("status")));
-        return tournament;
+        tournament.getChanges().markClean();
+        return identityMap.refreshTournament(tournament);
     }
 
-    private Player createPlayerFromResultSet(ResultSet rs) throws SQLException {
+    /**
+     * Gibt den Spieler der aktuellen Zeile zurück und übernimmt seine Teilnahme am Turnier.
+     * Die übrigen Turnierbeziehungen einer bereits bekannten Instanz bleiben erhalten.
+     */
+    private Player linkPlayerFromResultSet(ResultSet rs, Tournament tournament) throws SQLException {
         Player player = new Player();
         player.setId(rs.getLong("player_id"));
         player.setName(rs.getString("player_name"));
-        player.setRanking(rs.getInt("ranking"));
+        player.setEmail(rs.getString("player_email"));
         player.setGamesWon(rs.getInt("games_won"));
         player.setGamesLost(rs.getInt("games_lost"));
+        player.getChanges().markClean();
+        player = identityMap.refreshPlayer(player);
+        identityMap.linkTournament(player, tournament, rs.getInt("ranking"));
         return player;
     }
 }
\ No newline at end of file
@@ -0,0 +1,407 @@
+package com.turniermanagement.db;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Versionierte Schema-Migrationen der SQLite-Datenbank.
+ * Die aktuelle Schemaversion wird in {@code PRAGMA user_version} abgelegt. Beim Start wird
+ * nur diese Version gelesen; Migrationen (und die dafür nötigen Metadatenabfragen) laufen
+ * ausschließlich, wenn die Datenbank älter als die neueste Migration ist.
+ *
+ * Neue Schemaänderungen werden als weitere Migration am Ende von {@link #MIGRATIONS}
+ * angehängt; bestehende Migrationen dürfen nicht mehr verändert werden.
+ */
+final class SchemaMigrations {
+
+    /**
+     * Eine einzelne Schemaänderung.
+     * @param version Die Schemaversion nach Anwendung der Migration
+     * @param description Kurzbeschreibung der Änderung
+     * @param step Die auszuführenden Anweisungen
+     */
+    record Migration(int version, String description, Step step) {
+    }
+
+    @FunctionalInterface
+    interface Step {
+        void apply(Statement stmt) throws SQLException;
+    }
+
+    static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "Basisschema", SchemaMigrations::createBaseSchema),
+            new Migration(2, "Indizes für die DAO-Abfragen", SchemaMigrations::createIndexes),
+            new Migration(3, "Glicko-2-Wertungen der Spieler", SchemaMigrations::createRatingTables),
+            new Migration(4, "Gespeicherte Turniertabellen", SchemaMigrations::createStandingsTable),
+            new Migration(5, "Feinwertungen der Turniertabellen", SchemaMigrations::addStandingsTiebreaks),
+            new Migration(6, "Setzwert aus den Turniertabellen entfernen", SchemaMigrations::dropStandingsSeed),
+            new Migration(7, "Bilanz laufender Turniere nachtragen", SchemaMigrations::countUnfinishedTournamentGames)
+    );
+
+    // Punkte aus einem Match in halben Punkten für die Tabellen-Migrationen. Wie die Migrationen
+    // selbst dürfen sie nicht mehr verändert werden; die DAOs führen eigene Abfragen.
+    private static final String PLAYER1_POINTS =
+            "CASE WHEN m.player2_id IS NULL OR m.winner_id = m.player1_id THEN 2 WHEN m.winner_id IS NULL THEN 1 ELSE 0 END";
+    private static final String PLAYER2_POINTS =
+            "CASE WHEN m.winner_id = m.player2_id THEN 2 WHEN m.winner_id IS NULL THEN 1 ELSE 0 END";
+    private static final String COMPLETED_MATCHES = "FROM match m JOIN round r ON m.round_id = r.id " +
+            "WHERE m.status = 'COMPLETED' AND m.player1_id IS NOT NULL";
+
+    // Höchstzahl doppelter Werte in der Fehlermeldung eines eindeutigen Index
+    private static final int MAX_REPORTED_DUPLICATES = 20;
+
+    private SchemaMigrations() {
+    }
+
+    /**
+     * Bringt das Schema auf den neuesten Stand. Die Transaktion verwaltet der Aufrufer.
+     * @param connection Die Verbindung zur Datenbank
+     * @return Anzahl der angewendeten Migrationen
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    static int migrate(Connection connection) throws SQLException {
+        int current = getSchemaVersion(connection);
+        int applied = 0;
+        try (Statement stmt = connection.createStatement()) {
+            for (Migration migration : MIGRATIONS) {
+                if (migration.version() <= current) {
+                    continue;
+                }
+                migration.step().apply(stmt);
+                // PRAGMA akzeptiert keine Parameter
+                stmt.execute("PRAGMA user_version = " + migration.version());
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Liest die gespeicherte Schemaversion.
+     * @param connection Die Verbindung zur Datenbank
+     * @return Die Schemaversion (0 bei neuen oder noch nicht versionierten Datenbanken)
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    static int getSchemaVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Gibt die Version der neuesten Migration zurück.
+     * @return Die neueste Schemaversion
+     */
+    static int getLatestVersion() {
+        return MIGRATIONS.get(MIGRATIONS.size() - 1).version();
+    }
+
+    /**
+     * Version 1: Tabellen anlegen. Datenbanken aus der Zeit vor der Versionierung
+     * besitzen die Tabellen bereits, ggf. aber noch nicht alle Spalten.
+     */
+    private static void createBaseSchema(Statement stmt) throws SQLException {
+        // Player Tabelle (ohne Ranking-Feld in der Haupttabelle)
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS player (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL,
+                email TEXT,
+                games_won INTEGER DEFAULT 0,
+                games_lost INTEGER DEFAULT 0
+            )
+        """);
+        if (!hasColumn(stmt, "player", "email")) {
+            stmt.execute("ALTER TABLE player ADD COLUMN email TEXT");
+        }
+
+        // Tournament Tabelle
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS tournament (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                name TEXT NOT NULL,
+                start_date TEXT,
+                end_date TEXT,
+                status TEXT
+            )
+        """);
+
+        // Round Tabelle
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS round (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                tournament_id INTEGER,
+                round_number INTEGER,
+                completed BOOLEAN DEFAULT 0,
+                FOREIGN KEY (tournament_id) REFERENCES tournament(id)
+            )
+        """);
+
+        // Match Tabelle
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS match (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                round_id INTEGER,
+                player1_id INTEGER,
+                player2_id INTEGER,
+                winner_id INTEGER,
+                score_player1 INTEGER DEFAULT 0,
+                score_player2 INTEGER DEFAULT 0,
+                status TEXT,
+                FOREIGN KEY (round_id) REFERENCES round(id),
+                FOREIGN KEY (player1_id) REFERENCES player(id),
+                FOREIGN KEY (player2_id) REFERENCES player(id),
+                FOREIGN KEY (winner_id) REFERENCES player(id)
+            )
+        """);
+
+        // Tournament_Player Verbindungstabelle mit Ranking als Beziehungsattribut
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS tournament_player (
+                tournament_id INTEGER,
+                player_id INTEGER,
+                ranking INTEGER DEFAULT 0,
+                PRIMARY KEY (tournament_id, player_id),
+                FOREIGN KEY (tournament_id) REFERENCES tournament(id),
+                FOREIGN KEY (player_id) REFERENCES player(id)
+            )
+        """);
+        if (!hasColumn(stmt, "tournament_player", "ranking")) {
+            stmt.execute("ALTER TABLE tournament_player ADD COLUMN ranking INTEGER DEFAULT 0");
+        }
+    }
+
+    /**
+     * Version 2: Indizes für die Fremdschlüssel und Suchspalten, über die die DAOs filtern.
+     * Spielernamen und Rundennummern je Turnier werden eindeutig. Enthalten Altdaten Duplikate,
+     * schlägt die Migration mit einer Liste der doppelten Werte fehl; sie müssen zuerst bereinigt
+     * werden.
+     */
+    private static void createIndexes(Statement stmt) throws SQLException {
+        // findByRoundId: WHERE round_id = ? ORDER BY id
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_match_round ON match (round_id, id)");
+        // Fremdschlüsselprüfung beim Löschen eines Spielers
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_match_player1 ON match (player1_id)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_match_player2 ON match (player2_id)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_match_winner ON match (winner_id)");
+        // Spielerseitige Suche in der Verbindungstabelle (der Primärschlüssel beginnt mit tournament_id)
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_tournament_player_player ON tournament_player (player_id, tournament_id, ranking)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_player_email ON player (email)");
+
+        // findByTournamentId: WHERE tournament_id = ? ORDER BY round_number
+        createUniqueIndex(stmt, "idx_round_tournament", "round (tournament_id, round_number)",
+                "SELECT 'tournament_id=' || tournament_id || ', round_number=' || round_number, COUNT(*) " +
+                "FROM round GROUP BY tournament_id, round_number HAVING COUNT(*) > 1");
+        // findByName
+        createUniqueIndex(stmt, "idx_player_name", "player (name)",
+                "SELECT 'name=' || quote(name), COUNT(*) FROM player GROUP BY name HAVING COUNT(*) > 1");
+    }
+
+    /**
+     * Version 3: Aktuelle Wertung und Wertungsverlauf je Spieler. Die Wertungen werden aus den
+     * Matches abgeleitet und beim Löschen des Spielers mitgelöscht; die Match-ID im Verlauf ist
+     * kein Fremdschlüssel, damit gelöschte Matches den Verlauf nicht blockieren.
+     */
+    private static void createRatingTables(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS player_rating (
+                player_id INTEGER PRIMARY KEY,
+                match_id INTEGER,
+                rating REAL NOT NULL,
+                rating_deviation REAL NOT NULL,
+                volatility REAL NOT NULL,
+                FOREIGN KEY (player_id) REFERENCES player(id) ON DELETE CASCADE
+            )
+        """);
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS rating_history (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                player_id INTEGER NOT NULL,
+                match_id INTEGER,
+                rating REAL NOT NULL,
+                rating_deviation REAL NOT NULL,
+                volatility REAL NOT NULL,
+                FOREIGN KEY (player_id) REFERENCES player(id) ON DELETE CASCADE
+            )
+        """);
+        // findHistory: WHERE player_id = ? ORDER BY id, zugleich Fremdschlüsselprüfung beim Löschen
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_rating_history_player ON rating_history (player_id, id)");
+    }
+
+    /**
+     * Version 4: Gespeicherte Tabelle je Turnier. Punkte und Buchholz-Wertung werden in halben
+     * Punkten abgelegt. Bestehende Turniere werden mit der Berechnung befüllt, die der Neuaufbau
+     * über {@link StandingsDAO#rebuildAll()} zu dieser Version verwendete.
+     */
+    private static void createStandingsTable(Statement stmt) throws SQLException {
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS standings (
+                tournament_id INTEGER NOT NULL,
+                player_id INTEGER NOT NULL,
+                rank INTEGER NOT NULL DEFAULT 0,
+                points INTEGER NOT NULL DEFAULT 0,
+                games INTEGER NOT NULL DEFAULT 0,
+                buchholz INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY (tournament_id, player_id),
+                FOREIGN KEY (tournament_id) REFERENCES tournament(id) ON DELETE CASCADE,
+                FOREIGN KEY (player_id) REFERENCES player(id) ON DELETE CASCADE
+            )
+        """);
+        // findByTournamentId: WHERE tournament_id = ? ORDER BY rank
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_standings_rank ON standings (tournament_id, rank)");
+        // Fremdschlüsselprüfung beim Löschen eines Spielers
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_standings_player ON standings (player_id)");
+        stmt.execute("""
+            INSERT INTO standings (tournament_id, player_id, points, games)
+            SELECT tournament_id, player_id, SUM(points), SUM(games) FROM (
+                SELECT tournament_id, player_id, 0 AS points, 0 AS games FROM tournament_player
+                UNION ALL SELECT r.tournament_id, m.player1_id, %s, 1 %s
+                UNION ALL SELECT r.tournament_id, m.player2_id, %s, 1 %s AND m.player2_id IS NOT NULL
+            ) GROUP BY tournament_id, player_id
+        """.formatted(PLAYER1_POINTS, COMPLETED_MATCHES, PLAYER2_POINTS, COMPLETED_MATCHES));
+        stmt.execute("""
+            UPDATE standings SET buchholz = b.total FROM (
+                SELECT pairs.tournament_id, pairs.player_id, SUM(o.points) AS total FROM (
+                    SELECT r.tournament_id, m.player1_id AS player_id, m.player2_id AS opponent_id %s
+                    AND m.player2_id IS NOT NULL
+                    UNION ALL SELECT r.tournament_id, m.player2_id, m.player1_id %s AND m.player2_id IS NOT NULL
+                ) pairs JOIN standings o ON o.tournament_id = pairs.tournament_id AND o.player_id = pairs.opponent_id
+                GROUP BY pairs.tournament_id, pairs.player_id
+            ) AS b WHERE standings.tournament_id = b.tournament_id AND standings.player_id = b.player_id
+        """.formatted(COMPLETED_MATCHES, COMPLETED_MATCHES));
+        rankStandings(stmt, "points DESC, buchholz DESC, player_id");
+    }
+
+    /**
+     * Version 5: Die übrigen Feinwertungen der Rangfolge, damit die gespeicherte Tabelle wie die
+     * Tabelle der Paarung sortiert. Median-Buchholz in halben, Sonneborn-Berger in Viertelpunkten;
+     * weighted_points ist die Summe aus halben Punkten mal Rundennummer und seed die Bilanz beim
+     * Eintritt in die Tabelle. Bestehende Turniere werden mit der Berechnung neu aufgebaut, die
+     * {@link StandingsDAO#rebuildAll()} zu dieser Version verwendete.
+     */
+    private static void addStandingsTiebreaks(Statement stmt) throws SQLException {
+        for (String column : List.of("median_buchholz", "sonneborn_berger", "weighted_points", "seed")) {
+            if (!hasColumn(stmt, "standings", column)) {
+                stmt.execute("ALTER TABLE standings ADD COLUMN " + column + " INTEGER NOT NULL DEFAULT 0");
+            }
+        }
+        stmt.execute("DELETE FROM standings");
+        stmt.execute("""
+            INSERT INTO standings (tournament_id, player_id, points, games, weighted_points, seed)
+            SELECT s.tournament_id, s.player_id, SUM(s.points), SUM(s.games), SUM(s.weighted),
+                COALESCE(p.games_won, 0) - COALESCE(p.games_lost, 0) FROM (
+                SELECT tournament_id, player_id, 0 AS points, 0 AS games, 0 AS weighted FROM tournament_player
+                UNION ALL SELECT r.tournament_id, m.player1_id, %1$s, 1, (%1$s) * r.round_number %3$s
+                UNION ALL SELECT r.tournament_id, m.player2_id, %2$s, 1, (%2$s) * r.round_number %3$s
+                AND m.player2_id IS NOT NULL
+            ) s JOIN player p ON p.id = s.player_id GROUP BY s.tournament_id, s.player_id
+        """.formatted(PLAYER1_POINTS, PLAYER2_POINTS, COMPLETED_MATCHES));
+        // Sonneborn-Berger: Ergebnis in halben mal Gegnerpunkte in halben Punkten
+        stmt.execute("""
+            UPDATE standings SET buchholz = t.total,
+                median_buchholz = CASE WHEN t.opponents >= 3 THEN t.total - t.best - t.worst ELSE t.total END,
+                sonneborn_berger = t.sb FROM (
+                SELECT pairs.tournament_id, pairs.player_id, SUM(o.points) AS total, COUNT(*) AS opponents,
+                    MAX(o.points) AS best, MIN(o.points) AS worst, SUM(pairs.result * o.points) AS sb FROM (
+                    SELECT r.tournament_id, m.player1_id AS player_id, m.player2_id AS opponent_id, %s AS result
+                    %s AND m.player2_id IS NOT NULL
+                    UNION ALL SELECT r.tournament_id, m.player2_id, m.player1_id, %s
+                    %s AND m.player2_id IS NOT NULL
+                ) pairs JOIN standings o ON o.tournament_id = pairs.tournament_id AND o.player_id = pairs.opponent_id
+                GROUP BY pairs.tournament_id, pairs.player_id
+            ) AS t WHERE standings.tournament_id = t.tournament_id AND standings.player_id = t.player_id
+        """.formatted(PLAYER1_POINTS, COMPLETED_MATCHES, PLAYER2_POINTS, COMPLETED_MATCHES));
+        rankStandings(stmt, "points DESC, buchholz DESC, median_buchholz DESC, sonneborn_berger DESC, " +
+                "weighted_points, seed DESC, player_id");
+    }
+
+    /**
+     * Version 6: Der Setzwert aus der Bilanz ändert sich mit jedem Ergebnis und hing davon ab,
+     * wann ein Eintrag angelegt oder neu aufgebaut wurde. Gleichstände entscheidet nach der
+     * fortschreitenden Wertung nur noch die Spieler-ID.
+     */
+    private static void dropStandingsSeed(Statement stmt) throws SQLException {
+        if (hasColumn(stmt, "standings", "seed")) {
+            stmt.execute("ALTER TABLE standings DROP COLUMN seed");
+        }
+        rankStandings(stmt, "points DESC, buchholz DESC, median_buchholz DESC, sonneborn_berger DESC, " +
+                "weighted_points, player_id");
+    }
+
+    /**
+     * Version 7: Früher wurden gewonnene und verlorene Spiele erst beim Abschluss eines Turniers
+     * gezählt, inzwischen mit jedem Ergebnis. Ergebnisse in noch nicht abgeschlossenen Turnieren
+     * wurden daher nie gezählt und werden hier nachgetragen, mit derselben Regel wie früher beim
+     * Abschluss: abgeschlossene Matches mit zwei Spielern und einem Sieger, nur für Teilnehmer
+     * des Turniers.
+     */
+    private static void countUnfinishedTournamentGames(Statement stmt) throws SQLException {
+        String games = "FROM match m JOIN round r ON m.round_id = r.id JOIN tournament t ON t.id = r.tournament_id " +
+                "WHERE m.status = 'COMPLETED' AND m.player2_id IS NOT NULL AND m.winner_id IS NOT NULL " +
+                "AND t.status IS NOT 'COMPLETED'";
+        stmt.execute("""
+            UPDATE player SET games_won = COALESCE(games_won, 0) + counts.won,
+                games_lost = COALESCE(games_lost, 0) + counts.lost FROM (
+                SELECT g.player_id, SUM(g.won) AS won, SUM(g.lost) AS lost FROM (
+                    SELECT r.tournament_id, m.winner_id AS player_id, 1 AS won, 0 AS lost %1$s
+                    UNION ALL SELECT r.tournament_id,
+                        CASE WHEN m.winner_id = m.player1_id THEN m.player2_id ELSE m.player1_id END, 0, 1 %1$s
+                ) g JOIN tournament_player tp ON tp.tournament_id = g.tournament_id AND tp.player_id = g.player_id
+                GROUP BY g.player_id
+            ) AS counts WHERE player.id = counts.player_id
+        """.formatted(games));
+    }
+
+    /**
+     * Vergibt die Tabellenplätze aller Turniere in der angegebenen Reihenfolge.
+     */
+    private static void rankStandings(Statement stmt, String order) throws SQLException {
+        stmt.execute("""
+            UPDATE standings SET rank = ranked.position FROM (
+                SELECT tournament_id, player_id,
+                    ROW_NUMBER() OVER (PARTITION BY tournament_id ORDER BY %s) AS position FROM standings
+            ) AS ranked WHERE standings.tournament_id = ranked.tournament_id
+                AND standings.player_id = ranked.player_id AND standings.rank <> ranked.position
+        """.formatted(order));
+    }
+
+    /**
+     * Legt einen eindeutigen Index an oder bricht mit den doppelten Werten ab.
+     * @param duplicateQuery Abfrage mit Beschreibung und Anzahl je doppeltem Wert
+     * @throws SQLException Wenn der Datenbestand doppelte Werte enthält
+     */
+    private static void createUniqueIndex(Statement stmt, String name, String definition, String duplicateQuery)
+            throws SQLException {
+        List<String> duplicates = new ArrayList<>();
+        int total = 0;
+        try (ResultSet rs = stmt.executeQuery(duplicateQuery)) {
+            while (rs.next()) {
+                if (++total <= MAX_REPORTED_DUPLICATES) {
+                    duplicates.add(rs.getString(1) + " (" + rs.getInt(2) + "x)");
+                }
+            }
+        }
+        if (total > 0) {
+            String more = total > duplicates.size() ? " and " + (total - duplicates.size()) + " more" : "";
+            throw new SQLException("Cannot create unique index " + name + " on " + definition + ", " + total +
+                    " duplicate value(s) must be resolved first: " + String.join("; ", duplicates) + more);
+        }
+        stmt.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + name + " ON " + definition);
+    }
+
+    private static boolean hasColumn(Statement stmt, String table, String column) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
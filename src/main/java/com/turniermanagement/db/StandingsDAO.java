@@ -0,0 +1,52 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.TournamentStanding;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Interface für die gespeicherten Turniertabellen.
+ *
+ * Die Tabelle eines Turniers wird mit jedem Ergebnis fortgeschrieben, statt sie aus allen
+ * Runden und Matches zu berechnen: Ein Ergebnis ändert Punkte und Partien der beiden Spieler,
+ * die Feinwertungen ihrer bisherigen Gegner und die Tabellenplätze des Turniers. Die
+ * Reihenfolge ist dieselbe wie in der Tabelle der Paarung
+ * ({@link com.turniermanagement.service.Standings}): Punkte, Buchholz, Median-Buchholz,
+ * Sonneborn-Berger, fortschreitende Wertung und zuletzt die Spieler-ID.
+ *
+ * Sobald ein Turnier ein gewertetes Ergebnis hat, stehen alle Teilnehmer in seiner Tabelle.
+ * Nachträglich gelöschte oder geänderte Matches werden erst durch {@link #rebuild(long)}
+ * bzw. {@link #rebuildAll()} berücksichtigt.
+ */
+public interface StandingsDAO {
+
+    /**
+     * Gibt die Tabelle eines Turniers zurück.
+     * @param tournamentId ID des Turniers
+     * @return Die Tabelleneinträge nach Tabellenplatz
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    List<TournamentStanding> findByTournamentId(long tournamentId) throws SQLException;
+
+    /**
+     * Übernimmt ein gespeichertes, gerade abgeschlossenes Match in die Tabelle seines Turniers.
+     * Jedes Match darf nur einmal übernommen werden; nicht abgeschlossene Matches werden ignoriert.
+     * @param matchId ID des Matches
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void recordResult(long matchId) throws SQLException;
+
+    /**
+     * Berechnet die Tabelle eines Turniers aus seinen Teilnehmern und abgeschlossenen Matches neu.
+     * @param tournamentId ID des Turniers
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void rebuild(long tournamentId) throws SQLException;
+
+    /**
+     * Berechnet die Tabellen aller Turniere neu.
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void rebuildAll() throws SQLException;
+}
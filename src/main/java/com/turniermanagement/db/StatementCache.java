@@ -0,0 +1,235 @@
+package com.turniermanagement.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache für PreparedStatements einer einzelnen Verbindung.
+ *
+ * Der Verbindungspool umhüllt jede seiner Verbindungen mit diesem Cache. Die DAOs rufen
+ * weiterhin {@code prepareStatement(sql)} auf und schließen das Statement per
+ * try-with-resources; statt es tatsächlich zu schließen, wird es zurückgesetzt und für
+ * denselben SQL-Text wiederverwendet. SQLite muss identische Anweisungen dadurch nicht
+ * bei jedem Aufruf neu parsen und planen.
+ *
+ * Ein Statement wird immer nur an einen Verwender gleichzeitig ausgegeben; wird derselbe
+ * SQL-Text verschachtelt benötigt, wird ein zusätzliches Statement vorbereitet. Der Cache
+ * hält höchstens {@code capacity} freie Statements (LRU) und schließt sie zusammen mit der
+ * Verbindung. Da eine Verbindung über ihre Lease an einen Thread gebunden ist, wird der
+ * Cache nicht nebenläufig verwendet; die Methoden sind dennoch synchronisiert.
+ */
+public final class StatementCache {
+
+    /** Standardanzahl freier Statements pro Verbindung. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Zähler eines oder mehrerer Caches.
+     * @param prepared Anzahl tatsächlich vorbereiteter Statements
+     * @param reused Anzahl aus dem Cache wiederverwendeter Statements
+     * @param evicted Anzahl wegen der Kapazitätsgrenze geschlossener Statements
+     */
+    public record Stats(long prepared, long reused, long evicted) {
+
+        /**
+         * Gibt den Anteil wiederverwendeter Statements an allen Anforderungen zurück.
+         * @return Wiederverwendungsquote zwischen 0 und 1
+         */
+        public double reuseRatio() {
+            long requests = prepared + reused;
+            return requests == 0 ? 0 : (double) reused / requests;
+        }
+    }
+
+    /**
+     * Gemeinsame Zähler aller Caches eines Verbindungspools.
+     */
+    static final class Counters {
+        private final AtomicLong prepared = new AtomicLong();
+        private final AtomicLong reused = new AtomicLong();
+        private final AtomicLong evicted = new AtomicLong();
+
+        Stats snapshot() {
+            return new Stats(prepared.get(), reused.get(), evicted.get());
+        }
+
+        void reset() {
+            prepared.set(0);
+            reused.set(0);
+            evicted.set(0);
+        }
+    }
+
+    // Kennzeichnet prepareStatement(sql) ohne Angabe zu generierten Schlüsseln
+    private static final int DEFAULT_KEYS = Integer.MIN_VALUE;
+
+    private final Connection connection;
+    private final int capacity;
+    private final Counters counters;
+    // Freie Statements in Zugriffsreihenfolge; je Schlüssel höchstens eines
+    private final LinkedHashMap<String, PreparedStatement> idle = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<PreparedStatement> all = new ArrayList<>();
+    private boolean closed;
+
+    private StatementCache(Connection connection, int capacity, Counters counters) {
+        this.connection = connection;
+        this.capacity = capacity;
+        this.counters = counters;
+    }
+
+    /**
+     * Umhüllt eine Verbindung mit einem Statement-Cache.
+     * @param connection Die Verbindung
+     * @param capacity Maximale Anzahl freier Statements
+     * @param counters Die Zähler, in die der Cache schreibt
+     * @return Die cachende Verbindung
+     */
+    static Connection wrap(Connection connection, int capacity, Counters counters) {
+        StatementCache cache = new StatementCache(connection, capacity, counters);
+        return (Connection) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, cache::handleConnection);
+    }
+
+    private Object handleConnection(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (name.equals("prepareStatement") && args.length == 1) {
+            return acquire((String) args[0], (String) args[0], DEFAULT_KEYS);
+        }
+        if (name.equals("prepareStatement") && args.length == 2 && args[1] instanceof Integer keys) {
+            return acquire(args[0] + "\u0000" + keys, (String) args[0], keys);
+        }
+        if (name.equals("close") && (args == null || args.length == 0)) {
+            closeAll();
+            return invoke(connection, method, args);
+        }
+        return invoke(connection, method, args);
+    }
+
+    private synchronized PreparedStatement acquire(String key, String sql, int autoGeneratedKeys) throws SQLException {
+        if (closed) {
+            throw new SQLException("Verbindung ist geschlossen");
+        }
+        PreparedStatement statement = idle.remove(key);
+        if (statement != null) {
+            counters.reused.incrementAndGet();
+        } else {
+            statement = autoGeneratedKeys == DEFAULT_KEYS
+                    ? connection.prepareStatement(sql)
+                    : connection.prepareStatement(sql, autoGeneratedKeys);
+            all.add(statement);
+            counters.prepared.incrementAndGet();
+        }
+        return new Handle(key, statement).proxy();
+    }
+
+    private synchronized void release(String key, PreparedStatement statement) throws SQLException {
+        if (closed || idle.containsKey(key)) {
+            // Verschachtelt vorbereitete Zweitexemplare werden nicht aufbewahrt
+            discard(statement);
+            return;
+        }
+        statement.clearParameters();
+        statement.clearBatch();
+        idle.put(key, statement);
+        if (idle.size() > capacity) {
+            Iterator<PreparedStatement> eldest = idle.values().iterator();
+            PreparedStatement evicted = eldest.next();
+            eldest.remove();
+            discard(evicted);
+            counters.evicted.incrementAndGet();
+        }
+    }
+
+    private void discard(PreparedStatement statement) throws SQLException {
+        all.remove(statement);
+        statement.close();
+    }
+
+    private synchronized void closeAll() throws SQLException {
+        closed = true;
+        idle.clear();
+        SQLException failure = null;
+        for (PreparedStatement statement : all) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                failure = e;
+            }
+        }
+        all.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Ausgeliehenes Statement. Schließen gibt es an den Cache zurück; offene ResultSets
+     * werden dabei geschlossen, damit das Statement zurückgesetzt ist.
+     */
+    private final class Handle implements InvocationHandler {
+        private final String key;
+        private final PreparedStatement statement;
+        private final List<ResultSet> resultSets = new ArrayList<>(1);
+        private boolean released;
+
+        private Handle(String key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+        }
+
+        private PreparedStatement proxy() {
+            return (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("close")) {
+                if (!released) {
+                    released = true;
+                    closeResultSets();
+                    release(key, statement);
+                }
+                return null;
+            }
+            if (name.equals("isClosed")) {
+                return released || statement.isClosed();
+            }
+            if (released) {
+                throw new SQLException("Statement ist geschlossen");
+            }
+            Object result = StatementCache.invoke(statement, method, args);
+            if (result instanceof ResultSet resultSet) {
+                resultSets.add(resultSet);
+            }
+            return result;
+        }
+
+        private void closeResultSets() throws SQLException {
+            for (ResultSet resultSet : resultSets) {
+                resultSet.close();
+            }
+            resultSets.clear();
+        }
+    }
+}
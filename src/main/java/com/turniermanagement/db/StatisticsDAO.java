@@ -0,0 +1,32 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Statistics;
+import java.sql.SQLException;
+
+/**
+ * Interface für aggregierte Abfragen über den gesamten Datenbestand.
+ * Alle Kennzahlen werden per COUNT/SUM in der Datenbank berechnet, ohne Entitäten zu laden.
+ */
+public interface StatisticsDAO {
+
+    /**
+     * Ermittelt die Übersichtskennzahlen.
+     * @return Die aktuellen Kennzahlen
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    Statistics getStatistics() throws SQLException;
+
+    /**
+     * Zählt die Spieler.
+     * @return Anzahl der Spieler
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    long countPlayers() throws SQLException;
+
+    /**
+     * Zählt die Turniere.
+     * @return Anzahl der Turniere
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    long countTournaments() throws SQLException;
+}
@@ -2,6 +2,7 @@ package com.turniermanagement.db;
 
 import com.turniermanagement.model.Tournament;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Interface für den Datenbankzugriff auf Tournament-Objekte.
@@ -17,6 +18,15 @@ public interface TournamentDAO extends DAO<Tournament, Long> {
      */
     void deleteRound(Long roundId) throws SQLException;
     
+    /**
+     * Löscht alle Turniere mit ihren Runden, Matches und Spielerzuordnungen.
+     * Die Spieler selbst bleiben erhalten. Die Anzahl der SQL-Anweisungen ist
+     * unabhängig von der Datenmenge.
+     * 
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    void deleteAll() throws SQLException;
+    
     /**
      * Entfernt alle Spieler aus einem Turnier.
      * 
@@ -24,4 +34,16 @@ public interface TournamentDAO extends DAO<Tournament, Long> {
      * @throws SQLException Bei Datenbankfehlern
      */
     void removePlayers(Long tournamentId) throws SQLException;
+    
+    /**
+     * Lädt ein Turnier vollständig mit Spielern, Runden und Matches.
+     * Im Gegensatz zu {@link #findById(Object)} werden auch die Runden geladen. Die Anzahl der
+     * Abfragen ist unabhängig von der Turniergröße, und jeder Spieler existiert im geladenen
+     * Graphen nur einmal (Teilnehmerliste und Matches teilen sich dieselben Instanzen).
+     * 
+     * @param tournamentId Die ID des Turniers
+     * @return Optional mit dem vollständig geladenen Turnier oder leer, wenn keines gefunden wurde
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    Optional<Tournament> loadGraph(Long tournamentId) throws SQLException;
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.turniermanagement.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Abgleich der Verbindungstabelle tournament_player aus Sicht eines Spielers oder Turniers.
+ *
+ * Statt alle Zeilen zu löschen und neu einzufügen, wird der gespeicherte Stand mit einer
+ * Abfrage gelesen und nur die Differenz geschrieben: neue Beziehungen werden eingefügt,
+ * entfallene gelöscht und geänderte Rankings aktualisiert. Der Aufrufer verwaltet die
+ * Transaktion.
+ */
+final class TournamentPlayerRelations {
+
+    /**
+     * Ergebnis eines Abgleichs.
+     * @param added IDs der neu verknüpften Gegenseite
+     * @param removed IDs der nicht mehr verknüpften Gegenseite
+     * @param rankingsUpdated Anzahl der Beziehungen mit geändertem Ranking
+     */
+    record Changes(Set<Long> added, Set<Long> removed, int rankingsUpdated) {
+
+        /**
+         * Gibt die Anzahl der geschriebenen Zeilen zurück.
+         * @return Summe aus eingefügten, gelöschten und aktualisierten Zeilen
+         */
+        int rowCount() {
+            return added.size() + removed.size() + rankingsUpdated;
+        }
+    }
+
+    private TournamentPlayerRelations() {
+    }
+
+    /**
+     * Gleicht die Turniere eines Spielers ab.
+     * @param connection Die Verbindung der laufenden Schreibtransaktion
+     * @param playerId ID des Spielers
+     * @param rankings Gewünschte Turnier-IDs mit Ranking; null als Ranking behält den gespeicherten Wert
+     * @return Die geschriebenen Änderungen
+     * @throws SQLException bei Datenbankfehlern
+     */
+    static Changes syncPlayer(Connection connection, long playerId, Map<Long, Integer> rankings) throws SQLException {
+        return sync(connection, true, playerId, rankings);
+    }
+
+    /**
+     * Gleicht die Teilnehmer eines Turniers ab.
+     * @param connection Die Verbindung der laufenden Schreibtransaktion
+     * @param tournamentId ID des Turniers
+     * @param rankings Gewünschte Spieler-IDs mit Ranking; null als Ranking behält den gespeicherten Wert
+     * @return Die geschriebenen Änderungen
+     * @throws SQLException bei Datenbankfehlern
+     */
+    static Changes syncTournament(Connection connection, long tournamentId, Map<Long, Integer> rankings) throws SQLException {
+        return sync(connection, false, tournamentId, rankings);
+    }
+
+    private static Changes sync(Connection connection, boolean byPlayer, long ownerId,
+                                Map<Long, Integer> rankings) throws SQLException {
+        String ownerColumn = byPlayer ? "player_id" : "tournament_id";
+        String otherColumn = byPlayer ? "tournament_id" : "player_id";
+
+        // Gespeicherter Stand in einer Abfrage
+        Map<Long, Integer> stored = new HashMap<>();
+        String selectSql = "SELECT " + otherColumn + ", ranking FROM tournament_player WHERE " + ownerColumn + " = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(selectSql)) {
+            pstmt.setLong(1, ownerId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int ranking = rs.getInt(2);
+                    stored.put(rs.getLong(1), rs.wasNull() ? null : ranking);
+                }
+            }
+        }
+
+        Set<Long> added = new HashSet<>();
+        Set<Long> removed = new HashSet<>(stored.keySet());
+        Map<Long, Integer> changedRankings = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : rankings.entrySet()) {
+            Long otherId = entry.getKey();
+            Integer ranking = entry.getValue();
+            if (!stored.containsKey(otherId)) {
+                added.add(otherId);
+            } else {
+                removed.remove(otherId);
+                if (ranking != null && !Objects.equals(stored.get(otherId), ranking)) {
+                    changedRankings.put(otherId, ranking);
+                }
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            String deleteSql = "DELETE FROM tournament_player WHERE " + ownerColumn + " = ? AND " + otherColumn + " = ?";
+            try (PreparedStatement pstmt = connection.prepareStatement(deleteSql)) {
+                for (Long otherId : removed) {
+                    pstmt.setLong(1, ownerId);
+                    pstmt.setLong(2, otherId);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+        }
+
+        if (!added.isEmpty()) {
+            String insertSql = "INSERT INTO tournament_player (" + ownerColumn + ", " + otherColumn + ", ranking) VALUES (?, ?, ?)";
+            try (PreparedStatement pstmt = connection.prepareStatement(insertSql)) {
+                for (Long otherId : added) {
+                    Integer ranking = rankings.get(otherId);
+                    pstmt.setLong(1, ownerId);
+                    pstmt.setLong(2, otherId);
+                    pstmt.setInt(3, ranking != null ? ranking : 0);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+        }
+
+        if (!changedRankings.isEmpty()) {
+            String updateSql = "UPDATE tournament_player SET ranking = ? WHERE " + ownerColumn + " = ? AND " + otherColumn + " = ?";
+            try (PreparedStatement pstmt = connection.prepareStatement(updateSql)) {
+                for (Map.Entry<Long, Integer> entry : changedRankings.entrySet()) {
+                    pstmt.setInt(1, entry.getValue());
+                    pstmt.setLong(2, ownerId);
+                    pstmt.setLong(3, entry.getKey());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+        }
+
+        return new Changes(added, removed, changedRankings.size());
+    }
+}
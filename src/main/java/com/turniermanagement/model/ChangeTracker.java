@@ -0,0 +1,82 @@
+package com.turniermanagement.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Merkt sich, welche Felder einer Entität seit dem letzten Laden oder Speichern geändert wurden.
+ *
+ * Die DAOs markieren eine Entität nach dem Laden bzw. Schreiben als unverändert und
+ * schreiben bei Aktualisierungen nur noch die geänderten Spalten. Solange eine Entität
+ * noch nicht über ein DAO geladen oder gespeichert wurde, gelten alle Felder als geändert.
+ *
+ * @param <F> Aufzählung der verfolgten Felder
+ */
+public final class ChangeTracker<F extends Enum<F>> {
+    private final Class<F> fieldType;
+    private final EnumSet<F> dirtyFields;
+    private boolean tracking;
+
+    ChangeTracker(Class<F> fieldType) {
+        this.fieldType = fieldType;
+        this.dirtyFields = EnumSet.noneOf(fieldType);
+    }
+
+    /**
+     * Vermerkt die Änderung eines Feldes.
+     * @param field Das geänderte Feld
+     */
+    void markDirty(F field) {
+        dirtyFields.add(field);
+    }
+
+    /**
+     * Gibt an, ob der Zustand seit dem letzten Laden oder Speichern verfolgt wird.
+     * @return true, wenn die Entität bereits geladen oder gespeichert wurde
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * Gibt an, ob die Entität geschrieben werden muss.
+     * @return true, wenn mindestens ein Feld geändert wurde oder nicht verfolgt wird
+     */
+    public boolean isDirty() {
+        return !tracking || !dirtyFields.isEmpty();
+    }
+
+    /**
+     * Gibt an, ob ein bestimmtes Feld geschrieben werden muss.
+     * @param field Das Feld
+     * @return true, wenn das Feld geändert wurde oder nicht verfolgt wird
+     */
+    public boolean isDirty(F field) {
+        return !tracking || dirtyFields.contains(field);
+    }
+
+    /**
+     * Gibt alle zu schreibenden Felder zurück.
+     * @return Die geänderten Felder bzw. alle Felder, solange nicht verfolgt wird
+     */
+    public Set<F> getDirtyFields() {
+        return Collections.unmodifiableSet(tracking ? EnumSet.copyOf(dirtyFields) : EnumSet.allOf(fieldType));
+    }
+
+    /**
+     * Markiert die Entität als mit der Datenbank übereinstimmend.
+     */
+    public void markClean() {
+        dirtyFields.clear();
+        tracking = true;
+    }
+
+    /**
+     * Markiert ein einzelnes Feld als mit der Datenbank übereinstimmend.
+     * @param field Das Feld
+     */
+    public void markClean(F field) {
+        dirtyFields.remove(field);
+    }
+}
@@ -3,6 +3,13 @@ package com.turniermanagement.model;
 import java.util.Objects;
 
 public class Match {
+
+    /**
+     * Verfolgte Felder eines Matches.
+     */
+    public enum Field { PLAYER1, PLAYER2, WINNER, SCORE_PLAYER1, SCORE_PLAYER2, STATUS }
+
+    private final ChangeTracker<Field> changes = new ChangeTracker<>(Field.class);
     private Long id;
     private Player player1;
     private Player player2;
@@ -22,14 +29,14 @@ public class Match {
     }
 
     public void setResult(int scorePlayer1, int scorePlayer2) {
-        this.scorePlayer1 = scorePlayer1;
-        this.scorePlayer2 = scorePlayer2;
+        setScorePlayer1(scorePlayer1);
+        setScorePlayer2(scorePlayer2);
         if (scorePlayer1 > scorePlayer2) {
-            this.winner = player1;
+            setWinner(player1);
         } else if (scorePlayer2 > scorePlayer1) {
-            this.winner = player2;
+            setWinner(player2);
         }
-        this.status = MatchStatus.COMPLETED;
+        setStatus(MatchStatus.COMPLETED);
     }
 
     @Override
@@ -55,15 +62,51 @@ public class Match {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public Player getPlayer1() { return player1; }
-    public void setPlayer1(Player player1) { this.player1 = player1; }
+    public void setPlayer1(Player player1) {
+        if (!Objects.equals(this.player1, player1)) {
+            this.player1 = player1;
+            changes.markDirty(Field.PLAYER1);
+        }
+    }
     public Player getPlayer2() { return player2; }
-    public void setPlayer2(Player player2) { this.player2 = player2; }
+    public void setPlayer2(Player player2) {
+        if (!Objects.equals(this.player2, player2)) {
+            this.player2 = player2;
+            changes.markDirty(Field.PLAYER2);
+        }
+    }
     public Player getWinner() { return winner; }
-    public void setWinner(Player winner) { this.winner = winner; }
+    public void setWinner(Player winner) {
+        if (!Objects.equals(this.winner, winner)) {
+            this.winner = winner;
+            changes.markDirty(Field.WINNER);
+        }
+    }
     public int getScorePlayer1() { return scorePlayer1; }
-    public void setScorePlayer1(int scorePlayer1) { this.scorePlayer1 = scorePlayer1; }
+    public void setScorePlayer1(int scorePlayer1) {
+        if (this.scorePlayer1 != scorePlayer1) {
+            this.scorePlayer1 = scorePlayer1;
+            changes.markDirty(Field.SCORE_PLAYER1);
+        }
+    }
     public int getScorePlayer2() { return scorePlayer2; }
-    public void setScorePlayer2(int scorePlayer2) { this.scorePlayer2 = scorePlayer2; }
+    public void setScorePlayer2(int scorePlayer2) {
+        if (this.scorePlayer2 != scorePlayer2) {
+            this.scorePlayer2 = scorePlayer2;
+            changes.markDirty(Field.SCORE_PLAYER2);
+        }
+    }
     public MatchStatus getStatus() { return status; }
-    public void setStatus(MatchStatus status) { this.status = status; }
+    public void setStatus(MatchStatus status) {
+        if (this.status != status) {
+            this.status = status;
+            changes.markDirty(Field.STATUS);
+        }
+    }
+
+    /**
+     * Gibt die seit dem letzten Laden oder Speichern geänderten Felder zurück.
+     * @return Die Änderungsverfolgung des Matches
+     */
+    public ChangeTracker<Field> getChanges() { return changes; }
 }
\ No newline at end of file
@@ -7,13 +7,21 @@ import java.util.Map;
 import java.util.Objects;
 
 public class Player {
+
+    /**
+     * Verfolgte Felder eines Spielers.
+     */
+    public enum Field { NAME, EMAIL, GAMES_WON, GAMES_LOST, TOURNAMENTS }
+
+    private final ChangeTracker<Field> changes = new ChangeTracker<>(Field.class);
     private Long id;
     private String name;
     private String email;
-    private Map<Tournament, Integer> tournamentRankings;
+    // Beim Laden werden die Beziehungen als Ganzes ersetzt, siehe IdentityMap
+    private volatile Map<Tournament, Integer> tournamentRankings;
     private int gamesWon;
     private int gamesLost;
-    private List<Tournament> tournaments;
+    private volatile List<Tournament> tournaments;
 
     public Player() {
         this.tournaments = new ArrayList<>();
@@ -37,20 +45,35 @@ public class Player {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+            changes.markDirty(Field.NAME);
+        }
+    }
     public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
+    public void setEmail(String email) {
+        if (!Objects.equals(this.email, email)) {
+            this.email = email;
+            changes.markDirty(Field.EMAIL);
+        }
+    }
     
     // Neue Methoden für tournamentRankings
     public Map<Tournament, Integer> getTournamentRankings() { return tournamentRankings; }
-    public void setTournamentRankings(Map<Tournament, Integer> tournamentRankings) { this.tournamentRankings = tournamentRankings; }
+    public void setTournamentRankings(Map<Tournament, Integer> tournamentRankings) {
+        this.tournamentRankings = tournamentRankings;
+        changes.markDirty(Field.TOURNAMENTS);
+    }
     
     public Integer getRanking(Tournament tournament) {
         return tournamentRankings.getOrDefault(tournament, 0);
     }
     
     public void setRanking(Tournament tournament, int ranking) {
-        tournamentRankings.put(tournament, ranking);
+        if (!Integer.valueOf(ranking).equals(tournamentRankings.put(tournament, ranking))) {
+            changes.markDirty(Field.TOURNAMENTS);
+        }
     }
     
     // Alte Ranking-Methoden für Abwärtskompatibilität 
@@ -64,20 +87,42 @@ public class Player {
     public void setRanking(int ranking) { 
         // Setzt das Ranking für alle Turniere (nicht empfohlen)
         tournaments.forEach(tournament -> tournamentRankings.put(tournament, ranking));
+        changes.markDirty(Field.TOURNAMENTS);
     }
     
     public int getGamesWon() { return gamesWon; }
-    public void setGamesWon(int gamesWon) { this.gamesWon = gamesWon; }
+    public void setGamesWon(int gamesWon) {
+        if (this.gamesWon != gamesWon) {
+            this.gamesWon = gamesWon;
+            changes.markDirty(Field.GAMES_WON);
+        }
+    }
     public int getGamesLost() { return gamesLost; }
-    public void setGamesLost(int gamesLost) { this.gamesLost = gamesLost; }
+    public void setGamesLost(int gamesLost) {
+        if (this.gamesLost != gamesLost) {
+            this.gamesLost = gamesLost;
+            changes.markDirty(Field.GAMES_LOST);
+        }
+    }
     public List<Tournament> getTournaments() { return tournaments; }
-    public void setTournaments(List<Tournament> tournaments) { this.tournaments = tournaments; }
+    public void setTournaments(List<Tournament> tournaments) {
+        this.tournaments = tournaments;
+        changes.markDirty(Field.TOURNAMENTS);
+    }
+
+    /**
+     * Gibt die seit dem letzten Laden oder Speichern geänderten Felder zurück.
+     * Direkte Änderungen an den Listen und Maps werden nicht erfasst.
+     * @return Die Änderungsverfolgung des Spielers
+     */
+    public ChangeTracker<Field> getChanges() { return changes; }
 
     public void addTournament(Tournament tournament) {
         if (!tournaments.contains(tournament)) {
             tournaments.add(tournament);
             // Standardmäßig Ranking auf 0 setzen
             tournamentRankings.put(tournament, 0);
+            changes.markDirty(Field.TOURNAMENTS);
         }
     }
 
@@ -85,6 +130,7 @@ public class Player {
         if (tournaments.remove(tournament)) {
             // Ranking entfernen
             tournamentRankings.remove(tournament);
+            changes.markDirty(Field.TOURNAMENTS);
         }
     }
 
@@ -102,6 +148,8 @@ public class Player {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, email, gamesWon, gamesLost);
+        // Gespeicherte Spieler werden nur über die ID gestreut, damit sich der Hashwert
+        // kanonischer Instanzen bei Änderungen nicht verschiebt
+        return id != null ? Long.hashCode(id) : Objects.hash(name, email, gamesWon, gamesLost);
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.turniermanagement.model;
+
+/**
+ * Glicko-2-Wertung eines Spielers nach einem gewerteten Match, auf der Elo-Skala.
+ * @param playerId ID des Spielers
+ * @param matchId ID des Matches, nach dem die Wertung gilt (null für die Anfangswertung)
+ * @param rating Wertungszahl
+ * @param deviation Wertungsabweichung (RD); je kleiner, desto verlässlicher die Wertungszahl
+ * @param volatility Volatilität, d.h. die erwartete Schwankung der Spielstärke
+ */
+public record Rating(long playerId, Long matchId, double rating, double deviation, double volatility) {
+
+    /** Wertungszahl eines neuen Spielers. */
+    public static final double INITIAL_RATING = 1500;
+    /** Wertungsabweichung eines neuen Spielers. */
+    public static final double INITIAL_DEVIATION = 350;
+    /** Volatilität eines neuen Spielers. */
+    public static final double INITIAL_VOLATILITY = 0.06;
+
+    /**
+     * Gibt die Anfangswertung eines noch nicht gewerteten Spielers zurück.
+     * @param playerId ID des Spielers
+     * @return Die Anfangswertung
+     */
+    public static Rating initial(long playerId) {
+        return new Rating(playerId, null, INITIAL_RATING, INITIAL_DEVIATION, INITIAL_VOLATILITY);
+    }
+}
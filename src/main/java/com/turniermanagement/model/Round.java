@@ -5,6 +5,13 @@ import java.util.List;
 import java.util.Objects;
 
 public class Round {
+
+    /**
+     * Verfolgte Felder einer Runde.
+     */
+    public enum Field { ROUND_NUMBER, COMPLETED, MATCHES }
+
+    private final ChangeTracker<Field> changes = new ChangeTracker<>(Field.class);
     private Long id;
     private int roundNumber;
     private List<Match> matches;
@@ -22,6 +29,7 @@ public class Round {
 
     public void addMatch(Match match) {
         matches.add(match);
+        changes.markDirty(Field.MATCHES);
     }
 
     public boolean isRoundComplete() {
@@ -48,9 +56,29 @@ public class Round {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public int getRoundNumber() { return roundNumber; }
-    public void setRoundNumber(int roundNumber) { this.roundNumber = roundNumber; }
+    public void setRoundNumber(int roundNumber) {
+        if (this.roundNumber != roundNumber) {
+            this.roundNumber = roundNumber;
+            changes.markDirty(Field.ROUND_NUMBER);
+        }
+    }
     public List<Match> getMatches() { return matches; }
-    public void setMatches(List<Match> matches) { this.matches = matches; }
+    public void setMatches(List<Match> matches) {
+        this.matches = matches;
+        changes.markDirty(Field.MATCHES);
+    }
     public boolean isCompleted() { return completed; }
-    public void setCompleted(boolean completed) { this.completed = completed; }
+    public void setCompleted(boolean completed) {
+        if (this.completed != completed) {
+            this.completed = completed;
+            changes.markDirty(Field.COMPLETED);
+        }
+    }
+
+    /**
+     * Gibt die seit dem letzten Laden oder Speichern geänderten Felder zurück.
+     * Änderungen an den Matches selbst verfolgt jedes Match für sich.
+     * @return Die Änderungsverfolgung der Runde
+     */
+    public ChangeTracker<Field> getChanges() { return changes; }
 }
\ No newline at end of file
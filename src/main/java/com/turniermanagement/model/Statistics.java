@@ -0,0 +1,36 @@
+package com.turniermanagement.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Übersichtskennzahlen über den gesamten Datenbestand, z.B. für Dashboards.
+ * @param playerCount Anzahl der Spieler
+ * @param tournamentCount Anzahl der Turniere
+ * @param tournamentsByStatus Anzahl der Turniere je Status (fehlende Status haben den Wert 0)
+ * @param matchCount Anzahl aller Matches
+ * @param completedMatchCount Anzahl der abgeschlossenen Matches
+ * @param gamesWon Summe der gewonnenen Spiele aller Spieler
+ * @param gamesLost Summe der verlorenen Spiele aller Spieler
+ */
+public record Statistics(long playerCount, long tournamentCount, Map<TournamentStatus, Long> tournamentsByStatus,
+                         long matchCount, long completedMatchCount, long gamesWon, long gamesLost) {
+
+    public Statistics {
+        EnumMap<TournamentStatus, Long> counts = new EnumMap<>(TournamentStatus.class);
+        for (TournamentStatus status : TournamentStatus.values()) {
+            counts.put(status, tournamentsByStatus.getOrDefault(status, 0L));
+        }
+        tournamentsByStatus = Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Gibt die Anzahl der Turniere mit dem angegebenen Status zurück.
+     * @param status Der Turnierstatus
+     * @return Anzahl der Turniere
+     */
+    public long getTournamentCount(TournamentStatus status) {
+        return tournamentsByStatus.get(status);
+    }
+}
@@ -6,12 +6,20 @@ import java.util.List;
 import java.util.Objects;
 
 public class Tournament {
+
+    /**
+     * Verfolgte Felder eines Turniers.
+     */
+    public enum Field { NAME, START_DATE, END_DATE, STATUS, PLAYERS }
+
+    private final ChangeTracker<Field> changes = new ChangeTracker<>(Field.class);
     private Long id;
     private String name;
     private LocalDate startDate;
     private LocalDate endDate;
-    private List<Player> players;
-    private List<Round> rounds;
+    // Beim Laden werden die Listen als Ganzes ersetzt, siehe IdentityMap
+    private volatile List<Player> players;
+    private volatile List<Round> rounds;
     private TournamentStatus status;
 
     public Tournament() {
@@ -31,26 +39,59 @@ public class Tournament {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+            changes.markDirty(Field.NAME);
+        }
+    }
     public LocalDate getStartDate() { return startDate; }
-    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    public void setStartDate(LocalDate startDate) {
+        if (!Objects.equals(this.startDate, startDate)) {
+            this.startDate = startDate;
+            changes.markDirty(Field.START_DATE);
+        }
+    }
     public LocalDate getEndDate() { return endDate; }
-    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    public void setEndDate(LocalDate endDate) {
+        if (!Objects.equals(this.endDate, endDate)) {
+            this.endDate = endDate;
+            changes.markDirty(Field.END_DATE);
+        }
+    }
     public List<Player> getPlayers() { return players; }
-    public void setPlayers(List<Player> players) { this.players = players; }
+    public void setPlayers(List<Player> players) {
+        this.players = players;
+        changes.markDirty(Field.PLAYERS);
+    }
     public List<Round> getRounds() { return rounds; }
     public void setRounds(List<Round> rounds) { this.rounds = rounds; }
     public TournamentStatus getStatus() { return status; }
-    public void setStatus(TournamentStatus status) { this.status = status; }
+    public void setStatus(TournamentStatus status) {
+        if (this.status != status) {
+            this.status = status;
+            changes.markDirty(Field.STATUS);
+        }
+    }
+
+    /**
+     * Gibt die seit dem letzten Laden oder Speichern geänderten Felder zurück.
+     * Direkte Änderungen an den Listen werden nicht erfasst.
+     * @return Die Änderungsverfolgung des Turniers
+     */
+    public ChangeTracker<Field> getChanges() { return changes; }
 
     public void addPlayer(Player player) {
         if (!players.contains(player)) {
             players.add(player);
+            changes.markDirty(Field.PLAYERS);
         }
     }
 
     public void removePlayer(Player player) {
-        players.remove(player);
+        if (players.remove(player)) {
+            changes.markDirty(Field.PLAYERS);
+        }
     }
 
     public void addRound(Round round) {
@@ -71,6 +112,8 @@ public class Tournament {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, startDate, endDate, status);
+        // Gespeicherte Turniere werden nur über die ID gestreut, damit sich der Hashwert
+        // kanonischer Instanzen (z.B. als Schlüssel der Spieler-Rankings) bei Statuswechseln nicht verschiebt
+        return id != null ? Long.hashCode(id) : Objects.hash(name, startDate, endDate, status);
     }
 }
\ No newline at end of file
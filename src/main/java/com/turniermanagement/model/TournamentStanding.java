@@ -0,0 +1,14 @@
+package com.turniermanagement.model;
+
+/**
+ * Gespeicherter Tabelleneintrag eines Spielers in einem Turnier.
+ * @param tournamentId ID des Turniers
+ * @param playerId ID des Spielers
+ * @param rank Tabellenplatz, beginnend bei 1
+ * @param points Punkte: Sieg und Freilos zählen einen Punkt, Remis einen halben
+ * @param games Anzahl der gewerteten Matches einschließlich Freilosen
+ * @param buchholz Summe der aktuellen Punkte aller bisherigen Gegner
+ */
+public record TournamentStanding(long tournamentId, long playerId, int rank, double points, int games,
+                                 double buchholz) {
+}
@@ -0,0 +1,317 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Paarung über ein gewichtetes perfektes Matching maximalen Gewichts (Edmonds' Blossom).
+ *
+ * Die Spieler bilden die Knoten eines Kompatibilitätsgraphen; bei ungerader Teilnehmerzahl
+ * kommt ein Freilos-Knoten hinzu. Jede Kante trägt eine Strafe, die in dieser Rangfolge
+ * gewichtet wird:
+ * <ol>
+ *   <li>Wiederholte Paarungen und wiederholte Freilose (nur, wenn es ohne nicht geht)</li>
+ *   <li>Wertungsdifferenz (quadratisch, hält Punktgruppen zusammen)</li>
+ *   <li>Farbkonflikte (beide Spieler sind für dieselbe Farbe fällig)</li>
+ *   <li>Abstand in der Rangliste</li>
+ * </ol>
+ * Gesucht wird das perfekte Matching mit minimaler Gesamtstrafe. Damit erhalten stets alle
+ * Spieler einen Gegner, und höchstens einer ein Freilos.
+ *
+ * Damit auch große Opens schnell gepaart werden, enthält der Graph nur Kanten zu den nächsten
+ * {@code window} Spielern der Rangliste, und große Felder werden wie im holländischen System
+ * von oben nach unten in Blöcken von etwa {@value #BLOCK_SIZE} Spielern gepaart. Bleibt in einem
+ * Block ein Spieler übrig, wird er in den nächsten Block heruntergelost. Hat ein Block kein
+ * perfektes Matching ohne wiederholte Paarungen, wird er um den nächsten Block erweitert; gelingt
+ * auch das nicht, wird das ganze Feld gemeinsam gepaart und das Fenster schrittweise bis zum
+ * vollständigen Graphen vergrößert.
+ */
+public class BlossomPairingEngine implements PairingEngine {
+    /** Standardgröße des Paarungsfensters. */
+    public static final int DEFAULT_WINDOW = 12;
+
+    private static final int WINDOW_GROWTH = 4;
+    private static final int BLOCK_SIZE = 256;
+    private static final long RANK_WEIGHT = 1L;
+    private static final long COLOR_WEIGHT = 10_000L;
+    private static final long SCORE_WEIGHT = 10_000_000L;
+    private static final long REPEAT_PENALTY = 1L << 48;
+    // Begrenzt die Wertungsdifferenz, damit Wiederholungen stets teurer bleiben
+    private static final long MAX_SCORE_DIFF = 4096;
+
+    private final int window;
+
+    /**
+     * Erstellt eine Paarungsstrategie mit {@link #DEFAULT_WINDOW}.
+     */
+    public BlossomPairingEngine() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * Erstellt eine Paarungsstrategie mit dem angegebenen Paarungsfenster.
+     * @param window Anzahl der in der Rangliste folgenden Spieler, die zunächst als Gegner in Frage kommen
+     * @throws IllegalArgumentException Wenn das Fenster nicht positiv ist
+     */
+    public BlossomPairingEngine(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Pairing window must be positive");
+        }
+        this.window = window;
+    }
+
+    @Override
+    public List<Match> pair(List<Player> rankedPlayers, ToIntFunction<Player> score, PairingHistory history) {
+        int n = rankedPlayers.size();
+        List<Match> matches = new ArrayList<>();
+        if (n == 0) {
+            return matches;
+        }
+        if (n == 1) {
+            matches.add(PairingEngine.bye(rankedPlayers.get(0)));
+            return matches;
+        }
+
+        Player[] players = rankedPlayers.toArray(new Player[0]);
+        int[] scores = new int[n];
+        int[] colorBalance = new int[n];
+        int[] lastColor = new int[n];
+        int minScore = Integer.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            scores[i] = score.applyAsInt(players[i]);
+            colorBalance[i] = history.getColorBalance(players[i]);
+            lastColor[i] = history.getLastColor(players[i]);
+            minScore = Math.min(minScore, scores[i]);
+        }
+        Candidates candidates = new Candidates(players, scores, colorBalance, lastColor, minScore, history);
+
+        int[] mate = pairBlocks(candidates, n);
+        if (mate == null) {
+            mate = pairAll(candidates, n);
+        }
+        return toMatches(players, mate, colorBalance, lastColor);
+    }
+
+    /**
+     * Paart das Feld blockweise von oben nach unten.
+     * @return Die Partner je Spieler (n steht für das Freilos) oder null, wenn der letzte Block
+     *         nicht ohne wiederholte Paarungen gepaart werden kann
+     */
+    private int[] pairBlocks(Candidates candidates, int n) {
+        int[] mate = new int[n];
+        int start = 0;
+        int floater = -1;
+        while (start < n) {
+            int end = blockEnd(start, n);
+            int[] members;
+            int[] blockMate;
+            while (true) {
+                members = blockMembers(floater, start, end);
+                blockMate = candidates.solve(members, window, false, end == n);
+                if (blockMate != null) {
+                    break;
+                }
+                if (end == n) {
+                    return null;
+                }
+                end = blockEnd(end, n);
+            }
+
+            floater = -1;
+            for (int a = 0; a < members.length; a++) {
+                int partner = blockMate[a];
+                if (partner < members.length) {
+                    mate[members[a]] = members[partner];
+                } else if (end == n) {
+                    mate[members[a]] = n;
+                } else {
+                    floater = members[a];
+                }
+            }
+            start = end;
+        }
+        return mate;
+    }
+
+    /**
+     * Paart das ganze Feld gemeinsam und vergrößert das Fenster, bis ein perfektes Matching existiert.
+     */
+    private int[] pairAll(Candidates candidates, int n) {
+        int[] members = blockMembers(-1, 0, n);
+        for (long currentWindow = window; ; currentWindow *= WINDOW_GROWTH) {
+            // Der vollständige Graph enthält alle Kanten und hat daher immer ein perfektes Matching
+            boolean complete = currentWindow >= n;
+            int[] blockMate = candidates.solve(members, complete ? n : (int) currentWindow, complete, true);
+            if (blockMate != null) {
+                return blockMate;
+            }
+        }
+    }
+
+    private static int blockEnd(int start, int n) {
+        int end = start + BLOCK_SIZE;
+        // Einen kleinen Rest am Ende nicht als eigenen Block paaren
+        return n - end < BLOCK_SIZE / 2 ? n : end;
+    }
+
+    private static int[] blockMembers(int floater, int start, int end) {
+        int offset = floater >= 0 ? 1 : 0;
+        int[] members = new int[end - start + offset];
+        if (floater >= 0) {
+            members[0] = floater;
+        }
+        for (int i = start; i < end; i++) {
+            members[i - start + offset] = i;
+        }
+        return members;
+    }
+
+    private static List<Match> toMatches(Player[] players, int[] mate, int[] colorBalance, int[] lastColor) {
+        int n = players.length;
+        List<Match> matches = new ArrayList<>();
+        Match bye = null;
+        for (int i = 0; i < n; i++) {
+            int j = mate[i];
+            if (j == n) {
+                bye = PairingEngine.bye(players[i]);
+            } else if (i < j) {
+                matches.add(whiteFirst(i, j, colorBalance, lastColor)
+                        ? PairingEngine.scheduled(players[i], players[j])
+                        : PairingEngine.scheduled(players[j], players[i]));
+            }
+        }
+        if (bye != null) {
+            matches.add(bye);
+        }
+        return matches;
+    }
+
+    /**
+     * Bestimmt, ob der besser platzierte Spieler i Weiß erhält: Weiß bekommt, wer bisher
+     * seltener Weiß hatte, bei Gleichstand wer zuletzt Schwarz hatte, sonst der Besserplatzierte.
+     */
+    private static boolean whiteFirst(int i, int j, int[] colorBalance, int[] lastColor) {
+        if (colorBalance[i] != colorBalance[j]) {
+            return colorBalance[i] < colorBalance[j];
+        }
+        if (lastColor[i] != lastColor[j]) {
+            return lastColor[i] < lastColor[j];
+        }
+        return true;
+    }
+
+    /**
+     * Baut den Kompatibilitätsgraphen für ein Paarungsfenster auf und löst das Matching.
+     */
+    private static final class Candidates {
+        private final Player[] players;
+        private final int[] scores;
+        private final int[] colorBalance;
+        private final int[] lastColor;
+        private final int minScore;
+        private final PairingHistory history;
+
+        private Candidates(Player[] players, int[] scores, int[] colorBalance, int[] lastColor,
+                           int minScore, PairingHistory history) {
+            this.players = players;
+            this.scores = scores;
+            this.colorBalance = colorBalance;
+            this.lastColor = lastColor;
+            this.minScore = minScore;
+            this.history = history;
+        }
+
+        /**
+         * Löst das Matching für einen Block aufeinanderfolgender Spieler der Rangliste.
+         * Bei ungerader Größe kommt ein zusätzlicher Knoten hinzu: im letzten Block das Freilos,
+         * sonst das Herunterlosen in den nächsten Block.
+         * @param members Indizes der Spieler in Ranglistenreihenfolge
+         * @param window Anzahl der im Block folgenden Spieler, zu denen Kanten entstehen
+         * @param allowRepeats Ob wiederholte Paarungen und Freilose (mit hoher Strafe) zulässig sind
+         * @param last Ob der Block das Ende der Rangliste erreicht
+         * @return Die Partner je Blockposition (members.length steht für den zusätzlichen Knoten)
+         *         oder null, wenn kein perfektes Matching existiert
+         */
+        int[] solve(int[] members, int window, boolean allowRepeats, boolean last) {
+            int size = members.length;
+            boolean odd = size % 2 == 1;
+            int vertexCount = odd ? size + 1 : size;
+            // Heruntergeloste Spieler sollen möglichst wenig Punkte über dem nächsten Block liegen
+            int targetScore = last || !odd ? minScore : scores[members[size - 1] + 1];
+
+            int capacity = size * Math.min(window, size - 1) + (odd ? size : 0);
+            int[] from = new int[capacity];
+            int[] to = new int[capacity];
+            long[] penalty = new long[capacity];
+            int edges = 0;
+            for (int a = 0; a < size; a++) {
+                int i = members[a];
+                for (int b = a + 1; b <= Math.min(size - 1, a + window); b++) {
+                    int j = members[b];
+                    boolean rematch = history.havePlayed(players[i], players[j]);
+                    if (rematch && !allowRepeats) {
+                        continue;
+                    }
+                    from[edges] = a;
+                    to[edges] = b;
+                    penalty[edges] = pairingPenalty(i, j, b - a) + (rematch ? REPEAT_PENALTY : 0);
+                    edges++;
+                }
+                if (odd) {
+                    boolean repeatedBye = last && history.hasHadBye(players[i]);
+                    if (repeatedBye && !allowRepeats) {
+                        continue;
+                    }
+                    from[edges] = a;
+                    to[edges] = size;
+                    penalty[edges] = extraPenalty(i, targetScore, size - 1 - a) + (repeatedBye ? REPEAT_PENALTY : 0);
+                    edges++;
+                }
+            }
+
+            // Alle perfekten Matchings haben gleich viele Kanten; maximales Gewicht
+            // entspricht daher minimaler Gesamtstrafe
+            long maxPenalty = 0;
+            for (int k = 0; k < edges; k++) {
+                maxPenalty = Math.max(maxPenalty, penalty[k]);
+            }
+            long[] weight = new long[edges];
+            for (int k = 0; k < edges; k++) {
+                weight[k] = maxPenalty + 1 - penalty[k];
+            }
+
+            return MaximumWeightMatching.maximumWeightPerfect(vertexCount,
+                    Arrays.copyOf(from, edges), Arrays.copyOf(to, edges), weight);
+        }
+
+        private long pairingPenalty(int i, int j, int rankDistance) {
+            long scoreDiff = Math.min(Math.abs((long) scores[i] - scores[j]), MAX_SCORE_DIFF);
+            return SCORE_WEIGHT * scoreDiff * scoreDiff
+                    + COLOR_WEIGHT * colorConflict(i, j)
+                    + RANK_WEIGHT * rankDistance;
+        }
+
+        private long extraPenalty(int i, int targetScore, int rankFromEnd) {
+            // Freilos und Herunterlosen treffen bevorzugt den schwächsten Spieler der untersten Punktgruppe
+            long scoreDiff = Math.min(Math.abs((long) scores[i] - targetScore), MAX_SCORE_DIFF);
+            return SCORE_WEIGHT * scoreDiff * scoreDiff + RANK_WEIGHT * rankFromEnd;
+        }
+
+        private int colorConflict(int i, int j) {
+            int bi = colorBalance[i];
+            int bj = colorBalance[j];
+            if (bi > 0 && bj > 0) {
+                return Math.min(bi, bj);
+            }
+            if (bi < 0 && bj < 0) {
+                return Math.min(-bi, -bj);
+            }
+            return lastColor[i] != 0 && lastColor[i] == lastColor[j] ? 1 : 0;
+        }
+    }
+}
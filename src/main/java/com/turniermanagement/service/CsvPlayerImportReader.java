@@ -0,0 +1,145 @@
+package com.turniermanagement.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inkrementeller CSV-Parser für den Spielerimport.
+ * Unterstützt Felder in Anführungszeichen (inkl. verdoppelter Anführungszeichen und Zeilenumbrüchen).
+ */
+class CsvPlayerImportReader extends PlayerImportReader {
+    private final BufferedReader reader;
+    private char delimiter = ',';
+    private int nameColumn = 0;
+    private int emailColumn = 1;
+    private int lineNumber = 1;
+    private boolean started;
+    private Row pending;
+
+    CsvPlayerImportReader(BufferedReader reader) {
+        super(reader);
+        this.reader = reader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        if (!started) {
+            start();
+        }
+        if (pending != null) {
+            Row row = pending;
+            pending = null;
+            return row;
+        }
+        while (true) {
+            int recordLine = lineNumber;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue; // Leerzeile
+            }
+            return toRow(recordLine, fields);
+        }
+    }
+
+    /**
+     * Erkennt Trennzeichen und Kopfzeile anhand des ersten Datensatzes.
+     */
+    private void start() throws IOException {
+        started = true;
+        reader.mark(8192);
+        String firstLine = reader.readLine();
+        reader.reset();
+        if (firstLine != null && firstLine.indexOf(';') >= 0 && firstLine.indexOf(',') < 0) {
+            delimiter = ';';
+        }
+
+        int recordLine = lineNumber;
+        List<String> fields = readRecord();
+        if (fields == null) {
+            return;
+        }
+        int headerName = -1;
+        int headerEmail = -1;
+        for (int i = 0; i < fields.size(); i++) {
+            String column = fields.get(i).trim();
+            if (column.equalsIgnoreCase("name")) {
+                headerName = i;
+            } else if (column.equalsIgnoreCase("email") || column.equalsIgnoreCase("e-mail")) {
+                headerEmail = i;
+            }
+        }
+        if (headerName >= 0) {
+            nameColumn = headerName;
+            emailColumn = headerEmail;
+        } else if (!(fields.size() == 1 && fields.get(0).isBlank())) {
+            pending = toRow(recordLine, fields);
+        }
+    }
+
+    private Row toRow(int line, List<String> fields) {
+        return new Row(line, field(fields, nameColumn), field(fields, emailColumn));
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Liest einen Datensatz, der sich bei Feldern in Anführungszeichen über mehrere Zeilen erstrecken kann.
+     * @return Die Felder oder null am Ende der Quelle
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Invalid CSV in line " + lineNumber + ": unterminated quoted field");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == -1 || c == '\n') {
+                fields.add(field.toString());
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                return fields;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Rating;
+
+/**
+ * Wertungsformeln des Glicko-2-Systems nach M. Glickman, "Example of the Glicko-2 system".
+ *
+ * Gerechnet wird auf der internen Glicko-2-Skala (μ, φ) und das Ergebnis wieder auf die
+ * Elo-Skala umgerechnet. Die neue Volatilität wird mit dem Illinois-Verfahren bestimmt.
+ * Die Wertungsabweichung wächst nicht über die eines neuen Spielers hinaus.
+ */
+final class Glicko2 {
+    // Systemkonstante τ: begrenzt, wie schnell sich die Volatilität ändert
+    static final double TAU = 0.5;
+    private static final double SCALE = 173.7178;
+    private static final double EPSILON = 1e-6;
+    private static final double MAX_PHI = Rating.INITIAL_DEVIATION / SCALE;
+
+    private Glicko2() {
+    }
+
+    /**
+     * Berechnet die Wertung eines Spielers nach einem einzelnen Match.
+     * @param player Wertung des Spielers vor dem Match
+     * @param opponent Wertung des Gegners vor dem Match
+     * @param score Ergebnis aus Sicht des Spielers: 1 Sieg, 0.5 Remis, 0 Niederlage
+     * @param matchId ID des Matches für die neue Wertung
+     * @return Die neue Wertung
+     */
+    static Rating rate(Rating player, Rating opponent, double score, Long matchId) {
+        return rate(player, new Rating[] { opponent }, new double[] { score }, matchId);
+    }
+
+    /**
+     * Berechnet die Wertung eines Spielers nach einem Wertungszeitraum mit mehreren Matches.
+     * @param player Wertung des Spielers vor dem Zeitraum
+     * @param opponents Wertungen der Gegner vor dem Zeitraum
+     * @param scores Ergebnisse aus Sicht des Spielers, in der Reihenfolge der Gegner
+     * @param matchId ID des letzten Matches für die neue Wertung
+     * @return Die neue Wertung
+     */
+    static Rating rate(Rating player, Rating[] opponents, double[] scores, Long matchId) {
+        double mu = (player.rating() - Rating.INITIAL_RATING) / SCALE;
+        double phi = player.deviation() / SCALE;
+        double sigma = player.volatility();
+
+        // Geschätzte Varianz v und Verbesserung Δ aus den Ergebnissen
+        double inverseVariance = 0;
+        double improvement = 0;
+        for (int i = 0; i < opponents.length; i++) {
+            double opponentMu = (opponents[i].rating() - Rating.INITIAL_RATING) / SCALE;
+            double g = g(opponents[i].deviation() / SCALE);
+            double expected = 1 / (1 + Math.exp(-g * (mu - opponentMu)));
+            inverseVariance += g * g * expected * (1 - expected);
+            improvement += g * (scores[i] - expected);
+        }
+        double v = 1 / inverseVariance;
+        double delta = v * improvement;
+
+        double newSigma = volatility(phi, sigma, v, delta);
+        double phiStar = Math.sqrt(phi * phi + newSigma * newSigma);
+        double newPhi = Math.min(1 / Math.sqrt(1 / (phiStar * phiStar) + 1 / v), MAX_PHI);
+        double newMu = mu + newPhi * newPhi * improvement;
+        return new Rating(player.playerId(), matchId, newMu * SCALE + Rating.INITIAL_RATING, newPhi * SCALE, newSigma);
+    }
+
+    private static double g(double phi) {
+        return 1 / Math.sqrt(1 + 3 * phi * phi / (Math.PI * Math.PI));
+    }
+
+    private static double volatility(double phi, double sigma, double v, double delta) {
+        double a = Math.log(sigma * sigma);
+        double phi2 = phi * phi;
+        double delta2 = delta * delta;
+
+        double lower = a;
+        double upper;
+        if (delta2 > phi2 + v) {
+            upper = Math.log(delta2 - phi2 - v);
+        } else {
+            int k = 1;
+            while (f(a - k * TAU, a, phi2, v, delta2) < 0) {
+                k++;
+            }
+            upper = a - k * TAU;
+        }
+
+        double fLower = f(lower, a, phi2, v, delta2);
+        double fUpper = f(upper, a, phi2, v, delta2);
+        while (Math.abs(upper - lower) > EPSILON) {
+            double c = lower + (lower - upper) * fLower / (fUpper - fLower);
+            double fC = f(c, a, phi2, v, delta2);
+            if (fC * fUpper <= 0) {
+                lower = upper;
+                fLower = fUpper;
+            } else {
+                fLower /= 2;
+            }
+            upper = c;
+            fUpper = fC;
+        }
+        return Math.exp(lower / 2);
+    }
+
+    private static double f(double x, double a, double phi2, double v, double delta2) {
+        double ex = Math.exp(x);
+        double denominator = phi2 + v + ex;
+        return ex * (delta2 - phi2 - v - ex) / (2 * denominator * denominator) - (x - a) / (TAU * TAU);
+    }
+}
@@ -0,0 +1,74 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Player;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Gierige Paarung: Jeder noch freie Spieler erhält der Reihe nach den freien Gegner mit
+ * der geringsten Wertungsdifferenz, gegen den er noch nicht gespielt hat. Laufzeit O(n²).
+ *
+ * Frühe Paarungen können späteren Spielern alle zulässigen Gegner nehmen; diese bleiben
+ * dann ungepaart, und nur der erste von ihnen erhält ein Freilos.
+ * {@link BlossomPairingEngine} vermeidet das.
+ */
+public class GreedyPairingEngine implements PairingEngine {
+
+    @Override
+    public List<Match> pair(List<Player> rankedPlayers, ToIntFunction<Player> score, PairingHistory history) {
+        List<Match> matches = new ArrayList<>();
+        Set<Player> pairedPlayers = new HashSet<>();
+
+        // Versuche Spieler mit ähnlichem Ranking zu paaren
+        for (int i = 0; i < rankedPlayers.size(); i++) {
+            if (pairedPlayers.contains(rankedPlayers.get(i))) {
+                continue;
+            }
+
+            Player player1 = rankedPlayers.get(i);
+            Player bestMatch = null;
+            int minRankingDiff = Integer.MAX_VALUE;
+
+            // Suche den am besten passenden Gegner
+            for (int j = i + 1; j < rankedPlayers.size(); j++) {
+                Player player2 = rankedPlayers.get(j);
+                if (pairedPlayers.contains(player2)) {
+                    continue;
+                }
+
+                // Prüfe ob diese Paarung bereits gespielt wurde
+                if (history.havePlayed(player1, player2)) {
+                    continue;
+                }
+
+                // Berechne Ranking-Differenz
+                int rankingDiff = Math.abs(score.applyAsInt(player1) - score.applyAsInt(player2));
+
+                if (rankingDiff < minRankingDiff) {
+                    minRankingDiff = rankingDiff;
+                    bestMatch = player2;
+                }
+            }
+
+            // Wenn ein passender Gegner gefunden wurde
+            if (bestMatch != null) {
+                matches.add(PairingEngine.scheduled(player1, bestMatch));
+                pairedPlayers.add(player1);
+                pairedPlayers.add(bestMatch);
+            }
+        }
+
+        // Behandle übrige Spieler (falls ungerade Anzahl)
+        rankedPlayers.stream()
+            .filter(p -> !pairedPlayers.contains(p))
+            .findFirst()
+            .ifPresent(player -> matches.add(PairingEngine.bye(player)));
+
+        return matches;
+    }
+}
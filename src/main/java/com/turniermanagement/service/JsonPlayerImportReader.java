@@ -0,0 +1,209 @@
+package com.turniermanagement.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Inkrementeller JSON-Parser für den Spielerimport.
+ * Erwartet ein Array von Objekten; ausgewertet werden nur die Felder "name" und "email",
+ * alle übrigen Werte (auch verschachtelte) werden überlesen.
+ */
+class JsonPlayerImportReader extends PlayerImportReader {
+    private static final int NONE = -2;
+
+    private final BufferedReader reader;
+    private int peeked = NONE;
+    private int lineNumber = 1;
+    private boolean started;
+    private boolean finished;
+
+    JsonPlayerImportReader(BufferedReader reader) {
+        super(reader);
+        this.reader = reader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        int c = readNonWhitespace();
+        if (!started) {
+            started = true;
+            if (c != '[') {
+                throw error("expected '['");
+            }
+            c = readNonWhitespace();
+            if (c == ']') {
+                finished = true;
+                return null;
+            }
+        } else if (c == ']') {
+            finished = true;
+            return null;
+        } else if (c == ',') {
+            c = readNonWhitespace();
+        } else {
+            throw error("expected ',' or ']'");
+        }
+        return readObject(c);
+    }
+
+    private Row readObject(int c) throws IOException {
+        if (c != '{') {
+            throw error("expected object");
+        }
+        int objectLine = lineNumber;
+        String name = null;
+        String email = null;
+
+        c = readNonWhitespace();
+        if (c != '}') {
+            while (true) {
+                if (c != '"') {
+                    throw error("expected field name");
+                }
+                String key = readString();
+                if (readNonWhitespace() != ':') {
+                    throw error("expected ':'");
+                }
+                String value = readValue();
+                if ("name".equals(key)) {
+                    name = value;
+                } else if ("email".equals(key)) {
+                    email = value;
+                }
+                c = readNonWhitespace();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw error("expected ',' or '}'");
+                }
+                c = readNonWhitespace();
+            }
+        }
+        return new Row(objectLine, trimToNull(name), trimToNull(email));
+    }
+
+    /**
+     * Liest einen Wert. Skalare werden als Text zurückgegeben, null sowie Objekte und Arrays als null.
+     */
+    private String readValue() throws IOException {
+        int c = readNonWhitespace();
+        if (c == '"') {
+            return readString();
+        }
+        if (c == '{' || c == '[') {
+            skipComposite();
+            return null;
+        }
+        if (!isLiteralChar(c)) {
+            throw error("expected value");
+        }
+        StringBuilder literal = new StringBuilder().append((char) c);
+        while (isLiteralChar(peek())) {
+            literal.append((char) read());
+        }
+        String text = literal.toString();
+        return "null".equals(text) ? null : text;
+    }
+
+    private static boolean isLiteralChar(int c) {
+        return c != -1 && c != ',' && c != '}' && c != ']' && c != ':' && !Character.isWhitespace(c);
+    }
+
+    private void skipComposite() throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int c = read();
+            if (c == -1) {
+                throw error("unexpected end of input");
+            }
+            if (c == '"') {
+                readString();
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Liest einen String nach dem öffnenden Anführungszeichen.
+     */
+    private String readString() throws IOException {
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw error("unterminated string");
+            }
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append((char) c);
+                continue;
+            }
+            int escaped = read();
+            switch (escaped) {
+                case '"', '\\', '/' -> value.append((char) escaped);
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'u' -> {
+                    char[] hex = new char[4];
+                    for (int i = 0; i < 4; i++) {
+                        int h = read();
+                        if (Character.digit(h, 16) < 0) {
+                            throw error("invalid unicode escape");
+                        }
+                        hex[i] = (char) h;
+                    }
+                    value.append((char) Integer.parseInt(new String(hex), 16));
+                }
+                default -> throw error("invalid escape sequence");
+            }
+        }
+    }
+
+    private int readNonWhitespace() throws IOException {
+        int c = read();
+        while (c != -1 && Character.isWhitespace(c)) {
+            c = read();
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (peeked == NONE) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        peeked = NONE;
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    private IOException error(String message) {
+        return new IOException("Invalid JSON in line " + lineNumber + ": " + message);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
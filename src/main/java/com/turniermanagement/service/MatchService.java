@@ -2,6 +2,8 @@ package com.turniermanagement.service;
 
 import com.turniermanagement.db.MatchDAO;
 import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.PlayerDAO;
+import com.turniermanagement.db.StandingsDAO;
 import com.turniermanagement.model.Match;
 import com.turniermanagement.model.Player;
 import com.turniermanagement.model.MatchStatus;
@@ -15,7 +17,11 @@ import java.util.Collections;
  * Nutzt das DAO-Pattern für die Datenpersistenz.
  */
 public class MatchService {
+    private final DAOFactory daoFactory;
     private final MatchDAO matchDAO;
+    private final PlayerDAO playerDAO;
+    private final StandingsDAO standingsDAO;
+    private final RatingService ratingService;
 
     /**
      * Erstellt einen neuen MatchService mit Standard-DAOs.
@@ -29,7 +35,11 @@ public class MatchService {
      * @param daoFactory Die DAOFactory zum Erstellen von DAOs
      */
     public MatchService(DAOFactory daoFactory) {
+        this.daoFactory = daoFactory;
         this.matchDAO = daoFactory.createMatchDAO();
+        this.playerDAO = daoFactory.createPlayerDAO();
+        this.standingsDAO = daoFactory.createStandingsDAO();
+        this.ratingService = new RatingService(daoFactory);
     }
 
     /**
@@ -63,6 +73,14 @@ public class MatchService {
         return matches;
     }
 
+    /**
+     * Trägt das Ergebnis eines Matches ein und schreibt Bilanz und Wertungen beider Spieler sowie
+     * die Turniertabelle fort. Alles wird in einer gemeinsamen Transaktion gespeichert.
+     * @param matchId ID des Matches
+     * @param scorePlayer1 Punkte des ersten Spielers
+     * @param scorePlayer2 Punkte des zweiten Spielers
+     * @throws SQLException Bei Datenbankfehlern
+     */
     public void updateMatchResult(Long matchId, int scorePlayer1, int scorePlayer2) throws SQLException {
         Match match = matchDAO.findById(matchId)
             .orElseThrow(() -> new IllegalArgumentException("Match not found"));
@@ -81,7 +99,20 @@ public class MatchService {
             match.setWinner(match.getPlayer2());
         }
 
-        matchDAO.update(match);
+        daoFactory.executeInTransaction(() -> {
+            // Die Prüfung oben genügt nicht: von gleichzeitig eingetragenen Ergebnissen darf nur
+            // eines Bilanz, Tabelle und Wertungen fortschreiben
+            if (!matchDAO.complete(match)) {
+                throw new IllegalStateException("Match is already completed");
+            }
+            // Freilose zählen nicht in die Bilanz, Remis ändern sie nicht
+            if (match.getWinner() != null && match.getPlayer2() != null) {
+                Player loser = match.getWinner() == match.getPlayer1() ? match.getPlayer2() : match.getPlayer1();
+                playerDAO.recordGameResult(match.getWinner().getId(), loser.getId());
+            }
+            standingsDAO.recordResult(match.getId());
+            ratingService.rateMatch(match);
+        });
     }
 
     public void startMatch(Long matchId) throws SQLException {
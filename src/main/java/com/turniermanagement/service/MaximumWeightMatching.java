@@ -0,0 +1,875 @@
+package com.turniermanagement.service;
+
+import java.util.Arrays;
+
+/**
+ * Gewichtetes Maximum-Matching in allgemeinen Graphen nach Edmonds (Blossom-Algorithmus)
+ * mit Dualvariablen nach Galil, Laufzeit O(n³). Die Umsetzung folgt der bekannten
+ * Referenzimplementierung von J. van Rantwijk ("mwmatching").
+ *
+ * Bei ganzzahligen Gewichten rechnet der Algorithmus ausschließlich ganzzahlig; die
+ * Dualvariablen werden dazu mit dem Faktor zwei gespeichert.
+ *
+ * Für perfekte Matchings startet der Algorithmus nicht mit einheitlichen Dualvariablen,
+ * sondern mit den kleinsten zulässigen Werten und einem gierigen Matching über die damit
+ * straffen Kanten. Jede Phase findet nur einen augmentierenden Pfad; der Warmstart spart
+ * daher einen Großteil der Phasen.
+ *
+ * Die Anpassung der Dualvariablen betrachtet nur die in der aktuellen Phase markierten
+ * Knoten und Blüten statt aller Knoten, da der Suchwald meist nur einen Bruchteil des
+ * Graphen umfasst.
+ */
+final class MaximumWeightMatching {
+    // Maximale Anzahl gematchter Kanten auf einem augmentierenden Pfad des Warmstarts
+    private static final int WARM_START_DEPTH = 8;
+
+    private final int vertexCount;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final long[] edgeWeight;
+
+    // endpoint[p] ist der Knoten an Kantenende p; Kante k hat die Enden 2k und 2k+1
+    private final int[] endpoint;
+    // neighbend[v] enthält die Kantenenden, die von v aus erreichbar sind
+    private final int[][] neighbend;
+    // mate[v] ist das Kantenende des Partners von v oder -1
+    private final int[] mate;
+    // 0 = unmarkiert, 1 = S, 2 = T (für Knoten und Top-Level-Blüten)
+    private final int[] label;
+    private final int[] labelend;
+    private final int[] inblossom;
+    private final int[] blossomparent;
+    private final int[][] blossomchilds;
+    private final int[] blossombase;
+    private final int[][] blossomendps;
+    private final int[] bestedge;
+    private final int[][] blossombestedges;
+    private final IntList unusedblossoms = new IntList();
+    private final long[] dualvar;
+    // Kante k ist in der aktuellen Phase zulässig, wenn allowedge[k] == stage + 1
+    private final int[] allowedge;
+    private int stage;
+    // Ergebnis von computeDelta
+    private int deltaType;
+    private long delta;
+    private int deltaEdge;
+    private int deltaBlossom;
+    private final IntList queue = new IntList();
+
+    // In der aktuellen Phase markierte Knoten und Blüten sowie Knoten mit bester Kante;
+    // die Listen können veraltete Einträge enthalten, die anhand der Markierung übersprungen werden
+    private final IntList touchedVertices = new IntList();
+    private final IntList touchedBlossoms = new IntList();
+    private final IntList candidateVertices = new IntList();
+    private final int[] vertexStamp;
+    private final int[] blossomStamp;
+    private final int[] candidateStamp;
+    // Arbeitsspeicher für addBlossom: beste Kante je benachbarter S-Blüte
+    private final int[] bestedgeto;
+    private final IntList bestedgetoBlossoms = new IntList();
+
+    private MaximumWeightMatching(int vertexCount, int[] edgeFrom, int[] edgeTo, long[] edgeWeight) {
+        this.vertexCount = vertexCount;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.edgeWeight = edgeWeight;
+        int edgeCount = edgeFrom.length;
+        int n = vertexCount;
+
+        long maxWeight = 0;
+        endpoint = new int[2 * edgeCount];
+        int[] degree = new int[n];
+        for (int k = 0; k < edgeCount; k++) {
+            endpoint[2 * k] = edgeFrom[k];
+            endpoint[2 * k + 1] = edgeTo[k];
+            degree[edgeFrom[k]]++;
+            degree[edgeTo[k]]++;
+            maxWeight = Math.max(maxWeight, edgeWeight[k]);
+        }
+        neighbend = new int[n][];
+        for (int v = 0; v < n; v++) {
+            neighbend[v] = new int[degree[v]];
+        }
+        Arrays.fill(degree, 0);
+        for (int k = 0; k < edgeCount; k++) {
+            neighbend[edgeFrom[k]][degree[edgeFrom[k]]++] = 2 * k + 1;
+            neighbend[edgeTo[k]][degree[edgeTo[k]]++] = 2 * k;
+        }
+
+        mate = filled(n, -1);
+        label = new int[2 * n];
+        labelend = filled(2 * n, -1);
+        inblossom = new int[n];
+        blossombase = filled(2 * n, -1);
+        for (int v = 0; v < n; v++) {
+            inblossom[v] = v;
+            blossombase[v] = v;
+        }
+        blossomparent = filled(2 * n, -1);
+        blossomchilds = new int[2 * n][];
+        blossomendps = new int[2 * n][];
+        bestedge = filled(2 * n, -1);
+        blossombestedges = new int[2 * n][];
+        for (int b = 2 * n - 1; b >= n; b--) {
+            unusedblossoms.add(b);
+        }
+        dualvar = new long[2 * n];
+        Arrays.fill(dualvar, 0, n, maxWeight);
+        allowedge = new int[edgeCount];
+        vertexStamp = new int[n];
+        blossomStamp = new int[2 * n];
+        candidateStamp = new int[n];
+        bestedgeto = filled(2 * n, -1);
+    }
+
+    /**
+     * Berechnet ein Matching maximalen Gewichts.
+     * @param vertexCount Anzahl der Knoten (0 bis vertexCount - 1)
+     * @param edgeFrom Erster Knoten jeder Kante
+     * @param edgeTo Zweiter Knoten jeder Kante
+     * @param edgeWeight Gewicht jeder Kante
+     * @return Für jeden Knoten der Partner im Matching oder -1
+     */
+    static int[] maximumWeight(int vertexCount, int[] edgeFrom, int[] edgeTo, long[] edgeWeight) {
+        if (edgeFrom.length == 0) {
+            return filled(vertexCount, -1);
+        }
+        return new MaximumWeightMatching(vertexCount, edgeFrom, edgeTo, edgeWeight).run(false);
+    }
+
+    /**
+     * Berechnet ein perfektes Matching maximalen Gewichts.
+     * @param vertexCount Anzahl der Knoten (0 bis vertexCount - 1)
+     * @param edgeFrom Erster Knoten jeder Kante
+     * @param edgeTo Zweiter Knoten jeder Kante
+     * @param edgeWeight Gewicht jeder Kante
+     * @return Für jeden Knoten der Partner im Matching oder null, wenn es kein perfektes Matching gibt
+     */
+    static int[] maximumWeightPerfect(int vertexCount, int[] edgeFrom, int[] edgeTo, long[] edgeWeight) {
+        if (vertexCount % 2 != 0) {
+            return null;
+        }
+        if (vertexCount == 0) {
+            return new int[0];
+        }
+        // Verdoppelte Gewichte halten alle Dualvariablen des Warmstarts gerade, sodass
+        // die Schlupfwerte zwischen S-Knoten wie beim einheitlichen Start gerade bleiben
+        long[] doubled = new long[edgeWeight.length];
+        for (int k = 0; k < edgeWeight.length; k++) {
+            doubled[k] = 2 * edgeWeight[k];
+        }
+        MaximumWeightMatching matching = new MaximumWeightMatching(vertexCount, edgeFrom, edgeTo, doubled);
+        matching.warmStart();
+        int[] mate = matching.run(true);
+        for (int partner : mate) {
+            if (partner == -1) {
+                return null;
+            }
+        }
+        return mate;
+    }
+
+    /**
+     * Setzt jede Knotenvariable auf den kleinsten Wert, der alle Kanten zulässig hält, und
+     * paart dabei gierig über straffe Kanten. Freie Knoten haben danach nicht mehr dieselbe
+     * Dualvariable; das Ergebnis ist deshalb nur als perfektes Matching optimal.
+     */
+    private void warmStart() {
+        int n = vertexCount;
+        for (int v = 0; v < n; v++) {
+            long max = 0;
+            for (int p : neighbend[v]) {
+                max = Math.max(max, edgeWeight[p / 2]);
+            }
+            dualvar[v] = max;
+        }
+        for (int v = 0; v < n; v++) {
+            if (neighbend[v].length == 0) {
+                continue;
+            }
+            long lowest = Long.MIN_VALUE;
+            for (int p : neighbend[v]) {
+                lowest = Math.max(lowest, 2 * edgeWeight[p / 2] - dualvar[endpoint[p]]);
+            }
+            dualvar[v] = lowest;
+            if (mate[v] != -1) {
+                continue;
+            }
+            for (int p : neighbend[v]) {
+                int w = endpoint[p];
+                if (mate[w] == -1 && slack(p / 2) == 0) {
+                    mate[v] = p;
+                    mate[w] = p ^ 1;
+                    break;
+                }
+            }
+        }
+
+        // Kurze augmentierende Pfade über straffe Kanten ohne Blütenbehandlung
+        int[] visited = new int[n];
+        for (int v = 0; v < n; v++) {
+            if (mate[v] == -1) {
+                visited[v] = v + 1;
+                augmentTight(v, WARM_START_DEPTH, visited, v + 1);
+            }
+        }
+    }
+
+    private boolean augmentTight(int v, int depth, int[] visited, int mark) {
+        for (int p : neighbend[v]) {
+            int x = endpoint[p];
+            if (visited[x] == mark || slack(p / 2) != 0) {
+                continue;
+            }
+            visited[x] = mark;
+            if (mate[x] == -1) {
+                mate[v] = p;
+                mate[x] = p ^ 1;
+                return true;
+            }
+            int y = endpoint[mate[x]];
+            if (depth > 0 && visited[y] != mark) {
+                visited[y] = mark;
+                if (augmentTight(y, depth - 1, visited, mark)) {
+                    mate[v] = p;
+                    mate[x] = p ^ 1;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int[] run(boolean maxCardinality) {
+        int n = vertexCount;
+        for (stage = 0; stage < n; stage++) {
+            Arrays.fill(label, 0);
+            Arrays.fill(bestedge, -1);
+            Arrays.fill(blossombestedges, n, 2 * n, null);
+            queue.clear();
+            touchedVertices.clear();
+            touchedBlossoms.clear();
+            candidateVertices.clear();
+
+            // Alle freien Knoten werden S-Knoten
+            for (int v = 0; v < n; v++) {
+                if (mate[v] == -1 && label[inblossom[v]] == 0) {
+                    assignLabel(v, 1, -1);
+                }
+            }
+
+            boolean augmented;
+            while (true) {
+                augmented = scanQueue();
+                if (augmented) {
+                    break;
+                }
+
+                // Kein Pfad gefunden: Dualvariablen anpassen
+                computeDelta(maxCardinality);
+                updateDuals();
+                if (deltaType == 1) {
+                    break;
+                } else if (deltaType == 2) {
+                    allow(deltaEdge);
+                    int i = edgeFrom[deltaEdge];
+                    if (label[inblossom[i]] == 0) {
+                        i = edgeTo[deltaEdge];
+                    }
+                    queue.add(i);
+                } else if (deltaType == 3) {
+                    allow(deltaEdge);
+                    queue.add(edgeFrom[deltaEdge]);
+                } else {
+                    expandBlossom(deltaBlossom, false);
+                }
+            }
+
+            if (!augmented) {
+                break;
+            }
+
+            // S-Blüten mit Dualvariable 0 am Ende der Phase auflösen
+            for (int b = n; b < 2 * n; b++) {
+                if (blossomparent[b] == -1 && blossombase[b] >= 0 && label[b] == 1 && dualvar[b] == 0) {
+                    expandBlossom(b, true);
+                }
+            }
+        }
+
+        int[] result = new int[n];
+        for (int v = 0; v < n; v++) {
+            result[v] = mate[v] >= 0 ? endpoint[mate[v]] : -1;
+        }
+        return result;
+    }
+
+    /**
+     * Sucht über die zulässigen Kanten der Knoten in der Warteschlange nach einem augmentierenden Pfad.
+     * @return true, wenn das Matching augmentiert wurde
+     */
+    private boolean scanQueue() {
+        while (!queue.isEmpty()) {
+            int v = queue.pop();
+            long dualV = dualvar[v];
+            for (int p : neighbend[v]) {
+                int k = p / 2;
+                int w = endpoint[p];
+                if (inblossom[v] == inblossom[w]) {
+                    continue;
+                }
+                long kslack = 0;
+                if (!isAllowed(k)) {
+                    kslack = dualV + dualvar[w] - 2 * edgeWeight[k];
+                    if (kslack <= 0) {
+                        allow(k);
+                    }
+                }
+                if (isAllowed(k)) {
+                    if (label[inblossom[w]] == 0) {
+                        assignLabel(w, 2, p ^ 1);
+                    } else if (label[inblossom[w]] == 1) {
+                        int base = scanBlossom(v, w);
+                        if (base >= 0) {
+                            addBlossom(base, k);
+                        } else {
+                            augmentMatching(k);
+                            return true;
+                        }
+                    } else if (label[w] == 0) {
+                        label[w] = 2;
+                        labelend[w] = p ^ 1;
+                    }
+                } else if (label[inblossom[w]] == 1) {
+                    int b = inblossom[v];
+                    if (bestedge[b] == -1 || kslack < slack(bestedge[b])) {
+                        bestedge[b] = k;
+                    }
+                } else if (label[w] == 0) {
+                    if (bestedge[w] == -1 || kslack < slack(bestedge[w])) {
+                        bestedge[w] = k;
+                        if (candidateStamp[w] != stage + 1) {
+                            candidateStamp[w] = stage + 1;
+                            candidateVertices.add(w);
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bestimmt die größtmögliche Anpassung der Dualvariablen und deren Anlass
+     * (deltaType 1 bis 4 wie in der Referenzimplementierung).
+     */
+    private void computeDelta(boolean maxCardinality) {
+        int n = vertexCount;
+        deltaType = -1;
+        delta = 0;
+        deltaEdge = -1;
+        deltaBlossom = -1;
+        if (!maxCardinality) {
+            deltaType = 1;
+            delta = minVertexDual();
+        }
+        for (int i = 0; i < candidateVertices.size(); i++) {
+            int v = candidateVertices.get(i);
+            if (label[inblossom[v]] == 0 && bestedge[v] != -1) {
+                long d = slack(bestedge[v]);
+                if (deltaType == -1 || d < delta) {
+                    delta = d;
+                    deltaType = 2;
+                    deltaEdge = bestedge[v];
+                }
+            }
+        }
+        for (int i = 0; i < touchedBlossoms.size(); i++) {
+            int b = touchedBlossoms.get(i);
+            if (blossomparent[b] != -1) {
+                continue;
+            }
+            if (label[b] == 1 && bestedge[b] != -1) {
+                long d = slack(bestedge[b]) / 2;
+                if (deltaType == -1 || d < delta) {
+                    delta = d;
+                    deltaType = 3;
+                    deltaEdge = bestedge[b];
+                }
+            } else if (b >= n && blossombase[b] >= 0 && label[b] == 2
+                    && (deltaType == -1 || dualvar[b] < delta)) {
+                delta = dualvar[b];
+                deltaType = 4;
+                deltaBlossom = b;
+            }
+        }
+        if (deltaType == -1) {
+            // Nur bei maxCardinality: kein weiterer Fortschritt möglich
+            deltaType = 1;
+            delta = Math.max(0, minVertexDual());
+        }
+    }
+
+    private void updateDuals() {
+        int n = vertexCount;
+        for (int i = 0; i < touchedVertices.size(); i++) {
+            int v = touchedVertices.get(i);
+            int l = label[inblossom[v]];
+            if (l == 1) {
+                dualvar[v] -= delta;
+            } else if (l == 2) {
+                dualvar[v] += delta;
+            }
+        }
+        for (int i = 0; i < touchedBlossoms.size(); i++) {
+            int b = touchedBlossoms.get(i);
+            if (b >= n && blossombase[b] >= 0 && blossomparent[b] == -1) {
+                if (label[b] == 1) {
+                    dualvar[b] += delta;
+                } else if (label[b] == 2) {
+                    dualvar[b] -= delta;
+                }
+            }
+        }
+    }
+
+    private boolean isAllowed(int k) {
+        return allowedge[k] == stage + 1;
+    }
+
+    private void allow(int k) {
+        allowedge[k] = stage + 1;
+    }
+
+    private void touchVertex(int v) {
+        if (vertexStamp[v] != stage + 1) {
+            vertexStamp[v] = stage + 1;
+            touchedVertices.add(v);
+        }
+    }
+
+    private void touchBlossom(int b) {
+        if (blossomStamp[b] != stage + 1) {
+            blossomStamp[b] = stage + 1;
+            touchedBlossoms.add(b);
+        }
+    }
+
+    private void touchLeaves(int b) {
+        if (b < vertexCount) {
+            touchVertex(b);
+            return;
+        }
+        for (int child : blossomchilds[b]) {
+            touchLeaves(child);
+        }
+    }
+
+    private long slack(int k) {
+        return dualvar[edgeFrom[k]] + dualvar[edgeTo[k]] - 2 * edgeWeight[k];
+    }
+
+    private long minVertexDual() {
+        long min = Long.MAX_VALUE;
+        for (int v = 0; v < vertexCount; v++) {
+            min = Math.min(min, dualvar[v]);
+        }
+        return min;
+    }
+
+    private void leaves(int b, IntList out) {
+        if (b < vertexCount) {
+            out.add(b);
+            return;
+        }
+        for (int child : blossomchilds[b]) {
+            leaves(child, out);
+        }
+    }
+
+    private IntList leaves(int b) {
+        IntList out = new IntList();
+        leaves(b, out);
+        return out;
+    }
+
+    private void assignLabel(int w, int t, int p) {
+        int b = inblossom[w];
+        label[w] = t;
+        label[b] = t;
+        labelend[w] = p;
+        labelend[b] = p;
+        bestedge[w] = -1;
+        bestedge[b] = -1;
+        touchBlossom(b);
+        if (t == 1) {
+            int start = queue.size();
+            leaves(b, queue);
+            for (int i = start; i < queue.size(); i++) {
+                touchVertex(queue.get(i));
+            }
+        } else if (t == 2) {
+            touchLeaves(b);
+            // Der Partner der Basis wird S-Knoten
+            int base = blossombase[b];
+            assignLabel(endpoint[mate[base]], 1, mate[base] ^ 1);
+        }
+    }
+
+    /**
+     * Verfolgt die Pfade von v und w zur Wurzel und gibt die Basis einer neuen Blüte zurück
+     * oder -1, wenn die Pfade an verschiedenen freien Knoten enden (augmentierender Pfad).
+     */
+    private int scanBlossom(int v, int w) {
+        IntList path = new IntList();
+        int base = -1;
+        while (v != -1 || w != -1) {
+            int b = inblossom[v];
+            if ((label[b] & 4) != 0) {
+                base = blossombase[b];
+                break;
+            }
+            path.add(b);
+            label[b] = 5;
+            if (labelend[b] == -1) {
+                v = -1;
+            } else {
+                v = endpoint[labelend[b]];
+                b = inblossom[v];
+                v = endpoint[labelend[b]];
+            }
+            if (w != -1) {
+                int swap = v;
+                v = w;
+                w = swap;
+            }
+        }
+        for (int i = 0; i < path.size(); i++) {
+            label[path.get(i)] = 1;
+        }
+        return base;
+    }
+
+    private void addBlossom(int base, int k) {
+        int v = edgeFrom[k];
+        int w = edgeTo[k];
+        int bb = inblossom[base];
+        int bv = inblossom[v];
+        int bw = inblossom[w];
+        int b = unusedblossoms.pop();
+        blossombase[b] = base;
+        blossomparent[b] = -1;
+        blossomparent[bb] = b;
+
+        IntList path = new IntList();
+        IntList endps = new IntList();
+        while (bv != bb) {
+            blossomparent[bv] = b;
+            path.add(bv);
+            endps.add(labelend[bv]);
+            v = endpoint[labelend[bv]];
+            bv = inblossom[v];
+        }
+        path.add(bb);
+        path.reverse();
+        endps.reverse();
+        endps.add(2 * k);
+        while (bw != bb) {
+            blossomparent[bw] = b;
+            path.add(bw);
+            endps.add(labelend[bw] ^ 1);
+            w = endpoint[labelend[bw]];
+            bw = inblossom[w];
+        }
+        blossomchilds[b] = path.toArray();
+        blossomendps[b] = endps.toArray();
+
+        label[b] = 1;
+        labelend[b] = labelend[bb];
+        dualvar[b] = 0;
+        touchBlossom(b);
+        IntList blossomLeaves = leaves(b);
+        for (int i = 0; i < blossomLeaves.size(); i++) {
+            int leaf = blossomLeaves.get(i);
+            if (label[inblossom[leaf]] == 2) {
+                // T-Knoten werden innerhalb der Blüte zu S-Knoten
+                queue.add(leaf);
+            }
+            inblossom[leaf] = b;
+        }
+
+        // Beste Kanten von der neuen Blüte zu benachbarten S-Blüten bestimmen
+        bestedgetoBlossoms.clear();
+        for (int child : blossomchilds[b]) {
+            if (blossombestedges[child] == null) {
+                IntList childLeaves = leaves(child);
+                for (int i = 0; i < childLeaves.size(); i++) {
+                    for (int p : neighbend[childLeaves.get(i)]) {
+                        considerBestEdge(b, p / 2);
+                    }
+                }
+            } else {
+                for (int edge : blossombestedges[child]) {
+                    considerBestEdge(b, edge);
+                }
+            }
+            blossombestedges[child] = null;
+            bestedge[child] = -1;
+        }
+        int[] best = new int[bestedgetoBlossoms.size()];
+        for (int i = 0; i < best.length; i++) {
+            int bj = bestedgetoBlossoms.get(i);
+            best[i] = bestedgeto[bj];
+            bestedgeto[bj] = -1;
+        }
+        blossombestedges[b] = best;
+        bestedge[b] = -1;
+        for (int edge : blossombestedges[b]) {
+            if (bestedge[b] == -1 || slack(edge) < slack(bestedge[b])) {
+                bestedge[b] = edge;
+            }
+        }
+    }
+
+    private void considerBestEdge(int b, int k) {
+        int j = inblossom[edgeTo[k]] == b ? edgeFrom[k] : edgeTo[k];
+        int bj = inblossom[j];
+        if (bj != b && label[bj] == 1) {
+            if (bestedgeto[bj] == -1) {
+                bestedgeto[bj] = k;
+                bestedgetoBlossoms.add(bj);
+            } else if (slack(k) < slack(bestedgeto[bj])) {
+                bestedgeto[bj] = k;
+            }
+        }
+    }
+
+    private void expandBlossom(int b, boolean endStage) {
+        for (int s : blossomchilds[b]) {
+            blossomparent[s] = -1;
+            if (s < vertexCount) {
+                inblossom[s] = s;
+            } else if (endStage && dualvar[s] == 0) {
+                expandBlossom(s, endStage);
+            } else {
+                IntList childLeaves = leaves(s);
+                for (int i = 0; i < childLeaves.size(); i++) {
+                    inblossom[childLeaves.get(i)] = s;
+                }
+            }
+        }
+
+        if (!endStage && label[b] == 2) {
+            // Die Unterblüten auf dem geraden Pfad zur Eintrittsstelle neu markieren
+            int[] childs = blossomchilds[b];
+            int[] endps = blossomendps[b];
+            int entrychild = inblossom[endpoint[labelend[b] ^ 1]];
+            int j = indexOf(childs, entrychild);
+            int jstep;
+            int endptrick;
+            if ((j & 1) != 0) {
+                j -= childs.length;
+                jstep = 1;
+                endptrick = 0;
+            } else {
+                jstep = -1;
+                endptrick = 1;
+            }
+            int p = labelend[b];
+            while (j != 0) {
+                label[endpoint[p ^ 1]] = 0;
+                label[endpoint[at(endps, j - endptrick) ^ endptrick ^ 1]] = 0;
+                assignLabel(endpoint[p ^ 1], 2, p);
+                allow(at(endps, j - endptrick) / 2);
+                j += jstep;
+                p = at(endps, j - endptrick) ^ endptrick;
+                allow(p / 2);
+                j += jstep;
+            }
+            int bv = at(childs, j);
+            label[endpoint[p ^ 1]] = 2;
+            label[bv] = 2;
+            touchBlossom(bv);
+            touchLeaves(bv);
+            labelend[endpoint[p ^ 1]] = p;
+            labelend[bv] = p;
+            bestedge[bv] = -1;
+            j += jstep;
+            while (at(childs, j) != entrychild) {
+                bv = at(childs, j);
+                if (label[bv] == 1) {
+                    j += jstep;
+                    continue;
+                }
+                int reached = -1;
+                IntList childLeaves = leaves(bv);
+                for (int i = 0; i < childLeaves.size(); i++) {
+                    if (label[childLeaves.get(i)] != 0) {
+                        reached = childLeaves.get(i);
+                        break;
+                    }
+                }
+                if (reached != -1) {
+                    label[reached] = 0;
+                    label[endpoint[mate[blossombase[bv]]]] = 0;
+                    assignLabel(reached, 2, labelend[reached]);
+                }
+                j += jstep;
+            }
+        }
+
+        label[b] = -1;
+        labelend[b] = -1;
+        blossomchilds[b] = null;
+        blossomendps[b] = null;
+        blossombase[b] = -1;
+        blossombestedges[b] = null;
+        bestedge[b] = -1;
+        unusedblossoms.add(b);
+    }
+
+    private void augmentBlossom(int b, int v) {
+        int t = v;
+        while (blossomparent[t] != b) {
+            t = blossomparent[t];
+        }
+        if (t >= vertexCount) {
+            augmentBlossom(t, v);
+        }
+        int[] childs = blossomchilds[b];
+        int[] endps = blossomendps[b];
+        int i = indexOf(childs, t);
+        int j = i;
+        int jstep;
+        int endptrick;
+        if ((i & 1) != 0) {
+            j -= childs.length;
+            jstep = 1;
+            endptrick = 0;
+        } else {
+            jstep = -1;
+            endptrick = 1;
+        }
+        while (j != 0) {
+            j += jstep;
+            t = at(childs, j);
+            int p = at(endps, j - endptrick) ^ endptrick;
+            if (t >= vertexCount) {
+                augmentBlossom(t, endpoint[p]);
+            }
+            j += jstep;
+            t = at(childs, j);
+            if (t >= vertexCount) {
+                augmentBlossom(t, endpoint[p ^ 1]);
+            }
+            mate[endpoint[p]] = p ^ 1;
+            mate[endpoint[p ^ 1]] = p;
+        }
+        // Die Blüte so rotieren, dass v bzw. seine Unterblüte zur neuen Basis wird
+        blossomchilds[b] = rotate(childs, i);
+        blossomendps[b] = rotate(endps, i);
+        blossombase[b] = blossombase[blossomchilds[b][0]];
+    }
+
+    private void augmentMatching(int k) {
+        augmentPath(edgeFrom[k], 2 * k + 1);
+        augmentPath(edgeTo[k], 2 * k);
+    }
+
+    private void augmentPath(int s, int p) {
+        while (true) {
+            int bs = inblossom[s];
+            if (bs >= vertexCount) {
+                augmentBlossom(bs, s);
+            }
+            mate[s] = p;
+            if (labelend[bs] == -1) {
+                // Freier Knoten erreicht
+                break;
+            }
+            int t = endpoint[labelend[bs]];
+            int bt = inblossom[t];
+            s = endpoint[labelend[bt]];
+            int j = endpoint[labelend[bt] ^ 1];
+            if (bt >= vertexCount) {
+                augmentBlossom(bt, j);
+            }
+            mate[j] = labelend[bt];
+            p = labelend[bt] ^ 1;
+        }
+    }
+
+    private static int at(int[] values, int index) {
+        return values[index < 0 ? index + values.length : index];
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Sub-blossom not found");
+    }
+
+    private static int[] rotate(int[] values, int shift) {
+        int[] rotated = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            rotated[i] = values[(i + shift) % values.length];
+        }
+        return rotated;
+    }
+
+    private static int[] filled(int length, int value) {
+        int[] values = new int[length];
+        Arrays.fill(values, value);
+        return values;
+    }
+
+    /**
+     * Wachsende Liste primitiver int-Werte, auch als Stapel verwendet.
+     */
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int pop() {
+            return values[--size];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void reverse() {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
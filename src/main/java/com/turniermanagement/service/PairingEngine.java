@@ -0,0 +1,50 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Strategie zur Paarung einer Runde nach Schweizer System.
+ *
+ * @see BlossomPairingEngine
+ * @see GreedyPairingEngine
+ */
+public interface PairingEngine {
+
+    /**
+     * Erstellt die Paarungen einer Runde.
+     * @param rankedPlayers Die Teilnehmer, absteigend nach Wertung sortiert
+     * @param score Wertung eines Spielers; Spieler mit gleicher Wertung bilden eine Punktgruppe
+     * @param history Bisherige Paarungen, Farben und Freilose des Turniers
+     * @return Die Matches der Runde; ein Freilos ist ein abgeschlossenes Match ohne zweiten Spieler
+     */
+    List<Match> pair(List<Player> rankedPlayers, ToIntFunction<Player> score, PairingHistory history);
+
+    /**
+     * Erstellt ein angesetztes Match.
+     * @param white Spieler 1 (Weiß)
+     * @param black Spieler 2 (Schwarz)
+     * @return Das Match
+     */
+    static Match scheduled(Player white, Player black) {
+        Match match = new Match(white, black);
+        match.setStatus(MatchStatus.SCHEDULED);
+        return match;
+    }
+
+    /**
+     * Erstellt ein Freilos, das als gewonnenes Match gewertet wird.
+     * @param player Der Spieler mit Freilos
+     * @return Das Freilos-Match
+     */
+    static Match bye(Player player) {
+        Match byeMatch = new Match(player, null);
+        byeMatch.setStatus(MatchStatus.COMPLETED);
+        byeMatch.setWinner(player);
+        return byeMatch;
+    }
+}
@@ -0,0 +1,212 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bisherige Paarungen eines Turniers als Grundlage für die Paarung der nächsten Runde:
+ * gespielte Paarungen, Farbverteilung und erhaltene Freilose je Spieler.
+ *
+ * Als Farbe gilt die Position im Match: Spieler 1 hat Weiß, Spieler 2 Schwarz.
+ *
+ * Jeder Spieler erhält beim ersten Auftreten einen fortlaufenden Index. Die gespielten
+ * Paarungen liegen in einer Dreiecksmatrix aus Bits, in der die Paarung der Indizes i &lt; j
+ * das Bit j·(j−1)/2 + i belegt; neue Spieler hängen damit nur Bits an. Abfragen erzeugen
+ * keine Objekte. Über {@link #update(Tournament)} werden nur neu hinzugekommene Runden
+ * eingetragen, statt die Historie jede Runde neu aufzubauen.
+ *
+ * Die Klasse ist nicht threadsicher.
+ */
+public final class PairingHistory {
+    /** Farbe Weiß (Spieler 1 eines Matches). */
+    public static final int WHITE = 1;
+    /** Farbe Schwarz (Spieler 2 eines Matches). */
+    public static final int BLACK = -1;
+
+    private final Map<Long, Integer> playerIndex = new HashMap<>();
+    private long[] played = new long[0];
+    private int[] colorBalance = new int[16];
+    private int[] lastColor = new int[16];
+    private final BitSet byes = new BitSet();
+    private final Set<Long> recordedRounds = new HashSet<>();
+    // Runden ohne ID lassen sich nicht wiedererkennen; update baut die Historie dann neu auf
+    private boolean incremental = true;
+
+    private PairingHistory() {
+    }
+
+    /**
+     * Erstellt die Historie aus den bisherigen Runden eines Turniers.
+     * @param tournament Das Turnier mit seinen Runden
+     * @return Die Paarungshistorie
+     */
+    public static PairingHistory of(Tournament tournament) {
+        PairingHistory history = new PairingHistory();
+        history.ensurePlayerCapacity(tournament.getPlayers().size());
+        history.recordRounds(tournament.getRounds());
+        return history;
+    }
+
+    /**
+     * Erstellt eine leere Historie, z.B. für die erste Runde.
+     * @return Die leere Paarungshistorie
+     */
+    public static PairingHistory empty() {
+        return new PairingHistory();
+    }
+
+    /**
+     * Trägt die seit dem letzten Aufruf hinzugekommenen Runden eines Turniers ein.
+     * Fehlen bereits eingetragene Runden im Turnier oder haben Runden keine ID, wird die
+     * Historie stattdessen neu aufgebaut.
+     * @param tournament Das Turnier mit seinen Runden
+     * @return Diese Historie oder eine neu aufgebaute
+     */
+    public PairingHistory update(Tournament tournament) {
+        if (!incremental) {
+            return of(tournament);
+        }
+        Set<Long> currentRounds = new HashSet<>();
+        List<Round> newRounds = new ArrayList<>();
+        for (Round round : tournament.getRounds()) {
+            if (round.getId() == null) {
+                return of(tournament);
+            }
+            currentRounds.add(round.getId());
+            if (!recordedRounds.contains(round.getId())) {
+                newRounds.add(round);
+            }
+        }
+        if (!currentRounds.containsAll(recordedRounds)) {
+            return of(tournament);
+        }
+        recordRounds(newRounds);
+        return this;
+    }
+
+    private void recordRounds(List<Round> rounds) {
+        rounds.stream()
+            .sorted((r1, r2) -> Integer.compare(r1.getRoundNumber(), r2.getRoundNumber()))
+            .forEach(round -> {
+                if (round.getId() == null) {
+                    incremental = false;
+                } else {
+                    recordedRounds.add(round.getId());
+                }
+                round.getMatches().forEach(this::record);
+            });
+    }
+
+    private void record(Match match) {
+        Player player1 = match.getPlayer1();
+        Player player2 = match.getPlayer2();
+        if (player1 == null) {
+            return;
+        }
+        int index1 = indexFor(player1);
+        if (player2 == null) {
+            byes.set(index1);
+            return;
+        }
+        int index2 = indexFor(player2);
+        long bit = pairBit(index1, index2);
+        int word = (int) (bit >>> 6);
+        if (word >= played.length) {
+            played = Arrays.copyOf(played, Math.max(word + 1, played.length * 2));
+        }
+        played[word] |= 1L << bit;
+        colorBalance[index1] += WHITE;
+        colorBalance[index2] += BLACK;
+        lastColor[index1] = WHITE;
+        lastColor[index2] = BLACK;
+    }
+
+    /**
+     * Prüft, ob zwei Spieler in diesem Turnier bereits gegeneinander gespielt haben.
+     * @param p1 Erster Spieler
+     * @param p2 Zweiter Spieler
+     * @return true, wenn die Paarung bereits gespielt wurde
+     */
+    public boolean havePlayed(Player p1, Player p2) {
+        int index1 = indexOf(p1);
+        int index2 = indexOf(p2);
+        if (index1 < 0 || index2 < 0 || index1 == index2) {
+            return false;
+        }
+        long bit = pairBit(index1, index2);
+        int word = (int) (bit >>> 6);
+        return word < played.length && (played[word] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Prüft, ob ein Spieler bereits ein Freilos erhalten hat.
+     * @param player Der Spieler
+     * @return true, wenn der Spieler bereits ein Freilos hatte
+     */
+    public boolean hasHadBye(Player player) {
+        int index = indexOf(player);
+        return index >= 0 && byes.get(index);
+    }
+
+    /**
+     * Gibt den Farbsaldo eines Spielers zurück.
+     * @param player Der Spieler
+     * @return Anzahl der Partien mit Weiß abzüglich der Partien mit Schwarz
+     */
+    public int getColorBalance(Player player) {
+        int index = indexOf(player);
+        return index >= 0 ? colorBalance[index] : 0;
+    }
+
+    /**
+     * Gibt die Farbe der letzten Partie eines Spielers zurück.
+     * @param player Der Spieler
+     * @return {@link #WHITE}, {@link #BLACK} oder 0, wenn der Spieler noch keine Partie hatte
+     */
+    public int getLastColor(Player player) {
+        int index = indexOf(player);
+        return index >= 0 ? lastColor[index] : 0;
+    }
+
+    private int indexOf(Player player) {
+        Integer index = playerIndex.get(player.getId());
+        return index != null ? index : -1;
+    }
+
+    private int indexFor(Player player) {
+        Integer index = playerIndex.get(player.getId());
+        if (index != null) {
+            return index;
+        }
+        int next = playerIndex.size();
+        ensurePlayerCapacity(next + 1);
+        playerIndex.put(player.getId(), next);
+        return next;
+    }
+
+    private void ensurePlayerCapacity(int players) {
+        if (players > colorBalance.length) {
+            int capacity = Math.max(players, colorBalance.length * 2);
+            colorBalance = Arrays.copyOf(colorBalance, capacity);
+            lastColor = Arrays.copyOf(lastColor, capacity);
+        }
+    }
+
+    private static long pairBit(int index1, int index2) {
+        // Position der Paarung in der Dreiecksmatrix, unabhängig von der Reihenfolge der Spieler
+        long low = Math.min(index1, index2);
+        long high = Math.max(index1, index2);
+        return high * (high - 1) / 2 + low;
+    }
+}
@@ -0,0 +1,88 @@
+package com.turniermanagement.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Liest Spielerdatensätze für den Massenimport zeilenweise aus einer Quelle.
+ * Die Quelle wird inkrementell gelesen, sodass auch sehr große Dateien nicht
+ * vollständig in den Speicher geladen werden.
+ */
+public abstract class PlayerImportReader implements Closeable {
+
+    /**
+     * Ein gelesener Spielerdatensatz.
+     * @param line Zeile in der Quelldatei, in der der Datensatz beginnt
+     * @param name Name des Spielers (kann leer oder null sein)
+     * @param email E-Mail-Adresse des Spielers (kann null sein)
+     */
+    public record Row(int line, String name, String email) {
+    }
+
+    private final Reader source;
+
+    protected PlayerImportReader(Reader source) {
+        this.source = source;
+    }
+
+    /**
+     * Liest den nächsten Datensatz.
+     * @return Der Datensatz oder null am Ende der Quelle
+     * @throws IOException Bei Lesefehlern oder syntaktisch ungültigen Daten
+     */
+    public abstract Row next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    /**
+     * Erstellt einen Reader für CSV-Daten. Eine Kopfzeile mit den Spalten "name" und
+     * "email" ist optional; ohne Kopfzeile enthält die erste Spalte den Namen und die
+     * zweite die E-Mail-Adresse. Als Trennzeichen werden Komma und Semikolon erkannt.
+     * @param source Die CSV-Quelle
+     * @return Der Import-Reader
+     */
+    public static PlayerImportReader csv(Reader source) {
+        return new CsvPlayerImportReader(buffered(source));
+    }
+
+    /**
+     * Erstellt einen Reader für JSON-Daten in der Form
+     * {@code [{"name": "...", "email": "..."}, ...]}. Weitere Felder werden ignoriert.
+     * @param source Die JSON-Quelle
+     * @return Der Import-Reader
+     */
+    public static PlayerImportReader json(Reader source) {
+        return new JsonPlayerImportReader(buffered(source));
+    }
+
+    /**
+     * Öffnet eine Importdatei; das Format wird anhand der Dateiendung (.csv oder .json) bestimmt.
+     * @param file Die Importdatei (UTF-8)
+     * @return Der Import-Reader
+     * @throws IOException Wenn die Datei nicht geöffnet werden kann
+     * @throws IllegalArgumentException Wenn das Dateiformat nicht unterstützt wird
+     */
+    public static PlayerImportReader open(Path file) throws IOException {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".csv")) {
+            return csv(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        }
+        if (fileName.endsWith(".json")) {
+            return json(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + file.getFileName());
+    }
+
+    private static BufferedReader buffered(Reader source) {
+        return source instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(source);
+    }
+}
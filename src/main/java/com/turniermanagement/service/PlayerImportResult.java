@@ -0,0 +1,54 @@
+package com.turniermanagement.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ergebnis eines Spieler-Massenimports.
+ */
+public class PlayerImportResult {
+
+    /**
+     * Fehler eines einzelnen Datensatzes, der nicht importiert wurde.
+     * @param line Zeile in der Quelldatei
+     * @param message Fehlerbeschreibung
+     */
+    public record RowError(int line, String message) {
+    }
+
+    private int importedCount;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void addImported(int count) {
+        importedCount += count;
+    }
+
+    void addError(int line, String message) {
+        errors.add(new RowError(line, message));
+    }
+
+    /**
+     * Gibt die Anzahl der erfolgreich importierten Spieler zurück.
+     * @return Anzahl der importierten Spieler
+     */
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    /**
+     * Gibt die Fehler der abgelehnten Datensätze in Dateireihenfolge zurück.
+     * @return Unveränderliche Liste der Fehler
+     */
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Prüft, ob Datensätze abgelehnt wurden.
+     * @return true, wenn mindestens ein Datensatz fehlerhaft war
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
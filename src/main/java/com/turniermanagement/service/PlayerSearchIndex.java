@@ -0,0 +1,177 @@
+package com.turniermanagement.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-Memory-Suchindex über Name und E-Mail-Adresse von Spielern für die Teilnehmersuche.
+ * Gesucht wird wie bisher nach Teilzeichenketten (ohne Beachtung der Groß-/Kleinschreibung).
+ *
+ * Für jeden Spieler werden alle Trigramme beider Felder indiziert. Eine Suche wählt die
+ * kürzeste Trefferliste eines Trigramms der Suchanfrage und prüft nur diese Kandidaten;
+ * kürzere Suchanfragen durchsuchen alle Einträge. Änderungen an einzelnen Spielern werden
+ * inkrementell übernommen, entfernte Einträge werden beim Suchen übersprungen und bei
+ * Bedarf kompaktiert.
+ *
+ * Die Klasse ist nicht threadsicher.
+ */
+public class PlayerSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    // Trennt Name und E-Mail, damit keine Treffer über die Feldgrenze hinweg entstehen
+    private static final char FIELD_SEPARATOR = '\n';
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private long[] ids = new long[16];
+    private String[] texts = new String[16];
+    private int slotCount;
+
+    /**
+     * Fügt einen Spieler hinzu oder ersetzt dessen bisherigen Eintrag.
+     * @param id ID des Spielers
+     * @param name Name des Spielers
+     * @param email E-Mail-Adresse des Spielers (kann null sein)
+     */
+    public void put(Long id, String name, String email) {
+        remove(id);
+        if (slotCount == ids.length) {
+            ids = Arrays.copyOf(ids, slotCount * 2);
+            texts = Arrays.copyOf(texts, slotCount * 2);
+        }
+        int slot = slotCount++;
+        String text = normalize(name) + FIELD_SEPARATOR + normalize(email);
+        ids[slot] = id;
+        texts[slot] = text;
+        slotsById.put(id, slot);
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(slot);
+        }
+    }
+
+    /**
+     * Entfernt einen Spieler aus dem Index.
+     * @param id ID des Spielers
+     */
+    public void remove(Long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        // Die Trefferlisten behalten den Slot bis zur nächsten Kompaktierung
+        texts[slot] = null;
+        if (slotCount - slotsById.size() > Math.max(slotsById.size(), 1024)) {
+            compact();
+        }
+    }
+
+    /**
+     * Entfernt alle Einträge.
+     */
+    public void clear() {
+        slotsById.clear();
+        postings.clear();
+        ids = new long[16];
+        texts = new String[16];
+        slotCount = 0;
+    }
+
+    /**
+     * Gibt die Anzahl der indizierten Spieler zurück.
+     * @return Anzahl der Spieler
+     */
+    public int size() {
+        return slotsById.size();
+    }
+
+    /**
+     * Sucht alle Spieler, deren Name oder E-Mail-Adresse die Suchanfrage enthält.
+     * @param query Die Suchanfrage
+     * @return IDs der passenden Spieler
+     */
+    public Set<Long> search(String query) {
+        String needle = normalize(query);
+        Set<Long> result = new HashSet<>();
+        if (needle.length() < GRAM_LENGTH) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (texts[slot] != null && texts[slot].contains(needle)) {
+                    result.add(ids[slot]);
+                }
+            }
+            return result;
+        }
+
+        Postings candidates = null;
+        for (String gram : grams(needle)) {
+            Postings current = postings.get(gram);
+            if (current == null) {
+                return result;
+            }
+            if (candidates == null || current.size < candidates.size) {
+                candidates = current;
+            }
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            int slot = candidates.slots[i];
+            if (texts[slot] != null && texts[slot].contains(needle)) {
+                result.add(ids[slot]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Baut Slots und Trefferlisten ohne entfernte Einträge neu auf.
+     */
+    private void compact() {
+        long[] liveIds = new long[slotsById.size()];
+        String[] liveTexts = new String[slotsById.size()];
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (texts[slot] != null) {
+                liveIds[live] = ids[slot];
+                liveTexts[live] = texts[slot];
+                live++;
+            }
+        }
+        clear();
+        for (int i = 0; i < live; i++) {
+            String text = liveTexts[i];
+            int separator = text.indexOf(FIELD_SEPARATOR);
+            put(liveIds[i], text.substring(0, separator), text.substring(separator + 1));
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            String gram = text.substring(i, i + GRAM_LENGTH);
+            if (gram.indexOf(FIELD_SEPARATOR) < 0) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Wachsende Liste von Slots eines Trigramms.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
@@ -4,16 +4,28 @@ import com.turniermanagement.db.PlayerDAO;
 import com.turniermanagement.db.DAOFactory;
 import com.turniermanagement.model.Player;
 import com.turniermanagement.model.Tournament;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Service-Klasse für Player-bezogene Geschäftslogik.
  * Nutzt das DAO-Pattern für die Datenpersistenz.
  */
 public class PlayerService {
+    // Anzahl der Spieler pro Batch und Transaktion beim Massenimport
+    static final int IMPORT_CHUNK_SIZE = 1000;
+
     private final PlayerDAO playerDAO;
+    private final Executor executor;
 
     /**
      * Erstellt einen neuen PlayerService mit Standard-DAOs.
@@ -27,7 +39,18 @@ public class PlayerService {
      * @param daoFactory Die DAOFactory zum Erstellen von DAOs
      */
     public PlayerService(DAOFactory daoFactory) {
+        this(daoFactory, ServiceExecutor.getDefault());
+    }
+
+    /**
+     * Erstellt einen neuen PlayerService mit der angegebenen DAOFactory und einem eigenen
+     * Executor für die asynchronen Methoden.
+     * @param daoFactory Die DAOFactory zum Erstellen von DAOs
+     * @param executor Der Executor für die asynchronen Methoden
+     */
+    public PlayerService(DAOFactory daoFactory, Executor executor) {
         this.playerDAO = daoFactory.createPlayerDAO();
+        this.executor = executor;
     }
 
     /**
@@ -48,6 +71,71 @@ public class PlayerService {
         return player;
     }
 
+    /**
+     * Importiert Spieler aus einer CSV- oder JSON-Datei.
+     * @param file Die Importdatei; das Format wird anhand der Dateiendung bestimmt
+     * @return Das Importergebnis mit der Anzahl importierter Spieler und den abgelehnten Zeilen
+     * @throws IOException Bei Lesefehlern oder syntaktisch ungültigen Dateien
+     * @throws SQLException Bei Datenbankfehlern
+     * @see #importPlayers(PlayerImportReader)
+     */
+    public PlayerImportResult importPlayers(Path file) throws IOException, SQLException {
+        try (PlayerImportReader reader = PlayerImportReader.open(file)) {
+            return importPlayers(reader);
+        }
+    }
+
+    /**
+     * Importiert Spieler aus einer inkrementell gelesenen Quelle.
+     * Name und E-Mail werden gegen einen einmalig geladenen Index aller vorhandenen
+     * sowie bereits importierten Spieler geprüft; ungültige Zeilen werden übersprungen
+     * und im Ergebnis gemeldet. Die gültigen Spieler werden in Blöcken von
+     * {@value #IMPORT_CHUNK_SIZE} als JDBC-Batch in je einer Transaktion gespeichert.
+     * Bei einem Lese- oder Datenbankfehler bleiben bereits gespeicherte Blöcke erhalten.
+     * @param reader Die Importquelle
+     * @return Das Importergebnis mit der Anzahl importierter Spieler und den abgelehnten Zeilen
+     * @throws IOException Bei Lesefehlern oder syntaktisch ungültigen Daten
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public PlayerImportResult importPlayers(PlayerImportReader reader) throws IOException, SQLException {
+        PlayerImportResult result = new PlayerImportResult();
+        Set<String> names = playerDAO.findAllNames();
+        Set<String> emails = playerDAO.findAllEmails();
+        
+        List<Player> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        PlayerImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            String name = row.name();
+            String email = row.email();
+            if (name == null || name.trim().isEmpty()) {
+                result.addError(row.line(), "Player name cannot be empty");
+            } else if (names.contains(name)) {
+                result.addError(row.line(), "A player with this name already exists");
+            } else if (email != null && !email.isEmpty() && emails.contains(email)) {
+                result.addError(row.line(), "A player with this email already exists");
+            } else {
+                names.add(name);
+                if (email != null && !email.isEmpty()) {
+                    emails.add(email);
+                }
+                chunk.add(new Player(name, email));
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    saveImportChunk(chunk, result);
+                    chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+                }
+            }
+        }
+        saveImportChunk(chunk, result);
+        return result;
+    }
+
+    private void saveImportChunk(List<Player> chunk, PlayerImportResult result) throws SQLException {
+        if (!chunk.isEmpty()) {
+            playerDAO.saveAll(chunk);
+            result.addImported(chunk.size());
+        }
+    }
+
     /**
      * Aktualisiert einen existierenden Spieler.
      * @param player Der zu aktualisierende Spieler
@@ -69,10 +157,11 @@ public class PlayerService {
     }
 
     /**
-     * Löscht einen Spieler.
+     * Löscht einen Spieler. Spieler, die bereits in Matches vorkommen, können nicht gelöscht werden.
      * @param playerId ID des zu löschenden Spielers
      * @throws SQLException Bei Datenbankfehlern
      * @throws IllegalArgumentException Wenn die ID null ist
+     * @throws IllegalStateException Wenn der Spieler in einem Match vorkommt
      */
     public void deletePlayer(Long playerId) throws SQLException {
         if (playerId == null) {
@@ -121,6 +210,121 @@ public class PlayerService {
         return playerDAO.findAll();
     }
 
+    /**
+     * Gibt eine Seite von Spielern zurück, sortiert nach ID.
+     * @param afterId ID des letzten Spielers der vorherigen Seite oder null für die erste Seite
+     * @param limit Maximale Anzahl an Spielern der Seite
+     * @return Die Spieler der Seite; weniger als limit Einträge kennzeichnen die letzte Seite
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public List<Player> getPlayerPage(Long afterId, int limit) throws SQLException {
+        return playerDAO.findPage(afterId, limit);
+    }
+
+    /**
+     * Lädt mehrere Spieler anhand ihrer IDs.
+     * @param playerIds IDs der Spieler
+     * @return Die gefundenen Spieler, sortiert nach ID
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public List<Player> findPlayersByIds(Collection<Long> playerIds) throws SQLException {
+        List<Player> players = new ArrayList<>(playerDAO.findByIds(playerIds).values());
+        players.sort(Comparator.comparing(Player::getId));
+        return players;
+    }
+
+    /**
+     * Baut einen Suchindex über Name und E-Mail-Adresse aller Spieler auf.
+     * Die Spieler werden dabei gestreamt und nicht gesammelt im Speicher gehalten.
+     * @return Der Suchindex
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public PlayerSearchIndex buildSearchIndex() throws SQLException {
+        PlayerSearchIndex index = new PlayerSearchIndex();
+        playerDAO.streamAll(player -> index.put(player.getId(), player.getName(), player.getEmail()));
+        return index;
+    }
+
+    /**
+     * Erstellt einen neuen Spieler asynchron.
+     * @param name Name des Spielers
+     * @param email E-Mail-Adresse des Spielers (optional)
+     * @return Future mit dem erstellten Spieler
+     * @see #createPlayer(String, String)
+     */
+    public CompletableFuture<Player> createPlayerAsync(String name, String email) {
+        return ServiceExecutor.supplyAsync(() -> createPlayer(name, email), executor);
+    }
+
+    /**
+     * Aktualisiert einen existierenden Spieler asynchron.
+     * @param player Der zu aktualisierende Spieler
+     * @return Future mit dem aktualisierten Spieler
+     * @see #updatePlayer(Player)
+     */
+    public CompletableFuture<Player> updatePlayerAsync(Player player) {
+        return ServiceExecutor.supplyAsync(() -> updatePlayer(player), executor);
+    }
+
+    /**
+     * Löscht einen Spieler asynchron.
+     * @param playerId ID des zu löschenden Spielers
+     * @return Future, das nach dem Löschen erfüllt wird
+     * @see #deletePlayer(Long)
+     */
+    public CompletableFuture<Void> deletePlayerAsync(Long playerId) {
+        return ServiceExecutor.runAsync(() -> deletePlayer(playerId), executor);
+    }
+
+    /**
+     * Findet einen Spieler anhand seiner ID asynchron.
+     * @param playerId ID des Spielers
+     * @return Future mit dem Spieler, falls gefunden
+     * @see #findPlayerById(Long)
+     */
+    public CompletableFuture<Optional<Player>> findPlayerByIdAsync(Long playerId) {
+        return ServiceExecutor.supplyAsync(() -> findPlayerById(playerId), executor);
+    }
+
+    /**
+     * Gibt alle Spieler asynchron zurück.
+     * @return Future mit der Liste aller Spieler
+     * @see #getAllPlayers()
+     */
+    public CompletableFuture<List<Player>> getAllPlayersAsync() {
+        return ServiceExecutor.supplyAsync(this::getAllPlayers, executor);
+    }
+
+    /**
+     * Gibt eine Seite von Spielern asynchron zurück.
+     * @param afterId ID des letzten Spielers der vorherigen Seite oder null für die erste Seite
+     * @param limit Maximale Anzahl an Spielern der Seite
+     * @return Future mit den Spielern der Seite
+     * @see #getPlayerPage(Long, int)
+     */
+    public CompletableFuture<List<Player>> getPlayerPageAsync(Long afterId, int limit) {
+        return ServiceExecutor.supplyAsync(() -> getPlayerPage(afterId, limit), executor);
+    }
+
+    /**
+     * Lädt mehrere Spieler anhand ihrer IDs asynchron.
+     * @param playerIds IDs der Spieler
+     * @return Future mit den gefundenen Spielern
+     * @see #findPlayersByIds(Collection)
+     */
+    public CompletableFuture<List<Player>> findPlayersByIdsAsync(Collection<Long> playerIds) {
+        return ServiceExecutor.supplyAsync(() -> findPlayersByIds(playerIds), executor);
+    }
+
+    /**
+     * Baut den Suchindex asynchron auf.
+     * @return Future mit dem Suchindex
+     * @see #buildSearchIndex()
+     */
+    public CompletableFuture<PlayerSearchIndex> buildSearchIndexAsync() {
+        return ServiceExecutor.supplyAsync(this::buildSearchIndex, executor);
+    }
+
     /**
      * Aktualisiert das Ranking eines Spielers in einem Turnier.
      * @param player Der Spieler
@@ -0,0 +1,253 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.RatingDAO;
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Rating;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Service-Klasse für die Glicko-2-Wertungen der Spieler.
+ *
+ * Jedes abgeschlossene Match mit zwei Spielern bildet einen eigenen Wertungszeitraum; da ein
+ * Spieler pro Runde nur ein Match spielt, entspricht das einem Zeitraum je Runde. Freilose
+ * werden nicht gewertet. Die Wertungen werden mit jedem Ergebnis fortgeschrieben und samt
+ * Verlauf gespeichert.
+ *
+ * {@link #recomputeAll()} berechnet alle Wertungen aus den gespeicherten Matches neu, etwa
+ * nach nachträglich korrigierten Ergebnissen. Die Matches werden dazu in Ebenen eingeteilt:
+ * Ein Match liegt eine Ebene über dem jeweils letzten Match seiner beiden Spieler. Matches
+ * derselben Ebene haben keine gemeinsamen Spieler und werden per Fork/Join parallel gewertet,
+ * die Ebenen nacheinander. Jeder Spieler durchläuft seine Matches so in chronologischer
+ * Reihenfolge, und das Ergebnis gleicht dem einer sequentiellen Neuberechnung.
+ */
+public class RatingService {
+    // Matches einer Ebene, ab denen die Ebene auf mehrere Threads verteilt wird
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private final DAOFactory daoFactory;
+    private final RatingDAO ratingDAO;
+    private final Executor executor;
+
+    /**
+     * Erstellt einen neuen RatingService mit Standard-DAOs.
+     */
+    public RatingService() {
+        this(DAOFactory.getInstance());
+    }
+
+    /**
+     * Erstellt einen neuen RatingService mit der angegebenen DAOFactory.
+     * @param daoFactory Die DAOFactory zum Erstellen von DAOs
+     */
+    public RatingService(DAOFactory daoFactory) {
+        this(daoFactory, ServiceExecutor.getDefault());
+    }
+
+    /**
+     * Erstellt einen neuen RatingService mit der angegebenen DAOFactory und einem eigenen
+     * Executor für die asynchronen Methoden.
+     * @param daoFactory Die DAOFactory zum Erstellen von DAOs
+     * @param executor Der Executor für die asynchronen Methoden
+     */
+    public RatingService(DAOFactory daoFactory, Executor executor) {
+        this.daoFactory = daoFactory;
+        this.ratingDAO = daoFactory.createRatingDAO();
+        this.executor = executor;
+    }
+
+    /**
+     * Gibt die aktuelle Wertung eines Spielers zurück.
+     * @param player Der Spieler
+     * @return Die Wertung oder die Anfangswertung, wenn der Spieler noch nicht gewertet wurde
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public Rating getRating(Player player) throws SQLException {
+        return ratingDAO.findByPlayerId(player.getId()).orElseGet(() -> Rating.initial(player.getId()));
+    }
+
+    /**
+     * Gibt die aktuellen Wertungen aller gewerteten Spieler zurück.
+     * @return Die Wertungen, höchste Wertungszahl zuerst
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public List<Rating> getRatings() throws SQLException {
+        return ratingDAO.findAll();
+    }
+
+    /**
+     * Gibt den Wertungsverlauf eines Spielers zurück.
+     * @param player Der Spieler
+     * @return Die Wertungen nach jedem gewerteten Match, älteste zuerst
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public List<Rating> getHistory(Player player) throws SQLException {
+        return ratingDAO.findHistory(player.getId());
+    }
+
+    /**
+     * Wertet ein abgeschlossenes Match und speichert die neuen Wertungen beider Spieler.
+     * Freilose und nicht abgeschlossene Matches werden ignoriert.
+     * @param match Das gespeicherte Match
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public void rateMatch(Match match) throws SQLException {
+        if (match.getStatus() != MatchStatus.COMPLETED || match.getId() == null
+                || match.getPlayer1() == null || match.getPlayer2() == null) {
+            return;
+        }
+        long player1Id = match.getPlayer1().getId();
+        long player2Id = match.getPlayer2().getId();
+        Long winnerId = match.getWinner() != null ? match.getWinner().getId() : null;
+        double score = score(winnerId, player1Id);
+
+        // Lesen und Schreiben in einer Transaktion, damit kein gleichzeitiges Ergebnis verloren geht
+        daoFactory.executeInTransaction(() -> {
+            Rating rating1 = ratingDAO.findByPlayerId(player1Id).orElseGet(() -> Rating.initial(player1Id));
+            Rating rating2 = ratingDAO.findByPlayerId(player2Id).orElseGet(() -> Rating.initial(player2Id));
+            ratingDAO.save(List.of(
+                    Glicko2.rate(rating1, rating2, score, match.getId()),
+                    Glicko2.rate(rating2, rating1, 1 - score, match.getId())));
+        });
+    }
+
+    /**
+     * Berechnet alle Wertungen aus den gespeicherten Matches neu und ersetzt den Verlauf.
+     * @return Anzahl der gewerteten Matches
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public int recomputeAll() throws SQLException {
+        int[] count = new int[1];
+        // Innerhalb der Schreibtransaktion kann kein neues Ergebnis zwischen Lesen und Ersetzen fallen
+        daoFactory.executeInTransaction(() -> {
+            List<RatingDAO.Game> games = ratingDAO.findRatedGames();
+            ratingDAO.replaceAll(replay(games));
+            count[0] = games.size();
+        });
+        return count[0];
+    }
+
+    /**
+     * Berechnet alle Wertungen asynchron neu.
+     * @return Future mit der Anzahl der gewerteten Matches
+     * @see #recomputeAll()
+     */
+    public CompletableFuture<Integer> recomputeAllAsync() {
+        return ServiceExecutor.supplyAsync(this::recomputeAll, executor);
+    }
+
+    /**
+     * Wertet Matches in chronologischer Reihenfolge, ausgehend von den Anfangswertungen.
+     * @param games Die Matches in chronologischer Reihenfolge
+     * @return Der Wertungsverlauf: je Match die neue Wertung von Spieler 1 und Spieler 2
+     */
+    static List<Rating> replay(List<RatingDAO.Game> games) {
+        int gameCount = games.size();
+        Map<Long, Integer> playerIndex = new HashMap<>();
+        int[] player1 = new int[gameCount];
+        int[] player2 = new int[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            player1[i] = playerIndex.computeIfAbsent(games.get(i).player1Id(), id -> playerIndex.size());
+            player2[i] = playerIndex.computeIfAbsent(games.get(i).player2Id(), id -> playerIndex.size());
+        }
+
+        // Ebene eines Matches: eins über dem letzten Match seiner Spieler
+        int[] lastLevel = new int[playerIndex.size()];
+        int[] level = new int[gameCount];
+        int levels = 0;
+        for (int i = 0; i < gameCount; i++) {
+            level[i] = Math.max(lastLevel[player1[i]], lastLevel[player2[i]]) + 1;
+            lastLevel[player1[i]] = level[i];
+            lastLevel[player2[i]] = level[i];
+            levels = Math.max(levels, level[i]);
+        }
+
+        // Matches nach Ebene sortieren (Counting Sort), innerhalb einer Ebene chronologisch
+        int[] levelStart = new int[levels + 2];
+        for (int i = 0; i < gameCount; i++) {
+            levelStart[level[i] + 1]++;
+        }
+        for (int l = 1; l < levelStart.length; l++) {
+            levelStart[l] += levelStart[l - 1];
+        }
+        int[] order = new int[gameCount];
+        int[] next = Arrays.copyOf(levelStart, levelStart.length);
+        for (int i = 0; i < gameCount; i++) {
+            order[next[level[i]]++] = i;
+        }
+
+        Rating[] current = new Rating[playerIndex.size()];
+        for (Map.Entry<Long, Integer> entry : playerIndex.entrySet()) {
+            current[entry.getValue()] = Rating.initial(entry.getKey());
+        }
+        Rating[] history = new Rating[2 * gameCount];
+        Replay replay = new Replay(games, player1, player2, order, current, history);
+        for (int l = 1; l <= levels; l++) {
+            replay.new Level(levelStart[l], levelStart[l + 1]).invoke();
+        }
+        return Arrays.asList(history);
+    }
+
+    private static double score(Long winnerId, long player1Id) {
+        if (winnerId == null) {
+            return 0.5;
+        }
+        return winnerId == player1Id ? 1 : 0;
+    }
+
+    /**
+     * Zustand einer Neuberechnung. Die aktuellen Wertungen werden je Ebene nur von den Matches
+     * ihrer Spieler geschrieben; ein Spieler kommt in einer Ebene höchstens einmal vor.
+     */
+    private record Replay(List<RatingDAO.Game> games, int[] player1, int[] player2, int[] order,
+                          Rating[] current, Rating[] history) {
+
+        private void rate(int game) {
+            RatingDAO.Game played = games.get(game);
+            Rating rating1 = current[player1[game]];
+            Rating rating2 = current[player2[game]];
+            double score = score(played.winnerId(), played.player1Id());
+            Rating updated1 = Glicko2.rate(rating1, rating2, score, played.matchId());
+            Rating updated2 = Glicko2.rate(rating2, rating1, 1 - score, played.matchId());
+            current[player1[game]] = updated1;
+            current[player2[game]] = updated2;
+            history[2 * game] = updated1;
+            history[2 * game + 1] = updated2;
+        }
+
+        /**
+         * Wertet die Matches order[from..to) einer Ebene, ab {@link #PARALLEL_THRESHOLD} Matches geteilt.
+         */
+        private final class Level extends RecursiveAction {
+            private final int from;
+            private final int to;
+
+            private Level(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from <= PARALLEL_THRESHOLD) {
+                    for (int i = from; i < to; i++) {
+                        rate(order[i]);
+                    }
+                    return;
+                }
+                int middle = (from + to) >>> 1;
+                invokeAll(new Level(from, middle), new Level(middle, to));
+            }
+        }
+    }
+}
@@ -2,18 +2,37 @@ package com.turniermanagement.service;
 
 import com.turniermanagement.db.RoundDAO;
 import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.StandingsDAO;
 import com.turniermanagement.model.*;
+import java.lang.ref.WeakReference;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Service-Klasse für die Verwaltung von Runden.
  * Nutzt das DAO-Pattern für die Datenpersistenz.
  */
 public class RoundService {
+    private final DAOFactory daoFactory;
     private final RoundDAO roundDAO;
+    private final StandingsDAO standingsDAO;
     private final MatchService matchService;
+    private final PairingEngine pairingEngine;
+    // Paarungshistorien je Turnier-ID, die mit jeder neuen Runde fortgeschrieben werden
+    private final Map<Long, Cached<PairingHistory>> pairingHistories = new ConcurrentHashMap<>();
+    // Tabellen je Turnier-ID, die mit jedem abgeschlossenen Match fortgeschrieben werden
+    private final Map<Long, Cached<Standings>> tournamentStandings = new ConcurrentHashMap<>();
+
+    /**
+     * Vorgehaltener Wert eines Turniers. Das Turnier wird nur schwach referenziert: Ist es nicht
+     * mehr erreichbar, etwa weil es gelöscht und aus der IdentityMap entfernt wurde, verfällt
+     * der Eintrag.
+     */
+    private record Cached<T>(WeakReference<Tournament> tournament, T value) {
+    }
 
     /**
      * Erstellt einen neuen RoundService mit Standard-DAOs.
@@ -27,8 +46,20 @@ public class RoundService {
      * @param daoFactory Die DAOFactory zum Erstellen von DAOs
      */
     public RoundService(DAOFactory daoFactory) {
+        this(daoFactory, new BlossomPairingEngine());
+    }
+
+    /**
+     * Erstellt einen neuen RoundService mit der angegebenen DAOFactory und Paarungsstrategie.
+     * @param daoFactory Die DAOFactory zum Erstellen von DAOs
+     * @param pairingEngine Die Strategie zur Paarung neuer Runden
+     */
+    public RoundService(DAOFactory daoFactory, PairingEngine pairingEngine) {
+        this.daoFactory = daoFactory;
         this.roundDAO = daoFactory.createRoundDAO();
+        this.standingsDAO = daoFactory.createStandingsDAO();
         this.matchService = getMatchService(daoFactory);
+        this.pairingEngine = pairingEngine;
     }
     
     /**
@@ -59,103 +90,68 @@ public class RoundService {
         Round round = new Round();
         round.setRoundNumber(nextRoundNumber);
 
-        List<Player> players = new ArrayList<>(tournament.getPlayers());
-        
-        // Sortiere Spieler nach Ranking (Gewonnene Spiele - Verlorene Spiele)
-        players.sort((p1, p2) -> {
-            int p1Score = p1.getGamesWon() - p1.getGamesLost();
-            int p2Score = p2.getGamesWon() - p2.getGamesLost();
-            return Integer.compare(p2Score, p1Score); // Absteigend sortieren
-        });
+        // Spieler in Tabellenreihenfolge; ausgeschiedene Spieler bleiben nur für die Feinwertung in der Tabelle
+        Standings standings = getStandings(tournament);
+        Set<Long> participants = new HashSet<>();
+        tournament.getPlayers().forEach(p -> participants.add(p.getId()));
+        List<Player> players = new ArrayList<>(participants.size());
+        for (Player player : standings.getRankedPlayers()) {
+            if (participants.contains(player.getId())) {
+                players.add(player);
+            }
+        }
 
         // Generiere Paarungen nach Schweizer System
-        List<Match> matches = generateSwissSystemPairings(players, tournament);
+        List<Match> matches = pairingEngine.pair(players, standings::getHalfPoints, getPairingHistory(tournament));
         matches.forEach(round::addMatch);
 
-        roundDAO.save(round, tournament.getId());
+        daoFactory.executeInTransaction(() -> {
+            roundDAO.save(round, tournament.getId());
+            // Freilose sind bereits abgeschlossen und gehen sofort in die gespeicherte Tabelle ein
+            for (Match match : round.getMatches()) {
+                if (match.getStatus() == MatchStatus.COMPLETED) {
+                    standingsDAO.recordResult(match.getId());
+                }
+            }
+        });
         return round;
     }
 
-    private List<Match> generateSwissSystemPairings(List<Player> players, Tournament tournament) {
-        // Sammle bereits gespielte Paarungen
-        Set<String> playedPairings = getPlayedPairings(tournament);
-        
-        List<Match> matches = new ArrayList<>();
-        Set<Player> pairedPlayers = new HashSet<>();
-
-        // Versuche Spieler mit ähnlichem Ranking zu paaren
-        for (int i = 0; i < players.size(); i++) {
-            if (pairedPlayers.contains(players.get(i))) {
-                continue;
-            }
-
-            Player player1 = players.get(i);
-            Player bestMatch = null;
-            int minRankingDiff = Integer.MAX_VALUE;
-
-            // Suche den am besten passenden Gegner
-            for (int j = i + 1; j < players.size(); j++) {
-                Player player2 = players.get(j);
-                if (pairedPlayers.contains(player2)) {
-                    continue;
-                }
-
-                // Prüfe ob diese Paarung bereits gespielt wurde
-                String pairingKey = getPairingKey(player1, player2);
-                if (playedPairings.contains(pairingKey)) {
-                    continue;
-                }
-
-                // Berechne Ranking-Differenz
-                int rankingDiff = Math.abs(
-                    (player1.getGamesWon() - player1.getGamesLost()) -
-                    (player2.getGamesWon() - player2.getGamesLost())
-                );
+    /**
+     * Gibt die aktuelle Tabelle eines Turniers zurück. Die Tabelle wird je laufendem Turnier
+     * vorgehalten und nur um die seit dem letzten Aufruf abgeschlossenen Matches ergänzt;
+     * abgeschlossene und abgebrochene Turniere werden nicht vorgehalten.
+     * @param tournament Das Turnier mit Spielern und Runden
+     * @return Die Tabelle
+     */
+    public Standings getStandings(Tournament tournament) {
+        return cached(tournamentStandings, tournament, Standings::of, Standings::update);
+    }
 
-                if (rankingDiff < minRankingDiff) {
-                    minRankingDiff = rankingDiff;
-                    bestMatch = player2;
-                }
-            }
+    private PairingHistory getPairingHistory(Tournament tournament) {
+        return cached(pairingHistories, tournament, PairingHistory::of, PairingHistory::update);
+    }
 
-            // Wenn ein passender Gegner gefunden wurde
-            if (bestMatch != null) {
-                Match match = new Match(player1, bestMatch);
-                match.setStatus(MatchStatus.SCHEDULED);
-                matches.add(match);
-                pairedPlayers.add(player1);
-                pairedPlayers.add(bestMatch);
+    private static <T> T cached(Map<Long, Cached<T>> cache, Tournament tournament,
+                                Function<Tournament, T> create, BiFunction<T, Tournament, T> update) {
+        // Einträge verfallener und beendeter Turniere werden bei jedem Zugriff entfernt
+        cache.values().removeIf(entry -> {
+            Tournament cachedTournament = entry.tournament().get();
+            return cachedTournament == null || isFinished(cachedTournament);
+        });
+        if (tournament.getId() == null || isFinished(tournament)) {
+            if (tournament.getId() != null) {
+                cache.remove(tournament.getId());
             }
+            return create.apply(tournament);
         }
-
-        // Behandle übrige Spieler (falls ungerade Anzahl)
-        players.stream()
-            .filter(p -> !pairedPlayers.contains(p))
-            .findFirst()
-            .ifPresent(player -> {
-                Match byeMatch = new Match(player, null);
-                byeMatch.setStatus(MatchStatus.COMPLETED);
-                byeMatch.setWinner(player);
-                matches.add(byeMatch);
-            });
-
-        return matches;
-    }
-
-    private Set<String> getPlayedPairings(Tournament tournament) {
-        return tournament.getRounds().stream()
-            .flatMap(r -> r.getMatches().stream())
-            .filter(m -> m.getPlayer1() != null && m.getPlayer2() != null)
-            .map(m -> getPairingKey(m.getPlayer1(), m.getPlayer2()))
-            .collect(Collectors.toSet());
+        return cache.compute(tournament.getId(), (id, current) -> new Cached<>(new WeakReference<>(tournament),
+            current == null ? create.apply(tournament) : update.apply(current.value(), tournament))).value();
     }
 
-    private String getPairingKey(Player p1, Player p2) {
-        // Erstelle einen eindeutigen Schlüssel für eine Spielerpaarung
-        // Sortiere IDs, damit die Reihenfolge der Spieler egal ist
-        long id1 = p1.getId();
-        long id2 = p2.getId();
-        return id1 < id2 ? id1 + "-" + id2 : id2 + "-" + id1;
+    private static boolean isFinished(Tournament tournament) {
+        return tournament.getStatus() == TournamentStatus.COMPLETED
+            || tournament.getStatus() == TournamentStatus.CANCELLED;
     }
 
     public void completeRound(Long roundId) throws SQLException {
@@ -0,0 +1,104 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.db.ConnectionPool;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gemeinsamer Executor für die asynchronen Varianten der Service-Methoden.
+ * Datenbankzugriffe laufen dadurch nie auf dem JavaFX-Anwendungsthread.
+ *
+ * Die Anzahl der Threads entspricht der Anzahl der Leseverbindungen im Verbindungspool;
+ * mehr Threads würden nur auf freie Verbindungen bzw. die Schreibsperre warten.
+ * Die Threads sind Daemon-Threads und verhindern das Beenden der Anwendung nicht.
+ */
+public final class ServiceExecutor {
+
+    /**
+     * Eine Datenbankoperation mit Ergebnis.
+     * @param <T> Typ des Ergebnisses
+     */
+    @FunctionalInterface
+    public interface Task<T> {
+        T call() throws SQLException;
+    }
+
+    /**
+     * Eine Datenbankoperation ohne Ergebnis.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws SQLException;
+    }
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService DEFAULT_EXECUTOR =
+            Executors.newFixedThreadPool(ConnectionPool.DEFAULT_MAX_READERS, runnable -> {
+                Thread thread = new Thread(runnable, "service-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private ServiceExecutor() {
+    }
+
+    /**
+     * Gibt den anwendungsweiten Executor zurück.
+     * @return Der Standard-Executor für Service-Aufrufe
+     */
+    public static Executor getDefault() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Führt eine Datenbankoperation asynchron aus.
+     * Fehler (auch {@link SQLException}) schließen das Future ausnahmsweise ab und sind
+     * über {@link CompletionException#getCause()} zugänglich.
+     * @param task Die auszuführende Operation
+     * @param executor Der Executor
+     * @param <T> Typ des Ergebnisses
+     * @return Future mit dem Ergebnis der Operation
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Task<T> task, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Führt eine Datenbankoperation ohne Ergebnis asynchron aus.
+     * @param action Die auszuführende Operation
+     * @param executor Der Executor
+     * @return Future, das nach Abschluss der Operation erfüllt wird
+     * @see #supplyAsync(Task, Executor)
+     */
+    public static CompletableFuture<Void> runAsync(Action action, Executor executor) {
+        return supplyAsync(() -> {
+            action.run();
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Liefert die eigentliche Ursache eines asynchronen Fehlers.
+     * @param error Der Fehler aus einem {@link CompletableFuture}
+     * @return Die Ursache ohne umhüllende {@link CompletionException}
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
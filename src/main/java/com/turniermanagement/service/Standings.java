@@ -0,0 +1,292 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tabelle eines Turniers mit Feinwertungen, die mit jedem Ergebnis fortgeschrieben wird.
+ *
+ * Ein Sieg zählt einen Punkt, ein Remis einen halben, ein Freilos einen Punkt ohne Gegner.
+ * Die Rangfolge bestimmen der Reihe nach:
+ * <ol>
+ *   <li>Punkte</li>
+ *   <li>Buchholz: Summe der Punkte aller Gegner</li>
+ *   <li>Median-Buchholz: Buchholz ohne den besten und den schwächsten Gegner (ab drei Gegnern)</li>
+ *   <li>Sonneborn-Berger: Punkte der besiegten Gegner plus die halben Punkte der Remisgegner</li>
+ *   <li>Fortschreitende Wertung: Summe der Zwischenstände nach jeder Runde</li>
+ * </ol>
+ * Bleiben Spieler danach gleich, entscheidet die Spieler-ID. Die Gesamtbilanz der Spieler geht
+ * nicht ein: Sie ändert sich mit jedem Ergebnis, die Reihenfolge hinge sonst davon ab, wann die
+ * Tabelle aufgebaut wurde. Die gespeicherte Tabelle ({@code StandingsDAO}) sortiert genauso.
+ *
+ * Ein Ergebnis ändert nur die Werte der beiden Spieler und ihrer bisherigen Gegner; nur diese
+ * werden neu berechnet und in der sortierten Menge umgehängt. Die Rangliste lässt sich daher
+ * jederzeit ohne Sortieren auslesen.
+ *
+ * Intern werden Punkte in halben Punkten und Sonneborn-Berger in Viertelpunkten geführt.
+ * Die Klasse ist nicht threadsicher.
+ */
+public final class Standings {
+    private static final int WIN = 2;
+    private static final int DRAW = 1;
+
+    private final Map<Long, Standing> standings = new HashMap<>();
+    private final TreeSet<Standing> ranking = new TreeSet<>(Comparator
+            .comparingInt((Standing s) -> -s.points)
+            .thenComparingInt(s -> -s.buchholz)
+            .thenComparingInt(s -> -s.medianBuchholz)
+            .thenComparingLong(s -> -s.sonnebornBerger)
+            // Bei gleichen Punkten ist die fortschreitende Wertung höher, wenn die Punkte früher geholt wurden
+            .thenComparingLong(s -> s.weightedPoints)
+            .thenComparing(s -> s.player.getId()));
+    private final Set<Long> recordedMatches = new HashSet<>();
+    // Runden-ID → Matchanzahl der Runden, deren Matches alle gewertet sind
+    private final Map<Long, Integer> finishedRounds = new HashMap<>();
+    private int lastRound;
+    // Matches ohne ID lassen sich nicht wiedererkennen; update baut die Tabelle dann neu auf
+    private boolean incremental = true;
+
+    private Standings() {
+    }
+
+    /**
+     * Erstellt die Tabelle aus den Spielern und abgeschlossenen Matches eines Turniers.
+     * @param tournament Das Turnier mit Spielern und Runden
+     * @return Die Tabelle
+     */
+    public static Standings of(Tournament tournament) {
+        Standings standings = new Standings();
+        standings.update(tournament);
+        return standings;
+    }
+
+    /**
+     * Übernimmt neue Spieler und neu abgeschlossene Matches eines Turniers. Runden, deren
+     * Matches bereits alle gewertet sind, werden nur anhand ihrer Matchanzahl geprüft; durchsucht
+     * werden nur die übrigen Runden.
+     * Fehlen bereits gewertete Matches im Turnier oder haben Matches keine ID, wird die
+     * Tabelle stattdessen neu aufgebaut.
+     * @param tournament Das Turnier mit Spielern und Runden
+     * @return Diese Tabelle oder eine neu aufgebaute
+     */
+    public Standings update(Tournament tournament) {
+        if (!incremental) {
+            return new Standings().update(tournament);
+        }
+        // Anzahl der bereits gewerteten Matches, die im Turnier noch vorhanden sind
+        int recordedPresent = 0;
+        List<Match> newMatches = new ArrayList<>();
+        List<Integer> newRounds = new ArrayList<>();
+        List<Round> openRounds = new ArrayList<>();
+        for (Round round : tournament.getRounds()) {
+            Integer finishedSize = round.getId() != null ? finishedRounds.get(round.getId()) : null;
+            if (finishedSize != null && finishedSize == round.getMatches().size()) {
+                recordedPresent += finishedSize;
+                continue;
+            }
+            // Eine abgeschlossene Runde mit geänderter Matchanzahl wird wieder durchsucht
+            if (finishedSize != null) {
+                finishedRounds.remove(round.getId());
+            }
+            openRounds.add(round);
+            for (Match match : round.getMatches()) {
+                if (match.getStatus() != MatchStatus.COMPLETED) {
+                    continue;
+                }
+                if (match.getId() == null) {
+                    incremental = false;
+                } else if (recordedMatches.contains(match.getId())) {
+                    recordedPresent++;
+                    continue;
+                }
+                newMatches.add(match);
+                newRounds.add(round.getRoundNumber());
+            }
+        }
+        if (recordedPresent != recordedMatches.size()) {
+            return new Standings().update(tournament);
+        }
+
+        for (Player player : tournament.getPlayers()) {
+            // Neu geladene Spielerobjekte ersetzen die bisherigen, die Wertung bleibt erhalten
+            standingFor(player).player = player;
+        }
+        for (int i = 0; i < newMatches.size(); i++) {
+            record(newMatches.get(i), newRounds.get(i));
+        }
+        for (Round round : openRounds) {
+            if (round.getId() != null && round.getMatches().stream()
+                    .allMatch(match -> match.getId() != null && recordedMatches.contains(match.getId()))) {
+                finishedRounds.put(round.getId(), round.getMatches().size());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Wertet ein abgeschlossenes Match aus.
+     * @param match Das Match; nicht abgeschlossene Matches werden ignoriert
+     * @param roundNumber Nummer der Runde, in der das Match gespielt wurde
+     */
+    public void record(Match match, int roundNumber) {
+        if (match.getStatus() != MatchStatus.COMPLETED || match.getPlayer1() == null) {
+            return;
+        }
+        if (match.getId() != null && !recordedMatches.add(match.getId())) {
+            return;
+        }
+        lastRound = Math.max(lastRound, roundNumber);
+
+        Standing standing1 = standingFor(match.getPlayer1());
+        Standing standing2 = match.getPlayer2() != null ? standingFor(match.getPlayer2()) : null;
+        int result1 = WIN;
+        if (standing2 != null) {
+            Player winner = match.getWinner();
+            if (winner == null) {
+                result1 = DRAW;
+            } else if (!winner.getId().equals(match.getPlayer1().getId())) {
+                result1 = 0;
+            }
+        }
+
+        Set<Standing> affected = new LinkedHashSet<>();
+        affected.add(standing1);
+        affected.addAll(standing1.opponents);
+        if (standing2 != null) {
+            affected.add(standing2);
+            affected.addAll(standing2.opponents);
+        }
+        affected.forEach(ranking::remove);
+
+        standing1.addResult(standing2, result1, roundNumber);
+        if (standing2 != null) {
+            standing2.addResult(standing1, WIN - result1, roundNumber);
+        }
+
+        for (Standing standing : affected) {
+            standing.updateTiebreaks();
+            ranking.add(standing);
+        }
+    }
+
+    /**
+     * Gibt die Tabelle in Rangfolge zurück.
+     * @return Die Tabelleneinträge, bester Spieler zuerst
+     */
+    public List<Standing> getStandings() {
+        return new ArrayList<>(ranking);
+    }
+
+    /**
+     * Gibt die Spieler in Rangfolge zurück.
+     * @return Die Spieler, bester Spieler zuerst
+     */
+    public List<Player> getRankedPlayers() {
+        List<Player> players = new ArrayList<>(ranking.size());
+        for (Standing standing : ranking) {
+            players.add(standing.player);
+        }
+        return players;
+    }
+
+    /**
+     * Gibt den Tabelleneintrag eines Spielers zurück.
+     * @param player Der Spieler
+     * @return Der Eintrag oder null, wenn der Spieler nicht in der Tabelle steht
+     */
+    public Standing getStanding(Player player) {
+        return standings.get(player.getId());
+    }
+
+    /**
+     * Gibt die Punkte eines Spielers in halben Punkten zurück, z.B. als Wertung für die Paarung.
+     * @param player Der Spieler
+     * @return Doppelte Punktzahl oder 0, wenn der Spieler nicht in der Tabelle steht
+     */
+    public int getHalfPoints(Player player) {
+        Standing standing = standings.get(player.getId());
+        return standing != null ? standing.points : 0;
+    }
+
+    private Standing standingFor(Player player) {
+        Standing standing = standings.get(player.getId());
+        if (standing == null) {
+            standing = new Standing(player);
+            standings.put(player.getId(), standing);
+            ranking.add(standing);
+        }
+        return standing;
+    }
+
+    /**
+     * Tabelleneintrag eines Spielers.
+     */
+    public final class Standing {
+        private Player player;
+        private int points;
+        private int buchholz;
+        private int medianBuchholz;
+        private long sonnebornBerger;
+        // Summe aus halben Punkten mal Rundennummer, Grundlage der fortschreitenden Wertung
+        private long weightedPoints;
+        private final List<Standing> opponents = new ArrayList<>();
+        private final List<Integer> results = new ArrayList<>();
+
+        private Standing(Player player) {
+            this.player = player;
+        }
+
+        private void addResult(Standing opponent, int result, int roundNumber) {
+            points += result;
+            weightedPoints += (long) result * roundNumber;
+            if (opponent != null) {
+                opponents.add(opponent);
+                results.add(result);
+            }
+        }
+
+        private void updateTiebreaks() {
+            int sum = 0;
+            int max = Integer.MIN_VALUE;
+            int min = Integer.MAX_VALUE;
+            long sb = 0;
+            for (int i = 0; i < opponents.size(); i++) {
+                int opponentPoints = opponents.get(i).points;
+                sum += opponentPoints;
+                max = Math.max(max, opponentPoints);
+                min = Math.min(min, opponentPoints);
+                sb += (long) results.get(i) * opponentPoints;
+            }
+            buchholz = sum;
+            medianBuchholz = opponents.size() >= 3 ? sum - max - min : sum;
+            sonnebornBerger = sb;
+        }
+
+        public Player getPlayer() { return player; }
+        public double getPoints() { return points / 2.0; }
+        public double getBuchholz() { return buchholz / 2.0; }
+        public double getMedianBuchholz() { return medianBuchholz / 2.0; }
+        public double getSonnebornBerger() { return sonnebornBerger / 4.0; }
+
+        /**
+         * Gibt die Summe der Zwischenstände nach jeder bisher gespielten Runde zurück.
+         * @return Die fortschreitende Wertung
+         */
+        public double getProgressive() {
+            return ((lastRound + 1L) * points - weightedPoints) / 2.0;
+        }
+    }
+}
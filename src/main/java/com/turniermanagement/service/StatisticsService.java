@@ -0,0 +1,62 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.StatisticsDAO;
+import com.turniermanagement.model.Statistics;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Service-Klasse für Übersichtskennzahlen.
+ * Die Kennzahlen werden aggregiert in der Datenbank berechnet; der Aufwand einer
+ * Abfrage hängt daher nicht davon ab, wie viele Turniere und Spieler geladen werden müssten.
+ */
+public class StatisticsService {
+    private final StatisticsDAO statisticsDAO;
+    private final Executor executor;
+
+    /**
+     * Erstellt einen neuen StatisticsService mit Standard-DAOs.
+     */
+    public StatisticsService() {
+        this(DAOFactory.getInstance());
+    }
+
+    /**
+     * Erstellt einen neuen StatisticsService mit der angegebenen DAOFactory.
+     * @param daoFactory Die DAOFactory zum Erstellen von DAOs
+     */
+    public StatisticsService(DAOFactory daoFactory) {
+        this(daoFactory, ServiceExecutor.getDefault());
+    }
+
+    /**
+     * Erstellt einen neuen StatisticsService mit der angegebenen DAOFactory und einem eigenen
+     * Executor für die asynchronen Methoden.
+     * @param daoFactory Die DAOFactory zum Erstellen von DAOs
+     * @param executor Der Executor für die asynchronen Methoden
+     */
+    public StatisticsService(DAOFactory daoFactory, Executor executor) {
+        this.statisticsDAO = daoFactory.createStatisticsDAO();
+        this.executor = executor;
+    }
+
+    /**
+     * Gibt die aktuellen Übersichtskennzahlen zurück.
+     * @return Die Kennzahlen
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public Statistics getStatistics() throws SQLException {
+        return statisticsDAO.getStatistics();
+    }
+
+    /**
+     * Gibt die aktuellen Übersichtskennzahlen asynchron zurück.
+     * @return Future mit den Kennzahlen
+     * @see #getStatistics()
+     */
+    public CompletableFuture<Statistics> getStatisticsAsync() {
+        return ServiceExecutor.supplyAsync(this::getStatistics, executor);
+    }
+}
@@ -3,18 +3,24 @@ package com.turniermanagement.service;
 import com.turniermanagement.db.TournamentDAO;
 import com.turniermanagement.db.PlayerDAO;
 import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.StandingsDAO;
 import com.turniermanagement.model.*;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Service-Klasse für Tournament-bezogene Geschäftslogik.
  * Nutzt das DAO-Pattern für die Datenpersistenz.
  */
 public class TournamentService {
+    private final DAOFactory daoFactory;
     private final TournamentDAO tournamentDAO;
     private final PlayerDAO playerDAO;
+    private final StandingsDAO standingsDAO;
+    private final Executor executor;
 
     /**
      * Erstellt einen neuen TournamentService mit Standard-DAOs.
@@ -28,8 +34,21 @@ public class TournamentService {
      * @param daoFactory Die DAOFactory zum Erstellen von DAOs
      */
     public TournamentService(DAOFactory daoFactory) {
+        this(daoFactory, ServiceExecutor.getDefault());
+    }
+
+    /**
+     * Erstellt einen neuen TournamentService mit der angegebenen DAOFactory und einem eigenen
+     * Executor für die asynchronen Methoden.
+     * @param daoFactory Die DAOFactory zum Erstellen von DAOs
+     * @param executor Der Executor für die asynchronen Methoden
+     */
+    public TournamentService(DAOFactory daoFactory, Executor executor) {
+        this.daoFactory = daoFactory;
+        this.executor = executor;
         this.tournamentDAO = daoFactory.createTournamentDAO();
         this.playerDAO = daoFactory.createPlayerDAO();
+        this.standingsDAO = daoFactory.createStandingsDAO();
     }
 
     /**
@@ -73,7 +92,8 @@ public class TournamentService {
     }
 
     public void completeTournament(Long tournamentId) throws SQLException {
-        Tournament tournament = tournamentDAO.findById(tournamentId)
+        // Runden werden für die Prüfung benötigt
+        Tournament tournament = tournamentDAO.loadGraph(tournamentId)
             .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
 
         if (tournament.getStatus() != TournamentStatus.IN_PROGRESS) {
@@ -85,11 +105,9 @@ public class TournamentService {
             throw new IllegalStateException("All rounds must be completed before completing tournament");
         }
 
+        // Die Spielerbilanz ist bereits aktuell, MatchService zählt jedes Ergebnis sofort
         tournament.setStatus(TournamentStatus.COMPLETED);
         tournamentDAO.update(tournament);
-
-        // Aktualisiere Spielerstatistiken
-        updatePlayerStatistics(tournament);
     }
 
     public void cancelTournament(Long tournamentId) throws SQLException {
@@ -100,57 +118,62 @@ public class TournamentService {
         tournamentDAO.update(tournament);
     }
 
-    private void updatePlayerStatistics(Tournament tournament) throws SQLException {
-        Map<Long, PlayerStats> playerStats = new HashMap<>();
-
-        // Initialisiere Statistiken für alle Spieler
-        for (Player player : tournament.getPlayers()) {
-            playerStats.put(player.getId(), new PlayerStats());
-        }
+    /**
+     * Gibt alle Turniere aus der Datenbank zurück.
+     * @return Liste aller Turniere
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public List<Tournament> getAllTournaments() throws SQLException {
+        return tournamentDAO.findAll();
+    }
 
-        // Sammle Statistiken aus allen Matches
-        for (Round round : tournament.getRounds()) {
-            for (Match match : round.getMatches()) {
-                if (match.getStatus() == MatchStatus.COMPLETED) {
-                    PlayerStats stats1 = playerStats.get(match.getPlayer1().getId());
-                    PlayerStats stats2 = playerStats.get(match.getPlayer2().getId());
-
-                    if (match.getWinner() != null) {
-                        if (match.getWinner().getId().equals(match.getPlayer1().getId())) {
-                            stats1.gamesWon++;
-                            stats2.gamesLost++;
-                        } else {
-                            stats1.gamesLost++;
-                            stats2.gamesWon++;
-                        }
-                    }
-                }
-            }
-        }
+    /**
+     * Gibt alle Turniere asynchron zurück.
+     * @return Future mit der Liste aller Turniere
+     * @see #getAllTournaments()
+     */
+    public CompletableFuture<List<Tournament>> getAllTournamentsAsync() {
+        return ServiceExecutor.supplyAsync(this::getAllTournaments, executor);
+    }
+    
+    /**
+     * Gibt die gespeicherte Tabelle eines Turniers zurück.
+     * @param tournamentId ID des Turniers
+     * @return Die Tabelleneinträge nach Tabellenplatz; leer, solange kein Ergebnis vorliegt
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public List<TournamentStanding> getStandings(Long tournamentId) throws SQLException {
+        return standingsDAO.findByTournamentId(tournamentId);
+    }
 
-        // Aktualisiere Spieler in der Datenbank
-        for (Player player : tournament.getPlayers()) {
-            PlayerStats stats = playerStats.get(player.getId());
-            player.setGamesWon(player.getGamesWon() + stats.gamesWon);
-            player.setGamesLost(player.getGamesLost() + stats.gamesLost);
-            playerDAO.update(player);
-        }
+    /**
+     * Gibt die gespeicherte Tabelle eines Turniers asynchron zurück.
+     * @param tournamentId ID des Turniers
+     * @return Future mit den Tabelleneinträgen
+     * @see #getStandings(Long)
+     */
+    public CompletableFuture<List<TournamentStanding>> getStandingsAsync(Long tournamentId) {
+        return ServiceExecutor.supplyAsync(() -> getStandings(tournamentId), executor);
     }
 
-    private static class PlayerStats {
-        int gamesWon = 0;
-        int gamesLost = 0;
+    /**
+     * Berechnet die gespeicherte Tabelle eines Turniers aus seinen Matches neu, etwa nachdem
+     * Runden oder Matches gelöscht wurden.
+     * @param tournamentId ID des Turniers
+     * @throws SQLException Bei Datenbankfehlern
+     */
+    public void rebuildStandings(Long tournamentId) throws SQLException {
+        standingsDAO.rebuild(tournamentId);
     }
 
     /**
-     * Gibt alle Turniere aus der Datenbank zurück.
-     * @return Liste aller Turniere
+     * Berechnet die gespeicherten Tabellen aller Turniere neu.
      * @throws SQLException Bei Datenbankfehlern
      */
-    public List<Tournament> getAllTournaments() throws SQLException {
-        return tournamentDAO.findAll();
+    public void rebuildAllStandings() throws SQLException {
+        standingsDAO.rebuildAll();
     }
-    
+
     /**
      * Löscht alle Einträge aus der Datenbank.
      * WARNUNG: Diese Methode löscht ALLE Daten ohne Backup!
@@ -159,23 +182,10 @@ public class TournamentService {
      * @throws SQLException Bei Datenbankfehlern
      */
     public void deleteAllData() throws SQLException {
-        // Hole Turniere und lösche alle zugehörigen Daten
-        List<Tournament> tournaments = tournamentDAO.findAll();
-        for (Tournament tournament : tournaments) {
-            // Lösche alle Runden und zugehörigen Matches
-            for (Round round : tournament.getRounds()) {
-                tournamentDAO.deleteRound(round.getId());
-            }
-            // Entferne Spieler-Zuordnungen
-            tournamentDAO.removePlayers(tournament.getId());
-            // Lösche Turnier
-            tournamentDAO.delete(tournament.getId());
-        }
-        
-        // Lösche alle Spieler
-        List<Player> players = playerDAO.findAll();
-        for (Player player : players) {
-            playerDAO.delete(player.getId());
-        }
+        // Mengenbasiert in einer Transaktion: Turniere samt Runden, Matches und Zuordnungen, danach die Spieler
+        daoFactory.executeInTransaction(() -> {
+            tournamentDAO.deleteAll();
+            playerDAO.deleteAll();
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingPlayerDAOTest {
+    @Mock
+    private PlayerDAO delegate;
+
+    private PlayerCache cache;
+    private CachingPlayerDAO playerDAO;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cache = new PlayerCache(4);
+        playerDAO = new CachingPlayerDAO(delegate, cache);
+    }
+
+    private Player player(long id, String name, String email) {
+        Player player = new Player(name, email);
+        player.setId(id);
+        return player;
+    }
+
+    @Test
+    void testRepeatedLookupsAreServedFromCache() throws SQLException {
+        Player player = player(1L, "Alice", "alice@example.com");
+        when(delegate.findById(1L)).thenReturn(Optional.of(player));
+        when(delegate.findByName("Alice")).thenReturn(Optional.of(player));
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(player, playerDAO.findById(1L).orElseThrow());
+            assertSame(player, playerDAO.findByName("Alice").orElseThrow());
+        }
+
+        verify(delegate, times(1)).findById(1L);
+        verify(delegate, times(1)).findByName("Alice");
+        assertEquals(4, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testRecordGameResultInvalidatesBothPlayers() throws SQLException {
+        Player alice = player(1L, "Alice", null);
+        Player bob = player(2L, "Bob", null);
+        when(delegate.findById(1L)).thenReturn(Optional.of(alice));
+        when(delegate.findById(2L)).thenReturn(Optional.of(bob));
+        playerDAO.findById(1L);
+        playerDAO.findById(2L);
+
+        playerDAO.recordGameResult(1L, 2L);
+        playerDAO.findById(1L);
+        playerDAO.findById(2L);
+
+        verify(delegate).recordGameResult(1L, 2L);
+        verify(delegate, times(2)).findById(1L);
+        verify(delegate, times(2)).findById(2L);
+    }
+
+    @Test
+    void testNegativeResultsAreCachedUntilSave() throws SQLException {
+        when(delegate.findByName("Bob")).thenReturn(Optional.empty());
+        when(delegate.findByEmail("bob@example.com")).thenReturn(Optional.empty());
+
+        assertFalse(playerDAO.findByName("Bob").isPresent());
+        assertFalse(playerDAO.findByName("Bob").isPresent());
+        assertFalse(playerDAO.findByEmail("bob@example.com").isPresent());
+        verify(delegate, times(1)).findByName("Bob");
+
+        Player bob = player(2L, "Bob", "bob@example.com");
+        playerDAO.save(bob);
+        when(delegate.findByName("Bob")).thenReturn(Optional.of(bob));
+        when(delegate.findByEmail("bob@example.com")).thenReturn(Optional.of(bob));
+
+        assertSame(bob, playerDAO.findByName("Bob").orElseThrow());
+        assertSame(bob, playerDAO.findByEmail("bob@example.com").orElseThrow());
+        verify(delegate, times(2)).findByName("Bob");
+        verify(delegate, times(2)).findByEmail("bob@example.com");
+    }
+
+    @Test
+    void testUpdateInvalidatesOldNameEntry() throws SQLException {
+        Player player = player(1L, "Old Name", null);
+        when(delegate.findByName("Old Name")).thenReturn(Optional.of(player));
+        assertTrue(playerDAO.findByName("Old Name").isPresent());
+
+        player.setName("New Name");
+        playerDAO.update(player);
+        when(delegate.findByName("Old Name")).thenReturn(Optional.empty());
+
+        assertFalse(playerDAO.findByName("Old Name").isPresent());
+        verify(delegate).update(player);
+        verify(delegate, times(2)).findByName("Old Name");
+    }
+
+    @Test
+    void testFailedUpdateInvalidatesEntry() throws SQLException {
+        Player cached = player(1L, "Alice", null);
+        Player persisted = player(1L, "Alice", null);
+        when(delegate.findById(1L)).thenReturn(Optional.of(cached)).thenReturn(Optional.of(persisted));
+        playerDAO.findById(1L);
+
+        cached.setName("Rejected");
+        doThrow(new SQLException("UNIQUE constraint failed")).when(delegate).update(cached);
+        assertThrows(SQLException.class, () -> playerDAO.update(cached));
+
+        assertEquals("Alice", playerDAO.findById(1L).orElseThrow().getName());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void testDeleteInvalidatesAllKeysOfPlayer() throws SQLException {
+        Player player = player(1L, "Alice", "alice@example.com");
+        when(delegate.findById(1L)).thenReturn(Optional.of(player));
+        when(delegate.findByEmail("alice@example.com")).thenReturn(Optional.of(player));
+        playerDAO.findById(1L);
+        playerDAO.findByEmail("alice@example.com");
+        assertEquals(2, cache.size());
+
+        playerDAO.delete(1L);
+
+        assertEquals(0, cache.size());
+        verify(delegate).delete(1L);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvicted() throws SQLException {
+        for (long id = 1; id <= 5; id++) {
+            when(delegate.findById(id)).thenReturn(Optional.of(player(id, "P" + id, null)));
+        }
+        playerDAO.findById(1L);
+        playerDAO.findById(2L);
+        playerDAO.findById(3L);
+        playerDAO.findById(4L);
+        playerDAO.findById(1L); // 1 wird zuletzt verwendet, 2 ist nun der älteste Eintrag
+        playerDAO.findById(5L);
+
+        assertEquals(4, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        playerDAO.findById(1L);
+        playerDAO.findById(2L);
+        verify(delegate, times(1)).findById(1L);
+        verify(delegate, times(2)).findById(2L);
+    }
+
+    @Test
+    void testFindByIdsLoadsOnlyMissingPlayers() throws SQLException {
+        Player first = player(1L, "First", null);
+        Player second = player(2L, "Second", null);
+        when(delegate.findById(1L)).thenReturn(Optional.of(first));
+        when(delegate.findByIds(argThat(ids -> ids.contains(2L)))).thenReturn(Map.of(2L, second));
+        playerDAO.findById(1L);
+
+        Map<Long, Player> players = playerDAO.findByIds(List.of(1L, 2L, 2L));
+
+        assertEquals(2, players.size());
+        assertSame(first, players.get(1L));
+        assertSame(second, players.get(2L));
+        verify(delegate).findByIds(argThat(ids -> ids.size() == 1 && ids.contains(2L)));
+    }
+}
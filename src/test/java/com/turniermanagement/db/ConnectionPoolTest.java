@@ -0,0 +1,182 @@
+package com.turniermanagement.db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+    @TempDir
+    Path tempDir;
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = ConnectionPool.create("jdbc:sqlite:" + tempDir.resolve("pool.db"), 2);
+        try (ConnectionPool.Lease lease = pool.beginWrite();
+             Statement stmt = lease.getConnection().createStatement()) {
+            stmt.execute("CREATE TABLE counter (id INTEGER PRIMARY KEY, value INTEGER)");
+            stmt.execute("INSERT INTO counter (id, value) VALUES (1, 0)");
+            lease.commit();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        pool.close();
+    }
+
+    @Test
+    void testNestedWriteJoinsOuterTransaction() throws SQLException {
+        try (ConnectionPool.Lease outer = pool.beginWrite()) {
+            increment(outer.getConnection());
+            try (ConnectionPool.Lease inner = pool.beginWrite()) {
+                assertSame(outer.getConnection(), inner.getConnection());
+                increment(inner.getConnection());
+                inner.commit();
+            }
+            outer.commit();
+        }
+        assertEquals(2, readCounter());
+    }
+
+    @Test
+    void testFailedInnerWriteRollsBackOuterTransaction() throws SQLException {
+        try (ConnectionPool.Lease outer = pool.beginWrite()) {
+            increment(outer.getConnection());
+            try (ConnectionPool.Lease inner = pool.beginWrite()) {
+                increment(inner.getConnection());
+                // kein Commit: innere Arbeitseinheit schlägt fehl
+            }
+            assertThrows(SQLException.class, outer::commit);
+        }
+        assertEquals(0, readCounter());
+    }
+
+    @Test
+    void testAfterCommitActionsRunOnlyAfterOutermostCommit() throws SQLException {
+        List<String> actions = new ArrayList<>();
+        try (ConnectionPool.Lease outer = pool.beginWrite()) {
+            try (ConnectionPool.Lease inner = pool.beginWrite()) {
+                inner.afterCommit(() -> actions.add("inner"));
+                inner.commit();
+            }
+            assertTrue(actions.isEmpty());
+            outer.commit();
+        }
+        assertEquals(List.of("inner"), actions);
+
+        try (ConnectionPool.Lease outer = pool.beginWrite()) {
+            try (ConnectionPool.Lease inner = pool.beginWrite()) {
+                inner.afterCommit(() -> actions.add("rolled back"));
+                inner.commit();
+            }
+            // kein Commit der äußeren Arbeitseinheit
+        }
+        assertEquals(List.of("inner"), actions);
+    }
+
+    @Test
+    void testFailedCommitIsRolledBack() throws SQLException {
+        try (ConnectionPool.Lease lease = pool.beginWrite();
+             Statement stmt = lease.getConnection().createStatement()) {
+            stmt.execute("CREATE TABLE child (id INTEGER PRIMARY KEY, counter_id INTEGER " +
+                         "REFERENCES counter(id) DEFERRABLE INITIALLY DEFERRED)");
+            lease.commit();
+        }
+
+        try (ConnectionPool.Lease lease = pool.beginWrite();
+             Statement stmt = lease.getConnection().createStatement()) {
+            increment(lease.getConnection());
+            // Verletzung des verzögerten Fremdschlüssels fällt erst beim Commit auf
+            stmt.executeUpdate("INSERT INTO child (id, counter_id) VALUES (1, 99)");
+            assertThrows(SQLException.class, lease::commit);
+        }
+        assertEquals(0, readCounter());
+    }
+
+    @Test
+    void testFailingAfterCommitActionDoesNotSkipOthers() throws SQLException {
+        List<String> actions = new ArrayList<>();
+        try (ConnectionPool.Lease lease = pool.beginWrite()) {
+            lease.afterCommit(() -> actions.add("first"));
+            lease.afterCommit(() -> {
+                throw new IllegalStateException("kaputt");
+            });
+            lease.afterCommit(() -> actions.add("third"));
+            assertThrows(IllegalStateException.class, lease::commit);
+        }
+        assertEquals(List.of("first", "third"), actions);
+    }
+
+    @Test
+    void testReaderDoesNotSeeUncommittedWrite() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ConnectionPool.Lease writer = pool.beginWrite()) {
+            increment(writer.getConnection());
+            // Leser in einem anderen Thread blockiert nicht und sieht den letzten Commit
+            assertEquals(0, executor.submit(this::readCounter).get());
+            writer.commit();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, readCounter());
+    }
+
+    @Test
+    void testConcurrentWritesAreSerialized() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 25; j++) {
+                        try (ConnectionPool.Lease lease = pool.beginWrite()) {
+                            int value = readCounter();
+                            try (Statement stmt = lease.getConnection().createStatement()) {
+                                stmt.executeUpdate("UPDATE counter SET value = " + (value + 1) + " WHERE id = 1");
+                            }
+                            lease.commit();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(100, readCounter());
+    }
+
+    private void increment(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("UPDATE counter SET value = value + 1 WHERE id = 1");
+        }
+    }
+
+    private int readCounter() throws SQLException {
+        try (ConnectionPool.Lease lease = pool.beginRead();
+             Statement stmt = lease.getConnection().createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT value FROM counter WHERE id = 1")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,693 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Rating;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Statistics;
+import com.turniermanagement.model.Tournament;
+import com.turniermanagement.model.TournamentStanding;
+import com.turniermanagement.model.TournamentStatus;
+import com.turniermanagement.service.Standings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Gemeinsame Verhaltenstests für alle DAOFactory-Implementierungen.
+ * Jede Implementierung muss sich hier wie die SQLite-DAOs verhalten.
+ */
+abstract class DAOContractTest {
+    protected DAOFactory daoFactory;
+    private PlayerDAO playerDAO;
+    private TournamentDAO tournamentDAO;
+    private RoundDAO roundDAO;
+    private MatchDAO matchDAO;
+
+    /**
+     * Erstellt eine Factory über einem leeren Datenbestand.
+     */
+    protected abstract DAOFactory createFactory() throws SQLException;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        daoFactory = createFactory();
+        reload();
+    }
+
+    /**
+     * Verwirft die geladenen Instanzen, damit die folgenden Abfragen den gespeicherten Stand liefern.
+     */
+    private void reload() {
+        daoFactory.getIdentityMap().clear();
+        playerDAO = daoFactory.createPlayerDAO();
+        tournamentDAO = daoFactory.createTournamentDAO();
+        roundDAO = daoFactory.createRoundDAO();
+        matchDAO = daoFactory.createMatchDAO();
+    }
+
+    @Test
+    void testSaveAndFindPlayer() throws SQLException {
+        Player player = new Player("Alice", "alice@example.com");
+        player.setGamesWon(3);
+        playerDAO.save(player);
+        assertNotNull(player.getId());
+        reload();
+
+        Player loaded = playerDAO.findById(player.getId()).orElseThrow();
+        assertEquals("Alice", loaded.getName());
+        assertEquals("alice@example.com", loaded.getEmail());
+        assertEquals(3, loaded.getGamesWon());
+        assertFalse(loaded.getChanges().isDirty());
+        assertSame(loaded, playerDAO.findByName("Alice").orElseThrow());
+        assertSame(loaded, playerDAO.findByEmail("alice@example.com").orElseThrow());
+        assertTrue(playerDAO.findByEmail("").isEmpty());
+        assertTrue(playerDAO.findById(player.getId() + 1).isEmpty());
+    }
+
+    @Test
+    void testDuplicatePlayerNameIsRejected() throws SQLException {
+        playerDAO.save(new Player("Alice"));
+        Player duplicate = new Player("Alice");
+
+        assertThrows(SQLException.class, () -> playerDAO.save(duplicate));
+        assertNull(duplicate.getId());
+        assertEquals(1, playerDAO.findAll().size());
+    }
+
+    @Test
+    void testFailedUpdateKeepsPersistedValues() throws SQLException {
+        Player alice = new Player("Alice", "alice@example.com");
+        playerDAO.saveAll(List.of(alice, new Player("Bob")));
+        reload();
+
+        Player loaded = playerDAO.findById(alice.getId()).orElseThrow();
+        loaded.setName("Bob");
+        loaded.setEmail("rejected@example.com");
+        assertThrows(SQLException.class, () -> playerDAO.update(loaded));
+
+        Player reloaded = playerDAO.findById(alice.getId()).orElseThrow();
+        assertEquals("Alice", reloaded.getName());
+        assertEquals("alice@example.com", reloaded.getEmail());
+        assertFalse(reloaded.getChanges().isDirty());
+        assertTrue(playerDAO.findByEmail("rejected@example.com").isEmpty());
+    }
+
+    @Test
+    void testUpdatingCopyKeepsCanonicalInstance() throws SQLException {
+        Player alice = new Player("Alice", "alice@example.com");
+        playerDAO.save(alice);
+        Tournament tournament = new Tournament("Open", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3));
+        tournament.addPlayer(alice);
+        tournamentDAO.save(tournament);
+        reload();
+
+        Tournament loadedTournament = tournamentDAO.findById(tournament.getId()).orElseThrow();
+        Player loaded = playerDAO.findById(alice.getId()).orElseThrow();
+        loaded.setGamesWon(7); // ausstehende Änderung, die nicht gespeichert wird
+
+        // Wie im Bearbeiten-Dialog: gespeichert wird eine Kopie mit den Eingaben
+        Player copy = new Player(loaded.getName(), loaded.getEmail());
+        copy.setId(loaded.getId());
+        copy.setTournaments(new ArrayList<>(loaded.getTournaments()));
+        copy.setTournamentRankings(new HashMap<>(loaded.getTournamentRankings()));
+        copy.getChanges().markClean();
+        copy.setName("Alicia");
+        copy.setTournaments(new ArrayList<>(loaded.getTournaments()));
+        playerDAO.update(copy);
+
+        assertSame(loaded, playerDAO.findById(alice.getId()).orElseThrow());
+        assertEquals("Alicia", loaded.getName());
+        assertFalse(loaded.getChanges().isDirty(Player.Field.NAME));
+        assertEquals(7, loaded.getGamesWon());
+        assertTrue(loaded.getChanges().isDirty(Player.Field.GAMES_WON));
+        assertEquals(1, loadedTournament.getPlayers().size());
+        assertSame(loaded, loadedTournament.getPlayers().get(0));
+    }
+
+    @Test
+    void testFailedBatchSavesNoPlayer() throws SQLException {
+        List<Player> players = List.of(new Player("A"), new Player("B"), new Player("A"));
+
+        assertThrows(SQLException.class, () -> playerDAO.saveAll(players));
+        assertTrue(playerDAO.findAll().isEmpty());
+
+        // Die Zähler werden zurückgesetzt, die nächste ID bleibt fortlaufend
+        Player next = new Player("C");
+        playerDAO.save(next);
+        assertEquals(next.getId(), playerDAO.findAll().get(0).getId());
+    }
+
+    @Test
+    void testPagingAndStreamingAreOrderedById() throws SQLException {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            players.add(new Player("Player " + i, i % 2 == 0 ? "p" + i + "@example.com" : null));
+        }
+        playerDAO.saveAll(players);
+        playerDAO.delete(players.get(5).getId());
+
+        List<Long> streamed = new ArrayList<>();
+        playerDAO.streamAll(player -> streamed.add(player.getId()));
+        assertEquals(1199, streamed.size());
+        for (int i = 1; i < streamed.size(); i++) {
+            assertTrue(streamed.get(i - 1) < streamed.get(i));
+        }
+
+        List<Player> page = playerDAO.findPage(players.get(3).getId(), 3);
+        assertEquals(List.of(players.get(4).getId(), players.get(6).getId(), players.get(7).getId()),
+                page.stream().map(Player::getId).toList());
+        assertEquals(1199, playerDAO.findAllNames().size());
+        assertEquals(600, playerDAO.findAllEmails().size());
+
+        Map<Long, Player> byIds = playerDAO.findByIds(List.of(players.get(0).getId(), players.get(5).getId()));
+        assertEquals(Set.of(players.get(0).getId()), byIds.keySet());
+    }
+
+    @Test
+    void testConcurrentLoadsOfSamePlayer() throws Exception {
+        Player player = new Player("Alice");
+        playerDAO.save(player);
+        for (int i = 0; i < 20; i++) {
+            Tournament tournament = new Tournament("Turnier " + i, LocalDate.now(), LocalDate.now());
+            tournament.addPlayer(player);
+            tournamentDAO.save(tournament);
+        }
+        reload();
+        Player canonical = playerDAO.findById(player.getId()).orElseThrow();
+
+        // Einzelabfrage und Stream wie beim Laden der Teilnehmerseite samt Suchindex
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 100; i++) {
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<Player> byId = executor.submit(() -> {
+                    barrier.await();
+                    return playerDAO.findById(player.getId()).orElseThrow();
+                });
+                Future<Player> streamed = executor.submit(() -> {
+                    barrier.await();
+                    List<Player> players = new ArrayList<>();
+                    playerDAO.streamAll(players::add);
+                    return players.get(0);
+                });
+                assertSame(canonical, byId.get());
+                assertSame(canonical, streamed.get());
+                assertEquals(20, canonical.getTournaments().size());
+                assertEquals(20, canonical.getTournamentRankings().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(canonical.getChanges().isDirty());
+    }
+
+    @Test
+    void testLoadKeepsPendingRelationChanges() throws SQLException {
+        Player player = new Player("Alice");
+        playerDAO.save(player);
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        tournament.addPlayer(player);
+        tournamentDAO.save(tournament);
+        reload();
+
+        Player loaded = playerDAO.findById(player.getId()).orElseThrow();
+        List<Tournament> before = loaded.getTournaments();
+        loaded.removeTournament(loaded.getTournaments().get(0));
+
+        playerDAO.findAll();
+        tournamentDAO.findAll();
+        tournamentDAO.loadGraph(tournament.getId());
+
+        assertSame(before, loaded.getTournaments());
+        assertTrue(loaded.getTournaments().isEmpty());
+        assertTrue(loaded.getChanges().isDirty(Player.Field.TOURNAMENTS));
+    }
+
+    @Test
+    void testTournamentUpdateKeepsRankingsAndSyncsPlayers() throws SQLException {
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        Player carol = new Player("Carol");
+        playerDAO.saveAll(List.of(alice, bob, carol));
+        Tournament tournament = new Tournament("Open", LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3));
+        tournament.addPlayer(alice);
+        tournament.addPlayer(bob);
+        tournamentDAO.save(tournament);
+        playerDAO.updatePlayerRanking(alice, tournament, 1);
+        playerDAO.updatePlayerRanking(bob, tournament, 2);
+        reload();
+
+        Tournament loaded = tournamentDAO.findById(tournament.getId()).orElseThrow();
+        Player loadedBob = loaded.getPlayers().stream().filter(p -> p.getName().equals("Bob")).findFirst().orElseThrow();
+        loaded.removePlayer(loadedBob);
+        loaded.addPlayer(playerDAO.findById(carol.getId()).orElseThrow());
+        loaded.setStatus(TournamentStatus.IN_PROGRESS);
+        tournamentDAO.update(loaded);
+        assertFalse(loadedBob.getTournaments().contains(loaded));
+        reload();
+
+        Tournament stored = tournamentDAO.findById(tournament.getId()).orElseThrow();
+        assertEquals(TournamentStatus.IN_PROGRESS, stored.getStatus());
+        assertEquals(LocalDate.of(2024, 5, 1), stored.getStartDate());
+        assertEquals(List.of("Alice", "Carol"), stored.getPlayers().stream().map(Player::getName).sorted().toList());
+        Player storedAlice = playerDAO.findById(alice.getId()).orElseThrow();
+        assertEquals(1, storedAlice.getRanking(stored));
+        assertTrue(playerDAO.findById(bob.getId()).orElseThrow().getTournaments().isEmpty());
+    }
+
+    @Test
+    void testRoundsAndMatchesRoundTrip() throws SQLException {
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        Player carol = new Player("Carol");
+        playerDAO.saveAll(List.of(alice, bob, carol));
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        tournament.addPlayer(alice);
+        tournament.addPlayer(bob);
+        tournament.addPlayer(carol);
+        tournamentDAO.save(tournament);
+
+        Round second = new Round(2);
+        second.addMatch(new Match(bob, carol));
+        roundDAO.save(second, tournament.getId());
+        Round first = new Round(1);
+        first.addMatch(new Match(alice, bob));
+        // Freilos ohne zweiten Spieler
+        first.addMatch(new Match(carol, null));
+        roundDAO.save(first, tournament.getId());
+        assertThrows(SQLException.class, () -> roundDAO.save(new Round(1), tournament.getId()));
+
+        first.getMatches().get(0).setResult(2, 1);
+        first.addMatch(new Match(bob, alice));
+        first.setCompleted(true);
+        roundDAO.update(first);
+        reload();
+
+        List<Round> rounds = roundDAO.findByTournamentId(tournament.getId());
+        assertEquals(List.of(1, 2), rounds.stream().map(Round::getRoundNumber).toList());
+        Round storedFirst = rounds.get(0);
+        assertTrue(storedFirst.isCompleted());
+        assertEquals(3, storedFirst.getMatches().size());
+        Match played = storedFirst.getMatches().get(0);
+        assertEquals(MatchStatus.COMPLETED, played.getStatus());
+        assertEquals("Alice", played.getWinner().getName());
+        assertSame(played.getPlayer1(), played.getWinner());
+        assertNull(storedFirst.getMatches().get(1).getPlayer2());
+
+        Map<Long, List<Match>> byRound = matchDAO.findByTournamentId(tournament.getId());
+        assertEquals(List.of(first.getId(), second.getId()), new ArrayList<>(byRound.keySet()));
+        assertEquals(4, matchDAO.findAll().size());
+
+        Tournament graph = tournamentDAO.loadGraph(tournament.getId()).orElseThrow();
+        assertEquals(2, graph.getRounds().size());
+        Player graphAlice = graph.getPlayers().stream().filter(p -> p.getName().equals("Alice")).findFirst().orElseThrow();
+        assertSame(graphAlice, graph.getRounds().get(0).getMatches().get(0).getPlayer1());
+    }
+
+    @Test
+    void testMatchIsCompletedOnlyOnce() throws SQLException {
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        playerDAO.saveAll(List.of(alice, bob));
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        tournamentDAO.save(tournament);
+        Round round = new Round(1);
+        round.addMatch(new Match(alice, bob));
+        roundDAO.save(round, tournament.getId());
+        long matchId = round.getMatches().get(0).getId();
+
+        Match first = matchDAO.findById(matchId).orElseThrow();
+        Match second = matchDAO.findById(matchId).orElseThrow();
+        first.setResult(3, 1);
+        first.setWinner(first.getPlayer1());
+        second.setResult(0, 3);
+        second.setWinner(second.getPlayer2());
+
+        assertTrue(matchDAO.complete(first));
+        assertFalse(matchDAO.complete(second));
+        assertFalse(first.getChanges().isDirty());
+        Match stored = matchDAO.findById(matchId).orElseThrow();
+        assertEquals(MatchStatus.COMPLETED, stored.getStatus());
+        assertEquals(3, stored.getScorePlayer1());
+        assertEquals(alice.getId(), stored.getWinner().getId());
+    }
+
+    @Test
+    void testRecordGameResultAppliesDelta() throws SQLException {
+        Player alice = new Player("Alice");
+        alice.setGamesWon(3);
+        Player bob = new Player("Bob");
+        playerDAO.saveAll(List.of(alice, bob));
+        Player loadedAlice = playerDAO.findById(alice.getId()).orElseThrow();
+        Player loadedBob = playerDAO.findById(bob.getId()).orElseThrow();
+        // Eine noch nicht geschriebene Änderung bleibt erhalten und enthält das neue Spiel
+        loadedBob.setGamesWon(5);
+
+        playerDAO.recordGameResult(alice.getId(), bob.getId());
+        playerDAO.recordGameResult(bob.getId(), alice.getId());
+
+        assertEquals(4, loadedAlice.getGamesWon());
+        assertEquals(1, loadedAlice.getGamesLost());
+        assertFalse(loadedAlice.getChanges().isDirty());
+        assertEquals(6, loadedBob.getGamesWon());
+        assertTrue(loadedBob.getChanges().isDirty(Player.Field.GAMES_WON));
+        assertFalse(loadedBob.getChanges().isDirty(Player.Field.GAMES_LOST));
+        reload();
+        Player storedAlice = playerDAO.findById(alice.getId()).orElseThrow();
+        assertEquals(4, storedAlice.getGamesWon());
+        assertEquals(1, storedAlice.getGamesLost());
+        Player storedBob = playerDAO.findById(bob.getId()).orElseThrow();
+        assertEquals(1, storedBob.getGamesWon());
+        assertEquals(1, storedBob.getGamesLost());
+    }
+
+    @Test
+    void testRatingsAndRatedGames() throws SQLException {
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        Player carol = new Player("Carol");
+        playerDAO.saveAll(List.of(alice, bob, carol));
+        Tournament autumn = new Tournament("Herbst", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 2));
+        tournamentDAO.save(autumn);
+        Tournament spring = new Tournament("Frühjahr", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+        tournamentDAO.save(spring);
+        Round autumnRound = new Round(1);
+        Match autumnMatch = new Match(bob, carol);
+        autumnMatch.setResult(1, 1);
+        autumnRound.addMatch(autumnMatch);
+        roundDAO.save(autumnRound, autumn.getId());
+        Round springSecond = new Round(2);
+        Match springLate = new Match(alice, carol);
+        springLate.setResult(0, 1);
+        springSecond.addMatch(springLate);
+        // Weder offene Matches noch Freilose werden gewertet
+        springSecond.addMatch(new Match(alice, bob));
+        springSecond.addMatch(new Match(bob, null));
+        roundDAO.save(springSecond, spring.getId());
+        Round springFirst = new Round(1);
+        Match springEarly = new Match(alice, bob);
+        springEarly.setResult(2, 0);
+        springFirst.addMatch(springEarly);
+        roundDAO.save(springFirst, spring.getId());
+
+        RatingDAO ratingDAO = daoFactory.createRatingDAO();
+        assertEquals(List.of(
+                new RatingDAO.Game(springEarly.getId(), springFirst.getId(), alice.getId(), bob.getId(), alice.getId()),
+                new RatingDAO.Game(springLate.getId(), springSecond.getId(), alice.getId(), carol.getId(), carol.getId()),
+                new RatingDAO.Game(autumnMatch.getId(), autumnRound.getId(), bob.getId(), carol.getId(), null)),
+                ratingDAO.findRatedGames());
+
+        Rating aliceFirst = new Rating(alice.getId(), springEarly.getId(), 1650, 290, 0.06);
+        ratingDAO.save(List.of(aliceFirst, new Rating(bob.getId(), springEarly.getId(), 1350, 290, 0.06)));
+        Rating aliceSecond = new Rating(alice.getId(), springLate.getId(), 1600, 250, 0.059);
+        ratingDAO.save(List.of(aliceSecond));
+        assertEquals(aliceSecond, ratingDAO.findByPlayerId(alice.getId()).orElseThrow());
+        assertEquals(List.of(aliceFirst, aliceSecond), ratingDAO.findHistory(alice.getId()));
+        assertEquals(List.of(alice.getId(), bob.getId()), ratingDAO.findAll().stream().map(Rating::playerId).toList());
+        assertTrue(ratingDAO.findByPlayerId(carol.getId()).isEmpty());
+        assertThrows(SQLException.class, () -> ratingDAO.save(List.of(Rating.initial(carol.getId() + 100))));
+
+        Rating replaced = new Rating(bob.getId(), null, 1500, 350, 0.06);
+        ratingDAO.replaceAll(List.of(Rating.initial(bob.getId()), replaced));
+        assertTrue(ratingDAO.findHistory(alice.getId()).isEmpty());
+        assertEquals(List.of(Rating.initial(bob.getId()), replaced), ratingDAO.findHistory(bob.getId()));
+        assertEquals(List.of(replaced), ratingDAO.findAll());
+
+        // Wertungen blockieren das Löschen eines Spielers nicht
+        tournamentDAO.delete(spring.getId());
+        tournamentDAO.delete(autumn.getId());
+        playerDAO.delete(bob.getId());
+        assertTrue(ratingDAO.findByPlayerId(bob.getId()).isEmpty());
+        assertTrue(ratingDAO.findHistory(bob.getId()).isEmpty());
+    }
+
+    @Test
+    void testStandingsAreUpdatedPerResultAndMatchRebuild() throws SQLException {
+        List<Player> players = new ArrayList<>();
+        for (String name : List.of("Anna", "Ben", "Clara", "Dora", "Emil", "Fritz")) {
+            players.add(new Player(name));
+        }
+        playerDAO.saveAll(players);
+        Player anna = players.get(0);
+        Player ben = players.get(1);
+        Player clara = players.get(2);
+        Player dora = players.get(3);
+        Player emil = players.get(4);
+        Player fritz = players.get(5);
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        players.forEach(tournament::addPlayer);
+        tournamentDAO.save(tournament);
+        Tournament other = new Tournament("Blitz", LocalDate.now(), LocalDate.now());
+        tournamentDAO.save(other);
+        StandingsDAO standingsDAO = daoFactory.createStandingsDAO();
+        long id = tournament.getId();
+
+        Round first = new Round(1);
+        first.addMatch(played(anna, ben, 1, 0));
+        first.addMatch(played(clara, dora, 1, 1));
+        first.addMatch(played(emil, null, 0, 0));
+        Match open = new Match(fritz, null);
+        first.addMatch(open);
+        roundDAO.save(first, id);
+        for (Match match : first.getMatches()) {
+            standingsDAO.recordResult(match.getId());
+        }
+        assertEquals(List.of(
+                new TournamentStanding(id, anna.getId(), 1, 1, 1, 0),
+                new TournamentStanding(id, emil.getId(), 2, 1, 1, 0),
+                new TournamentStanding(id, clara.getId(), 3, 0.5, 1, 0.5),
+                new TournamentStanding(id, dora.getId(), 4, 0.5, 1, 0.5),
+                new TournamentStanding(id, ben.getId(), 5, 0, 1, 1),
+                new TournamentStanding(id, fritz.getId(), 6, 0, 0, 0)),
+                standingsDAO.findByTournamentId(id));
+
+        // Bens Sieg erhöht auch die Buchholz-Wertung seiner bisherigen Gegnerin Anna
+        Round second = new Round(2);
+        second.addMatch(played(anna, clara, 0, 1));
+        second.addMatch(played(ben, emil, 1, 0));
+        second.addMatch(played(dora, null, 0, 0));
+        roundDAO.save(second, id);
+        // Ein nicht abgeschlossenes Match ändert nichts und bricht die umgebende Transaktion nicht ab
+        daoFactory.executeInTransaction(() -> {
+            standingsDAO.recordResult(open.getId());
+            for (Match match : second.getMatches()) {
+                standingsDAO.recordResult(match.getId());
+            }
+        });
+        List<TournamentStanding> expected = List.of(
+                new TournamentStanding(id, clara.getId(), 1, 1.5, 2, 2.5),
+                new TournamentStanding(id, dora.getId(), 2, 1.5, 2, 1.5),
+                new TournamentStanding(id, anna.getId(), 3, 1, 2, 2.5),
+                new TournamentStanding(id, ben.getId(), 4, 1, 2, 2),
+                new TournamentStanding(id, emil.getId(), 5, 1, 2, 1),
+                new TournamentStanding(id, fritz.getId(), 6, 0, 0, 0));
+        assertEquals(expected, standingsDAO.findByTournamentId(id));
+        assertTrue(standingsDAO.findByTournamentId(other.getId()).isEmpty());
+
+        standingsDAO.rebuild(id);
+        assertEquals(expected, standingsDAO.findByTournamentId(id));
+        standingsDAO.rebuildAll();
+        assertEquals(expected, standingsDAO.findByTournamentId(id));
+
+        // Ohne Runden besteht die Tabelle nur aus den Teilnehmern; gelöschte Turniere verlieren sie ganz
+        tournamentDAO.deleteRound(second.getId());
+        tournamentDAO.deleteRound(first.getId());
+        standingsDAO.rebuild(id);
+        assertEquals(List.of(0.0), standingsDAO.findByTournamentId(id).stream()
+                .map(TournamentStanding::points).distinct().toList());
+        tournamentDAO.delete(id);
+        assertTrue(standingsDAO.findByTournamentId(id).isEmpty());
+    }
+
+    @Test
+    void testStoredRankingMatchesPairingStandings() throws SQLException {
+        StandingsDAO standingsDAO = daoFactory.createStandingsDAO();
+        Random random = new Random(7);
+        for (int t = 0; t < 5; t++) {
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                Player player = new Player("Spieler " + t + "-" + i);
+                // Unterschiedliche Gesamtbilanzen gehen in keine der beiden Rangfolgen ein
+                player.setGamesWon(i % 3);
+                players.add(player);
+            }
+            playerDAO.saveAll(players);
+            Tournament tournament = new Tournament("Turnier " + t, LocalDate.now(), LocalDate.now());
+            players.forEach(tournament::addPlayer);
+            tournamentDAO.save(tournament);
+            long id = tournament.getId();
+
+            for (int number = 1; number <= 5; number++) {
+                List<Player> order = new ArrayList<>(players);
+                Collections.shuffle(order, random);
+                Round round = new Round(number);
+                for (int i = 0; i < order.size(); i += 2) {
+                    Player player2 = i + 1 < order.size() ? order.get(i + 1) : null;
+                    int result = random.nextInt(3);
+                    round.addMatch(played(order.get(i), player2, result == 0 ? 1 : 0, result == 2 ? 1 : 0));
+                }
+                roundDAO.save(round, id);
+                for (Match match : round.getMatches()) {
+                    standingsDAO.recordResult(match.getId());
+                }
+                assertEquals(rankedIds(id), standingsDAO.findByTournamentId(id).stream()
+                        .map(TournamentStanding::playerId).toList(), "Turnier " + t + ", Runde " + number);
+            }
+            standingsDAO.rebuild(id);
+            assertEquals(rankedIds(id), standingsDAO.findByTournamentId(id).stream()
+                    .map(TournamentStanding::playerId).toList());
+        }
+    }
+
+    /**
+     * Spieler-IDs in der Rangfolge der Tabelle, mit der die Runden gepaart werden.
+     */
+    private List<Long> rankedIds(long tournamentId) throws SQLException {
+        reload();
+        Tournament tournament = tournamentDAO.loadGraph(tournamentId).orElseThrow();
+        return Standings.of(tournament).getRankedPlayers().stream().map(Player::getId).toList();
+    }
+
+    private static Match played(Player player1, Player player2, int score1, int score2) {
+        Match match = new Match(player1, player2);
+        match.setResult(score1, score2);
+        if (player2 == null) {
+            match.setWinner(player1);
+        }
+        return match;
+    }
+
+    @Test
+    void testDeletingReferencedPlayerFails() throws SQLException {
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        playerDAO.saveAll(List.of(alice, bob));
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        tournamentDAO.save(tournament);
+        Round round = new Round(1);
+        round.addMatch(new Match(alice, bob));
+        roundDAO.save(round, tournament.getId());
+
+        assertThrows(IllegalStateException.class, () -> playerDAO.delete(alice.getId()));
+        assertThrows(IllegalStateException.class, () -> playerDAO.delete(bob.getId()));
+        assertTrue(playerDAO.findById(alice.getId()).isPresent());
+        // Die Ablehnung bricht auch eine umgebende Transaktion ab
+        assertThrows(IllegalStateException.class, () -> daoFactory.executeInTransaction(() -> {
+            playerDAO.save(new Player("Carol"));
+            playerDAO.delete(bob.getId());
+        }));
+        assertTrue(playerDAO.findByName("Carol").isEmpty());
+
+        tournamentDAO.delete(tournament.getId());
+        assertTrue(roundDAO.findAll().isEmpty());
+        assertTrue(matchDAO.findAll().isEmpty());
+        playerDAO.delete(alice.getId());
+        assertTrue(playerDAO.findById(alice.getId()).isEmpty());
+    }
+
+    @Test
+    void testFailedTransactionRollsBackAllDAOs() throws SQLException {
+        Player alice = new Player("Alice");
+        playerDAO.save(alice);
+
+        assertThrows(SQLException.class, () -> daoFactory.executeInTransaction(() -> {
+            alice.setGamesWon(7);
+            playerDAO.update(alice);
+            tournamentDAO.save(new Tournament("Open", LocalDate.now(), LocalDate.now()));
+            playerDAO.save(new Player("Alice"));
+        }));
+        reload();
+
+        assertEquals(0, playerDAO.findById(alice.getId()).orElseThrow().getGamesWon());
+        assertTrue(tournamentDAO.findAll().isEmpty());
+    }
+
+    @Test
+    void testRolledBackGameResultDoesNotChangeLoadedPlayers() throws SQLException {
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        playerDAO.saveAll(List.of(alice, bob));
+
+        assertThrows(SQLException.class, () -> daoFactory.executeInTransaction(() -> {
+            playerDAO.recordGameResult(alice.getId(), bob.getId());
+            throw new SQLException("Wertung fehlgeschlagen");
+        }));
+
+        assertEquals(0, alice.getGamesWon());
+        assertEquals(0, bob.getGamesLost());
+        assertEquals(0, playerDAO.findById(alice.getId()).orElseThrow().getGamesWon());
+
+        daoFactory.executeInTransaction(() -> playerDAO.recordGameResult(alice.getId(), bob.getId()));
+        assertEquals(1, alice.getGamesWon());
+        assertEquals(1, bob.getGamesLost());
+        assertFalse(alice.getChanges().isDirty());
+    }
+
+    @Test
+    void testCaughtInnerFailureAbortsOuterTransaction() {
+        assertThrows(SQLException.class, () -> daoFactory.executeInTransaction(() -> {
+            playerDAO.save(new Player("Alice"));
+            try {
+                daoFactory.executeInTransaction(() -> {
+                    throw new SQLException("inner");
+                });
+            } catch (SQLException expected) {
+                // Die äußere Arbeitseinheit läuft weiter, darf aber nicht mehr festschreiben
+            }
+        }));
+    }
+
+    @Test
+    void testStatisticsAndDeleteAll() throws SQLException {
+        Player alice = new Player("Alice");
+        alice.setGamesWon(2);
+        Player bob = new Player("Bob");
+        bob.setGamesLost(2);
+        playerDAO.saveAll(List.of(alice, bob));
+        Tournament open = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        open.addPlayer(alice);
+        tournamentDAO.save(open);
+        Tournament cup = new Tournament("Cup", LocalDate.now(), LocalDate.now());
+        cup.setStatus(TournamentStatus.COMPLETED);
+        tournamentDAO.save(cup);
+        Round round = new Round(1);
+        Match match = new Match(alice, bob);
+        match.setResult(1, 0);
+        round.addMatch(match);
+        round.addMatch(new Match(bob, alice));
+        roundDAO.save(round, open.getId());
+
+        Statistics statistics = daoFactory.createStatisticsDAO().getStatistics();
+        assertEquals(2, statistics.playerCount());
+        assertEquals(2, statistics.tournamentCount());
+        assertEquals(1, statistics.getTournamentCount(TournamentStatus.CREATED));
+        assertEquals(1, statistics.getTournamentCount(TournamentStatus.COMPLETED));
+        assertEquals(2, statistics.matchCount());
+        assertEquals(1, statistics.completedMatchCount());
+        assertEquals(2, statistics.gamesWon());
+        assertEquals(2, statistics.gamesLost());
+
+        tournamentDAO.deleteAll();
+        playerDAO.deleteAll();
+        StatisticsDAO statisticsDAO = daoFactory.createStatisticsDAO();
+        assertEquals(0, statisticsDAO.countPlayers());
+        assertEquals(0, statisticsDAO.countTournaments());
+    }
+}
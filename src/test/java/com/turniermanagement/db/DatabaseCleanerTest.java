@@ -0,0 +1,145 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Rating;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import com.turniermanagement.model.TournamentStanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseCleanerTest extends BaseDAOTest {
+    private static final List<String> TABLES = List.of("player", "tournament", "round", "match",
+            "tournament_player", "standings", "player_rating", "rating_history");
+
+    private DatabaseCleaner cleaner;
+    private PlayerDAO playerDAO;
+    private TournamentDAO tournamentDAO;
+    private StandingsDAO standingsDAO;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        super.setUp();
+        cleaner = new DatabaseCleaner(connection);
+        playerDAO = daoFactory.createPlayerDAO();
+        tournamentDAO = daoFactory.createTournamentDAO();
+        standingsDAO = daoFactory.createStandingsDAO();
+    }
+
+    @Test
+    void testDeletePlayerWithMatchesRebuildsStandingsOfOpponents() throws SQLException {
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        playerDAO.saveAll(List.of(alice, bob));
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        tournament.addPlayer(alice);
+        tournament.addPlayer(bob);
+        tournamentDAO.save(tournament);
+        Round round = new Round(1);
+        Match match = new Match(alice, bob);
+        match.setResult(1, 0);
+        match.setWinner(alice);
+        match.setStatus(MatchStatus.COMPLETED);
+        round.addMatch(match);
+        daoFactory.createRoundDAO().save(round, tournament.getId());
+        standingsDAO.rebuild(tournament.getId());
+
+        DatabaseCleaner.PlayerDeletion deletion = cleaner.deletePlayerWithMatches(alice.getId());
+
+        assertEquals(new DatabaseCleaner.PlayerDeletion(true, 1, 1), deletion);
+        daoFactory.getIdentityMap().clear();
+        assertTrue(playerDAO.findById(alice.getId()).isEmpty());
+        assertTrue(daoFactory.createMatchDAO().findAll().isEmpty());
+        List<TournamentStanding> standings = standingsDAO.findByTournamentId(tournament.getId());
+        assertEquals(1, standings.size());
+        assertEquals(bob.getId(), standings.get(0).playerId());
+        assertEquals(0, standings.get(0).games());
+    }
+
+    @Test
+    void testDeleteAllDataEmptiesAllTables() throws SQLException {
+        createTournamentWithResult();
+
+        assertTrue(cleaner.deleteAllData());
+
+        for (String table : TABLES) {
+            assertEquals(0, count(table), table);
+        }
+    }
+
+    @Test
+    void testClearTableCascadesToStandingsAndRatings() throws SQLException {
+        createTournamentWithResult();
+        assertTrue(cleaner.clearTable("standings"));
+        assertEquals(0, count("standings"));
+        standingsDAO.rebuildAll();
+
+        // Runden und Zuordnungen verweisen ohne Kaskade auf das Turnier
+        assertThrows(SQLException.class, () -> cleaner.clearTable("tournament"));
+        assertTrue(cleaner.clearTable("match"));
+        assertTrue(cleaner.clearTable("round"));
+        assertTrue(cleaner.clearTable("tournament_player"));
+        assertTrue(cleaner.clearTable("tournament"));
+        assertEquals(0, count("standings"));
+
+        assertTrue(count("player_rating") > 0);
+        assertTrue(count("rating_history") > 0);
+        assertTrue(cleaner.clearTable("player"));
+        assertEquals(0, count("player_rating"));
+        assertEquals(0, count("rating_history"));
+    }
+
+    @Test
+    void testClearTableRejectsUnknownTables() {
+        assertThrows(IllegalArgumentException.class, () -> cleaner.clearTable("sqlite_master"));
+        assertThrows(IllegalArgumentException.class, () -> cleaner.clearTable("player; DROP TABLE match"));
+    }
+
+    @Test
+    void testDeleteUnknownPlayerDeletesNothing() throws SQLException {
+        playerDAO.save(new Player("Alice"));
+
+        assertEquals(new DatabaseCleaner.PlayerDeletion(false, 0, 0), cleaner.deletePlayerWithMatches(999L));
+        assertEquals(1, playerDAO.findAll().size());
+    }
+
+    /**
+     * Legt ein Turnier mit einem gewerteten Match, seiner Tabelle und Wertungen beider Spieler an.
+     */
+    private void createTournamentWithResult() throws SQLException {
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        playerDAO.saveAll(List.of(alice, bob));
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        tournament.addPlayer(alice);
+        tournament.addPlayer(bob);
+        tournamentDAO.save(tournament);
+        Round round = new Round(1);
+        Match match = new Match(alice, bob);
+        match.setResult(1, 0);
+        round.addMatch(match);
+        daoFactory.createRoundDAO().save(round, tournament.getId());
+        standingsDAO.rebuild(tournament.getId());
+        daoFactory.createRatingDAO().save(List.of(Rating.initial(alice.getId()), Rating.initial(bob.getId())));
+        for (String table : TABLES) {
+            assertTrue(count(table) > 0, table);
+        }
+    }
+
+    private int count(String table) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            return rs.getInt(1);
+        }
+    }
+}
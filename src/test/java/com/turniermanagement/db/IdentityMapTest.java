@@ -0,0 +1,152 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Tournament;
+import com.turniermanagement.model.TournamentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityMapTest extends BaseDAOTest {
+    private PlayerDAO playerDAO;
+    private TournamentDAO tournamentDAO;
+    private IdentityMap identityMap;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        super.setUp();
+        playerDAO = daoFactory.createPlayerDAO();
+        tournamentDAO = daoFactory.createTournamentDAO();
+        identityMap = daoFactory.getIdentityMap();
+    }
+
+    @Test
+    void testSameInstanceAcrossQueriesAndDAOs() throws SQLException {
+        Player player = new Player("Canonical", "canonical@example.com");
+        playerDAO.save(player);
+        Tournament tournament = new Tournament("Turnier", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournament.addPlayer(player);
+        tournamentDAO.save(tournament);
+
+        // Frische DAOs derselben Sitzung
+        PlayerDAO otherPlayerDAO = daoFactory.createPlayerDAO();
+        TournamentDAO otherTournamentDAO = daoFactory.createTournamentDAO();
+
+        Player byId = otherPlayerDAO.findById(player.getId()).orElseThrow();
+        Player byName = otherPlayerDAO.findByName("Canonical").orElseThrow();
+        Map<Long, Player> byIds = otherPlayerDAO.findByIds(List.of(player.getId()));
+        Tournament loaded = otherTournamentDAO.findById(tournament.getId()).orElseThrow();
+        Tournament graph = otherTournamentDAO.loadGraph(tournament.getId()).orElseThrow();
+
+        assertSame(player, byId);
+        assertSame(player, byName);
+        assertSame(player, byIds.get(player.getId()));
+        assertSame(tournament, loaded);
+        assertSame(tournament, graph);
+        assertSame(player, loaded.getPlayers().get(0));
+        assertSame(tournament, byId.getTournaments().get(0));
+        assertEquals(1, byId.getTournaments().size(), "Repeated loads must not duplicate relations");
+        assertEquals(1, loaded.getPlayers().size());
+    }
+
+    @Test
+    void testLoadedInstanceIsReusedWithoutOverwritingLocalChanges() throws SQLException {
+        Player player = new Player("Original");
+        playerDAO.save(player);
+        identityMap.clear();
+
+        Player first = playerDAO.findById(player.getId()).orElseThrow();
+        assertNotSame(player, first);
+        first.setName("Unsaved");
+
+        Player second = playerDAO.findAll().get(0);
+        assertSame(first, second);
+        assertEquals("Unsaved", second.getName());
+    }
+
+    @Test
+    void testMergeRefreshesCleanFieldsAndSwapsRelations() {
+        Player canonical = new Player("Alt", "alt@example.com");
+        canonical.setId(1L);
+        canonical.getChanges().markClean();
+        identityMap.registerPlayer(canonical);
+        canonical.setEmail("unsaved@example.com");
+        List<Tournament> relations = canonical.getTournaments();
+
+        Tournament tournament = new Tournament("Turnier", LocalDate.now(), LocalDate.now());
+        tournament.setId(2L);
+        Player loaded = new Player("Neu", "neu@example.com");
+        loaded.setId(1L);
+        loaded.setGamesWon(4);
+        loaded.getTournaments().add(tournament);
+        loaded.getTournamentRankings().put(tournament, 1);
+        loaded.getChanges().markClean();
+
+        assertSame(canonical, identityMap.mergePlayer(loaded));
+        assertEquals("Neu", canonical.getName());
+        assertEquals(4, canonical.getGamesWon());
+        assertEquals("unsaved@example.com", canonical.getEmail(), "Pending changes must survive a load");
+        assertEquals(Set.of(Player.Field.EMAIL), canonical.getChanges().getDirtyFields());
+        // Die Beziehungen werden ersetzt, die bisherige Liste bleibt unverändert
+        assertTrue(relations.isEmpty());
+        assertEquals(List.of(tournament), canonical.getTournaments());
+        assertEquals(1, canonical.getRanking(tournament));
+    }
+
+    @Test
+    void testUpdateOfDetachedCopyKeepsCanonicalInstance() throws SQLException {
+        Player player = new Player("Original");
+        playerDAO.save(player);
+        Player cached = playerDAO.findById(player.getId()).orElseThrow();
+
+        Player detached = new Player("Detached Update");
+        detached.setId(player.getId());
+        playerDAO.update(detached);
+
+        Player reloaded = playerDAO.findById(player.getId()).orElseThrow();
+        assertSame(cached, reloaded);
+        assertNotSame(detached, reloaded);
+        assertEquals("Detached Update", reloaded.getName());
+        assertFalse(reloaded.getChanges().isDirty());
+    }
+
+    @Test
+    void testDeleteEvictsEntities() throws SQLException {
+        Player player = new Player("To Delete");
+        playerDAO.save(player);
+        Tournament tournament = new Tournament("Turnier", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournamentDAO.save(tournament);
+        assertSame(player, identityMap.getPlayer(player.getId()));
+        assertSame(tournament, identityMap.getTournament(tournament.getId()));
+
+        playerDAO.delete(player.getId());
+        tournamentDAO.delete(tournament.getId());
+
+        assertNull(identityMap.getPlayer(player.getId()));
+        assertNull(identityMap.getTournament(tournament.getId()));
+        assertFalse(playerDAO.findById(player.getId()).isPresent());
+    }
+
+    @Test
+    void testRankingLookupSurvivesStatusChange() throws SQLException {
+        Player player = new Player("Ranked");
+        playerDAO.save(player);
+        Tournament tournament = new Tournament("Turnier", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournament.addPlayer(player);
+        tournamentDAO.save(tournament);
+        playerDAO.updatePlayerRanking(player, tournament, 3);
+
+        Player loaded = playerDAO.findById(player.getId()).orElseThrow();
+        tournament.setStatus(TournamentStatus.IN_PROGRESS);
+
+        // Der Schlüssel der Ranking-Map bleibt trotz geändertem Status auffindbar
+        assertEquals(3, loaded.getRanking(tournament));
+    }
+}
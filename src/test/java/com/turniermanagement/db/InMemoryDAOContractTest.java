@@ -0,0 +1,12 @@
+package com.turniermanagement.db;
+
+/**
+ * Führt die gemeinsamen DAO-Tests gegen die In-Memory-Implementierung aus.
+ */
+class InMemoryDAOContractTest extends DAOContractTest {
+
+    @Override
+    protected DAOFactory createFactory() {
+        return new InMemoryDAOFactory();
+    }
+}
@@ -0,0 +1,66 @@
+package com.turniermanagement.db;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongMapTest {
+
+    @Test
+    void testPutGetAndRemoveAcrossRebuilds() {
+        LongMap<String> map = new LongMap<>();
+        for (long key = 1; key <= 1000; key++) {
+            map.put(key, "v" + key);
+        }
+        for (long key = 1; key <= 1000; key += 2) {
+            assertEquals("v" + key, map.remove(key));
+        }
+        // Neue Einträge füllen die Lücken durch Reorganisation auf
+        for (long key = 1001; key <= 1500; key++) {
+            map.put(key, "v" + key);
+        }
+
+        assertEquals(1000, map.size());
+        assertNull(map.get(1));
+        assertEquals("v2", map.get(2));
+        assertEquals("v1500", map.get(1500));
+        assertEquals("v2", map.put(2, "x"));
+        assertEquals("x", map.get(2));
+        assertEquals(1000, map.size());
+    }
+
+    @Test
+    void testOrderedAccessWithAscendingKeys() {
+        LongMap<Long> map = new LongMap<>();
+        for (long key = 10; key <= 100; key += 10) {
+            map.put(key, key);
+        }
+        map.remove(40);
+
+        assertEquals(List.of(50L, 60L, 70L), map.valuesAfter(30, 3));
+        assertEquals(List.of(50L), map.valuesAfter(35, 1));
+        assertEquals(9, map.sortedValues().size());
+    }
+
+    @Test
+    void testOrderedAccessWithUnorderedKeys() {
+        LongMap<Long> map = new LongMap<>();
+        for (long key : new long[] { 5, -3, 42, 7, 0 }) {
+            map.put(key, key);
+        }
+
+        assertArrayEquals(new long[] { -3, 0, 5, 7, 42 }, map.sortedKeys());
+        assertEquals(List.of(5L, 7L), map.valuesAfter(0, 2));
+
+        List<Long> visited = new ArrayList<>();
+        map.forEach((key, value) -> visited.add(key));
+        assertEquals(List.of(5L, -3L, 42L, 7L, 0L), visited);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(5));
+    }
+}
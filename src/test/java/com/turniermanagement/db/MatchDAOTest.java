@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +35,9 @@ class MatchDAOTest extends BaseDAOTest {
     }
 
     private Long createTestRound() throws SQLException {
+        try (var stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO tournament (id, name, status) VALUES (1, 'Test Tournament', 'CREATED')");
+        }
         try (var stmt = connection.prepareStatement(
                 "INSERT INTO round (tournament_id, round_number, completed) VALUES (1, 1, 0)",
                 java.sql.Statement.RETURN_GENERATED_KEYS)) {
@@ -96,6 +100,33 @@ class MatchDAOTest extends BaseDAOTest {
         assertEquals(2, roundMatches.size(), "Should find all matches in round");
     }
 
+    @Test
+    void testFindByTournamentIdGroupsByRound() throws SQLException {
+        Long secondRoundId;
+        try (var stmt = connection.prepareStatement(
+                "INSERT INTO round (tournament_id, round_number, completed) VALUES (1, 2, 0)",
+                java.sql.Statement.RETURN_GENERATED_KEYS)) {
+            stmt.executeUpdate();
+            try (var rs = stmt.getGeneratedKeys()) {
+                rs.next();
+                secondRoundId = rs.getLong(1);
+            }
+        }
+        matchDAO.save(new Match(player1, player2), roundId);
+        matchDAO.save(new Match(player2, player1), secondRoundId);
+        matchDAO.save(new Match(player1, player2), secondRoundId);
+
+        Map<Long, List<Match>> matchesByRound = matchDAO.findByTournamentId(1L);
+        assertEquals(List.of(roundId, secondRoundId), List.copyOf(matchesByRound.keySet()));
+        assertEquals(1, matchesByRound.get(roundId).size());
+        assertEquals(2, matchesByRound.get(secondRoundId).size());
+
+        // Spieler werden innerhalb eines Ladevorgangs nur einmal instanziiert
+        Match first = matchesByRound.get(roundId).get(0);
+        Match second = matchesByRound.get(secondRoundId).get(0);
+        assertSame(first.getPlayer1(), second.getPlayer2());
+    }
+
     @Test
     void testDeleteMatch() throws SQLException {
         Match match = new Match(player1, player2);
@@ -6,10 +6,15 @@ import com.turniermanagement.model.TournamentStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -85,6 +90,37 @@ class PlayerDAOTest extends BaseDAOTest {
         assertEquals("updated@example.com", updatedPlayer.get().getEmail());
     }
 
+    @Test
+    void testUpdateWritesOnlyChangedColumns() throws SQLException {
+        Player player = new Player("Dirty Player", "dirty@example.com");
+        playerDAO.save(player);
+        assertFalse(player.getChanges().isDirty());
+
+        // Unveränderte Spieler erzeugen keine Anweisung
+        QueryCounter queryCounter = new QueryCounter();
+        PlayerDAO countingDAO = new TestDAOFactory(queryCounter.wrap(connection)).createPlayerDAO();
+        player.setGamesWon(player.getGamesWon());
+        countingDAO.update(player);
+        assertEquals(0, queryCounter.getCount());
+
+        // Eine außerhalb geänderte Spalte wird beim Schreiben des Namens nicht überschrieben
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("UPDATE player SET email = 'extern@example.com' WHERE id = " + player.getId());
+        }
+        player.setName("Renamed Player");
+        assertEquals(Set.of(Player.Field.NAME), player.getChanges().getDirtyFields());
+        countingDAO.update(player);
+
+        assertEquals(1, queryCounter.getCount());
+        assertFalse(player.getChanges().isDirty());
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name, email FROM player WHERE id = " + player.getId())) {
+            assertTrue(rs.next());
+            assertEquals("Renamed Player", rs.getString("name"));
+            assertEquals("extern@example.com", rs.getString("email"));
+        }
+    }
+
     @Test
     void testFindAllPlayers() throws SQLException {
         Player player1 = new Player("Player 1");
@@ -115,6 +151,91 @@ class PlayerDAOTest extends BaseDAOTest {
         assertFalse(nonExistentPlayer.isPresent(), "Should not find non-existent player");
     }
 
+    @Test
+    void testFindByIds() throws SQLException {
+        Player player1 = new Player("Player 1");
+        Player player2 = new Player("Player 2");
+        Player player3 = new Player("Player 3");
+        playerDAO.save(player1);
+        playerDAO.save(player2);
+        playerDAO.save(player3);
+
+        Map<Long, Player> players = playerDAO.findByIds(List.of(player1.getId(), player3.getId(), 999L));
+        assertEquals(2, players.size(), "Should only return existing players");
+        assertEquals("Player 1", players.get(player1.getId()).getName());
+        assertEquals("Player 3", players.get(player3.getId()).getName());
+        assertTrue(playerDAO.findByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    void testFindPageUsesKeysetPagination() throws SQLException {
+        Tournament tournament = new Tournament("Seitenturnier", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournamentDAO.save(tournament);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Player player = new Player("Seite " + i);
+            // Mehrere Turnierzeilen pro Spieler dürfen die Seitengröße nicht verfälschen
+            player.addTournament(tournament);
+            playerDAO.save(player);
+            players.add(player);
+        }
+
+        List<Player> firstPage = playerDAO.findPage(null, 2);
+        List<Player> secondPage = playerDAO.findPage(firstPage.get(1).getId(), 2);
+        List<Player> lastPage = playerDAO.findPage(secondPage.get(1).getId(), 2);
+
+        assertEquals(List.of(players.get(0), players.get(1)), firstPage);
+        assertEquals(List.of(players.get(2), players.get(3)), secondPage);
+        assertEquals(List.of(players.get(4)), lastPage);
+        assertEquals(1, firstPage.get(0).getTournaments().size());
+        assertTrue(playerDAO.findPage(players.get(4).getId(), 2).isEmpty());
+    }
+
+    @Test
+    void testStreamAllVisitsEveryPlayerInIdOrder() throws SQLException {
+        Tournament tournament = new Tournament("Streamturnier", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournamentDAO.save(tournament);
+        Player withTournament = new Player("Mit Turnier");
+        withTournament.addTournament(tournament);
+        withTournament.setRanking(tournament, 3);
+        playerDAO.save(withTournament);
+        Player withoutTournament = new Player("Ohne Turnier");
+        playerDAO.save(withoutTournament);
+
+        List<Player> streamed = new ArrayList<>();
+        playerDAO.streamAll(streamed::add);
+
+        assertEquals(List.of(withTournament, withoutTournament), streamed);
+        assertEquals(3, streamed.get(0).getRanking(tournament));
+        assertTrue(streamed.get(1).getTournaments().isEmpty());
+    }
+
+    @Test
+    void testSaveAllAssignsIds() throws SQLException {
+        playerDAO.save(new Player("Existing"));
+        List<Player> players = List.of(
+            new Player("Batch 1", "batch1@example.com"),
+            new Player("Batch 2"),
+            new Player("Batch 3", "batch3@example.com"));
+
+        playerDAO.saveAll(players);
+
+        for (Player player : players) {
+            assertNotNull(player.getId(), "Every player should have an ID after saveAll");
+            assertEquals(player.getName(), playerDAO.findById(player.getId()).orElseThrow().getName());
+        }
+        assertEquals(4, playerDAO.findAll().size());
+    }
+
+    @Test
+    void testFindAllNamesAndEmails() throws SQLException {
+        playerDAO.save(new Player("Alice", "alice@example.com"));
+        playerDAO.save(new Player("Bob"));
+
+        assertEquals(Set.of("Alice", "Bob"), playerDAO.findAllNames());
+        assertEquals(Set.of("alice@example.com"), playerDAO.findAllEmails());
+    }
+
     @Test
     void testFindByName() throws SQLException {
         Player player = new Player("Unique Name", "name@example.com");
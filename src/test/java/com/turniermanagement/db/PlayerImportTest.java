@@ -0,0 +1,36 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.service.PlayerImportReader;
+import com.turniermanagement.service.PlayerImportResult;
+import com.turniermanagement.service.PlayerService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prüft den Massenimport von Spielern über {@link PlayerService#importPlayers(PlayerImportReader)}
+ * gegen SQLite. Die Laufzeit großer Importe misst {@code PlayerImportBenchmark} (src/jmh).
+ */
+class PlayerImportTest extends BaseDAOTest {
+    /** Mehr als zwei Import-Chunks, damit auch der letzte, unvollständige Chunk gespeichert wird. */
+    private static final int PLAYERS = 2_500;
+
+    @Test
+    void testCsvImportSavesAllChunks() throws SQLException, IOException {
+        StringBuilder csv = new StringBuilder("name,email\n");
+        for (int i = 0; i < PLAYERS; i++) {
+            csv.append("Spieler ").append(i).append(",spieler").append(i).append("@example.com\n");
+        }
+        PlayerService playerService = new PlayerService(daoFactory);
+
+        PlayerImportResult result = playerService.importPlayers(PlayerImportReader.csv(new StringReader(csv.toString())));
+
+        assertEquals(PLAYERS, result.getImportedCount());
+        assertFalse(result.hasErrors());
+        assertEquals(PLAYERS, daoFactory.createPlayerDAO().findAllNames().size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.turniermanagement.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Testhilfe, die eine Verbindung umhüllt und alle ausgeführten SQL-Anweisungen zählt.
+ * Wird in Tests und Benchmarks verwendet, um N+1-Abfragemuster sichtbar zu machen.
+ */
+public class QueryCounter {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Umhüllt die Verbindung, sodass jede über sie ausgeführte Anweisung gezählt wird.
+     * @param connection Die zu umhüllende Verbindung
+     * @return Die zählende Verbindung
+     */
+    public Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, this::countExecutions);
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, this::countExecutions);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Gibt die Anzahl der seit dem letzten Zurücksetzen ausgeführten Anweisungen zurück.
+     * @return Anzahl der Anweisungen
+     */
+    public int getCount() {
+        return count.get();
+    }
+
+    /**
+     * Setzt den Zähler zurück.
+     */
+    public void reset() {
+        count.set(0);
+    }
+
+    private Object countExecutions(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        if (method.getName().startsWith("execute")) {
+            count.incrementAndGet();
+        }
+        return invoke(target, method, args);
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), new Class<?>[] { type }, invocationHandler);
+    }
+}
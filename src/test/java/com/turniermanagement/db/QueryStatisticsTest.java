@@ -0,0 +1,120 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Tournament;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryStatisticsTest extends BaseDAOTest {
+    private QueryStatistics statistics;
+    private PlayerDAO playerDAO;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        super.setUp();
+        statistics = daoFactory.getConnectionPool().getQueryStatistics();
+        playerDAO = daoFactory.createPlayerDAO();
+        statistics.reset();
+    }
+
+    @Test
+    void testStatementsAreAttributedToCallingDAOMethod() throws SQLException {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            players.add(new Player("Player " + i));
+        }
+        playerDAO.saveAll(players);
+        playerDAO.findAll();
+
+        QueryStatistics.Snapshot snapshot = statistics.snapshot();
+        List<QueryStatistics.Entry> saveAll = snapshot.forOperation("SQLitePlayerDAO.saveAll");
+        assertEquals(2, saveAll.size(), "Batch insert and id lookup");
+        assertEquals(2, saveAll.stream().mapToLong(QueryStatistics.Entry::statements).sum());
+
+        // findAll streamt über streamAll; gezählt wird die äußere Methode derselben Klasse
+        List<QueryStatistics.Entry> findAll = snapshot.forOperation("SQLitePlayerDAO.findAll");
+        assertEquals(1, findAll.size());
+        assertEquals(1, findAll.get(0).statements());
+        assertEquals(50, findAll.get(0).rowsRead());
+        assertTrue(snapshot.forOperation("SQLitePlayerDAO.streamAll").isEmpty());
+    }
+
+    @Test
+    void testInListsOfDifferentLengthShareOneShape() throws SQLException {
+        List<Player> players = List.of(new Player("A"), new Player("B"), new Player("C"));
+        playerDAO.saveAll(players);
+        statistics.reset();
+
+        playerDAO.findByIds(List.of(players.get(0).getId()));
+        playerDAO.findByIds(List.of(players.get(0).getId(), players.get(1).getId()));
+        playerDAO.findByIds(List.of(players.get(0).getId(), players.get(1).getId(), players.get(2).getId()));
+
+        List<QueryStatistics.Entry> entries = statistics.snapshot().forOperation("SQLitePlayerDAO.findByIds");
+        assertEquals(2, entries.size(), "Single id and id lists");
+        QueryStatistics.Entry lists = entries.stream()
+                .filter(entry -> entry.sql().contains("IN (?, ...)")).findFirst().orElseThrow();
+        assertEquals(2, lists.statements());
+        assertEquals(5, lists.rowsRead());
+        assertTrue(lists.p50Nanos() > 0);
+        assertTrue(lists.p50Nanos() <= lists.p95Nanos());
+        assertTrue(lists.p95Nanos() <= lists.p99Nanos());
+        assertTrue(lists.p99Nanos() <= lists.maxNanos());
+    }
+
+    @Test
+    void testNestedDAOCallsAreAttributedToInnerDAO() throws SQLException {
+        Player player = new Player("A");
+        playerDAO.save(player);
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        tournament.addPlayer(player);
+        daoFactory.createTournamentDAO().save(tournament);
+        statistics.reset();
+
+        daoFactory.createTournamentDAO().loadGraph(tournament.getId());
+
+        QueryStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(4, snapshot.statementsByOperation().get("SQLiteTournamentDAO.loadGraph"));
+        assertEquals(4, snapshot.totalStatements());
+    }
+
+    @Test
+    void testShapeNormalizesLiteralsAndWhitespace() {
+        assertEquals("SELECT * FROM player WHERE id = ? AND name = ? AND id IN (?, ...)",
+                QueryStatistics.shapeOf("SELECT *  FROM player\n WHERE id = 42 AND name = 'O''Neil' AND id IN (?, ?,?)"));
+        assertEquals("SELECT player1_id FROM match", QueryStatistics.shapeOf("SELECT player1_id FROM match"));
+    }
+
+    @Test
+    void testDisabledStatisticsRecordNothing() throws SQLException {
+        statistics.setEnabled(false);
+        playerDAO.save(new Player("A"));
+        playerDAO.findAll();
+
+        assertEquals(0, statistics.snapshot().totalStatements());
+        statistics.setEnabled(true);
+        playerDAO.findAll();
+        assertEquals(1, statistics.snapshot().totalStatements());
+        assertTrue(statistics.snapshot().format().contains("SQLitePlayerDAO.findAll"));
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        QueryStatistics.LatencyHistogram histogram = new QueryStatistics.LatencyHistogram();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos * 1000);
+        }
+
+        long p50 = histogram.percentile(0.50);
+        long p99 = histogram.percentile(0.99);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.25, "p50 was " + p50);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 was " + p99);
+        assertEquals(1_000_000, histogram.max());
+    }
+}
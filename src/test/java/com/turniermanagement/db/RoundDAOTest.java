@@ -4,7 +4,9 @@ import com.turniermanagement.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import java.util.Optional;
 
@@ -127,6 +129,70 @@ class RoundDAOTest extends BaseDAOTest {
         assertFalse(deletedRound.isPresent(), "Round should be deleted");
     }
 
+    @Test
+    void testSaveLargeRoundBatchesMatchInserts() throws SQLException {
+        Round round = new Round(1);
+        for (int i = 0; i < 1000; i++) {
+            round.addMatch(new Match(player1, player2));
+        }
+        // Freilos ohne zweiten Spieler
+        round.addMatch(new Match(player1, null));
+
+        QueryCounter queryCounter = new QueryCounter();
+        RoundDAO countingDAO = new TestDAOFactory(queryCounter.wrap(connection)).createRoundDAO();
+        countingDAO.save(round, tournamentId);
+
+        // Runde, ein Batch für alle Matches und die Abfrage der letzten ID
+        assertEquals(3, queryCounter.getCount());
+        List<Match> saved = roundDAO.findById(round.getId()).orElseThrow().getMatches();
+        assertEquals(1001, saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            assertEquals(round.getMatches().get(i).getId(), saved.get(i).getId());
+        }
+        assertNull(saved.get(1000).getPlayer2());
+    }
+
+    @Test
+    void testUpdateRoundWritesOnlyChangedMatches() throws SQLException {
+        Round round = new Round(1);
+        for (int i = 0; i < 10; i++) {
+            round.addMatch(new Match(player1, player2));
+        }
+        roundDAO.save(round, tournamentId);
+
+        round.getMatches().get(3).setResult(2, 0);
+        round.addMatch(new Match(player2, player1));
+        long before = totalChanges();
+        roundDAO.update(round);
+
+        // Die Runde selbst ist unverändert: nur ein geändertes und ein neues Match
+        assertEquals(2, totalChanges() - before);
+        assertNotNull(round.getMatches().get(10).getId());
+        Match updated = matchDAO.findById(round.getMatches().get(3).getId()).orElseThrow();
+        assertEquals(MatchStatus.COMPLETED, updated.getStatus());
+        assertEquals(player1.getId(), updated.getWinner().getId());
+
+        // Ohne Änderungen wird nichts geschrieben
+        before = totalChanges();
+        roundDAO.update(round);
+        assertEquals(0, totalChanges() - before);
+
+        // Abschließen schreibt nur die Runde, nicht ihre Matches
+        round.setCompleted(true);
+        before = totalChanges();
+        roundDAO.update(round);
+        assertEquals(1, totalChanges() - before);
+        assertTrue(roundDAO.findById(round.getId()).orElseThrow().isCompleted());
+    }
+
+    private long totalChanges() throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT total_changes()")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
     @Test
     void testFindByIdNonExistent() throws SQLException {
         Optional<Round> nonExistentRound = roundDAO.findById(999L);
@@ -0,0 +1,30 @@
+package com.turniermanagement.db;
+
+import org.junit.jupiter.api.AfterEach;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Führt die gemeinsamen DAO-Tests gegen eine In-Memory-SQLite-Datenbank aus.
+ */
+class SQLiteDAOContractTest extends DAOContractTest {
+    private Connection connection;
+
+    @Override
+    protected DAOFactory createFactory() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys = ON");
+        }
+        SchemaMigrations.migrate(connection);
+        return new TestDAOFactory(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+}
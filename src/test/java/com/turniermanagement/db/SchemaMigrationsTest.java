@@ -0,0 +1,256 @@
+package com.turniermanagement.db;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für die versionierten Schema-Migrationen. Die Dauer der Schemaprüfung beim Start
+ * misst {@code SchemaMigrationsBenchmark} (src/jmh).
+ */
+class SchemaMigrationsTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testFreshDatabaseIsMigratedToLatestVersion() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            assertEquals(SchemaMigrations.MIGRATIONS.size(), SchemaMigrations.migrate(connection));
+            assertEquals(SchemaMigrations.getLatestVersion(), SchemaMigrations.getSchemaVersion(connection));
+            assertEquals(0, SchemaMigrations.migrate(connection));
+        }
+    }
+
+    @Test
+    void testUnversionedLegacyDatabaseIsUpgraded() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            try (Statement stmt = connection.createStatement()) {
+                // Schema vor Einführung der E-Mail- und Ranking-Spalten
+                stmt.execute("CREATE TABLE player (id INTEGER PRIMARY KEY AUTOINCREMENT, name TEXT NOT NULL, " +
+                             "games_won INTEGER DEFAULT 0, games_lost INTEGER DEFAULT 0)");
+                stmt.execute("CREATE TABLE tournament_player (tournament_id INTEGER, player_id INTEGER, " +
+                             "PRIMARY KEY (tournament_id, player_id))");
+                stmt.execute("INSERT INTO player (name) VALUES ('Alt')");
+                stmt.execute("INSERT INTO player (name) VALUES ('Älter')");
+            }
+
+            SchemaMigrations.migrate(connection);
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("INSERT INTO player (name, email) VALUES ('Neu', 'neu@example.com')");
+                stmt.execute("INSERT INTO tournament_player (tournament_id, player_id, ranking) VALUES (1, 1, 3)");
+                try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM player")) {
+                    assertEquals(3, rs.getInt(1));
+                }
+                try (ResultSet rs = stmt.executeQuery(
+                        "SELECT \"unique\" FROM pragma_index_list('player') WHERE name = 'idx_player_name'")) {
+                    assertTrue(rs.next());
+                    assertEquals(1, rs.getInt(1));
+                }
+            }
+            assertEquals(SchemaMigrations.getLatestVersion(), SchemaMigrations.getSchemaVersion(connection));
+        }
+    }
+
+    @Test
+    void testDuplicateLegacyDataFailsMigration() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("CREATE TABLE player (id INTEGER PRIMARY KEY AUTOINCREMENT, name TEXT NOT NULL, " +
+                             "games_won INTEGER DEFAULT 0, games_lost INTEGER DEFAULT 0)");
+                stmt.execute("INSERT INTO player (name) VALUES ('Alt'), ('Alt'), ('Neu'), ('Doppelt'), ('Doppelt')");
+            }
+            // Wie beim Start in einer Transaktion, damit ein Abbruch die Schemaversion nicht erhöht
+            connection.setAutoCommit(false);
+
+            SQLException e = assertThrows(SQLException.class, () -> SchemaMigrations.migrate(connection));
+            connection.rollback();
+
+            assertTrue(e.getMessage().contains("idx_player_name"), e.getMessage());
+            assertTrue(e.getMessage().contains("name='Alt' (2x)"), e.getMessage());
+            assertTrue(e.getMessage().contains("name='Doppelt' (2x)"), e.getMessage());
+            assertFalse(e.getMessage().contains("'Neu'"), e.getMessage());
+            assertEquals(0, SchemaMigrations.getSchemaVersion(connection));
+
+            // Nach der Bereinigung läuft die Migration durch
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("UPDATE player SET name = name || ' ' || id WHERE name IN ('Alt', 'Doppelt')");
+            }
+            SchemaMigrations.migrate(connection);
+            connection.commit();
+            assertEquals(SchemaMigrations.getLatestVersion(), SchemaMigrations.getSchemaVersion(connection));
+        }
+    }
+
+    @Test
+    void testGamesOfUnfinishedTournamentsAreCounted() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            SchemaMigrations.migrate(connection);
+            try (Statement stmt = connection.createStatement()) {
+                // Datenbestand aus der Zeit, als die Bilanz erst beim Abschluss gezählt wurde
+                stmt.execute("PRAGMA user_version = 6");
+                stmt.execute("INSERT INTO player (name, games_won, games_lost) VALUES " +
+                             "('Anna', 1, 0), ('Ben', 0, 1), ('Clara', 0, 0), ('Dora', 0, 0)");
+                stmt.execute("INSERT INTO tournament (name, status) VALUES ('Alt', 'COMPLETED'), ('Laufend', 'IN_PROGRESS')");
+                stmt.execute("INSERT INTO tournament_player (tournament_id, player_id) VALUES " +
+                             "(1, 1), (1, 2), (2, 1), (2, 2), (2, 3)");
+                stmt.execute("INSERT INTO round (tournament_id, round_number) VALUES (1, 1), (2, 1), (2, 2)");
+                // Im abgeschlossenen Turnier bereits gezählt
+                stmt.execute("INSERT INTO match (round_id, player1_id, player2_id, winner_id, status) " +
+                             "VALUES (1, 1, 2, 1, 'COMPLETED')");
+                // Sieg, Remis, Freilos, offenes Match und ein Match gegen eine Nicht-Teilnehmerin
+                stmt.execute("INSERT INTO match (round_id, player1_id, player2_id, winner_id, status) VALUES " +
+                             "(2, 1, 2, 2, 'COMPLETED'), (2, 3, NULL, 3, 'COMPLETED'), " +
+                             "(3, 1, 3, NULL, 'COMPLETED'), (3, 2, 3, NULL, 'SCHEDULED'), " +
+                             "(3, 3, 4, 4, 'COMPLETED')");
+            }
+
+            assertEquals(1, SchemaMigrations.migrate(connection));
+
+            StringBuilder balances = new StringBuilder();
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT name, games_won, games_lost FROM player ORDER BY id")) {
+                while (rs.next()) {
+                    balances.append(rs.getString(1)).append(' ').append(rs.getInt(2)).append('/')
+                            .append(rs.getInt(3)).append(' ');
+                }
+            }
+            assertEquals("Anna 1/1 Ben 1/1 Clara 0/1 Dora 0/0 ", balances.toString());
+        }
+    }
+
+    @Test
+    void testFailedMigrationAbortsStartup() throws SQLException {
+        String url = "jdbc:sqlite:" + tempDir.resolve("duplikate.db");
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE player (id INTEGER PRIMARY KEY AUTOINCREMENT, name TEXT NOT NULL, " +
+                         "games_won INTEGER DEFAULT 0, games_lost INTEGER DEFAULT 0)");
+            stmt.execute("INSERT INTO player (name) VALUES ('Alt'), ('Alt')");
+        }
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> DatabaseConnection.openPool(url));
+
+        assertInstanceOf(SQLException.class, e.getCause());
+        assertTrue(e.getMessage().contains("name='Alt' (2x)"), e.getMessage());
+        try (Connection connection = DriverManager.getConnection(url)) {
+            assertEquals(0, SchemaMigrations.getSchemaVersion(connection));
+        }
+    }
+
+    @Test
+    void testPlayerNamesAndRoundNumbersAreUnique() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            SchemaMigrations.migrate(connection);
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("INSERT INTO player (name) VALUES ('Einmalig')");
+                assertThrows(SQLException.class, () -> stmt.execute("INSERT INTO player (name) VALUES ('Einmalig')"));
+
+                stmt.execute("INSERT INTO tournament (name) VALUES ('Turnier')");
+                stmt.execute("INSERT INTO round (tournament_id, round_number) VALUES (1, 1)");
+                assertThrows(SQLException.class,
+                        () -> stmt.execute("INSERT INTO round (tournament_id, round_number) VALUES (1, 1)"));
+            }
+        }
+    }
+
+    @Test
+    void testDaoLookupsUseIndexes() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            SchemaMigrations.migrate(connection);
+            assertUsesIndex(connection, "SELECT * FROM match WHERE round_id = 1 ORDER BY id", "idx_match_round");
+            assertUsesIndex(connection, "SELECT * FROM round WHERE tournament_id = 1 ORDER BY round_number", "idx_round_tournament");
+            assertUsesIndex(connection, "SELECT tournament_id, ranking FROM tournament_player WHERE player_id = 1", "idx_tournament_player_player");
+            assertUsesIndex(connection, "SELECT * FROM player WHERE name = 'x'", "idx_player_name");
+            assertUsesIndex(connection, "SELECT * FROM player WHERE email = 'x'", "idx_player_email");
+            assertUsesIndex(connection, "SELECT * FROM standings WHERE tournament_id = 1 ORDER BY rank", "idx_standings_rank");
+        }
+    }
+
+    @Test
+    void testStandingsAreBackfilledForExistingTournaments() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            SchemaMigrations.migrate(connection);
+            try (Statement stmt = connection.createStatement()) {
+                // Datenbestand einer Datenbank mit Schemaversion 3
+                stmt.execute("DROP TABLE standings");
+                stmt.execute("PRAGMA user_version = 3");
+                stmt.execute("INSERT INTO player (name) VALUES ('Anna'), ('Ben'), ('Clara')");
+                stmt.execute("INSERT INTO tournament (name) VALUES ('Turnier')");
+                stmt.execute("INSERT INTO tournament_player (tournament_id, player_id) VALUES (1, 1), (1, 2), (1, 3)");
+                stmt.execute("INSERT INTO round (tournament_id, round_number) VALUES (1, 1)");
+                stmt.execute("INSERT INTO match (round_id, player1_id, player2_id, winner_id, status) " +
+                             "VALUES (1, 1, 2, 2, 'COMPLETED'), (1, 3, NULL, 3, 'COMPLETED')");
+            }
+
+            // Version 4 legt die Tabelle an und befüllt sie, Version 5 baut sie mit den Feinwertungen
+            // neu auf, Version 6 entfernt den Setzwert, Version 7 trägt die Bilanz nach
+            assertEquals(4, SchemaMigrations.migrate(connection));
+
+            StringBuilder table = new StringBuilder();
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery(
+                         "SELECT player_id, points, buchholz FROM standings WHERE tournament_id = 1 ORDER BY rank")) {
+                while (rs.next()) {
+                    table.append(rs.getLong(1)).append(':').append(rs.getInt(2)).append('/').append(rs.getInt(3)).append(' ');
+                }
+            }
+            // Halbe Punkte: Ben schlägt Anna, Clara hat ein Freilos
+            assertEquals("2:2/0 3:2/0 1:0/2 ", table.toString());
+
+            // Die eingefrorene Berechnung der Migrationen stimmt mit dem aktuellen Neuaufbau überein
+            String migrated = dumpStandings(connection);
+            SQLiteStandingsDAO.rebuild(connection, null);
+            assertEquals(migrated, dumpStandings(connection));
+        }
+    }
+
+    @Test
+    void testStartupOnMigratedDatabaseOnlyReadsVersion() throws SQLException {
+        String url = "jdbc:sqlite:" + tempDir.resolve("startup.db");
+        try (Connection connection = DriverManager.getConnection(url)) {
+            SchemaMigrations.migrate(connection);
+        }
+
+        QueryCounter queryCounter = new QueryCounter();
+        try (Connection connection = queryCounter.wrap(DriverManager.getConnection(url))) {
+            queryCounter.reset();
+            assertEquals(0, SchemaMigrations.migrate(connection));
+            assertEquals(1, queryCounter.getCount(), "Startup must only read the schema version");
+        }
+    }
+
+    private static void assertUsesIndex(Connection connection, String sql, String index) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN QUERY PLAN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString("detail")).append('\n');
+            }
+        }
+        assertTrue(plan.toString().contains(index), "Expected " + index + " in plan:\n" + plan);
+    }
+
+    private static String dumpStandings(Connection connection) throws SQLException {
+        StringBuilder dump = new StringBuilder();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM standings ORDER BY tournament_id, player_id")) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    dump.append(rs.getMetaData().getColumnName(i)).append('=').append(rs.getString(i)).append(' ');
+                }
+                dump.append('\n');
+            }
+        }
+        return dump.toString();
+    }
+}
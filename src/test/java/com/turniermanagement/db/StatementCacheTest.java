@@ -0,0 +1,185 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für {@link StatementCache}. Die Laufzeit gegenüber ungecachten PreparedStatements
+ * misst {@code StatementCacheBenchmark} (src/jmh).
+ */
+class StatementCacheTest {
+    private Connection raw;
+    private StatementCache.Counters counters;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        raw = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = raw.createStatement()) {
+            stmt.execute("CREATE TABLE item (id INTEGER PRIMARY KEY, name TEXT)");
+            stmt.execute("INSERT INTO item (id, name) VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+        counters = new StatementCache.Counters();
+        connection = StatementCache.wrap(raw, 2, counters);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (!connection.isClosed()) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void testRepeatedStatementIsReused() throws SQLException {
+        for (long id = 1; id <= 3; id++) {
+            assertEquals(id, findId(id));
+        }
+
+        StatementCache.Stats stats = counters.snapshot();
+        assertEquals(1, stats.prepared());
+        assertEquals(2, stats.reused());
+    }
+
+    @Test
+    void testNestedUseOfSameSqlGetsSeparateStatement() throws SQLException {
+        String sql = "SELECT name FROM item WHERE id = ?";
+        try (PreparedStatement outer = connection.prepareStatement(sql)) {
+            outer.setLong(1, 1);
+            try (ResultSet rs = outer.executeQuery()) {
+                assertTrue(rs.next());
+                try (PreparedStatement inner = connection.prepareStatement(sql)) {
+                    assertNotSame(outer, inner);
+                    inner.setLong(1, 2);
+                    try (ResultSet innerRs = inner.executeQuery()) {
+                        assertTrue(innerRs.next());
+                        assertEquals("b", innerRs.getString("name"));
+                    }
+                }
+                assertEquals("a", rs.getString("name"));
+            }
+        }
+        assertEquals(2, counters.snapshot().prepared());
+
+        // Nur ein Exemplar bleibt im Cache
+        findName(3);
+        assertEquals(2, counters.snapshot().prepared());
+        assertEquals(1, counters.snapshot().reused());
+    }
+
+    @Test
+    void testClosedStatementIsResetAndRejectsFurtherUse() throws SQLException {
+        PreparedStatement first = connection.prepareStatement("SELECT name FROM item WHERE id = ?");
+        first.setLong(1, 1);
+        ResultSet rs = first.executeQuery();
+        first.close();
+
+        assertTrue(first.isClosed());
+        assertTrue(rs.isClosed());
+        assertThrows(SQLException.class, () -> first.setLong(1, 2));
+        // Das wiederverwendete Statement enthält keine alten Parameter
+        try (PreparedStatement second = connection.prepareStatement("SELECT name FROM item WHERE id = ?")) {
+            assertFalse(second.isClosed());
+            try (ResultSet reused = second.executeQuery()) {
+                assertFalse(reused.next());
+            }
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedStatementIsEvicted() throws SQLException {
+        findName(1);
+        findId(1);
+        findName(2);
+        // Kapazität 2: die Suche nach Namen ist jünger, daher wird sie behalten
+        findCount();
+
+        StatementCache.Stats stats = counters.snapshot();
+        assertEquals(3, stats.prepared());
+        assertEquals(1, stats.evicted());
+
+        findName(3);
+        findId(2);
+        stats = counters.snapshot();
+        assertEquals(4, stats.prepared());
+        assertEquals(2, stats.reused());
+    }
+
+    @Test
+    void testClosingConnectionClosesCachedStatements() throws SQLException {
+        PreparedStatement open = connection.prepareStatement("SELECT name FROM item WHERE id = ?");
+        findId(1);
+
+        connection.close();
+
+        assertTrue(raw.isClosed());
+        assertTrue(open.isClosed());
+        assertThrows(SQLException.class, () -> connection.prepareStatement("SELECT 1"));
+    }
+
+    @Test
+    void testPoolCountsStatementsOfDaoCalls() throws SQLException {
+        Connection database = DriverManager.getConnection("jdbc:sqlite::memory:");
+        SchemaMigrations.migrate(database);
+        TestDAOFactory factory = new TestDAOFactory(database);
+        try {
+            PlayerDAO playerDAO = factory.createPlayerDAO();
+            Player player = new Player("Anna", "anna@example.com");
+            playerDAO.save(player);
+
+            ConnectionPool pool = factory.getConnectionPool();
+            pool.resetStatementCacheStats();
+            for (int i = 0; i < 10; i++) {
+                factory.getIdentityMap().evictAllPlayers();
+                assertEquals("Anna", playerDAO.findById(player.getId()).orElseThrow().getName());
+            }
+
+            StatementCache.Stats stats = pool.getStatementCacheStats();
+            assertTrue(stats.prepared() > 0);
+            assertTrue(stats.reused() >= 9 * stats.prepared(),
+                    "Jede Anweisung sollte nur einmal vorbereitet werden: " + stats);
+        } finally {
+            database.close();
+        }
+    }
+
+    private long findId(long id) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement("SELECT id FROM item WHERE id = ?")) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                assertTrue(rs.next());
+                return rs.getLong("id");
+            }
+        }
+    }
+
+    private String findName(long id) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement("SELECT name FROM item WHERE id = ?")) {
+            pstmt.setLong(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                assertTrue(rs.next());
+                return rs.getString("name");
+            }
+        }
+    }
+
+    private long findCount() throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement("SELECT COUNT(*) FROM item")) {
+            try (ResultSet rs = pstmt.executeQuery()) {
+                assertTrue(rs.next());
+                return rs.getLong(1);
+            }
+        }
+    }
+}
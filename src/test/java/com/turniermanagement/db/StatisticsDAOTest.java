@@ -0,0 +1,103 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Statistics;
+import com.turniermanagement.model.Tournament;
+import com.turniermanagement.model.TournamentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsDAOTest extends BaseDAOTest {
+    private StatisticsDAO statisticsDAO;
+    private PlayerDAO playerDAO;
+    private TournamentDAO tournamentDAO;
+    private RoundDAO roundDAO;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        super.setUp();
+        statisticsDAO = daoFactory.createStatisticsDAO();
+        playerDAO = daoFactory.createPlayerDAO();
+        tournamentDAO = daoFactory.createTournamentDAO();
+        roundDAO = daoFactory.createRoundDAO();
+    }
+
+    @Test
+    void testEmptyDatabase() throws SQLException {
+        Statistics statistics = statisticsDAO.getStatistics();
+
+        assertEquals(0, statistics.playerCount());
+        assertEquals(0, statistics.tournamentCount());
+        assertEquals(0, statistics.getTournamentCount(TournamentStatus.IN_PROGRESS));
+        assertEquals(0, statistics.matchCount());
+        assertEquals(0, statistics.gamesWon());
+    }
+
+    @Test
+    void testStatisticsAggregateAllTables() throws SQLException {
+        Player player1 = new Player("Spieler 1");
+        player1.setGamesWon(3);
+        player1.setGamesLost(1);
+        Player player2 = new Player("Spieler 2");
+        player2.setGamesWon(1);
+        player2.setGamesLost(3);
+        playerDAO.save(player1);
+        playerDAO.save(player2);
+        playerDAO.save(new Player("Spieler 3"));
+
+        Tournament running = new Tournament("Laufend", LocalDate.now(), LocalDate.now().plusDays(1));
+        running.setStatus(TournamentStatus.IN_PROGRESS);
+        tournamentDAO.save(running);
+        Tournament finished = new Tournament("Beendet", LocalDate.now(), LocalDate.now().plusDays(1));
+        finished.setStatus(TournamentStatus.COMPLETED);
+        tournamentDAO.save(finished);
+        tournamentDAO.save(new Tournament("Neu", LocalDate.now(), LocalDate.now().plusDays(1)));
+
+        Round round = new Round(1);
+        Match completed = new Match(player1, player2);
+        completed.setStatus(MatchStatus.COMPLETED);
+        round.addMatch(completed);
+        round.addMatch(new Match(player2, player1));
+        roundDAO.save(round, running.getId());
+
+        Statistics statistics = statisticsDAO.getStatistics();
+
+        assertEquals(3, statistics.playerCount());
+        assertEquals(3, statistics.tournamentCount());
+        assertEquals(1, statistics.getTournamentCount(TournamentStatus.IN_PROGRESS));
+        assertEquals(1, statistics.getTournamentCount(TournamentStatus.COMPLETED));
+        assertEquals(0, statistics.getTournamentCount(TournamentStatus.CANCELLED));
+        assertEquals(2, statistics.matchCount());
+        assertEquals(1, statistics.completedMatchCount());
+        assertEquals(4, statistics.gamesWon());
+        assertEquals(4, statistics.gamesLost());
+        assertEquals(3, statisticsDAO.countPlayers());
+        assertEquals(3, statisticsDAO.countTournaments());
+    }
+
+    @Test
+    void testStatisticsUseConstantNumberOfQueries() throws SQLException {
+        QueryCounter queryCounter = new QueryCounter();
+        StatisticsDAO countingDAO = new TestDAOFactory(queryCounter.wrap(connection)).createStatisticsDAO();
+
+        countingDAO.getStatistics();
+        int emptyQueries = queryCounter.getCount();
+
+        for (int i = 0; i < 50; i++) {
+            playerDAO.save(new Player("Spieler " + i));
+            tournamentDAO.save(new Tournament("Turnier " + i, LocalDate.now(), LocalDate.now().plusDays(1)));
+        }
+        queryCounter.reset();
+        countingDAO.getStatistics();
+
+        assertEquals(emptyQueries, queryCounter.getCount());
+    }
+}
@@ -1,6 +1,7 @@
 package com.turniermanagement.db;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 
 /**
  * Eine Test-Version der DAOFactory, die für Tests verwendet werden kann.
@@ -9,6 +10,7 @@ import java.sql.Connection;
 public class TestDAOFactory extends DAOFactory {
     
     private Connection testConnection;
+    private ConnectionPool connectionPool;
     
     /**
      * Erstellt eine TestDAOFactory mit einer Testverbindung.
@@ -16,6 +18,7 @@ public class TestDAOFactory extends DAOFactory {
      */
     public TestDAOFactory(Connection testConnection) {
         this.testConnection = testConnection;
+        this.connectionPool = ConnectionPool.shared(testConnection);
     }
     
     /**
@@ -26,23 +29,54 @@ public class TestDAOFactory extends DAOFactory {
         return testConnection;
     }
     
+    /**
+     * Gibt den Verbindungspool über der Testverbindung zurück.
+     * @return Der Verbindungspool
+     */
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+    
+    @Override
+    public void executeInTransaction(Work work) throws SQLException {
+        try (ConnectionPool.Lease lease = connectionPool.beginWrite()) {
+            work.execute();
+            lease.commit();
+        }
+    }
+    
     @Override
     public PlayerDAO createPlayerDAO() {
-        return new SQLitePlayerDAO(testConnection);
+        return new SQLitePlayerDAO(connectionPool, getIdentityMap());
     }
     
     @Override
     public TournamentDAO createTournamentDAO() {
-        return new SQLiteTournamentDAO(testConnection);
+        return new SQLiteTournamentDAO(connectionPool, getIdentityMap());
     }
     
     @Override
     public RoundDAO createRoundDAO() {
-        return new SQLiteRoundDAO(testConnection);
+        return new SQLiteRoundDAO(connectionPool, getIdentityMap());
     }
     
     @Override
     public MatchDAO createMatchDAO() {
-        return new SQLiteMatchDAO(testConnection);
+        return new SQLiteMatchDAO(connectionPool, getIdentityMap());
+    }
+    
+    @Override
+    public StatisticsDAO createStatisticsDAO() {
+        return new SQLiteStatisticsDAO(connectionPool);
+    }
+    
+    @Override
+    public RatingDAO createRatingDAO() {
+        return new SQLiteRatingDAO(connectionPool);
+    }
+    
+    @Override
+    public StandingsDAO createStandingsDAO() {
+        return new SQLiteStandingsDAO(connectionPool);
     }
 }
\ No newline at end of file
@@ -1,13 +1,21 @@
 package com.turniermanagement.db;
 
+import com.turniermanagement.model.Match;
 import com.turniermanagement.model.Tournament;
 import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
 import com.turniermanagement.model.TournamentStatus;
+import com.turniermanagement.service.TournamentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -93,6 +101,40 @@ class TournamentDAOTest extends BaseDAOTest {
         assertTrue(loadedPlayer1.get().getTournaments().isEmpty());
     }
 
+    @Test
+    void testLoadGraph() throws SQLException {
+        Player player1 = new Player("Player 1", "p1@example.com");
+        Player player2 = new Player("Player 2");
+        playerDAO.save(player1);
+        playerDAO.save(player2);
+
+        Tournament tournament = new Tournament("Graph Tournament", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournament.addPlayer(player1);
+        tournament.addPlayer(player2);
+        tournamentDAO.save(tournament);
+
+        Round round = new Round(1);
+        round.addMatch(new Match(player1, player2));
+        daoFactory.createRoundDAO().save(round, tournament.getId());
+
+        Optional<Tournament> loaded = tournamentDAO.loadGraph(tournament.getId());
+        assertTrue(loaded.isPresent());
+        assertEquals(2, loaded.get().getPlayers().size());
+        assertEquals(1, loaded.get().getRounds().size());
+        assertEquals(1, loaded.get().getRounds().get(0).getMatches().size());
+
+        // Teilnehmerliste und Matches teilen sich dieselben Spielerinstanzen
+        Match loadedMatch = loaded.get().getRounds().get(0).getMatches().get(0);
+        Player rosterPlayer1 = loaded.get().getPlayers().stream()
+            .filter(p -> p.getId().equals(player1.getId()))
+            .findFirst()
+            .orElseThrow();
+        assertSame(rosterPlayer1, loadedMatch.getPlayer1());
+        assertEquals("p1@example.com", rosterPlayer1.getEmail());
+
+        assertFalse(tournamentDAO.loadGraph(999L).isPresent());
+    }
+
     @Test
     void testDeleteTournament() throws SQLException {
         Tournament tournament = new Tournament("To Delete", LocalDate.now(), LocalDate.now().plusDays(1));
@@ -117,4 +159,134 @@ class TournamentDAOTest extends BaseDAOTest {
         assertTrue(existingPlayer.isPresent(), "Player should still exist");
         assertTrue(existingPlayer.get().getTournaments().isEmpty(), "Player should have no tournament references");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDeleteTournamentCascadesToRoundsAndMatches() throws SQLException {
+        Player player1 = new Player("Player 1");
+        Player player2 = new Player("Player 2");
+        playerDAO.save(player1);
+        playerDAO.save(player2);
+        Tournament tournament = new Tournament("Cascade", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournament.addPlayer(player1);
+        tournament.addPlayer(player2);
+        tournamentDAO.save(tournament);
+        Round round = new Round(1);
+        round.addMatch(new Match(player1, player2));
+        daoFactory.createRoundDAO().save(round, tournament.getId());
+
+        tournamentDAO.delete(tournament.getId());
+
+        assertTrue(daoFactory.createRoundDAO().findByTournamentId(tournament.getId()).isEmpty());
+        assertTrue(daoFactory.createMatchDAO().findAll().isEmpty());
+        assertTrue(player1.getTournaments().isEmpty(), "Loaded players should be detached from the tournament");
+        assertEquals(2, playerDAO.findAll().size());
+    }
+
+    @Test
+    void testUpdateTournamentKeepsPlayerRankings() throws SQLException {
+        Tournament tournament = createTournamentWithPlayers(3);
+        for (int i = 0; i < 3; i++) {
+            Player player = tournament.getPlayers().get(i);
+            player.setRanking(tournament, 10 + i);
+            playerDAO.update(player);
+        }
+
+        tournament.setName("Umbenannt");
+        tournamentDAO.update(tournament);
+
+        Map<Long, Integer> stored = storedRankings(tournament.getId());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(10 + i, stored.get(tournament.getPlayers().get(i).getId()));
+        }
+    }
+
+    @Test
+    void testRelationUpdatesWriteOnlyChangedRows() throws SQLException {
+        Tournament tournament = createTournamentWithPlayers(500);
+        Player player = tournament.getPlayers().get(42);
+
+        // Spieler-Update: nur das geänderte Ranking
+        player.setRanking(tournament, 7);
+        long before = totalChanges();
+        playerDAO.update(player);
+        assertEquals(1, totalChanges() - before);
+        assertEquals(7, storedRankings(tournament.getId()).get(player.getId()));
+
+        // Turnier-Update: nur die entfernte Beziehung
+        Player removed = tournament.getPlayers().get(0);
+        tournament.removePlayer(removed);
+        before = totalChanges();
+        tournamentDAO.update(tournament);
+        assertEquals(1, totalChanges() - before);
+
+        Map<Long, Integer> stored = storedRankings(tournament.getId());
+        assertEquals(499, stored.size());
+        assertFalse(stored.containsKey(removed.getId()));
+        assertFalse(removed.getTournaments().contains(tournament));
+        assertEquals(7, stored.get(player.getId()));
+    }
+
+    private Tournament createTournamentWithPlayers(int players) throws SQLException {
+        Tournament tournament = new Tournament("Turnier", LocalDate.now(), LocalDate.now().plusDays(1));
+        for (int i = 0; i < players; i++) {
+            Player player = new Player("Spieler " + i);
+            playerDAO.save(player);
+            tournament.addPlayer(player);
+        }
+        tournamentDAO.save(tournament);
+        return tournament;
+    }
+
+    private Map<Long, Integer> storedRankings(Long tournamentId) throws SQLException {
+        Map<Long, Integer> rankings = new HashMap<>();
+        try (PreparedStatement pstmt = connection.prepareStatement(
+                "SELECT player_id, ranking FROM tournament_player WHERE tournament_id = ?")) {
+            pstmt.setLong(1, tournamentId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    rankings.put(rs.getLong("player_id"), rs.getInt("ranking"));
+                }
+            }
+        }
+        return rankings;
+    }
+
+    private long totalChanges() throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT total_changes()")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Test
+    void testDeleteAllDataUsesConstantNumberOfStatements() throws SQLException {
+        assertEquals(deleteAllStatements(2, 1), deleteAllStatements(20, 5));
+    }
+
+    private int deleteAllStatements(int players, int tournaments) throws SQLException {
+        for (int t = 0; t < tournaments; t++) {
+            Tournament tournament = new Tournament("T" + t, LocalDate.now(), LocalDate.now().plusDays(1));
+            for (int p = 0; p < players; p++) {
+                Player player = new Player("T" + t + " P" + p);
+                playerDAO.save(player);
+                tournament.addPlayer(player);
+            }
+            tournamentDAO.save(tournament);
+            Round round = new Round(1);
+            for (int p = 0; p + 1 < players; p += 2) {
+                round.addMatch(new Match(tournament.getPlayers().get(p), tournament.getPlayers().get(p + 1)));
+            }
+            daoFactory.createRoundDAO().save(round, tournament.getId());
+        }
+
+        QueryCounter queryCounter = new QueryCounter();
+        TestDAOFactory countingFactory = new TestDAOFactory(queryCounter.wrap(connection));
+        new TournamentService(countingFactory).deleteAllData();
+
+        assertTrue(playerDAO.findAll().isEmpty());
+        assertTrue(tournamentDAO.findAll().isEmpty());
+        assertTrue(daoFactory.createMatchDAO().findAll().isEmpty());
+        return queryCounter.getCount();
+    }
+}
@@ -0,0 +1,141 @@
+package com.turniermanagement.db;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vergleicht {@link TournamentDAO#loadGraph(Long)} mit dem Laden über die einzelnen DAOs
+ * anhand der Anzahl der SQL-Anweisungen und stellt sicher, dass der Graph-Loader
+ * eine konstante Anzahl an Abfragen benötigt. Die Latenz misst {@code DAOBenchmark} (src/jmh).
+ */
+class TournamentGraphTest extends BaseDAOTest {
+    private static final int PLAYERS = 200;
+    private static final int ROUNDS = 12;
+
+    private QueryCounter queryCounter;
+    private TestDAOFactory countingFactory;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        super.setUp();
+        queryCounter = new QueryCounter();
+        countingFactory = new TestDAOFactory(queryCounter.wrap(connection));
+    }
+
+    @Test
+    void testLoadGraphUsesConstantNumberOfQueries() throws SQLException {
+        long smallId = seedTournament("Klein", 10, 3);
+        long largeId = seedTournament("Groß", PLAYERS, ROUNDS);
+        TournamentDAO tournamentDAO = countingFactory.createTournamentDAO();
+
+        queryCounter.reset();
+        tournamentDAO.loadGraph(smallId);
+        int smallQueries = queryCounter.getCount();
+
+        queryCounter.reset();
+        Tournament large = tournamentDAO.loadGraph(largeId).orElseThrow();
+        int largeQueries = queryCounter.getCount();
+
+        assertEquals(smallQueries, largeQueries, "Query count must not depend on tournament size");
+        assertEquals(PLAYERS, large.getPlayers().size());
+        assertEquals(ROUNDS, large.getRounds().size());
+        assertEquals(PLAYERS / 2, large.getRounds().get(0).getMatches().size());
+    }
+
+    @Test
+    void testLoadGraphNeedsFewerQueriesThanPerEntityDAOs() throws SQLException {
+        long tournamentId = seedTournament("Vergleich", PLAYERS, ROUNDS);
+        TournamentDAO tournamentDAO = countingFactory.createTournamentDAO();
+        RoundDAO roundDAO = countingFactory.createRoundDAO();
+        MatchDAO matchDAO = countingFactory.createMatchDAO();
+
+        queryCounter.reset();
+        Tournament perEntity = tournamentDAO.findById(tournamentId).orElseThrow();
+        for (Round round : roundDAO.findByTournamentId(tournamentId)) {
+            // Einzelabruf je Runde, wie ihn die Services heute verwenden
+            List<Match> matches = matchDAO.findByRoundId(round.getId());
+            round.setMatches(matches);
+            perEntity.addRound(round);
+        }
+        int perEntityQueries = queryCounter.getCount();
+
+        queryCounter.reset();
+        Tournament graph = tournamentDAO.loadGraph(tournamentId).orElseThrow();
+        int graphQueries = queryCounter.getCount();
+
+        assertEquals(perEntity.getRounds().size(), graph.getRounds().size());
+        assertTrue(graphQueries < perEntityQueries, "loadGraph should need fewer queries than per-entity loading");
+    }
+
+    /**
+     * Legt ein Turnier mit vollständigen Schweizer-System-Runden direkt per SQL an.
+     */
+    private long seedTournament(String name, int players, int rounds) throws SQLException {
+        long tournamentId;
+        try (PreparedStatement pstmt = connection.prepareStatement(
+                "INSERT INTO tournament (name, start_date, end_date, status) VALUES (?, '2024-01-01', '2024-01-02', 'IN_PROGRESS')",
+                java.sql.Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setString(1, name);
+            pstmt.executeUpdate();
+            var keys = pstmt.getGeneratedKeys();
+            keys.next();
+            tournamentId = keys.getLong(1);
+        }
+
+        long[] playerIds = new long[players];
+        try (PreparedStatement insertPlayer = connection.prepareStatement(
+                "INSERT INTO player (name, email) VALUES (?, ?)", java.sql.Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement insertRelation = connection.prepareStatement(
+                "INSERT INTO tournament_player (tournament_id, player_id, ranking) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < players; i++) {
+                insertPlayer.setString(1, name + " Spieler " + i);
+                insertPlayer.setString(2, name.toLowerCase() + i + "@example.com");
+                insertPlayer.executeUpdate();
+                var keys = insertPlayer.getGeneratedKeys();
+                keys.next();
+                playerIds[i] = keys.getLong(1);
+                insertRelation.setLong(1, tournamentId);
+                insertRelation.setLong(2, playerIds[i]);
+                insertRelation.setInt(3, i + 1);
+                insertRelation.addBatch();
+            }
+            insertRelation.executeBatch();
+        }
+
+        try (PreparedStatement insertRound = connection.prepareStatement(
+                "INSERT INTO round (tournament_id, round_number, completed) VALUES (?, ?, 1)",
+                java.sql.Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement insertMatch = connection.prepareStatement(
+                "INSERT INTO match (round_id, player1_id, player2_id, winner_id, score_player1, score_player2, status) " +
+                "VALUES (?, ?, ?, ?, 1, 0, 'COMPLETED')")) {
+            for (int r = 1; r <= rounds; r++) {
+                insertRound.setLong(1, tournamentId);
+                insertRound.setInt(2, r);
+                insertRound.executeUpdate();
+                var keys = insertRound.getGeneratedKeys();
+                keys.next();
+                long roundId = keys.getLong(1);
+                for (int i = 0; i + 1 < players; i += 2) {
+                    long p1 = playerIds[(i + r) % players];
+                    long p2 = playerIds[(i + 1 + 2 * r) % players];
+                    insertMatch.setLong(1, roundId);
+                    insertMatch.setLong(2, p1);
+                    insertMatch.setLong(3, p2);
+                    insertMatch.setLong(4, p1);
+                    insertMatch.addBatch();
+                }
+                insertMatch.executeBatch();
+            }
+        }
+        return tournamentId;
+    }
+}
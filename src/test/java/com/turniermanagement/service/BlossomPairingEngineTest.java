@@ -0,0 +1,206 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.MatchStatus;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlossomPairingEngineTest {
+    private static final ToIntFunction<Player> SCORE = p -> p.getGamesWon() - p.getGamesLost();
+
+    private final BlossomPairingEngine engine = new BlossomPairingEngine();
+
+    @Test
+    void testPairsPlayersWithinScoreGroups() {
+        List<Player> players = createPlayers(4);
+        setScore(players.get(0), 2);
+        setScore(players.get(1), 2);
+        setScore(players.get(2), 0);
+        setScore(players.get(3), 0);
+
+        List<Match> matches = engine.pair(players, SCORE, PairingHistory.empty());
+
+        assertEquals(2, matches.size());
+        assertPaired(matches, players.get(0), players.get(1));
+        assertPaired(matches, players.get(2), players.get(3));
+    }
+
+    @Test
+    void testPairsEveryoneWhereGreedyLeavesPlayersUnpaired() {
+        // Gespielt: A-D, B-C, C-D. Die gierige Paarung wählt A-B, danach bleiben C und D übrig.
+        List<Player> players = createPlayers(4);
+        for (int i = 0; i < players.size(); i++) {
+            setScore(players.get(i), 3 - i);
+        }
+        Tournament tournament = createTournament(players);
+        tournament.addRound(round(1, players, 0, 3, 1, 2));
+        tournament.addRound(round(2, players, 2, 3));
+        PairingHistory history = PairingHistory.of(tournament);
+
+        List<Match> greedy = new GreedyPairingEngine().pair(players, SCORE, history);
+        List<Match> matches = engine.pair(players, SCORE, history);
+
+        assertEquals(3, pairedPlayers(greedy).size());
+        assertEquals(2, matches.size());
+        assertPaired(matches, players.get(0), players.get(2));
+        assertPaired(matches, players.get(1), players.get(3));
+        assertNoRematches(matches, history);
+    }
+
+    @Test
+    void testByeGoesToLowestPlayerWithoutPreviousBye() {
+        List<Player> players = createPlayers(5);
+        for (int i = 0; i < players.size(); i++) {
+            setScore(players.get(i), 4 - i);
+        }
+        Tournament tournament = createTournament(players);
+        Round previous = new Round(1);
+        Match bye = PairingEngine.bye(players.get(4));
+        previous.addMatch(bye);
+        tournament.addRound(previous);
+
+        List<Match> matches = engine.pair(players, SCORE, PairingHistory.of(tournament));
+
+        assertEquals(3, matches.size());
+        Match newBye = matches.get(matches.size() - 1);
+        assertNull(newBye.getPlayer2());
+        assertEquals(players.get(3), newBye.getPlayer1());
+        assertEquals(MatchStatus.COMPLETED, newBye.getStatus());
+        assertEquals(players.get(3), newBye.getWinner());
+    }
+
+    @Test
+    void testAlternatesColors() {
+        List<Player> players = createPlayers(2);
+        Tournament tournament = createTournament(players);
+        Player white = players.get(0);
+        Player black = players.get(1);
+        tournament.addRound(round(1, List.of(white, createPlayer(10L)), 0, 1));
+        tournament.addRound(round(2, List.of(createPlayer(11L), black), 0, 1));
+
+        List<Match> matches = engine.pair(players, SCORE, PairingHistory.of(tournament));
+
+        assertEquals(1, matches.size());
+        assertEquals(black, matches.get(0).getPlayer1());
+        assertEquals(white, matches.get(0).getPlayer2());
+    }
+
+    @Test
+    void testFallsBackToRematchOnlyWhenUnavoidable() {
+        List<Player> players = createPlayers(2);
+        Tournament tournament = createTournament(players);
+        tournament.addRound(round(1, players, 0, 1));
+
+        List<Match> matches = engine.pair(players, SCORE, PairingHistory.of(tournament));
+
+        assertEquals(1, matches.size());
+        assertNotNull(matches.get(0).getPlayer2());
+    }
+
+    @Test
+    void testLargeOpenPairsEveryoneWithoutRematches() {
+        // Die Laufzeit großer Felder misst PairingBenchmark (src/jmh)
+        Random random = new Random(7);
+        List<Player> players = createPlayers(201);
+        Tournament tournament = createTournament(players);
+        for (int r = 1; r <= 7; r++) {
+            players.sort((p1, p2) -> Integer.compare(SCORE.applyAsInt(p2), SCORE.applyAsInt(p1)));
+            PairingHistory history = PairingHistory.of(tournament);
+
+            List<Match> matches = engine.pair(players, SCORE, history);
+
+            assertEquals(101, matches.size());
+            assertNoRematches(matches, history);
+            assertEquals(players.size(), pairedPlayers(matches).size(), "Jeder Spieler genau einmal");
+
+            Round round = new Round(r);
+            for (Match match : matches) {
+                if (match.getPlayer2() != null) {
+                    match.setResult(random.nextInt(2), random.nextInt(2));
+                    Player winner = match.getWinner();
+                    if (winner != null) {
+                        winner.setGamesWon(winner.getGamesWon() + 1);
+                        Player loser = winner == match.getPlayer1() ? match.getPlayer2() : match.getPlayer1();
+                        loser.setGamesLost(loser.getGamesLost() + 1);
+                    }
+                }
+                round.addMatch(match);
+            }
+            tournament.addRound(round);
+        }
+    }
+
+    private static void assertPaired(List<Match> matches, Player a, Player b) {
+        assertTrue(matches.stream().anyMatch(m ->
+                (m.getPlayer1() == a && m.getPlayer2() == b) || (m.getPlayer1() == b && m.getPlayer2() == a)),
+                a.getName() + " sollte gegen " + b.getName() + " spielen");
+    }
+
+    private static void assertNoRematches(List<Match> matches, PairingHistory history) {
+        for (Match match : matches) {
+            if (match.getPlayer2() != null) {
+                assertFalse(history.havePlayed(match.getPlayer1(), match.getPlayer2()),
+                        "Wiederholte Paarung " + match.getPlayer1().getName() + " - " + match.getPlayer2().getName());
+            }
+        }
+    }
+
+    private static Set<Player> pairedPlayers(List<Match> matches) {
+        Set<Player> paired = new HashSet<>();
+        for (Match match : matches) {
+            assertTrue(paired.add(match.getPlayer1()));
+            if (match.getPlayer2() != null) {
+                assertTrue(paired.add(match.getPlayer2()));
+            }
+        }
+        return paired;
+    }
+
+    private static Round round(int number, List<Player> players, int... pairs) {
+        Round round = new Round(number);
+        for (int i = 0; i < pairs.length; i += 2) {
+            Match match = new Match(players.get(pairs[i]), players.get(pairs[i + 1]));
+            match.setResult(1, 0);
+            round.addMatch(match);
+        }
+        return round;
+    }
+
+    private static Tournament createTournament(List<Player> players) {
+        Tournament tournament = new Tournament("Test Tournament", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournament.setId(1L);
+        tournament.getPlayers().addAll(players);
+        return tournament;
+    }
+
+    private static List<Player> createPlayers(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(createPlayer(i + 1L));
+        }
+        return players;
+    }
+
+    private static Player createPlayer(Long id) {
+        Player player = new Player("Player " + id);
+        player.setId(id);
+        return player;
+    }
+
+    private static void setScore(Player player, int score) {
+        player.setGamesWon(Math.max(score, 0));
+        player.setGamesLost(Math.max(-score, 0));
+    }
+}
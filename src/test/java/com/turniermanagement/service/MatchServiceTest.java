@@ -2,6 +2,10 @@ package com.turniermanagement.service;
 
 import com.turniermanagement.db.MatchDAO;
 import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.InMemoryDAOFactory;
+import com.turniermanagement.db.PlayerDAO;
+import com.turniermanagement.db.RatingDAO;
+import com.turniermanagement.db.StandingsDAO;
 import com.turniermanagement.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,9 +13,16 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,15 +31,29 @@ class MatchServiceTest {
     @Mock
     private MatchDAO matchDAO;
     
+    @Mock
+    private PlayerDAO playerDAO;
+    
+    @Mock
+    private RatingDAO ratingDAO;
+
+    @Mock
+    private StandingsDAO standingsDAO;
+    
     @Mock
     private DAOFactory mockDAOFactory;
 
     private MatchService matchService;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         when(mockDAOFactory.createMatchDAO()).thenReturn(matchDAO);
+        when(mockDAOFactory.createPlayerDAO()).thenReturn(playerDAO);
+        when(mockDAOFactory.createRatingDAO()).thenReturn(ratingDAO);
+        when(mockDAOFactory.createStandingsDAO()).thenReturn(standingsDAO);
+        // Arbeitseinheiten wie ohne Transaktionsunterstützung direkt ausführen
+        doCallRealMethod().when(mockDAOFactory).executeInTransaction(any());
         
         // Instanziiere den Service mit der Mock-DAOFactory
         matchService = new MatchService(mockDAOFactory);
@@ -87,6 +112,7 @@ class MatchServiceTest {
         match.setStatus(MatchStatus.IN_PROGRESS);
 
         when(matchDAO.findById(1L)).thenReturn(Optional.of(match));
+        when(matchDAO.complete(match)).thenReturn(true);
 
         matchService.updateMatchResult(1L, 3, 1);
 
@@ -94,7 +120,13 @@ class MatchServiceTest {
         assertEquals(3, match.getScorePlayer1());
         assertEquals(1, match.getScorePlayer2());
         assertEquals(match.getPlayer1(), match.getWinner());
-        verify(matchDAO).update(match);
+        verify(matchDAO).complete(match);
+        verify(playerDAO).recordGameResult(1L, 2L);
+        verify(standingsDAO).recordResult(1L);
+        // Der Sieger gewinnt Wertungspunkte, der Verlierer verliert gleich viele
+        verify(ratingDAO).save(argThat(ratings -> ratings.size() == 2
+                && ratings.get(0).playerId() == 1L && ratings.get(0).rating() > 1500
+                && Math.abs(ratings.get(0).rating() + ratings.get(1).rating() - 3000) < 1e-9));
     }
 
     @Test
@@ -107,6 +139,7 @@ class MatchServiceTest {
         match.setStatus(MatchStatus.IN_PROGRESS);
 
         when(matchDAO.findById(1L)).thenReturn(Optional.of(match));
+        when(matchDAO.complete(match)).thenReturn(true);
 
         matchService.updateMatchResult(1L, 2, 2);
 
@@ -114,7 +147,77 @@ class MatchServiceTest {
         assertEquals(2, match.getScorePlayer1());
         assertEquals(2, match.getScorePlayer2());
         assertNull(match.getWinner());
-        verify(matchDAO).update(match);
+        verify(matchDAO).complete(match);
+        verify(playerDAO, never()).recordGameResult(any(), any());
+    }
+
+    @Test
+    void testUpdateMatchResultCompletedInMeantime() throws SQLException {
+        Match match = new Match(
+            createPlayer(1L, "Player 1"),
+            createPlayer(2L, "Player 2")
+        );
+        match.setId(1L);
+        match.setStatus(MatchStatus.IN_PROGRESS);
+
+        // Ein gleichzeitig eingetragenes Ergebnis hat das Match nach dem Laden abgeschlossen
+        when(matchDAO.findById(1L)).thenReturn(Optional.of(match));
+        when(matchDAO.complete(match)).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> matchService.updateMatchResult(1L, 3, 1));
+        verify(playerDAO, never()).recordGameResult(any(), any());
+        verify(standingsDAO, never()).recordResult(anyLong());
+        verify(ratingDAO, never()).save(any());
+    }
+
+    @Test
+    void testConcurrentResultSubmissionsAreCountedOnce() throws Exception {
+        DAOFactory daoFactory = new InMemoryDAOFactory();
+        MatchService service = new MatchService(daoFactory);
+        Player alice = new Player("Alice");
+        Player bob = new Player("Bob");
+        daoFactory.createPlayerDAO().saveAll(List.of(alice, bob));
+        Tournament tournament = new Tournament("Open", LocalDate.now(), LocalDate.now());
+        tournament.addPlayer(alice);
+        tournament.addPlayer(bob);
+        daoFactory.createTournamentDAO().save(tournament);
+        Round round = new Round(1);
+        Match match = new Match(alice, bob);
+        round.addMatch(match);
+        daoFactory.createRoundDAO().save(round, tournament.getId());
+
+        int submissions = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(submissions);
+        CyclicBarrier barrier = new CyclicBarrier(submissions);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < submissions; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    service.updateMatchResult(match.getId(), 3, 1);
+                    return null;
+                }));
+            }
+            int completed = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                    completed++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                }
+            }
+            assertEquals(1, completed);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        daoFactory.getIdentityMap().clear();
+        assertEquals(1, daoFactory.createPlayerDAO().findById(alice.getId()).orElseThrow().getGamesWon());
+        assertEquals(1, daoFactory.createPlayerDAO().findById(bob.getId()).orElseThrow().getGamesLost());
+        assertEquals(List.of(1, 1), daoFactory.createStandingsDAO().findByTournamentId(tournament.getId()).stream()
+                .map(TournamentStanding::games).toList());
+        assertEquals(1, daoFactory.createRatingDAO().findHistory(alice.getId()).size());
     }
 
     @Test
@@ -0,0 +1,140 @@
+package com.turniermanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaximumWeightMatchingTest {
+
+    @Test
+    void testSimpleGraphs() {
+        // Einzelne Kante
+        assertArrayEquals(new int[] {1, 0},
+                MaximumWeightMatching.maximumWeight(2, new int[] {0}, new int[] {1}, new long[] {1}));
+        // Pfad 0-1-2-3: die beiden äußeren Kanten sind zusammen schwerer als die mittlere
+        assertArrayEquals(new int[] {1, 0, 3, 2},
+                MaximumWeightMatching.maximumWeight(4, new int[] {0, 1, 2}, new int[] {1, 2, 3}, new long[] {6, 11, 6}));
+        // Ohne Zwang zur Vollständigkeit gewinnt die schwere mittlere Kante ...
+        assertArrayEquals(new int[] {-1, 2, 1, -1},
+                MaximumWeightMatching.maximumWeight(4, new int[] {0, 1, 2}, new int[] {1, 2, 3}, new long[] {2, 11, 2}));
+        // ... als perfektes Matching werden alle Knoten gepaart
+        assertArrayEquals(new int[] {1, 0, 3, 2},
+                MaximumWeightMatching.maximumWeightPerfect(4, new int[] {0, 1, 2}, new int[] {1, 2, 3}, new long[] {2, 11, 2}));
+        // Stern ohne perfektes Matching
+        assertNull(MaximumWeightMatching.maximumWeightPerfect(4, new int[] {0, 0, 0}, new int[] {1, 2, 3}, new long[] {1, 1, 1}));
+    }
+
+    @Test
+    void testMatchesBruteForceOnRandomGraphs() {
+        Random random = new Random(42);
+        for (int round = 0; round < 1000; round++) {
+            int vertexCount = 2 + random.nextInt(9);
+            int maxEdges = vertexCount * (vertexCount - 1) / 2;
+            int[] from = new int[maxEdges];
+            int[] to = new int[maxEdges];
+            long[] weight = new long[maxEdges];
+            int edges = 0;
+            for (int i = 0; i < vertexCount; i++) {
+                for (int j = i + 1; j < vertexCount; j++) {
+                    if (random.nextInt(3) > 0) {
+                        from[edges] = i;
+                        to[edges] = j;
+                        weight[edges] = 1 + random.nextInt(20);
+                        edges++;
+                    }
+                }
+            }
+            int[] f = Arrays.copyOf(from, edges);
+            int[] t = Arrays.copyOf(to, edges);
+            long[] w = Arrays.copyOf(weight, edges);
+
+            int[] mate = MaximumWeightMatching.maximumWeight(vertexCount, f, t, w);
+            long[] expected = bruteForce(vertexCount, f, t, w, false);
+            assertValidMatching(mate, f, t);
+            assertEquals(expected[1], weightOf(mate, f, t, w), "Gewicht in Durchlauf " + round);
+
+            int[] perfect = MaximumWeightMatching.maximumWeightPerfect(vertexCount, f, t, w);
+            long[] expectedPerfect = bruteForce(vertexCount, f, t, w, true);
+            if (expectedPerfect[0] * 2 < vertexCount) {
+                assertNull(perfect, "Kein perfektes Matching in Durchlauf " + round);
+            } else {
+                assertNotNull(perfect, "Perfektes Matching in Durchlauf " + round);
+                assertValidMatching(perfect, f, t);
+                assertEquals(vertexCount / 2, cardinality(perfect));
+                assertEquals(expectedPerfect[1], weightOf(perfect, f, t, w), "Gewicht in Durchlauf " + round);
+            }
+        }
+    }
+
+    private static void assertValidMatching(int[] mate, int[] from, int[] to) {
+        for (int v = 0; v < mate.length; v++) {
+            if (mate[v] != -1) {
+                assertEquals(v, mate[mate[v]]);
+                assertTrue(findEdge(v, mate[v], from, to) >= 0, "Partner ohne Kante");
+            }
+        }
+    }
+
+    private static long cardinality(int[] mate) {
+        long count = 0;
+        for (int partner : mate) {
+            if (partner != -1) {
+                count++;
+            }
+        }
+        return count / 2;
+    }
+
+    private static long weightOf(int[] mate, int[] from, int[] to, long[] weight) {
+        long total = 0;
+        for (int v = 0; v < mate.length; v++) {
+            if (mate[v] > v) {
+                total += weight[findEdge(v, mate[v], from, to)];
+            }
+        }
+        return total;
+    }
+
+    private static int findEdge(int a, int b, int[] from, int[] to) {
+        for (int k = 0; k < from.length; k++) {
+            if ((from[k] == a && to[k] == b) || (from[k] == b && to[k] == a)) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bestes Paar aus Kardinalität und Gewicht über alle Teilmengen der Kanten.
+     */
+    private static long[] bruteForce(int vertexCount, int[] from, int[] to, long[] weight, boolean maxCardinality) {
+        long[] best = {0, 0};
+        search(0, new boolean[vertexCount], 0, 0, from, to, weight, maxCardinality, best);
+        return best;
+    }
+
+    private static void search(int k, boolean[] used, long size, long total, int[] from, int[] to, long[] weight,
+                               boolean maxCardinality, long[] best) {
+        if (k == from.length) {
+            boolean better = maxCardinality
+                    ? size > best[0] || (size == best[0] && total > best[1])
+                    : total > best[1];
+            if (better) {
+                best[0] = size;
+                best[1] = total;
+            }
+            return;
+        }
+        search(k + 1, used, size, total, from, to, weight, maxCardinality, best);
+        if (!used[from[k]] && !used[to[k]]) {
+            used[from[k]] = true;
+            used[to[k]] = true;
+            search(k + 1, used, size + 1, total + weight[k], from, to, weight, maxCardinality, best);
+            used[from[k]] = false;
+            used[to[k]] = false;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PairingHistoryTest {
+
+    @Test
+    void testRecordsPairingsColorsAndByes() {
+        List<Player> players = createPlayers(3);
+        Tournament tournament = createTournament(players);
+        Round round1 = round(1L, 1, new Match(players.get(0), players.get(1)));
+        round1.addMatch(PairingEngine.bye(players.get(2)));
+        tournament.addRound(round1);
+        tournament.addRound(round(2L, 2, new Match(players.get(2), players.get(0))));
+
+        PairingHistory history = PairingHistory.of(tournament);
+
+        assertTrue(history.havePlayed(players.get(0), players.get(1)));
+        assertTrue(history.havePlayed(players.get(1), players.get(0)));
+        assertTrue(history.havePlayed(players.get(0), players.get(2)));
+        assertFalse(history.havePlayed(players.get(1), players.get(2)));
+        assertFalse(history.havePlayed(players.get(0), createPlayer(99L)));
+
+        assertTrue(history.hasHadBye(players.get(2)));
+        assertFalse(history.hasHadBye(players.get(0)));
+
+        assertEquals(0, history.getColorBalance(players.get(0)));
+        assertEquals(PairingHistory.BLACK, history.getLastColor(players.get(0)));
+        assertEquals(-1, history.getColorBalance(players.get(1)));
+        assertEquals(PairingHistory.WHITE, history.getLastColor(players.get(2)));
+        assertEquals(0, history.getLastColor(createPlayer(99L)));
+    }
+
+    @Test
+    void testUpdateRecordsOnlyNewRounds() {
+        List<Player> players = createPlayers(4);
+        Tournament tournament = createTournament(players);
+        tournament.addRound(round(1L, 1, new Match(players.get(0), players.get(1))));
+        PairingHistory history = PairingHistory.of(tournament);
+
+        tournament.addRound(round(2L, 2, new Match(players.get(2), players.get(0))));
+        PairingHistory updated = history.update(tournament);
+
+        assertSame(history, updated);
+        assertTrue(updated.havePlayed(players.get(0), players.get(2)));
+        // Runde 1 darf nicht doppelt gezählt werden
+        assertEquals(0, updated.getColorBalance(players.get(0)));
+        assertEquals(-1, updated.getColorBalance(players.get(1)));
+    }
+
+    @Test
+    void testUpdateRebuildsWhenRoundWasRemoved() {
+        List<Player> players = createPlayers(4);
+        Tournament tournament = createTournament(players);
+        tournament.addRound(round(1L, 1, new Match(players.get(0), players.get(1))));
+        Round round2 = round(2L, 2, new Match(players.get(2), players.get(3)));
+        tournament.addRound(round2);
+        PairingHistory history = PairingHistory.of(tournament);
+
+        tournament.getRounds().remove(round2);
+        PairingHistory updated = history.update(tournament);
+
+        assertNotSame(history, updated);
+        assertTrue(updated.havePlayed(players.get(0), players.get(1)));
+        assertFalse(updated.havePlayed(players.get(2), players.get(3)));
+    }
+
+    @Test
+    void testMatchesStringKeysOnRandomPairings() {
+        Random random = new Random(3);
+        List<Player> players = createPlayers(300);
+        Tournament tournament = createTournament(players);
+        Set<String> expected = new HashSet<>();
+        for (int r = 1; r <= 9; r++) {
+            List<Player> shuffled = new ArrayList<>(players);
+            Collections.shuffle(shuffled, random);
+            Round round = new Round(r);
+            round.setId((long) r);
+            for (int i = 0; i + 1 < shuffled.size(); i += 2) {
+                round.addMatch(new Match(shuffled.get(i), shuffled.get(i + 1)));
+                expected.add(key(shuffled.get(i), shuffled.get(i + 1)));
+            }
+            tournament.addRound(round);
+        }
+
+        PairingHistory history = PairingHistory.of(tournament);
+
+        for (Player p1 : players) {
+            for (Player p2 : players) {
+                if (p1 != p2) {
+                    assertEquals(expected.contains(key(p1, p2)), history.havePlayed(p1, p2));
+                }
+            }
+        }
+    }
+
+    private static String key(Player p1, Player p2) {
+        long id1 = p1.getId();
+        long id2 = p2.getId();
+        return id1 < id2 ? id1 + "-" + id2 : id2 + "-" + id1;
+    }
+
+    private static Round round(Long id, int number, Match match) {
+        Round round = new Round(number);
+        round.setId(id);
+        round.addMatch(match);
+        return round;
+    }
+
+    private static Tournament createTournament(List<Player> players) {
+        Tournament tournament = new Tournament("Test Tournament", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournament.setId(1L);
+        tournament.getPlayers().addAll(players);
+        return tournament;
+    }
+
+    private static List<Player> createPlayers(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(createPlayer(i + 1L));
+        }
+        return players;
+    }
+
+    private static Player createPlayer(Long id) {
+        Player player = new Player("Player " + id);
+        player.setId(id);
+        return player;
+    }
+}
@@ -0,0 +1,109 @@
+package com.turniermanagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests für {@link PlayerSearchIndex}. Die Laufzeit gegenüber der linearen Suche
+ * misst {@code PlayerSearchBenchmark} (src/jmh).
+ */
+class PlayerSearchIndexTest {
+    private static final int PLAYERS = 5_000;
+    private static final List<String> QUERIES = List.of("a", "er", "mül", "spieler 42", "example.com", "@exa", "xyz", "4711");
+
+    private PlayerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerSearchIndex();
+    }
+
+    @Test
+    void testSearchMatchesNameAndEmailIgnoringCase() {
+        index.put(1L, "Anna Müller", "anna@example.com");
+        index.put(2L, "Bernd Meier", null);
+        index.put(3L, "Clara Schmidt", "clara@schach.de");
+
+        assertEquals(Set.of(1L), index.search("MÜLL"));
+        assertEquals(Set.of(2L, 3L), index.search("d"));
+        assertEquals(Set.of(3L), index.search("schach.de"));
+        assertEquals(Set.of(1L, 2L, 3L), index.search("e"));
+        assertTrue(index.search("nicht vorhanden").isEmpty());
+        // Kein Treffer über die Grenze zwischen Name und E-Mail hinweg
+        assertTrue(index.search("müllerann").isEmpty());
+    }
+
+    @Test
+    void testPutReplacesAndRemoveDeletesEntries() {
+        index.put(1L, "Anna Müller", "anna@example.com");
+        index.put(1L, "Anna Schulz", "anna@example.com");
+
+        assertTrue(index.search("müller").isEmpty());
+        assertEquals(Set.of(1L), index.search("schulz"));
+        assertEquals(1, index.size());
+
+        index.remove(1L);
+        assertTrue(index.search("schulz").isEmpty());
+        assertTrue(index.search("a").isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testCompactionKeepsLiveEntries() {
+        for (long id = 0; id < 5000; id++) {
+            index.put(id, "Spieler " + id, "spieler" + id + "@example.com");
+        }
+        // Genug Änderungen, um mehrere Kompaktierungen auszulösen
+        for (long id = 0; id < 4000; id++) {
+            index.remove(id);
+        }
+        for (long id = 4000; id < 5000; id++) {
+            index.put(id, "Geändert " + id, null);
+        }
+
+        assertEquals(1000, index.size());
+        assertTrue(index.search("spieler").isEmpty());
+        assertEquals(1000, index.search("geändert").size());
+        assertEquals(Set.of(4711L), index.search("geändert 4711"));
+    }
+
+    @Test
+    void testSearchMatchesLinearScan() {
+        String[] names = new String[PLAYERS];
+        String[] emails = new String[PLAYERS];
+        Random random = new Random(42);
+        String[] lastNames = { "Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer", "Wagner", "Becker" };
+        for (int i = 0; i < PLAYERS; i++) {
+            names[i] = "Spieler " + i + " " + lastNames[random.nextInt(lastNames.length)];
+            emails[i] = i % 3 == 0 ? null : "spieler" + i + "@example.com";
+            index.put((long) i, names[i], emails[i]);
+        }
+
+        for (String query : QUERIES) {
+            assertEquals(linearScan(names, emails, query), index.search(query), "Query: " + query);
+        }
+    }
+
+    /**
+     * Bisherige Suche aus dem ParticipantManagementController als Referenz.
+     */
+    private static Set<Long> linearScan(String[] names, String[] emails, String query) {
+        String lowerCaseFilter = query.toLowerCase(Locale.ROOT);
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].toLowerCase(Locale.ROOT).contains(lowerCaseFilter) ||
+                (emails[i] != null && emails[i].toLowerCase(Locale.ROOT).contains(lowerCaseFilter))) {
+                result.add((long) i);
+            }
+        }
+        return result;
+    }
+}
@@ -9,10 +9,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -373,4 +384,147 @@ class PlayerServiceTest {
         // Verify
         verify(playerDAO).updatePlayerRanking(player, tournament, newRanking);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testImportPlayersFromCsv() throws SQLException, IOException {
+        when(playerDAO.findAllNames()).thenReturn(new HashSet<>(Set.of("Existing")));
+        when(playerDAO.findAllEmails()).thenReturn(new HashSet<>(Set.of("taken@example.com")));
+        List<Player> saved = new ArrayList<>();
+        doAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return null;
+        }).when(playerDAO).saveAll(any());
+
+        String csv = "Name;E-Mail\n" +
+                     "Alice;alice@example.com\n" +
+                     "Existing;new@example.com\n" +
+                     "\n" +
+                     "\"Doe; John\";\n" +
+                     ";nobody@example.com\n" +
+                     "Bob;taken@example.com\n" +
+                     "Alice;other@example.com\n";
+
+        PlayerImportResult result = playerService.importPlayers(PlayerImportReader.csv(new StringReader(csv)));
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals("Alice", saved.get(0).getName());
+        assertEquals("alice@example.com", saved.get(0).getEmail());
+        assertEquals("Doe; John", saved.get(1).getName());
+        assertNull(saved.get(1).getEmail());
+        assertEquals(List.of(
+            new PlayerImportResult.RowError(3, "A player with this name already exists"),
+            new PlayerImportResult.RowError(6, "Player name cannot be empty"),
+            new PlayerImportResult.RowError(7, "A player with this email already exists"),
+            new PlayerImportResult.RowError(8, "A player with this name already exists")), result.getErrors());
+        verify(playerDAO, never()).findByName(any());
+        verify(playerDAO, never()).save(any());
+    }
+
+    @Test
+    void testImportPlayersFromJson() throws SQLException, IOException {
+        when(playerDAO.findAllNames()).thenReturn(new HashSet<>());
+        when(playerDAO.findAllEmails()).thenReturn(new HashSet<>());
+
+        String json = "[\n" +
+                      "  {\"name\": \"Alice\", \"email\": \"alice@example.com\", \"club\": {\"id\": 1}},\n" +
+                      "  {\"name\": \"Bob \\\"B\\\"\", \"email\": null, \"tags\": [\"a\", \"]\"]},\n" +
+                      "  {\"email\": \"missing@example.com\"}\n" +
+                      "]";
+
+        PlayerImportResult result = playerService.importPlayers(PlayerImportReader.json(new StringReader(json)));
+
+        assertEquals(2, result.getImportedCount());
+        assertEquals(List.of(new PlayerImportResult.RowError(4, "Player name cannot be empty")), result.getErrors());
+        verify(playerDAO).saveAll(argThat(players -> players.size() == 2
+            && players.get(1).getName().equals("Bob \"B\"")
+            && players.get(1).getEmail() == null));
+    }
+
+    @Test
+    void testImportPlayersWithInvalidJson() throws SQLException {
+        when(playerDAO.findAllNames()).thenReturn(new HashSet<>());
+        when(playerDAO.findAllEmails()).thenReturn(new HashSet<>());
+
+        IOException exception = assertThrows(IOException.class, () ->
+            playerService.importPlayers(PlayerImportReader.json(new StringReader("[{\"name\": \"A\"}\n{\"name\": \"B\"}]"))));
+        assertTrue(exception.getMessage().contains("line 2"));
+    }
+
+    @Test
+    void testImportPlayersInChunks() throws SQLException, IOException {
+        when(playerDAO.findAllNames()).thenReturn(new HashSet<>());
+        when(playerDAO.findAllEmails()).thenReturn(new HashSet<>());
+        List<Integer> chunkSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Player> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return null;
+        }).when(playerDAO).saveAll(any());
+
+        StringBuilder csv = new StringBuilder();
+        int rows = PlayerService.IMPORT_CHUNK_SIZE * 2 + 5;
+        for (int i = 0; i < rows; i++) {
+            csv.append("Player ").append(i).append(",player").append(i).append("@example.com\n");
+        }
+
+        PlayerImportResult result = playerService.importPlayers(PlayerImportReader.csv(new StringReader(csv.toString())));
+
+        assertEquals(rows, result.getImportedCount());
+        assertFalse(result.hasErrors());
+        assertEquals(List.of(PlayerService.IMPORT_CHUNK_SIZE, PlayerService.IMPORT_CHUNK_SIZE, 5), chunkSizes);
+    }
+
+    @Test
+    void testAsyncMethodsRunOnServiceExecutor() throws Exception {
+        Player player = new Player("Async Player", "async@example.com");
+        player.setId(1L);
+        when(playerDAO.findAll()).thenReturn(List.of(player));
+        AtomicReference<String> daoThread = new AtomicReference<>();
+        when(playerDAO.findById(1L)).thenAnswer(invocation -> {
+            daoThread.set(Thread.currentThread().getName());
+            return Optional.of(player);
+        });
+
+        assertEquals(List.of(player), playerService.getAllPlayersAsync().get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of(player), playerService.findPlayerByIdAsync(1L).get(5, TimeUnit.SECONDS));
+        assertNotEquals(Thread.currentThread().getName(), daoThread.get());
+        assertTrue(daoThread.get().startsWith("service-"));
+    }
+
+    @Test
+    void testAsyncMethodsReportServiceExceptions() throws SQLException {
+        // Direkter Executor, damit der Test deterministisch bleibt
+        PlayerService directService = new PlayerService(mockDAOFactory, Runnable::run);
+        SQLException failure = new SQLException("database locked");
+        doThrow(failure).when(playerDAO).delete(1L);
+
+        CompletableFuture<Void> deleted = directService.deletePlayerAsync(1L);
+        ExecutionException exception = assertThrows(ExecutionException.class, deleted::get);
+        assertSame(failure, exception.getCause());
+
+        CompletableFuture<Player> created = directService.createPlayerAsync("", null);
+        assertTrue(created.isCompletedExceptionally());
+        CompletionException completion = assertThrows(CompletionException.class, created::join);
+        assertInstanceOf(IllegalArgumentException.class, ServiceExecutor.unwrap(completion));
+    }
+
+    @Test
+    void testBuildSearchIndexStreamsAllPlayers() throws SQLException {
+        Player anna = new Player("Anna Müller", "anna@example.com");
+        anna.setId(1L);
+        Player bernd = new Player("Bernd Meier", null);
+        bernd.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<Player> consumer = invocation.getArgument(0);
+            consumer.accept(anna);
+            consumer.accept(bernd);
+            return null;
+        }).when(playerDAO).streamAll(any());
+
+        PlayerSearchIndex index = playerService.buildSearchIndex();
+
+        assertEquals(2, index.size());
+        assertEquals(Set.of(1L), index.search("example"));
+        verify(playerDAO, never()).findAll();
+    }
+}
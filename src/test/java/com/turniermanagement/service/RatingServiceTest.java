@@ -0,0 +1,159 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.InMemoryDAOFactory;
+import com.turniermanagement.db.RatingDAO;
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Rating;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingServiceTest {
+
+    @Test
+    void testMatchesGlickmanExample() {
+        // Beispiel aus Glickman, "Example of the Glicko-2 system"
+        Rating player = new Rating(1L, null, 1500, 200, 0.06);
+        Rating[] opponents = {
+            new Rating(2L, null, 1400, 30, 0.06),
+            new Rating(3L, null, 1550, 100, 0.06),
+            new Rating(4L, null, 1700, 300, 0.06)
+        };
+
+        Rating rated = Glicko2.rate(player, opponents, new double[] { 1, 0, 0 }, 7L);
+
+        assertEquals(1464.06, rated.rating(), 0.01);
+        assertEquals(151.52, rated.deviation(), 0.01);
+        assertEquals(0.05999, rated.volatility(), 0.00001);
+        assertEquals(7L, rated.matchId());
+    }
+
+    @Test
+    void testRecomputationReproducesIncrementalRatings() throws SQLException {
+        DAOFactory daoFactory = new InMemoryDAOFactory();
+        MatchService matchService = new MatchService(daoFactory);
+        RatingService ratingService = new RatingService(daoFactory);
+        Random random = new Random(5);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            Player player = new Player("Spieler " + i);
+            daoFactory.createPlayerDAO().save(player);
+            players.add(player);
+        }
+        // Das spätere Turnier erhält die kleineren IDs; gewertet wird trotzdem nach Startdatum
+        Tournament later = saveTournament(daoFactory, "Herbst", LocalDate.of(2024, 9, 1), players);
+        Tournament earlier = saveTournament(daoFactory, "Frühjahr", LocalDate.of(2024, 3, 1), players);
+        List<Match> laterMatches = playRounds(daoFactory, later, players, random);
+        List<Match> earlierMatches = playRounds(daoFactory, earlier, players, random);
+        List<Match> matches = new ArrayList<>(earlierMatches);
+        matches.addAll(laterMatches);
+        for (Match match : matches) {
+            matchService.updateMatchResult(match.getId(), random.nextInt(3), random.nextInt(3));
+        }
+
+        Map<Long, List<Rating>> incremental = new HashMap<>();
+        for (Player player : players) {
+            incremental.put(player.getId(), ratingService.getHistory(player));
+        }
+        List<Rating> ratings = ratingService.getRatings();
+
+        assertEquals(matches.size(), ratingService.recomputeAll());
+        for (Player player : players) {
+            List<Rating> expected = incremental.get(player.getId());
+            List<Rating> actual = ratingService.getHistory(player);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).matchId(), actual.get(i).matchId());
+                assertEquals(expected.get(i).rating(), actual.get(i).rating(), 1e-9);
+                assertEquals(expected.get(i).deviation(), actual.get(i).deviation(), 1e-9);
+            }
+        }
+        assertEquals(ratings, ratingService.getRatings());
+        assertTrue(ratings.get(0).rating() >= ratings.get(ratings.size() - 1).rating());
+        assertEquals(Rating.initial(999L), ratingService.getRating(createPlayer(999L)));
+    }
+
+    @Test
+    void testParallelReplayMatchesSequentialOrder() {
+        Random random = new Random(17);
+        List<RatingDAO.Game> games = new ArrayList<>();
+        // Viele Spieler mit unabhängigen Matches, damit die Ebenen parallel gewertet werden
+        for (int i = 0; i < 20_000; i++) {
+            long player1 = random.nextInt(3_000) + 1;
+            long player2 = random.nextInt(3_000) + 1;
+            if (player1 == player2) {
+                continue;
+            }
+            int result = random.nextInt(3);
+            Long winner = result == 0 ? Long.valueOf(player1) : result == 1 ? Long.valueOf(player2) : null;
+            games.add(new RatingDAO.Game(i + 1L, 1L, player1, player2, winner));
+        }
+
+        List<Rating> history = RatingService.replay(games);
+
+        Map<Long, Rating> current = new HashMap<>();
+        for (int i = 0; i < games.size(); i++) {
+            RatingDAO.Game game = games.get(i);
+            Rating rating1 = current.getOrDefault(game.player1Id(), Rating.initial(game.player1Id()));
+            Rating rating2 = current.getOrDefault(game.player2Id(), Rating.initial(game.player2Id()));
+            double score = game.winnerId() == null ? 0.5 : game.winnerId() == game.player1Id() ? 1 : 0;
+            Rating updated1 = Glicko2.rate(rating1, rating2, score, game.matchId());
+            Rating updated2 = Glicko2.rate(rating2, rating1, 1 - score, game.matchId());
+            current.put(game.player1Id(), updated1);
+            current.put(game.player2Id(), updated2);
+            assertEquals(updated1, history.get(2 * i));
+            assertEquals(updated2, history.get(2 * i + 1));
+        }
+    }
+
+    private static Tournament saveTournament(DAOFactory daoFactory, String name, LocalDate start, List<Player> players)
+            throws SQLException {
+        Tournament tournament = new Tournament(name, start, start.plusDays(2));
+        players.forEach(tournament::addPlayer);
+        daoFactory.createTournamentDAO().save(tournament);
+        return tournament;
+    }
+
+    /**
+     * Legt drei Runden mit zufälligen Paarungen an; der letzte Spieler jeder Runde erhält ein Freilos.
+     */
+    private static List<Match> playRounds(DAOFactory daoFactory, Tournament tournament, List<Player> players,
+                                          Random random) throws SQLException {
+        List<Match> matches = new ArrayList<>();
+        for (int number = 1; number <= 3; number++) {
+            List<Player> shuffled = new ArrayList<>(players);
+            Collections.shuffle(shuffled, random);
+            Round round = new Round(number);
+            for (int i = 0; i + 1 < shuffled.size(); i += 2) {
+                round.addMatch(new Match(shuffled.get(i), shuffled.get(i + 1)));
+            }
+            round.addMatch(PairingEngine.bye(shuffled.get(shuffled.size() - 1)));
+            daoFactory.createRoundDAO().save(round, tournament.getId());
+            for (Match match : round.getMatches()) {
+                if (match.getPlayer2() != null) {
+                    matches.add(match);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Player createPlayer(Long id) {
+        Player player = new Player("Player " + id);
+        player.setId(id);
+        return player;
+    }
+}
@@ -2,6 +2,7 @@ package com.turniermanagement.service;
 
 import com.turniermanagement.db.RoundDAO;
 import com.turniermanagement.db.DAOFactory;
+import com.turniermanagement.db.StandingsDAO;
 import com.turniermanagement.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,9 @@ class RoundServiceTest {
     @Mock
     private RoundDAO roundDAO;
     
+    @Mock
+    private StandingsDAO standingsDAO;
+
     @Mock
     private DAOFactory mockDAOFactory;
     
@@ -30,9 +34,11 @@ class RoundServiceTest {
     private RoundService roundService;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws SQLException {
         MockitoAnnotations.openMocks(this);
         when(mockDAOFactory.createRoundDAO()).thenReturn(roundDAO);
+        when(mockDAOFactory.createStandingsDAO()).thenReturn(standingsDAO);
+        doCallRealMethod().when(mockDAOFactory).executeInTransaction(any());
         
         // Erstelle den RoundService mit der Mock-DAOFactory
         roundService = new RoundService(mockDAOFactory) {
@@ -107,6 +113,15 @@ class RoundServiceTest {
         Player player2 = createPlayer(2L, "Player 2", 1, 1);
         Player player3 = createPlayer(3L, "Player 3", 0, 2);
         tournament.getPlayers().addAll(Arrays.asList(player1, player2, player3));
+        // Gespeicherte Matches erhalten IDs
+        doAnswer(invocation -> {
+            Round saved = invocation.getArgument(0);
+            long id = 10;
+            for (Match match : saved.getMatches()) {
+                match.setId(id++);
+            }
+            return null;
+        }).when(roundDAO).save(any(Round.class), anyLong());
 
         Round round = roundService.createNextRound(tournament);
 
@@ -120,6 +135,8 @@ class RoundServiceTest {
         assertEquals(MatchStatus.COMPLETED, byeMatch.get().getStatus());
 
         verify(roundDAO).save(round, tournament.getId());
+        verify(standingsDAO).recordResult(byeMatch.get().getId());
+        verifyNoMoreInteractions(standingsDAO);
     }
 
     @Test
@@ -167,6 +184,24 @@ class RoundServiceTest {
         verify(roundDAO).findByTournamentId(tournamentId);
     }
 
+    @Test
+    void testStandingsOfFinishedTournamentsAreNotCached() {
+        Tournament tournament = createTournament();
+        tournament.setStatus(TournamentStatus.IN_PROGRESS);
+        tournament.getPlayers().addAll(Arrays.asList(createPlayer(1L, "Player 1", 0, 0),
+                createPlayer(2L, "Player 2", 0, 0)));
+        Standings standings = roundService.getStandings(tournament);
+        assertSame(standings, roundService.getStandings(tournament));
+
+        tournament.setStatus(TournamentStatus.COMPLETED);
+        Standings completed = roundService.getStandings(tournament);
+
+        assertNotSame(standings, completed);
+        assertNotSame(completed, roundService.getStandings(tournament));
+        tournament.setStatus(TournamentStatus.IN_PROGRESS);
+        assertNotSame(standings, roundService.getStandings(tournament));
+    }
+
     private Tournament createTournament() {
         Tournament tournament = new Tournament("Test Tournament", LocalDate.now(), LocalDate.now().plusDays(1));
         tournament.setId(1L);
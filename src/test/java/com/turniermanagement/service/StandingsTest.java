@@ -0,0 +1,255 @@
+package com.turniermanagement.service;
+
+import com.turniermanagement.model.Match;
+import com.turniermanagement.model.Player;
+import com.turniermanagement.model.Round;
+import com.turniermanagement.model.Tournament;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandingsTest {
+
+    @Test
+    void testComputesPointsAndTiebreaks() {
+        List<Player> players = createPlayers(4);
+        Player a = players.get(0);
+        Player b = players.get(1);
+        Player c = players.get(2);
+        Player d = players.get(3);
+        Tournament tournament = createTournament(players);
+        tournament.addRound(round(1, match(a, b, 1, 0), match(c, d, 1, 1)));
+        tournament.addRound(round(2, match(a, c, 1, 1), match(b, d, 1, 0)));
+        tournament.addRound(round(3, match(a, d, 1, 0), match(b, c, 0, 1)));
+
+        Standings standings = Standings.of(tournament);
+
+        assertEquals(List.of(a, c, b, d), standings.getRankedPlayers());
+        Standings.Standing standingA = standings.getStanding(a);
+        assertEquals(2.5, standingA.getPoints());
+        assertEquals(3.5, standingA.getBuchholz());
+        assertEquals(1.0, standingA.getMedianBuchholz());
+        assertEquals(2.5, standingA.getSonnebornBerger());
+        assertEquals(5.0, standingA.getProgressive());
+        Standings.Standing standingC = standings.getStanding(c);
+        assertEquals(2.0, standingC.getPoints());
+        assertEquals(4.0, standingC.getBuchholz());
+        assertEquals(2.5, standingC.getSonnebornBerger());
+        assertEquals(3.5, standingC.getProgressive());
+        assertEquals(1, standings.getHalfPoints(d));
+    }
+
+    @Test
+    void testByeCountsAsPointWithoutOpponent() {
+        List<Player> players = createPlayers(3);
+        Tournament tournament = createTournament(players);
+        tournament.addRound(round(1, match(players.get(0), players.get(1), 1, 0), PairingEngine.bye(players.get(2))));
+
+        Standings standings = Standings.of(tournament);
+
+        assertEquals(1.0, standings.getStanding(players.get(2)).getPoints());
+        assertEquals(0.0, standings.getStanding(players.get(2)).getBuchholz());
+        // Gleiche Punkte, der Sieger über Spieler 2 hat die höhere Buchholz-Wertung
+        assertEquals(players.get(2), standings.getRankedPlayers().get(1));
+        assertEquals(players.get(0), standings.getRankedPlayers().get(0));
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchRecomputation() {
+        Random random = new Random(11);
+        List<Player> players = createPlayers(41);
+        Tournament tournament = createTournament(players);
+        Standings standings = Standings.of(tournament);
+        long nextMatchId = 1;
+        for (int r = 1; r <= 7; r++) {
+            List<Player> shuffled = new ArrayList<>(players);
+            Collections.shuffle(shuffled, random);
+            Round round = new Round(r);
+            round.setId((long) r);
+            tournament.addRound(round);
+            for (int i = 0; i < shuffled.size(); i += 2) {
+                Match match = i + 1 < shuffled.size()
+                        ? match(shuffled.get(i), shuffled.get(i + 1), random.nextInt(2), random.nextInt(2))
+                        : PairingEngine.bye(shuffled.get(i));
+                match.setId(nextMatchId++);
+                round.addMatch(match);
+
+                assertSame(standings, standings.update(tournament));
+                assertStandings(tournament, standings);
+            }
+        }
+    }
+
+    @Test
+    void testUpdateRebuildsWhenMatchWasRemoved() {
+        List<Player> players = createPlayers(4);
+        Tournament tournament = createTournament(players);
+        Match match1 = match(players.get(0), players.get(1), 1, 0);
+        match1.setId(1L);
+        Match match2 = match(players.get(2), players.get(3), 1, 0);
+        match2.setId(2L);
+        Round round = round(1, match1, match2);
+        tournament.addRound(round);
+        Standings standings = Standings.of(tournament);
+
+        round.getMatches().remove(match2);
+        Standings updated = standings.update(tournament);
+
+        assertNotSame(standings, updated);
+        assertEquals(0.0, updated.getStanding(players.get(2)).getPoints());
+        assertEquals(1.0, updated.getStanding(players.get(0)).getPoints());
+    }
+
+    @Test
+    void testUpdateRebuildsWhenRecordedRoundWasRemoved() {
+        List<Player> players = createPlayers(4);
+        Tournament tournament = createTournament(players);
+        Match match1 = match(players.get(0), players.get(1), 1, 0);
+        match1.setId(1L);
+        Round first = round(1, match1);
+        first.setId(1L);
+        tournament.addRound(first);
+        Standings standings = Standings.of(tournament);
+        Match match2 = match(players.get(2), players.get(3), 1, 0);
+        match2.setId(2L);
+        Round second = round(2, match2);
+        second.setId(2L);
+        tournament.addRound(second);
+        assertSame(standings, standings.update(tournament));
+
+        tournament.getRounds().remove(first);
+        Standings updated = standings.update(tournament);
+
+        assertNotSame(standings, updated);
+        assertEquals(0.0, updated.getStanding(players.get(0)).getPoints());
+        assertEquals(1.0, updated.getStanding(players.get(2)).getPoints());
+    }
+
+    @Test
+    void testTiesDoNotDependOnLifetimeBalance() {
+        List<Player> players = createPlayers(4);
+        Tournament tournament = createTournament(players);
+        Match match1 = match(players.get(0), players.get(1), 1, 0);
+        match1.setId(1L);
+        Match match2 = match(players.get(2), players.get(3), 1, 0);
+        match2.setId(2L);
+        tournament.addRound(round(1, match1, match2));
+        Standings cached = Standings.of(tournament);
+
+        // Die Ergebnisse ändern die Gesamtbilanz; eine neu aufgebaute Tabelle sortiert trotzdem gleich
+        players.get(2).setGamesWon(5);
+        players.get(1).setGamesLost(5);
+        Standings rebuilt = Standings.of(tournament);
+
+        List<Player> expected = List.of(players.get(0), players.get(2), players.get(1), players.get(3));
+        assertEquals(expected, cached.getRankedPlayers());
+        assertEquals(expected, rebuilt.getRankedPlayers());
+    }
+
+    /**
+     * Vergleicht die fortgeschriebene Tabelle mit einer direkten Berechnung aus allen Matches.
+     */
+    private static void assertStandings(Tournament tournament, Standings standings) {
+        Map<Player, int[]> expected = new HashMap<>();
+        Map<Player, List<Player>> opponents = new HashMap<>();
+        Map<Player, List<Integer>> results = new HashMap<>();
+        int lastRound = 0;
+        for (Player player : tournament.getPlayers()) {
+            // Punkte, Buchholz, Median-Buchholz, Sonneborn-Berger, fortschreitende Wertung (halbe/viertel Punkte)
+            expected.put(player, new int[5]);
+            opponents.put(player, new ArrayList<>());
+            results.put(player, new ArrayList<>());
+        }
+        for (Round round : tournament.getRounds()) {
+            lastRound = Math.max(lastRound, round.getRoundNumber());
+        }
+        for (Round round : tournament.getRounds()) {
+            for (Match match : round.getMatches()) {
+                Player p1 = match.getPlayer1();
+                Player p2 = match.getPlayer2();
+                int result1 = p2 == null || match.getWinner() == p1 ? 2 : match.getWinner() == null ? 1 : 0;
+                int weight = lastRound - round.getRoundNumber() + 1;
+                expected.get(p1)[0] += result1;
+                expected.get(p1)[4] += result1 * weight;
+                if (p2 != null) {
+                    expected.get(p2)[0] += 2 - result1;
+                    expected.get(p2)[4] += (2 - result1) * weight;
+                    opponents.get(p1).add(p2);
+                    results.get(p1).add(result1);
+                    opponents.get(p2).add(p1);
+                    results.get(p2).add(2 - result1);
+                }
+            }
+        }
+        for (Player player : tournament.getPlayers()) {
+            int[] values = expected.get(player);
+            List<Integer> opponentPoints = new ArrayList<>();
+            for (int i = 0; i < opponents.get(player).size(); i++) {
+                int points = expected.get(opponents.get(player).get(i))[0];
+                opponentPoints.add(points);
+                values[1] += points;
+                values[3] += results.get(player).get(i) * points;
+            }
+            values[2] = values[1];
+            if (opponentPoints.size() >= 3) {
+                values[2] -= Collections.max(opponentPoints) + Collections.min(opponentPoints);
+            }
+
+            Standings.Standing standing = standings.getStanding(player);
+            assertEquals(values[0] / 2.0, standing.getPoints());
+            assertEquals(values[1] / 2.0, standing.getBuchholz());
+            assertEquals(values[2] / 2.0, standing.getMedianBuchholz());
+            assertEquals(values[3] / 4.0, standing.getSonnebornBerger());
+            assertEquals(values[4] / 2.0, standing.getProgressive());
+        }
+
+        List<Player> sorted = new ArrayList<>(tournament.getPlayers());
+        sorted.sort(Comparator.comparingDouble((Player p) -> -standings.getStanding(p).getPoints())
+                .thenComparingDouble(p -> -standings.getStanding(p).getBuchholz())
+                .thenComparingDouble(p -> -standings.getStanding(p).getMedianBuchholz())
+                .thenComparingDouble(p -> -standings.getStanding(p).getSonnebornBerger())
+                .thenComparingDouble(p -> -standings.getStanding(p).getProgressive())
+                .thenComparing(Player::getId));
+        assertEquals(sorted, standings.getRankedPlayers());
+    }
+
+    private static Match match(Player player1, Player player2, int score1, int score2) {
+        Match match = new Match(player1, player2);
+        match.setResult(score1, score2);
+        return match;
+    }
+
+    private static Round round(int number, Match... matches) {
+        Round round = new Round(number);
+        for (Match match : matches) {
+            round.addMatch(match);
+        }
+        return round;
+    }
+
+    private static Tournament createTournament(List<Player> players) {
+        Tournament tournament = new Tournament("Test Tournament", LocalDate.now(), LocalDate.now().plusDays(1));
+        tournament.setId(1L);
+        tournament.getPlayers().addAll(players);
+        return tournament;
+    }
+
+    private static List<Player> createPlayers(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Player player = new Player("Player " + (i + 1));
+            player.setId(i + 1L);
+            players.add(player);
+        }
+        return players;
+    }
+}
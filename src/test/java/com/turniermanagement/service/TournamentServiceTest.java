@@ -96,12 +96,14 @@ class TournamentServiceTest {
         round.setCompleted(true);
         tournament.addRound(round);
 
-        when(tournamentDAO.findById(1L)).thenReturn(Optional.of(tournament));
+        when(tournamentDAO.loadGraph(1L)).thenReturn(Optional.of(tournament));
 
         tournamentService.completeTournament(1L);
 
         assertEquals(TournamentStatus.COMPLETED, tournament.getStatus());
         verify(tournamentDAO).update(tournament);
+        // Die Spielerbilanz wird bereits mit jedem Ergebnis fortgeschrieben
+        verifyNoInteractions(playerDAO);
     }
 
     @Test
@@ -114,7 +116,7 @@ class TournamentServiceTest {
         round.setCompleted(false);
         tournament.addRound(round);
 
-        when(tournamentDAO.findById(1L)).thenReturn(Optional.of(tournament));
+        when(tournamentDAO.loadGraph(1L)).thenReturn(Optional.of(tournament));
 
         assertThrows(IllegalStateException.class, () -> tournamentService.completeTournament(1L));
     }
@@ -131,4 +133,22 @@ class TournamentServiceTest {
         assertEquals(TournamentStatus.CANCELLED, tournament.getStatus());
         verify(tournamentDAO).update(tournament);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDeleteAllDataRunsInOneTransaction() throws SQLException {
+        doAnswer(invocation -> {
+            DAOFactory.Work work = invocation.getArgument(0);
+            work.execute();
+            return null;
+        }).when(mockDAOFactory).executeInTransaction(any());
+
+        tournamentService.deleteAllData();
+
+        verify(mockDAOFactory).executeInTransaction(any());
+        var inOrder = inOrder(tournamentDAO, playerDAO);
+        inOrder.verify(tournamentDAO).deleteAll();
+        inOrder.verify(playerDAO).deleteAll();
+        verify(tournamentDAO, never()).findAll();
+        verify(playerDAO, never()).findAll();
+    }
+}